@@ -56,6 +56,18 @@ public interface JsonManager extends JsonObjectConvertible {
      */
     RealJsonEngine newRuledEngine(JsonEngineResource resource);
 
+    /**
+     * Prepare the ruled JSON engine, which is reused if the equivalent resource is specified before. <br>
+     * It is same as newRuledEngine() but cached (bounded) to avoid building engine per request e.g. switchMappingOption(). <br>
+     * Resources that have functional settings (e.g. filter, your scalar) are not cached, always new-created. <br>
+     * The default implementation does not cache it.
+     * @param resource The resource of JSON engine to build it. (NotNull)
+     * @return The cached or new-created JSON engine. (NotNull)
+     */
+    default RealJsonEngine prepareRuledEngine(JsonEngineResource resource) {
+        return newRuledEngine(resource);
+    }
+
     /**
      * Pull out the meta of JSON control that is embeeded in manager. (e.g. mapping option) 
      * @return The meta of JSON control as read-only. (NotNull)
@@ -32,6 +32,9 @@ import org.lastaflute.core.json.filter.JsonSimpleTextReadingFilter;
 import org.lastaflute.core.json.filter.JsonTypeableTextReadingFilter;
 
 /**
+ * The option of JSON mapping. <br>
+ * The ruled engine of switched option is cached by its values (see JsonManager.prepareRuledEngine()),
+ * but not if it has functional settings (e.g. filter, your scalar) which cannot be compared by value.
  * @author jflute
  */
 public class JsonMappingOption implements JsonMappingControlMeta {
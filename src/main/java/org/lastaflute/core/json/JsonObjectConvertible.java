@@ -15,6 +15,8 @@
  */
 package org.lastaflute.core.json;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.ParameterizedType;
 
 /**
@@ -49,10 +51,67 @@ public interface JsonObjectConvertible {
      */
     <BEAN> BEAN fromJsonParameteried(String json, ParameterizedType parameterizedType);
 
+    /**
+     * Convert from the JSON reader to the bean new-created by the specified type. <br>
+     * The engine can parse it by streaming, without whole JSON string. (default is via JSON string)
+     * @param <BEAN> The type of JSON bean.
+     * @param reader The reader of JSON to be parsed, not closed here. (NotNull)
+     * @param beanType The type of bean to convert, should have default constructor. (NotNull)
+     * @return The new-created bean that has the JSON values. (NotNull: if empty JSON, new-only)
+     */
+    default <BEAN> BEAN fromJson(Reader reader, Class<BEAN> beanType) {
+        return fromJson(readJsonWhole(reader), beanType);
+    }
+
+    /**
+     * Convert from the JSON reader to the parameterized bean. <br>
+     * The engine can parse it by streaming, without whole JSON string. (default is via JSON string)
+     * @param <BEAN> The type of JSON bean as root.
+     * @param reader The reader of JSON to be parsed, not closed here. (NotNull)
+     * @param parameterizedType The parameterized type of bean to convert, should have default constructor. (NotNull)
+     * @return The new-created bean that has the JSON values, also List and Map. (NotNull: if empty JSON, new-only)
+     */
+    default <BEAN> BEAN fromJsonParameteried(Reader reader, ParameterizedType parameterizedType) {
+        return fromJsonParameteried(readJsonWhole(reader), parameterizedType);
+    }
+
+    /**
+     * @param reader The reader of JSON. (NotNull)
+     * @return The whole JSON string read from the reader. (NotNull, EmptyAllowed)
+     */
+    static String readJsonWhole(Reader reader) { // for default methods
+        final StringBuilder sb = new StringBuilder();
+        final char[] buf = new char[8192];
+        try {
+            int readSize;
+            while ((readSize = reader.read(buf)) >= 0) {
+                sb.append(buf, 0, readSize);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read the JSON: " + reader, e);
+        }
+        return sb.toString();
+    }
+
     /**
      * Convert from the source object to JSON string.
      * @param bean The instance of bean to encode. (NotNull)
      * @return The encoded JSON string. (NotNull)
      */
     String toJson(Object bean);
+
+    /**
+     * Convert from the source object to JSON and write it to the appendable. <br>
+     * The engine can write it by streaming, without whole JSON string. (default is via JSON string)
+     * @param bean The instance of bean to encode. (NotNull)
+     * @param appendable The appendable to write JSON e.g. writer of response. (NotNull)
+     */
+    default void toJson(Object bean, Appendable appendable) {
+        final String json = toJson(bean);
+        try {
+            appendable.append(json);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to append the JSON: " + appendable, e);
+        }
+    }
 }
@@ -15,6 +15,7 @@
  */
 package org.lastaflute.core.json;
 
+import java.io.Reader;
 import java.lang.reflect.ParameterizedType;
 import java.util.function.Consumer;
 
@@ -31,6 +32,7 @@ import org.lastaflute.core.json.control.JsonPrintControlMeta;
 import org.lastaflute.core.json.control.JsonPrintControlState;
 import org.lastaflute.core.json.engine.GsonJsonEngine;
 import org.lastaflute.core.json.engine.RealJsonEngine;
+import org.lastaflute.core.json.engine.RuledJsonEngineCache;
 import org.lastaflute.core.json.engine.YourJsonEngineCreator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,6 +72,9 @@ public class SimpleJsonManager implements JsonManager {
     /** The real engine of JSON. (NotNull: after initialization) */
     protected RealJsonEngine realJsonEngine;
 
+    /** The cache of ruled JSON engine, e.g. for switched mapping option. (NotNull: after initialization) */
+    protected RuledJsonEngineCache ruledEngineCache;
+
     // ===================================================================================
     //                                                                          Initialize
     //                                                                          ==========
@@ -93,6 +98,7 @@ public class SimpleJsonManager implements JsonManager {
 
         // should be last because of using other instance variable
         realJsonEngine = createDefaultJsonEngine();
+        ruledEngineCache = newRuledJsonEngineCache(getRuledEngineCacheLimit());
         showBootLogging();
     }
 
@@ -139,6 +145,17 @@ public class SimpleJsonManager implements JsonManager {
         return createGsonJsonEngine(resource);
     }
 
+    // -----------------------------------------------------
+    //                                          Engine Cache
+    //                                          ------------
+    protected RuledJsonEngineCache newRuledJsonEngineCache(int limitSize) {
+        return new RuledJsonEngineCache(limitSize);
+    }
+
+    protected int getRuledEngineCacheLimit() {
+        return 100; // enough for switched mapping options in application
+    }
+
     // -----------------------------------------------------
     //                                          Boot Logging
     //                                          ------------
@@ -153,6 +170,7 @@ public class SimpleJsonManager implements JsonManager {
             if (yourEngineCreator.isPresent()) { // me too
                 logger.info(" creator: " + yourEngineCreator.get());
             }
+            logger.info(" ruledEngineCache: limit=" + ruledEngineCache.getLimitSize());
         }
     }
 
@@ -173,12 +191,33 @@ public class SimpleJsonManager implements JsonManager {
         return realJsonEngine.fromJsonParameteried(json, parameterizedType);
     }
 
+    @Override
+    public <BEAN> BEAN fromJson(Reader reader, Class<BEAN> beanType) {
+        assertArgumentNotNull("reader", reader);
+        assertArgumentNotNull("beanType", beanType);
+        return realJsonEngine.fromJson(reader, beanType);
+    }
+
+    @Override
+    public <BEAN> BEAN fromJsonParameteried(Reader reader, ParameterizedType parameterizedType) {
+        assertArgumentNotNull("reader", reader);
+        assertArgumentNotNull("parameterizedType", parameterizedType);
+        return realJsonEngine.fromJsonParameteried(reader, parameterizedType);
+    }
+
     @Override
     public String toJson(Object bean) {
         assertArgumentNotNull("bean", bean);
         return realJsonEngine.toJson(bean);
     }
 
+    @Override
+    public void toJson(Object bean, Appendable appendable) {
+        assertArgumentNotNull("bean", bean);
+        assertArgumentNotNull("appendable", appendable);
+        realJsonEngine.toJson(bean, appendable);
+    }
+
     // ===================================================================================
     //                                                                    new Ruled Engine
     //                                                                    ================
@@ -198,6 +237,19 @@ public class SimpleJsonManager implements JsonManager {
         return createGsonJsonEngine(resource);
     }
 
+    @Override
+    public RealJsonEngine prepareRuledEngine(JsonEngineResource resource) {
+        assertArgumentNotNull("resource", resource);
+        return ruledEngineCache.findOrCreate(resource, res -> newRuledEngine(res));
+    }
+
+    /**
+     * @return The cache of ruled JSON engine, e.g. for metrics of hit count. (NotNull: after initialization)
+     */
+    public RuledJsonEngineCache getRuledEngineCache() {
+        return ruledEngineCache;
+    }
+
     // ===================================================================================
     //                                                                        Control Meta
     //                                                                        ============
@@ -24,9 +24,12 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAccessor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.dbflute.helper.message.ExceptionMessageBuilder;
+import org.dbflute.optional.OptionalThing;
 import org.lastaflute.core.json.JsonMappingOption;
 import org.lastaflute.core.json.annotation.JsonDatePattern;
 import org.lastaflute.core.json.exception.JsonPropertyDateTimeParseFailureException;
@@ -132,6 +135,16 @@ public interface Java8TimeGsonAdaptable {
         protected final Predicate<Class<?>> emptyToNullReadingDeterminer; // null allowed
         protected final Predicate<Class<?>> nullToEmptyWritingDeterminer; // null allowed
 
+        // map:{field : formatter by @JsonDatePattern (empty if no annotation)} per declaring class, resolved once per field
+        // (held by class value so that hot-deployed classes are not pinned, released with the class)
+        protected final ClassValue<Map<Field, OptionalThing<DateTimeFormatter>>> annotatedFormatterMap =
+                new ClassValue<Map<Field, OptionalThing<DateTimeFormatter>>>() {
+                    @Override
+                    protected Map<Field, OptionalThing<DateTimeFormatter>> computeValue(Class<?> declaringType) {
+                        return new ConcurrentHashMap<Field, OptionalThing<DateTimeFormatter>>();
+                    }
+                };
+
         public AbstractTypeDateTimeAdapter(JsonMappingOption gsonOption) {
             this.gsonOption = gsonOption;
             this.readingFilter = JsonUnifiedTextReadingFilter.unify(gsonOption); // cache as plain for performance
@@ -227,15 +240,25 @@ public interface Java8TimeGsonAdaptable {
         protected DateTimeFormatter findAnnotatedFormatter() {
             final Field field = LaJsonFieldingContext.getJsonFieldOnThread();
             if (field != null) { // no way but avoid stop
-                final JsonDatePattern anno = field.getAnnotation(JsonDatePattern.class);
-                if (anno != null) {
-                    final String pattern = anno.value();
-                    return DateTimeFormatter.ofPattern(pattern); // #hope can be cached? by jflute
+                final Map<Field, OptionalThing<DateTimeFormatter>> formatterMap = annotatedFormatterMap.get(field.getDeclaringClass());
+                OptionalThing<DateTimeFormatter> cached = formatterMap.get(field);
+                if (cached == null) { // first time of the field
+                    cached = resolveAnnotatedFormatter(field); // formatter is immutable and thread-safe
+                    formatterMap.put(field, cached); // may be resolved twice, no problem
                 }
+                return cached.orElse(null);
             }
             return null;
         }
 
+        protected OptionalThing<DateTimeFormatter> resolveAnnotatedFormatter(Field field) {
+            final JsonDatePattern anno = field.getAnnotation(JsonDatePattern.class);
+            final DateTimeFormatter formatter = anno != null ? DateTimeFormatter.ofPattern(anno.value()) : null;
+            return OptionalThing.ofNullable(formatter, () -> {
+                throw new IllegalStateException("Not found the @JsonDatePattern for the field: " + field);
+            });
+        }
+
         protected abstract DATE fromTemporal(TemporalAccessor temporal);
 
         protected void throwJsonPropertyDateTimeParseFailureException(DateTimeFormatter formatter, String exp, JsonReader in,
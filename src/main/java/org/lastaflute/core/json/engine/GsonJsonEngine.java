@@ -15,6 +15,7 @@
  */
 package org.lastaflute.core.json.engine;
 
+import java.io.Reader;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.util.ArrayList;
@@ -288,21 +289,33 @@ public class GsonJsonEngine implements RealJsonEngine // adapters here
     @Override
     public <BEAN> BEAN fromJsonParameteried(String json, ParameterizedType parameterizedType) {
         final BEAN bean = gson.fromJson(json, parameterizedType); // if empty JSON, new-only instance
-        if (bean != null) {
-            return bean;
-        } else { // e.g. empty string JSON
-            final Class<?> rawClass = DfReflectionUtil.getRawClass(parameterizedType.getRawType()); // null allowed?
-            if (List.class.equals(rawClass)) {
-                @SuppressWarnings("unchecked")
-                final BEAN emptyList = (BEAN) DfCollectionUtil.newArrayListSized(2); // empty but mutable for coherence
-                return emptyList;
-            } else if (Map.class.equals(rawClass)) {
-                @SuppressWarnings("unchecked")
-                final BEAN emptyList = (BEAN) DfCollectionUtil.newHashMapSized(2); // empty but mutable for coherence
-                return emptyList;
-            } else {
-                return newEmptyInstance(parameterizedType);
-            }
+        return bean != null ? bean : newEmptyParameterized(parameterizedType);
+    }
+
+    @Override
+    public <BEAN> BEAN fromJson(Reader reader, Class<BEAN> beanType) { // are not null, already checked
+        final BEAN bean = gson.fromJson(reader, beanType); // streaming, if empty JSON, new-only instance
+        return bean != null ? bean : newEmptyInstance(beanType);
+    }
+
+    @Override
+    public <BEAN> BEAN fromJsonParameteried(Reader reader, ParameterizedType parameterizedType) {
+        final BEAN bean = gson.fromJson(reader, parameterizedType); // streaming, if empty JSON, new-only instance
+        return bean != null ? bean : newEmptyParameterized(parameterizedType);
+    }
+
+    protected <BEAN> BEAN newEmptyParameterized(ParameterizedType parameterizedType) { // e.g. empty string JSON
+        final Class<?> rawClass = DfReflectionUtil.getRawClass(parameterizedType.getRawType()); // null allowed?
+        if (List.class.equals(rawClass)) {
+            @SuppressWarnings("unchecked")
+            final BEAN emptyList = (BEAN) DfCollectionUtil.newArrayListSized(2); // empty but mutable for coherence
+            return emptyList;
+        } else if (Map.class.equals(rawClass)) {
+            @SuppressWarnings("unchecked")
+            final BEAN emptyList = (BEAN) DfCollectionUtil.newHashMapSized(2); // empty but mutable for coherence
+            return emptyList;
+        } else {
+            return newEmptyInstance(parameterizedType);
         }
     }
 
@@ -325,6 +338,11 @@ public class GsonJsonEngine implements RealJsonEngine // adapters here
         return gson.toJson(bean);
     }
 
+    @Override
+    public void toJson(Object bean, Appendable appendable) { // are not null, already checked
+        gson.toJson(bean, appendable); // streaming, without whole JSON string
+    }
+
     // ===================================================================================
     //                                                                            Accessor
     //                                                                            ========
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.json.engine;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.dbflute.optional.OptionalThing;
+import org.lastaflute.core.json.JsonEngineResource;
+import org.lastaflute.core.json.JsonMappingOption;
+
+/**
+ * The bounded cache of ruled JSON engines keyed by effective engine resource. <br>
+ * Values of mapping option are compared by equals() (formatters by their elements). <br>
+ * Resources that have functional settings (e.g. filter, your scalar) are not cached,
+ * because they cannot be compared by value, and capturing lambdas per request would only evict useful entries.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class RuledJsonEngineCache {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final int limitSize; // positive
+    protected final Map<List<Object>, RealJsonEngine> engineMap; // least-recently-used, synchronized by itself
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong missCount = new AtomicLong();
+    protected final AtomicLong uncachedCount = new AtomicLong(); // has functional settings
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public RuledJsonEngineCache(int limitSize) {
+        if (limitSize <= 0) {
+            throw new IllegalArgumentException("The argument 'limitSize' should be positive: " + limitSize);
+        }
+        this.limitSize = limitSize;
+        this.engineMap = new LinkedHashMap<List<Object>, RealJsonEngine>(16, 0.75f, /*accessOrder*/true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, RealJsonEngine> eldest) {
+                return size() > RuledJsonEngineCache.this.limitSize;
+            }
+        };
+    }
+
+    // ===================================================================================
+    //                                                                       Find or Create
+    //                                                                       ==============
+    /**
+     * @param resource The resource of JSON engine. (NotNull)
+     * @param engineCreator The creator of new engine when not cached, called outside lock. (NotNull)
+     * @return The cached or new-created engine. (NotNull)
+     */
+    public RealJsonEngine findOrCreate(JsonEngineResource resource, Function<JsonEngineResource, RealJsonEngine> engineCreator) {
+        final List<Object> resourceKey = buildResourceKey(resource);
+        if (resourceKey == null) { // has functional settings
+            uncachedCount.incrementAndGet();
+            return engineCreator.apply(resource);
+        }
+        synchronized (engineMap) {
+            final RealJsonEngine cached = engineMap.get(resourceKey);
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                return cached;
+            }
+        }
+        missCount.incrementAndGet();
+        final RealJsonEngine created = engineCreator.apply(resource); // may be created twice by other thread, no problem
+        synchronized (engineMap) {
+            final RealJsonEngine existing = engineMap.putIfAbsent(resourceKey, created);
+            return existing != null ? existing : created;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Resource Key
+    //                                                                        ============
+    /**
+     * @param resource The resource of JSON engine. (NotNull)
+     * @return The list as key of the resource. (NullAllowed: if functional settings exist, not cached)
+     */
+    protected List<Object> buildResourceKey(JsonEngineResource resource) {
+        if (hasFunctionalSetting(resource)) {
+            return null;
+        }
+        final List<Object> keyList = new ArrayList<Object>(12);
+        final OptionalThing<JsonMappingOption> optionalOption = resource.getMappingOption();
+        if (optionalOption.isPresent()) {
+            final JsonMappingOption op = optionalOption.get();
+            keyList.add(toFormatterKey(op.getLocalDateFormatter()));
+            keyList.add(toFormatterKey(op.getLocalDateTimeFormatter()));
+            keyList.add(toFormatterKey(op.getLocalTimeFormatter()));
+            keyList.add(toFormatterKey(op.getZonedDateTimeFormatter()));
+            keyList.add(op.isEverywhereQuoteWriting());
+            keyList.add(op.isListNullToEmptyReading());
+            keyList.add(op.isListNullToEmptyWriting());
+            keyList.add(op.getFieldNaming().orElse(null)); // enum
+        }
+        return keyList;
+    }
+
+    protected boolean hasFunctionalSetting(JsonEngineResource resource) { // compared only by identity
+        if (resource.getYourEngineCreator().isPresent()) {
+            return true;
+        }
+        final OptionalThing<JsonMappingOption> optionalOption = resource.getMappingOption();
+        if (!optionalOption.isPresent()) {
+            return false;
+        }
+        final JsonMappingOption op = optionalOption.get();
+        return op.getLocalDateFormattingTrigger().isPresent() // predicate
+                || op.getLocalDateTimeFormattingTrigger().isPresent() // me too
+                || op.getLocalTimeFormattingTrigger().isPresent() // me too
+                || op.getBooleanDeserializer().isPresent() // function
+                || op.getBooleanSerializer().isPresent() // me too
+                || op.getEmptyToNullReadingDeterminer().isPresent() // predicate
+                || op.getNullToEmptyWritingDeterminer().isPresent() // me too
+                || op.getSimpleTextReadingFilter().isPresent() // filter
+                || op.getTypeableTextReadingFilter().isPresent() // me too
+                || !op.getYourCollections().isEmpty() // has creator
+                || !op.getYourScalars().isEmpty() // has reader/writer
+                || op.getYourUltimateCustomizer().isPresent(); // consumer
+    }
+
+    protected Object toFormatterKey(OptionalThing<DateTimeFormatter> optionalFormatter) {
+        // formatter does not have equals() so uses its elements, e.g. ofPattern() in switcher
+        return optionalFormatter.map(fmt -> {
+            final Object key = Arrays.asList(fmt.toString(), fmt.getLocale(), fmt.getZone(), fmt.getChronology(),
+                    fmt.getResolverStyle(), fmt.getDecimalStyle(), fmt.getResolverFields());
+            return key;
+        }).orElse(null);
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "ruledEngineCache:{limit=" + limitSize + ", size=" + getCachedSize() + ", hit=" + hitCount.get() + ", miss="
+                + missCount.get() + ", uncached=" + uncachedCount.get() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getLimitSize() {
+        return limitSize;
+    }
+
+    public int getCachedSize() {
+        synchronized (engineMap) {
+            return engineMap.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getUncachedCount() {
+        return uncachedCount.get();
+    }
+}
@@ -71,6 +71,7 @@ public class ThreadCacheContext {
     //                                           Transaction
     //                                           -----------
     public static final String FW_TRANSACTION_MEMORIES = "fw:transactionMemories";
+    public static final String FW_DB_WRITTEN = "fw:dbWritten"; // for e.g. read-your-writes of SlaveDB
 
     // -----------------------------------------------------
     //                                                 Mail
@@ -95,7 +96,7 @@ public class ThreadCacheContext {
     //                                                                           Attribute
     //                                                                           =========
     /** The thread-local for this. */
-    private static final ThreadLocal<Map<String, Object>> threadLocal = new ThreadLocal<Map<String, Object>>();
+    private static final ThreadLocal<ThreadCacheMap> threadLocal = new ThreadLocal<ThreadCacheMap>();
 
     // ===================================================================================
     //                                                                          Initialize
@@ -114,8 +115,24 @@ public class ThreadCacheContext {
      * </pre>
      */
     public static void initialize() {
+        doInitialize(Collections.emptyMap());
+    }
+
+    /**
+     * Initialize this cache with inherited snapshot from other thread, e.g. asynchronous process. <br>
+     * The snapshot is referred without copying, and entries changed in this thread don't affect it.
+     * @param inheritedSnapshot The immutable snapshot from {@link #getInheritedSnapshot()}. (NotNull, EmptyAllowed)
+     */
+    public static void initializeAsInherited(Map<String, Object> inheritedSnapshot) { // @since 1.2.7
+        if (inheritedSnapshot == null) {
+            throw new IllegalArgumentException("The argument 'inheritedSnapshot' should not be null.");
+        }
+        doInitialize(inheritedSnapshot);
+    }
+
+    protected static void doInitialize(Map<String, Object> parentSnapshot) {
         clear();
-        threadLocal.set(new HashMap<String, Object>());
+        threadLocal.set(new ThreadCacheMap(parentSnapshot));
 
         // for e.g. Lasta RemoteApi-0.3.7 (depends on LastaFlute-1.0.0), deleted at future
         setObject(FW_REMOTE_API_COUNTER_INITIALIZER, remoteApiCounterInitializer);
@@ -209,6 +226,40 @@ public class ThreadCacheContext {
         return Collections.unmodifiableMap(threadLocal.get());
     }
 
+    /**
+     * Get the immutable snapshot of this cache to be inherited to other threads. <br>
+     * The same snapshot is returned until this cache is changed, so it costs nothing for many asynchronous processes.
+     * @return The immutable snapshot without thread-completed objects. (NotNull, EmptyAllowed: when not initialized)
+     */
+    public static Map<String, Object> getInheritedSnapshot() { // for framework, @since 1.2.7
+        if (!exists()) {
+            return Collections.emptyMap();
+        }
+        return threadLocal.get().toInheritedSnapshot();
+    }
+
+    /**
+     * Suspend this cache of current thread to run other process in the thread, e.g. caller-runs asynchronous process. <br>
+     * The thread has no cache until it is resumed by {@link #resume(Object)}.
+     * @return The suspended cache as opaque object. (NullAllowed: when not initialized)
+     */
+    public static Object suspend() { // for framework, @since 1.2.7
+        final ThreadCacheMap suspended = threadLocal.get();
+        clear();
+        return suspended;
+    }
+
+    /**
+     * Resume the cache suspended by {@link #suspend()}, the current cache of the thread is discarded.
+     * @param suspended The suspended cache returned by suspend(). (NullAllowed: means no cache)
+     */
+    public static void resume(Object suspended) { // for framework, @since 1.2.7
+        if (suspended != null && !(suspended instanceof ThreadCacheMap)) {
+            throw new IllegalArgumentException("The argument 'suspended' should be returned by suspend(): " + suspended);
+        }
+        threadLocal.set((ThreadCacheMap) suspended);
+    }
+
     // -----------------------------------------------------
     //                                             Core Item
     //                                             ---------
@@ -315,6 +366,16 @@ public class ThreadCacheContext {
         setObject(FW_TRANSACTION_MEMORIES, memories);
     }
 
+    public static boolean isDBWritten() { // @since 1.2.7
+        return exists() && getObject(FW_DB_WRITTEN) != null;
+    }
+
+    public static void markDBWritten() { // @since 1.2.7
+        if (exists()) { // e.g. no cache in batch
+            setObject(FW_DB_WRITTEN, MARK_OBJ);
+        }
+    }
+
     // -----------------------------------------------------
     //                                                 Mail
     //                                                ------
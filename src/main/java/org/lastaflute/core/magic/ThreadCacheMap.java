@@ -0,0 +1,152 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.magic;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The map of thread cache that can be inherited to other threads without copying. <br>
+ * Inherited entries are referred from the immutable snapshot of parent thread (structurally shared),
+ * and only entries set or removed in this thread are kept in own map (copy-on-write per key). <br>
+ * This is not thread-safe, used only in one thread via thread local like HashMap.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ThreadCacheMap extends AbstractMap<String, Object> {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final Object REMOVED_MARK = new Object(); // for removed key of parent
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected Map<String, Object> parentSnapshot; // not null, immutable, shared with other threads
+    protected final Map<String, Object> ownMap = new HashMap<String, Object>(); // own entries in this thread
+    protected Map<String, Object> cachedSnapshot; // null allowed: cleared when changed, for next inheritance
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param parentSnapshot The immutable snapshot of parent thread, from toInheritedSnapshot(). (NotNull, EmptyAllowed)
+     */
+    public ThreadCacheMap(Map<String, Object> parentSnapshot) {
+        if (parentSnapshot == null) {
+            throw new IllegalArgumentException("The argument 'parentSnapshot' should not be null.");
+        }
+        this.parentSnapshot = parentSnapshot;
+    }
+
+    // ===================================================================================
+    //                                                                          Map Access
+    //                                                                          ==========
+    @Override
+    public Object get(Object key) {
+        final Object own = ownMap.get(key);
+        if (own != null) {
+            return own != REMOVED_MARK ? own : null;
+        }
+        if (ownMap.containsKey(key)) { // null value
+            return null;
+        }
+        return parentSnapshot.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        final Object own = ownMap.get(key);
+        if (own != null) {
+            return own != REMOVED_MARK;
+        }
+        return ownMap.containsKey(key) || parentSnapshot.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        final Object previous = get(key);
+        ownMap.put(key, value);
+        cachedSnapshot = null;
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        final Object previous = get(key);
+        if (parentSnapshot.containsKey(key)) {
+            ownMap.put((String) key, REMOVED_MARK); // parent is immutable
+        } else {
+            ownMap.remove(key);
+        }
+        cachedSnapshot = null;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        parentSnapshot = Collections.emptyMap();
+        ownMap.clear();
+        cachedSnapshot = null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() { // basically for e.g. logging, not for performance
+        return Collections.unmodifiableMap(toMergedMap()).entrySet();
+    }
+
+    protected Map<String, Object> toMergedMap() {
+        if (ownMap.isEmpty()) {
+            return parentSnapshot;
+        }
+        final Map<String, Object> mergedMap = new HashMap<String, Object>(parentSnapshot);
+        ownMap.forEach((key, value) -> {
+            if (value == REMOVED_MARK) {
+                mergedMap.remove(key);
+            } else {
+                mergedMap.put(key, value);
+            }
+        });
+        return mergedMap;
+    }
+
+    // ===================================================================================
+    //                                                                         Inheritance
+    //                                                                         ===========
+    /**
+     * Get the immutable snapshot to be inherited to other threads. <br>
+     * The snapshot is reused until this map is changed, so many asynchronous processes share one snapshot.
+     * @return The immutable snapshot without thread-completed objects. (NotNull, EmptyAllowed)
+     */
+    public Map<String, Object> toInheritedSnapshot() {
+        if (cachedSnapshot != null) {
+            return cachedSnapshot;
+        }
+        final Map<String, Object> snapshot = new HashMap<String, Object>();
+        toMergedMap().forEach((key, value) -> {
+            if (value instanceof ThreadCompleted) { // cannot be inherited
+                return;
+            }
+            snapshot.put(key, value);
+        });
+        cachedSnapshot = Collections.unmodifiableMap(snapshot);
+        return cachedSnapshot;
+    }
+}
@@ -15,10 +15,23 @@
  */
 package org.lastaflute.core.magic.async;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.lastaflute.core.magic.async.ConcurrentAsyncCall.ConcurrentAsyncImportance;
 import org.lastaflute.core.magic.async.bridge.AsyncStateBridge;
 import org.lastaflute.core.magic.async.bridge.AsyncStateBridgeOpCall;
 import org.lastaflute.core.magic.async.exception.ConcurrentParallelRunnerException;
 import org.lastaflute.core.magic.async.future.YourFuture;
+import org.lastaflute.core.magic.async.future.YourFuture.YourFutureCancelledException;
+import org.lastaflute.core.magic.async.metrics.AsyncExecutorMetrics;
+import org.lastaflute.core.magic.async.waiting.WaitingAsyncResult;
 
 /**
  * @author jflute
@@ -94,4 +107,144 @@ public interface AsyncManager {
      * @throws ConcurrentParallelRunnerException When any runner does not reach goal.
      */
     void parallel(ConcurrentParallelCall runnerLambda, ConcurrentParallelOpCall opLambda);
+
+    /**
+     * Execute asynchronous process that returns result, as composable future. <br>
+     * The thread contexts are inherited in the same way as async(). <br>
+     * Dependent non-async stages (e.g. thenApply(), thenCombine()) run in the asynchronous thread with the contexts
+     * if the process is not finished yet when they are registered.
+     * <pre>
+     * CompletableFuture&lt;Sea&gt; seaFuture = <span style="color: #0000C0">asyncManager</span>.<span style="color: #CC4747">supply</span>(() <span style="font-size: 120%">-</span>&gt;</span> seaBhv.select...);
+     * CompletableFuture&lt;Land&gt; landFuture = <span style="color: #0000C0">asyncManager</span>.<span style="color: #CC4747">supply</span>(() <span style="font-size: 120%">-</span>&gt;</span> landRemoteApi.request..., 3000L);
+     * Piari piari = seaFuture.thenCombine(landFuture, (sea, land) <span style="font-size: 120%">-</span>&gt;</span> new Piari(sea, land)).join();
+     * </pre>
+     * @param <RESULT> The type of result of the process.
+     * @param supplyLambda The callback for asynchronous process that returns result. (NotNull)
+     * @return The completable future of the result, cancellation interrupts the process. (NotNull)
+     */
+    default <RESULT> CompletableFuture<RESULT> supply(ConcurrentAsyncSupplyCall<RESULT> supplyLambda) { // @since 1.2.7
+        if (supplyLambda == null) {
+            throw new IllegalArgumentException("The argument 'supplyLambda' should not be null.");
+        }
+        final CompletableFuture<RESULT> completable = new CompletableFuture<RESULT>();
+        final AtomicBoolean supplied = new AtomicBoolean(); // to determine completion by outside e.g. cancel, timeout
+        final YourFuture future = async(new ConcurrentAsyncCall() {
+            @Override
+            public void callback() { // in asynchronous thread with inherited contexts
+                if (completable.isDone()) { // e.g. cancelled before started
+                    return;
+                }
+                final RESULT result;
+                try {
+                    result = supplyLambda.supply();
+                } catch (RuntimeException | Error e) {
+                    supplied.set(true);
+                    completable.completeExceptionally(e);
+                    throw e; // for error handling of asynchronous process e.g. logging
+                }
+                supplied.set(true);
+                completable.complete(result);
+            }
+
+            @Override
+            public void hookFinally(WaitingAsyncResult result) {
+                if (!supplied.get()) { // e.g. failed to prepare contexts
+                    final String msg = "The asynchronous process was finished without supplying.";
+                    completable.completeExceptionally(new YourFutureCancelledException(msg, null)); // ignored if already completed
+                }
+            }
+
+            @Override
+            public ConcurrentAsyncImportance importance() {
+                return supplyLambda.importance();
+            }
+
+            @Override
+            public ConcurrentAsyncOption option() {
+                return supplyLambda.option();
+            }
+
+            @Override
+            public boolean suppressesErrorLogging() {
+                return supplyLambda.suppressesErrorLogging();
+            }
+        });
+        completable.whenComplete((result, cause) -> {
+            if (!supplied.get()) { // cancelled or timeout before the process finished
+                future.cancel(/*mayInterruptIfRunning*/true);
+            }
+        });
+        return completable;
+    }
+
+    /**
+     * Execute asynchronous process that returns result, as composable future with timeout. <br>
+     * If timeout, the future is completed by TimeoutException and the process is interrupted.
+     * @param <RESULT> The type of result of the process.
+     * @param supplyLambda The callback for asynchronous process that returns result. (NotNull)
+     * @param timeoutMillis The milliseconds of timeout. (NotMinus, NotZero)
+     * @return The completable future of the result, cancellation interrupts the process. (NotNull)
+     */
+    default <RESULT> CompletableFuture<RESULT> supply(ConcurrentAsyncSupplyCall<RESULT> supplyLambda, long timeoutMillis) { // @since 1.2.7
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("The argument 'timeoutMillis' should be positive: " + timeoutMillis);
+        }
+        final CompletableFuture<RESULT> completable = supply(supplyLambda);
+        async(() -> { // as default, waits for the timeout in asynchronous thread (no scheduler here)
+            try {
+                completable.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                final String msg = "The asynchronous process was timeout: timeoutMillis=" + timeoutMillis;
+                completable.completeExceptionally(new TimeoutException(msg)); // ignored if already completed
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | CancellationException ignored) { // completed by the process
+            }
+        });
+        return completable;
+    }
+
+    /**
+     * @param <RESULT> The type of result of the futures.
+     * @param futureList The list of futures to be joined. (NotNull, EmptyAllowed)
+     * @return The future of results in the same order as the list, completed exceptionally if any fails. (NotNull)
+     */
+    default <RESULT> CompletableFuture<List<RESULT>> allOf(List<CompletableFuture<RESULT>> futureList) { // @since 1.2.7
+        if (futureList == null) {
+            throw new IllegalArgumentException("The argument 'futureList' should not be null.");
+        }
+        final CompletableFuture<?>[] futures = futureList.toArray(new CompletableFuture<?>[futureList.size()]);
+        return CompletableFuture.allOf(futures).thenApply(none -> {
+            final List<RESULT> resultList = new ArrayList<RESULT>(futureList.size());
+            for (CompletableFuture<RESULT> future : futureList) {
+                resultList.add(future.join()); // already completed here
+            }
+            return resultList;
+        });
+    }
+
+    /**
+     * @param <RESULT> The type of result of the futures.
+     * @param futureList The list of futures to be raced. (NotNull, NotEmpty)
+     * @return The future of the first completed result (or exception). (NotNull)
+     */
+    default <RESULT> CompletableFuture<RESULT> anyOf(List<CompletableFuture<RESULT>> futureList) { // @since 1.2.7
+        if (futureList == null || futureList.isEmpty()) {
+            throw new IllegalArgumentException("The argument 'futureList' should not be null or empty: " + futureList);
+        }
+        final CompletableFuture<?>[] futures = futureList.toArray(new CompletableFuture<?>[futureList.size()]);
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<RESULT> first = (CompletableFuture<RESULT>) (CompletableFuture<?>) CompletableFuture.anyOf(futures);
+        return first;
+    }
+
+    /**
+     * Get the live metrics of the executor for the importance tier. <br>
+     * e.g. active threads, queue depth, rejections, waiting and running time histograms
+     * @param importance The importance tier of asynchronous process. (NotNull)
+     * @return The metrics of the executor. (NotNull)
+     */
+    default AsyncExecutorMetrics getExecutorMetrics(ConcurrentAsyncImportance importance) { // @since 1.2.7
+        return new AsyncExecutorMetrics(importance); // as default, no measurement so always zero
+    }
 }
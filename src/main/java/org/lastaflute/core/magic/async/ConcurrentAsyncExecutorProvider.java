@@ -15,6 +15,8 @@
  */
 package org.lastaflute.core.magic.async;
 
+import org.lastaflute.core.magic.async.ConcurrentAsyncCall.ConcurrentAsyncImportance;
+
 /**
  * @author jflute
  */
@@ -31,4 +33,23 @@ public interface ConcurrentAsyncExecutorProvider {
     default Integer provideMaxPoolSize() {
         return null;
     }
+
+    /**
+     * Does it run each asynchronous process on virtual thread? (when JDK 21 or later) <br>
+     * It is good for blocking I/O processes e.g. remote API, mail. <br>
+     * If virtual thread is unavailable in the JDK, the thread pools are used as default.
+     * Max pool size is ignored if virtual thread is used.
+     * @return The determination, true or false.
+     */
+    default boolean isVirtualThreadUsed() { // @since 1.2.7
+        return false;
+    }
+
+    /**
+     * @param importance The importance tier of the executor. (NotNull)
+     * @return The option of work queue for the executor. (NullAllowed: if null, no queue and waiting-queue overflow as default)
+     */
+    default ConcurrentAsyncQueueOption provideQueueOption(ConcurrentAsyncImportance importance) { // @since 1.2.7
+        return null;
+    }
 }
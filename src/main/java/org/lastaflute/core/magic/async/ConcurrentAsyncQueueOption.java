@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.magic.async;
+
+/**
+ * The option of work queue for one executor (importance tier) of asynchronous process.
+ * <pre>
+ * e.g. bounded queue and drop-oldest for log-like tertiary processes
+ *  public ConcurrentAsyncQueueOption provideQueueOption(ConcurrentAsyncImportance importance) {
+ *      if (ConcurrentAsyncImportance.TERTIARY.equals(importance)) {
+ *          return new ConcurrentAsyncQueueOption().boundQueue(1000).overflowDropOldest();
+ *      }
+ *      return null; // as default
+ *  }
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ConcurrentAsyncQueueOption {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected int queueCapacity; // zero means no queue (hand-off to thread), as default
+    protected ConcurrentAsyncOverflowPolicy overflowPolicy = ConcurrentAsyncOverflowPolicy.WAITING_QUEUE; // not null
+
+    public enum ConcurrentAsyncOverflowPolicy {
+
+        /** Put the rejected task to the queue by background thread later. (default, no signal to caller) */
+        WAITING_QUEUE,
+
+        /** The caller thread waits until the queue has space. (needs queue capacity) */
+        BLOCK_CALLER,
+
+        /** The caller thread runs the rejected task by itself, its contexts (e.g. transaction) are suspended while running. */
+        CALLER_RUNS,
+
+        /** The oldest queued task is dropped (cancelled), e.g. for log-like processes. */
+        DROP_OLDEST,
+
+        /** The rejected task is not executed and the caller receives RejectedExecutionException. */
+        FAIL_FAST
+    }
+
+    // ===================================================================================
+    //                                                                              Facade
+    //                                                                              ======
+    /**
+     * Use the bounded queue of tasks waiting for thread. <br>
+     * Threads are created up to max pool size before queueing.
+     * @param queueCapacity The capacity of the queue. (NotMinus: if zero, no queue as default)
+     * @return this. (NotNull)
+     */
+    public ConcurrentAsyncQueueOption boundQueue(int queueCapacity) {
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("The argument 'queueCapacity' should not be minus: " + queueCapacity);
+        }
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    public ConcurrentAsyncQueueOption overflowBlockCaller() {
+        this.overflowPolicy = ConcurrentAsyncOverflowPolicy.BLOCK_CALLER;
+        return this;
+    }
+
+    public ConcurrentAsyncQueueOption overflowRunInCaller() {
+        this.overflowPolicy = ConcurrentAsyncOverflowPolicy.CALLER_RUNS;
+        return this;
+    }
+
+    public ConcurrentAsyncQueueOption overflowDropOldest() {
+        this.overflowPolicy = ConcurrentAsyncOverflowPolicy.DROP_OLDEST;
+        return this;
+    }
+
+    public ConcurrentAsyncQueueOption overflowFailFast() {
+        this.overflowPolicy = ConcurrentAsyncOverflowPolicy.FAIL_FAST;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{queue=" + queueCapacity + ", overflow=" + overflowPolicy + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public boolean isQueueBounded() {
+        return queueCapacity > 0;
+    }
+
+    public ConcurrentAsyncOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+}
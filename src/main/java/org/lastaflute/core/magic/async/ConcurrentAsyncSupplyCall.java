@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.magic.async;
+
+import org.lastaflute.core.magic.async.ConcurrentAsyncCall.ConcurrentAsyncImportance;
+
+/**
+ * The callback of asynchronous process that returns result, for composable future.
+ * @param <RESULT> The type of result of the process.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+@FunctionalInterface
+public interface ConcurrentAsyncSupplyCall<RESULT> {
+
+    /**
+     * Supply the result by your asynchronous process in the other thread.
+     * @return The result of the process. (NullAllowed)
+     */
+    RESULT supply();
+
+    default ConcurrentAsyncImportance importance() { // null allowed
+        return null; // as default
+    }
+
+    default ConcurrentAsyncOption option() { // not null
+        return new ConcurrentAsyncOption();
+    }
+
+    default boolean suppressesErrorLogging() { // the exception is also completed in future
+        return false;
+    }
+}
@@ -31,7 +31,7 @@ public class ConcurrentParallelOption {
     protected List<Object> parameterList; // null allowed (however basically used: mainly parameter-based parallel)
     protected boolean errorHandlingSubsumed; // as completable asynchronous process if true
     protected Integer concurrencyCountLimit; // null allowed, to avoid large concurrency (independent from thread pool, so no max)
-    protected Long waitingIntervalMillis; // null allowed, to adjust polling efficiency
+    protected Long waitingIntervalMillis; // null allowed, no longer used since 1.2.7 (permit-based waiting), kept for compatible
 
     // ===================================================================================
     //                                                                              Facade
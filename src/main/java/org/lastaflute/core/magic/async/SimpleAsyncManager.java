@@ -18,27 +18,42 @@ package org.lastaflute.core.magic.async;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Resource;
+import javax.transaction.InvalidTransactionException;
+import javax.transaction.SystemException;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
 
 import org.dbflute.bhv.core.BehaviorCommandHook;
 import org.dbflute.bhv.proposal.callback.ExecutedSqlCounter;
@@ -61,9 +76,9 @@ import org.lastaflute.core.direction.FwAssistantDirector;
 import org.lastaflute.core.direction.FwCoreDirection;
 import org.lastaflute.core.exception.ExceptionTranslator;
 import org.lastaflute.core.magic.ThreadCacheContext;
-import org.lastaflute.core.magic.ThreadCompleted;
 import org.lastaflute.core.magic.async.ConcurrentAsyncCall.ConcurrentAsyncImportance;
 import org.lastaflute.core.magic.async.ConcurrentAsyncOption.ConcurrentAsyncInheritType;
+import org.lastaflute.core.magic.async.ConcurrentAsyncQueueOption.ConcurrentAsyncOverflowPolicy;
 import org.lastaflute.core.magic.async.bridge.AsyncStateBridge;
 import org.lastaflute.core.magic.async.bridge.AsyncStateBridgeOpCall;
 import org.lastaflute.core.magic.async.bridge.AsyncStateBridgeOption;
@@ -72,17 +87,21 @@ import org.lastaflute.core.magic.async.exception.ConcurrentParallelRunnerExcepti
 import org.lastaflute.core.magic.async.future.BasicYourFuture;
 import org.lastaflute.core.magic.async.future.DestructiveYourFuture;
 import org.lastaflute.core.magic.async.future.YourFuture;
+import org.lastaflute.core.magic.async.future.YourFuture.YourFutureCancelledException;
+import org.lastaflute.core.magic.async.metrics.AsyncExecutorMetrics;
 import org.lastaflute.core.magic.async.waiting.WaitingAsyncException;
 import org.lastaflute.core.magic.async.waiting.WaitingAsyncResult;
 import org.lastaflute.core.magic.destructive.BowgunDestructiveAdjuster;
 import org.lastaflute.core.mail.PostedMailCounter;
 import org.lastaflute.core.remoteapi.CalledRemoteApiCounter;
+import org.lastaflute.core.util.ContainerUtil;
 import org.lastaflute.db.dbflute.accesscontext.PreparedAccessContext;
 import org.lastaflute.db.dbflute.callbackcontext.traceablesql.RomanticTraceableSqlFireHook;
 import org.lastaflute.db.dbflute.callbackcontext.traceablesql.RomanticTraceableSqlResultHandler;
 import org.lastaflute.db.dbflute.callbackcontext.traceablesql.RomanticTraceableSqlStringFilter;
 import org.lastaflute.db.jta.romanticist.SavedTransactionMemories;
 import org.lastaflute.db.jta.romanticist.TransactionMemoriesProvider;
+import org.lastaflute.di.core.factory.SingletonLaContainerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -124,6 +143,12 @@ public class SimpleAsyncManager implements AsyncManager {
     /** The service of executor for waiting queue. (NullAllowed: lazy-loaded) */
     protected ExecutorService waitingQueueExecutorService;
 
+    /** The scheduler for timeout of supply(). (NullAllowed: lazy-loaded) */
+    protected volatile ScheduledExecutorService supplyTimeoutScheduler;
+
+    /** The map of live metrics per importance tier, prepared before executors. (NotNull: after initialization) */
+    protected Map<ConcurrentAsyncImportance, AsyncExecutorMetrics> executorMetricsMap;
+
     // ===================================================================================
     //                                                                          Initialize
     //                                                                          ==========
@@ -139,53 +164,191 @@ public class SimpleAsyncManager implements AsyncManager {
         if (defaultConcurrentAsyncOption == null) {
             defaultConcurrentAsyncOption = new ConcurrentAsyncOption();
         }
+        executorMetricsMap = prepareExecutorMetricsMap();
         primaryExecutorService = createDefaultPrimaryExecutorService(provider);
         secondaryExecutorService = createDefaultSecondaryExecutorService(provider);
-        tertiaryExecutorService = createDefaultSecondaryExecutorService(provider);
-        showBootLogging();
+        tertiaryExecutorService = createDefaultTertiaryExecutorService(provider);
+        showBootLogging(provider);
     }
 
     protected FwCoreDirection assistCoreDirection() {
         return assistantDirector.assistCoreDirection();
     }
 
+    protected Map<ConcurrentAsyncImportance, AsyncExecutorMetrics> prepareExecutorMetricsMap() {
+        final Map<ConcurrentAsyncImportance, AsyncExecutorMetrics> metricsMap = new EnumMap<>(ConcurrentAsyncImportance.class);
+        for (ConcurrentAsyncImportance importance : ConcurrentAsyncImportance.values()) {
+            metricsMap.put(importance, newAsyncExecutorMetrics(importance));
+        }
+        return Collections.unmodifiableMap(metricsMap);
+    }
+
+    protected AsyncExecutorMetrics newAsyncExecutorMetrics(ConcurrentAsyncImportance importance) {
+        return new AsyncExecutorMetrics(importance);
+    }
+
     protected ExecutorService createDefaultPrimaryExecutorService(ConcurrentAsyncExecutorProvider provider) {
-        return createDefaultExecutorService(provider);
+        return createDefaultExecutorService(provider, ConcurrentAsyncImportance.PRIMARY);
     }
 
     protected ExecutorService createDefaultSecondaryExecutorService(ConcurrentAsyncExecutorProvider provider) {
-        return createDefaultExecutorService(provider);
+        return createDefaultExecutorService(provider, ConcurrentAsyncImportance.SECONDARY);
+    }
+
+    protected ExecutorService createDefaultTertiaryExecutorService(ConcurrentAsyncExecutorProvider provider) {
+        return createDefaultExecutorService(provider, ConcurrentAsyncImportance.TERTIARY);
     }
 
     // -----------------------------------------------------
     //                              Default Executor Service
     //                              ------------------------
-    protected ExecutorService createDefaultExecutorService(ConcurrentAsyncExecutorProvider provider) {
-        final int corePoolSize = 0;
+    protected ExecutorService createDefaultExecutorService(ConcurrentAsyncExecutorProvider provider, ConcurrentAsyncImportance importance) {
+        if (provider != null && provider.isVirtualThreadUsed()) { // queue option is ignored, virtual thread is never short
+            final ExecutorService virtualExecutor = createVirtualThreadExecutorService();
+            if (virtualExecutor != null) {
+                return virtualExecutor;
+            }
+            // fall back to thread pool when e.g. before JDK 21
+        }
+        final ConcurrentAsyncQueueOption queueOption = prepareQueueOption(provider, importance);
         Integer maximumPoolSize = provider != null ? provider.provideMaxPoolSize() : null;
         if (maximumPoolSize == null) {
             maximumPoolSize = 10;
         }
+        // core size is zero with hand-off queue, but max with bounded queue to create threads before queueing
+        final int corePoolSize = queueOption.isQueueBounded() ? maximumPoolSize : 0;
         final long keepAliveTime = 60L;
         final TimeUnit seconds = TimeUnit.SECONDS;
-        final BlockingQueue<Runnable> workQueue = createDefaultBlockingQueue();
-        final RejectedExecutionHandler rejected = createRejectedExecutionHandler();
-        return new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, seconds, workQueue, rejected);
+        final BlockingQueue<Runnable> workQueue = createDefaultBlockingQueue(queueOption);
+        final RejectedExecutionHandler rejected = createRejectedExecutionHandler(queueOption, findExecutorMetrics(importance));
+        final ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, seconds, workQueue, rejected);
+        if (queueOption.isQueueBounded()) {
+            executor.allowCoreThreadTimeOut(true); // idle threads are removed as well as no queue
+        }
+        return executor;
     }
 
-    protected BlockingQueue<Runnable> createDefaultBlockingQueue() {
-        return new SynchronousQueue<Runnable>(); // waits when pool short
+    protected ConcurrentAsyncQueueOption prepareQueueOption(ConcurrentAsyncExecutorProvider provider, ConcurrentAsyncImportance importance) {
+        final ConcurrentAsyncQueueOption queueOption = provider != null ? provider.provideQueueOption(importance) : null;
+        return queueOption != null ? queueOption : new ConcurrentAsyncQueueOption(); // as default
+    }
+
+    protected BlockingQueue<Runnable> createDefaultBlockingQueue(ConcurrentAsyncQueueOption queueOption) {
+        if (queueOption.isQueueBounded()) {
+            return new LinkedBlockingQueue<Runnable>(queueOption.getQueueCapacity());
+        } else {
+            return new SynchronousQueue<Runnable>(); // waits when pool short
+        }
+    }
+
+    // -----------------------------------------------------
+    //                               Virtual Thread Executor
+    //                               -----------------------
+    /**
+     * Create the executor service that starts new virtual thread for each task. <br>
+     * Contexts (e.g. access context) are inherited in the task in the same way as thread pool.
+     * @return The new-created executor service. (NullAllowed: when virtual thread is unavailable in the JDK)
+     */
+    protected ExecutorService createVirtualThreadExecutorService() {
+        final Method factoryMethod; // by reflection to compile on Java8
+        try {
+            factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) { // e.g. before JDK 21
+            logger.info("#flow #async Virtual thread is unavailable in the JDK so use thread pool: " + System.getProperty("java.version"));
+            return null;
+        }
+        try {
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) { // basically no way
+            throw new IllegalStateException("Failed to create the virtual thread executor: " + factoryMethod, e);
+        }
     }
 
     // -----------------------------------------------------
     //                            Rejected Execution Handler
     //                            --------------------------
-    protected RejectedExecutionHandler createRejectedExecutionHandler() {
+    protected RejectedExecutionHandler createRejectedExecutionHandler(ConcurrentAsyncQueueOption queueOption, AsyncExecutorMetrics metrics) {
+        final ConcurrentAsyncOverflowPolicy overflowPolicy = queueOption.getOverflowPolicy();
         return (runnable, executor) -> {
-            handleRejectedExecution(runnable, executor);
+            metrics.markRejected();
+            if (ConcurrentAsyncOverflowPolicy.BLOCK_CALLER.equals(overflowPolicy)) {
+                handleRejectedExecutionAsBlockCaller(runnable, executor);
+            } else if (ConcurrentAsyncOverflowPolicy.CALLER_RUNS.equals(overflowPolicy)) {
+                handleRejectedExecutionAsCallerRuns(runnable, executor);
+            } else if (ConcurrentAsyncOverflowPolicy.DROP_OLDEST.equals(overflowPolicy)) {
+                handleRejectedExecutionAsDropOldest(runnable, executor, metrics);
+            } else if (ConcurrentAsyncOverflowPolicy.FAIL_FAST.equals(overflowPolicy)) {
+                handleRejectedExecutionAsFailFast(runnable, executor);
+            } else { // waiting queue as default
+                handleRejectedExecution(runnable, executor);
+            }
         };
     }
 
+    protected void handleRejectedExecutionAsBlockCaller(Runnable runnable, ThreadPoolExecutor executor) { // caller thread
+        if (executor.isShutdown()) { // dead pool's queue is never consumed
+            throwRejectedExecutionByShutdown(runnable, executor);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("#flow #async ...Waiting for space of the executor" + buildExecutorHashExp(executor) + "'s queue: " + runnable);
+        }
+        try {
+            executor.getQueue().put(runnable); // hand-off queue waits for idle thread
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for the queue: " + runnable, e);
+        }
+        if (executor.isShutdown() && executor.getQueue().remove(runnable)) { // shutdown while waiting
+            throwRejectedExecutionByShutdown(runnable, executor);
+        }
+    }
+
+    protected void handleRejectedExecutionAsCallerRuns(Runnable runnable, ThreadPoolExecutor executor) { // caller thread
+        if (executor.isShutdown()) {
+            throwRejectedExecutionByShutdown(runnable, executor);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("#flow #async ...Running the runnable in caller thread by overflow: " + runnable);
+        }
+        // the task prepares and clears thread contexts (e.g. access context) as asynchronous process,
+        // so the caller's contexts (and transaction) are suspended while running, and resumed after it
+        final CallerRunsSuspendedState suspendedState = suspendCallerRunsState();
+        try {
+            runnable.run(); // exception is kept in the future task
+        } finally {
+            resumeCallerRunsState(suspendedState);
+        }
+    }
+
+    protected void handleRejectedExecutionAsDropOldest(Runnable runnable, ThreadPoolExecutor executor, AsyncExecutorMetrics metrics) {
+        if (executor.isShutdown()) {
+            throwRejectedExecutionByShutdown(runnable, executor);
+        }
+        final Runnable oldest = executor.getQueue().poll(); // null if hand-off queue or already taken
+        final Runnable dropped = oldest != null ? oldest : runnable; // drops new one if nothing to drop
+        if (logger.isDebugEnabled()) {
+            logger.debug("#flow #async ...Dropping the runnable by overflow: " + dropped);
+        }
+        if (dropped instanceof Future<?>) { // to notice it to waiting caller (if exists) as cancellation
+            ((Future<?>) dropped).cancel(false);
+        }
+        metrics.markDropped();
+        if (oldest != null) {
+            executor.execute(runnable); // retry the new one, may be rejected again by other callers
+        }
+    }
+
+    protected void handleRejectedExecutionAsFailFast(Runnable runnable, ThreadPoolExecutor executor) { // caller thread
+        final String torExp = buildExecutorHashExp(executor);
+        throw new RejectedExecutionException("The executor" + torExp + " is full so rejected the runnable: " + runnable);
+    }
+
+    protected void throwRejectedExecutionByShutdown(Runnable runnable, ThreadPoolExecutor executor) { // caller thread
+        final String torExp = buildExecutorHashExp(executor);
+        throw new RejectedExecutionException("The executor" + torExp + " is already shutdown so rejected the runnable: " + runnable);
+    }
+
     protected void handleRejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) { // caller thread
         if (logger.isDebugEnabled()) {
             logger.debug("#flow #async ...Registering the runnable to waiting queue as retry: " + runnable);
@@ -234,16 +397,87 @@ public class SimpleAsyncManager implements AsyncManager {
         return "@" + Integer.toHexString(executor.hashCode());
     }
 
+    // -----------------------------------------------------
+    //                                           Caller Runs
+    //                                           -----------
+    protected CallerRunsSuspendedState suspendCallerRunsState() { // caller thread
+        final CallerRunsSuspendedState state = new CallerRunsSuspendedState();
+        state.transactionManager = findCallerRunsTransactionManager();
+        if (state.transactionManager != null) {
+            state.transaction = suspendCallerRunsTransaction(state.transactionManager);
+        }
+        state.threadCacheObj = ThreadCacheContext.suspend();
+        // access context is stacked so the caller's one is restored when the task clears its own
+        state.callbackContext = CallbackContext.getCallbackContextOnThread();
+        CallbackContext.clearCallbackContextOnThread();
+        state.variousSuspendedObj = suspendCallerRunsVariousContext();
+        return state;
+    }
+
+    protected void resumeCallerRunsState(CallerRunsSuspendedState state) { // caller thread
+        resumeCallerRunsVariousContext(state.variousSuspendedObj);
+        CallbackContext.clearCallbackContextOnThread(); // just in case
+        if (state.callbackContext != null) {
+            CallbackContext.setCallbackContextOnThread(state.callbackContext);
+        }
+        ThreadCacheContext.resume(state.threadCacheObj);
+        if (state.transaction != null) {
+            resumeCallerRunsTransaction(state.transactionManager, state.transaction);
+        }
+    }
+
+    protected TransactionManager findCallerRunsTransactionManager() { // null allowed e.g. no container in unit test
+        if (!SingletonLaContainerFactory.hasContainer() || !ContainerUtil.hasComponent(TransactionManager.class)) {
+            return null;
+        }
+        return ContainerUtil.getComponent(TransactionManager.class);
+    }
+
+    protected Transaction suspendCallerRunsTransaction(TransactionManager transactionManager) { // null allowed
+        try {
+            return transactionManager.getTransaction() != null ? transactionManager.suspend() : null;
+        } catch (SystemException e) {
+            throw new RejectedExecutionException("Failed to suspend the caller transaction to run the runnable by caller.", e);
+        }
+    }
+
+    protected void resumeCallerRunsTransaction(TransactionManager transactionManager, Transaction transaction) {
+        try {
+            transactionManager.resume(transaction);
+        } catch (InvalidTransactionException | SystemException e) {
+            throw new IllegalStateException("Failed to resume the caller transaction after running by caller: " + transaction, e);
+        }
+    }
+
+    protected Object suspendCallerRunsVariousContext() { // for extension
+        return null;
+    }
+
+    protected void resumeCallerRunsVariousContext(Object variousSuspendedObj) { // for extension
+    }
+
+    protected static class CallerRunsSuspendedState {
+
+        protected TransactionManager transactionManager; // null allowed
+        protected Transaction transaction; // null allowed
+        protected Object threadCacheObj; // null allowed
+        protected CallbackContext callbackContext; // null allowed
+        protected Object variousSuspendedObj; // null allowed
+    }
+
     // -----------------------------------------------------
     //                                          Boot Logging
     //                                          ------------
-    protected void showBootLogging() {
+    protected void showBootLogging(ConcurrentAsyncExecutorProvider provider) {
         if (logger.isInfoEnabled()) {
             logger.info("[Async Manager]");
             logger.info(" defaultConcurrentAsyncOption: " + defaultConcurrentAsyncOption);
-            logger.info(" primaryExecutorService: " + buildExecutorNamedExp(primaryExecutorService));
-            logger.info(" secondaryExecutorService: " + buildExecutorNamedExp(secondaryExecutorService));
-            logger.info(" tertiaryExecutorService: " + buildExecutorNamedExp(tertiaryExecutorService));
+            logger.info(" primaryExecutorService: " + buildExecutorNamedExp(primaryExecutorService) + " "
+                    + prepareQueueOption(provider, ConcurrentAsyncImportance.PRIMARY));
+            logger.info(" secondaryExecutorService: " + buildExecutorNamedExp(secondaryExecutorService) + " "
+                    + prepareQueueOption(provider, ConcurrentAsyncImportance.SECONDARY));
+            logger.info(" tertiaryExecutorService: " + buildExecutorNamedExp(tertiaryExecutorService) + " "
+                    + prepareQueueOption(provider, ConcurrentAsyncImportance.TERTIARY));
         }
     }
 
@@ -279,26 +513,70 @@ public class SimpleAsyncManager implements AsyncManager {
     }
 
     protected YourFuture doAsyncPrimary(ConcurrentAsyncCall callback) {
-        return actuallyAsync(callback, primaryExecutorService, "primary");
+        return actuallyAsync(callback, primaryExecutorService, ConcurrentAsyncImportance.PRIMARY);
     }
 
     protected YourFuture doAsyncSecondary(ConcurrentAsyncCall callback) {
-        return actuallyAsync(callback, secondaryExecutorService, "secondary");
+        return actuallyAsync(callback, secondaryExecutorService, ConcurrentAsyncImportance.SECONDARY);
     }
 
     protected YourFuture doAsyncTertiary(ConcurrentAsyncCall callback) {
-        return actuallyAsync(callback, tertiaryExecutorService, "tertiary");
+        return actuallyAsync(callback, tertiaryExecutorService, ConcurrentAsyncImportance.TERTIARY);
     }
 
-    protected YourFuture actuallyAsync(ConcurrentAsyncCall callback, ExecutorService service, String title) {
+    protected YourFuture actuallyAsync(ConcurrentAsyncCall callback, ExecutorService service, ConcurrentAsyncImportance importance) {
         if (isDestructiveAsyncToNormalSync()) { // destructive (for e.g. UnitTest)
             return destructiveNormalSync(callback);
         } else { // basically here
-            final String keyword = title + buildExecutorHashExp(service);
-            final Callable<WaitingAsyncResult> task = createCallableTask(callback, keyword);
-            final Future<WaitingAsyncResult> nativeFuture = service.submit(task); // real asynchronous
-            return new BasicYourFuture(nativeFuture);
+            final String keyword = importance.name().toLowerCase() + buildExecutorHashExp(service);
+            final AsyncExecutorMetrics metrics = findExecutorMetrics(importance);
+            final Callable<WaitingAsyncResult> task = measureCallableTask(createCallableTask(callback, keyword), metrics);
+            final RunnableFuture<WaitingAsyncResult> futureTask = newAsyncFutureTask(task, callback);
+            try {
+                service.execute(futureTask); // real asynchronous
+            } catch (RejectedExecutionException e) { // e.g. fail-fast overflow policy, already shutdown
+                metrics.markSubmitFailed();
+                throw e;
+            }
+            return new BasicYourFuture(futureTask);
+        }
+    }
+
+    protected RunnableFuture<WaitingAsyncResult> newAsyncFutureTask(Callable<WaitingAsyncResult> task, ConcurrentAsyncCall callback) {
+        if (callback instanceof CompletionHookedAsyncCall) {
+            final CompletionHookedAsyncCall hookedCall = (CompletionHookedAsyncCall) callback;
+            return new FutureTask<WaitingAsyncResult>(task) {
+                @Override
+                protected void done() { // also called when cancelled before running e.g. dropped by overflow policy
+                    hookedCall.hookFutureCompletion(isCancelled());
+                }
+            };
         }
+        return new FutureTask<WaitingAsyncResult>(task);
+    }
+
+    /**
+     * The asynchronous call that is hooked when its future is completed, normally or not. <br>
+     * Unlike hookFinally(), it is called even if the callback is never executed, e.g. cancelled before started.
+     */
+    protected static interface CompletionHookedAsyncCall extends ConcurrentAsyncCall {
+
+        /**
+         * @param cancelled Is the future cancelled? (if true, the callback may not be executed)
+         */
+        void hookFutureCompletion(boolean cancelled);
+    }
+
+    protected Callable<WaitingAsyncResult> measureCallableTask(Callable<WaitingAsyncResult> task, AsyncExecutorMetrics metrics) {
+        final long submittedNanos = metrics.markSubmitted(); // in caller thread
+        return () -> { // in new thread
+            final long startedNanos = metrics.markStarted(submittedNanos);
+            try {
+                return task.call();
+            } finally {
+                metrics.markFinished(startedNanos);
+            }
+        };
     }
 
     protected DestructiveYourFuture destructiveNormalSync(ConcurrentAsyncCall callback) {
@@ -310,6 +588,132 @@ public class SimpleAsyncManager implements AsyncManager {
         return new DestructiveYourFuture();
     }
 
+    // ===================================================================================
+    //                                                                   Composable Future
+    //                                                                   =================
+    @Override
+    public <RESULT> CompletableFuture<RESULT> supply(ConcurrentAsyncSupplyCall<RESULT> supplyLambda) {
+        assertSupplyCallbackNotNull(supplyLambda);
+        final CompletableFuture<RESULT> completable = new CompletableFuture<RESULT>();
+        final AtomicBoolean supplied = new AtomicBoolean(); // to determine completion by outside e.g. cancel, timeout
+        final YourFuture future = async(createSupplyAsyncCall(supplyLambda, completable, supplied));
+        completable.whenComplete((result, cause) -> {
+            if (!supplied.get()) { // cancelled or timeout before the process finished
+                future.cancel(/*mayInterruptIfRunning*/true);
+            }
+        });
+        return completable;
+    }
+
+    @Override
+    public <RESULT> CompletableFuture<RESULT> supply(ConcurrentAsyncSupplyCall<RESULT> supplyLambda, long timeoutMillis) {
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("The argument 'timeoutMillis' should be positive: " + timeoutMillis);
+        }
+        final CompletableFuture<RESULT> completable = supply(supplyLambda);
+        scheduleSupplyTimeout(completable, timeoutMillis);
+        return completable;
+    }
+
+    protected <RESULT> ConcurrentAsyncCall createSupplyAsyncCall(ConcurrentAsyncSupplyCall<RESULT> supplyLambda,
+            CompletableFuture<RESULT> completable, AtomicBoolean supplied) {
+        return new CompletionHookedAsyncCall() {
+            @Override
+            public void callback() { // in asynchronous thread with inherited contexts
+                if (completable.isDone()) { // e.g. cancelled before started
+                    return;
+                }
+                final RESULT result;
+                try {
+                    result = supplyLambda.supply();
+                } catch (RuntimeException | Error e) {
+                    supplied.set(true);
+                    completable.completeExceptionally(e);
+                    throw e; // for error handling of asynchronous process e.g. logging
+                }
+                supplied.set(true);
+                completable.complete(result); // dependent stages may run here, before contexts are cleared
+            }
+
+            @Override
+            public void hookFutureCompletion(boolean cancelled) { // in asynchronous or caller thread
+                if (!supplied.get()) { // e.g. dropped by overflow policy, failed to prepare contexts
+                    final String msg = "The asynchronous process was " + (cancelled ? "cancelled" : "finished") + " without supplying.";
+                    completable.completeExceptionally(new YourFutureCancelledException(msg, null)); // ignored if already completed
+                }
+            }
+
+            @Override
+            public ConcurrentAsyncImportance importance() {
+                return supplyLambda.importance();
+            }
+
+            @Override
+            public ConcurrentAsyncOption option() {
+                return supplyLambda.option();
+            }
+
+            @Override
+            public boolean suppressesErrorLogging() {
+                return supplyLambda.suppressesErrorLogging();
+            }
+        };
+    }
+
+    // -----------------------------------------------------
+    //                                               Timeout
+    //                                               -------
+    protected void scheduleSupplyTimeout(CompletableFuture<?> completable, long timeoutMillis) {
+        final ScheduledFuture<?> scheduled = getSupplyTimeoutScheduler().schedule(() -> {
+            final String msg = "The asynchronous process was timeout: timeoutMillis=" + timeoutMillis;
+            completable.completeExceptionally(new TimeoutException(msg)); // ignored if already completed
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        completable.whenComplete((result, cause) -> scheduled.cancel(false)); // not to keep task until timeout
+    }
+
+    protected ScheduledExecutorService getSupplyTimeoutScheduler() {
+        if (supplyTimeoutScheduler != null) {
+            return supplyTimeoutScheduler;
+        }
+        synchronized (this) {
+            if (supplyTimeoutScheduler != null) {
+                return supplyTimeoutScheduler;
+            }
+            logger.info("#flow #async ...Creating the scheduler for timeout of supply().");
+            supplyTimeoutScheduler = newSupplyTimeoutScheduler();
+            return supplyTimeoutScheduler;
+        }
+    }
+
+    protected ScheduledExecutorService newSupplyTimeoutScheduler() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "lasta-async-timeout");
+            thread.setDaemon(true); // only completes futures exceptionally
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true); // most timeouts are cancelled by normal completion
+        return scheduler;
+    }
+
+    // ===================================================================================
+    //                                                                    Executor Metrics
+    //                                                                    ================
+    @Override
+    public AsyncExecutorMetrics getExecutorMetrics(ConcurrentAsyncImportance importance) {
+        if (importance == null) {
+            throw new IllegalArgumentException("The argument 'importance' should not be null.");
+        }
+        return findExecutorMetrics(importance);
+    }
+
+    protected AsyncExecutorMetrics findExecutorMetrics(ConcurrentAsyncImportance importance) {
+        final AsyncExecutorMetrics metrics = executorMetricsMap.get(importance);
+        if (metrics == null) { // no way
+            throw new IllegalStateException("Not found the executor metrics: " + importance);
+        }
+        return metrics;
+    }
+
     // ===================================================================================
     //                                                                     Create Runnable
     //                                                                     ===============
@@ -389,8 +793,8 @@ public class SimpleAsyncManager implements AsyncManager {
         return doInheritThreadCacheContext();
     }
 
-    protected Map<String, Object> doInheritThreadCacheContext() {
-        return new HashMap<String, Object>(ThreadCacheContext.getReadOnlyCacheMap());
+    protected Map<String, Object> doInheritThreadCacheContext() { // immutable snapshot, shared by processes without copying
+        return ThreadCacheContext.getInheritedSnapshot(); // thread-completed objects are already excluded
     }
 
     protected void prepareThreadCacheContext(ConcurrentAsyncCall call, Map<String, Object> threadCacheMap) {
@@ -398,13 +802,7 @@ public class SimpleAsyncManager implements AsyncManager {
     }
 
     protected void doPrepareThreadCacheContext(Map<String, Object> threadCacheMap) {
-        ThreadCacheContext.initialize();
-        threadCacheMap.forEach((key, value) -> {
-            if (value instanceof ThreadCompleted) { // cannot be inherited
-                return;
-            }
-            ThreadCacheContext.setObject(key, value);
-        });
+        ThreadCacheContext.initializeAsInherited(threadCacheMap); // refers the snapshot, copy-on-write per key
     }
 
     protected void clearThreadCacheContext(ConcurrentAsyncCall call) {
@@ -882,15 +1280,15 @@ public class SimpleAsyncManager implements AsyncManager {
         }
         final Map<Integer, Object> parameterHistoryMap = new LinkedHashMap<>(); // for exception handling
         final Map<Integer, YourFuture> allFutureMap = new LinkedHashMap<>(); // for e.g. waiting for all done, exception handling
-        final Set<YourFuture> runningPossibleFutureSet = new LinkedHashSet<>(); // for e.g. control of concurrency count limit
+        final Semaphore concurrencyPermit = prepareParallelConcurrencyPermit(option); // null allowed: no limit
         final Object lockObj = new Object();
         option.getParameterList().ifPresent(parameterList -> {
             logger.debug("#flow #parallel ...Starting parameter-based parallel runners: params=" + parameterList.size());
             int entryNumber = 1; // e.g. 1, 2, 3...
             for (Object parameter : parameterList) {
                 parameterHistoryMap.put(entryNumber, parameter);
-                final YourFuture future = doParallelAsync(runnerLambda, entryNumber, parameter, lockObj, runningPossibleFutureSet, option);
-                keepParallelFuture(entryNumber, future, allFutureMap, runningPossibleFutureSet);
+                final YourFuture future = doParallelAsync(runnerLambda, entryNumber, parameter, lockObj, concurrencyPermit, option);
+                allFutureMap.put(entryNumber, future);
                 ++entryNumber;
             }
         }).orElse(() -> {
@@ -899,8 +1297,8 @@ public class SimpleAsyncManager implements AsyncManager {
             for (int i = 0; i < runnerCount; i++) {
                 final int entryNumber = i + 1; // e.g. 1, 2, 3...
                 final YourFuture future =
-                        doParallelAsync(runnerLambda, entryNumber, /*parameter*/null, lockObj, runningPossibleFutureSet, option);
-                keepParallelFuture(entryNumber, future, allFutureMap, runningPossibleFutureSet);
+                        doParallelAsync(runnerLambda, entryNumber, /*parameter*/null, lockObj, concurrencyPermit, option);
+                allFutureMap.put(entryNumber, future);
             }
         });
         waitForParallelRunnerAllDone(allFutureMap, option);
@@ -918,57 +1316,71 @@ public class SimpleAsyncManager implements AsyncManager {
         return 5; // #for_now jflute fixed now, but should it be option? (needed? on-demand supported?)
     }
 
-    protected void keepParallelFuture(int entryNumber, YourFuture future, Map<Integer, YourFuture> allFutureMap,
-            Set<YourFuture> runningPossibleFutureSet) {
-        allFutureMap.put(entryNumber, future);
-        runningPossibleFutureSet.add(future);
-        if (entryNumber % 20 == 0) { // sometimes to avoid many iterator instances
-            runningPossibleFutureSet.removeIf(existing -> existing.isDone()); // running only at this moment
-        }
-    }
-
     // -----------------------------------------------------
     //                                 Parallel Asynchronous
     //                                 ---------------------
     protected YourFuture doParallelAsync(ConcurrentParallelCall runnerLambda, int entryNumber, Object parameter, Object lockObj,
-            Set<YourFuture> runningPossibleFutureSet, ConcurrentParallelOption option) {
-        option.getConcurrencyCountLimit().ifPresent(concurrencyCountlimit -> {
-            waitForParallelConcurrencyLimitation(concurrencyCountlimit, runningPossibleFutureSet, option);
-        });
-        return async(createParallelAsyncCall(runnerLambda, entryNumber, parameter, lockObj, option));
+            Semaphore concurrencyPermit, ConcurrentParallelOption option) {
+        if (concurrencyPermit != null) {
+            waitForParallelConcurrencyLimitation(concurrencyPermit, option);
+        }
+        final AtomicBoolean permitReleased = new AtomicBoolean(); // to release only once from several release points
+        try {
+            return async(createParallelAsyncCall(runnerLambda, entryNumber, parameter, lockObj, concurrencyPermit, permitReleased, option));
+        } catch (RuntimeException e) { // e.g. rejected by executor, so the runner never releases it
+            releaseParallelConcurrencyPermit(concurrencyPermit, permitReleased);
+            throw e;
+        }
     }
 
-    protected void waitForParallelConcurrencyLimitation(Integer concurrencyCountlimit, Set<YourFuture> runningPossibleFutureSet,
-            ConcurrentParallelOption option) {
-        // [waiting-interval milliseconds performance]
-        // when 2000 parameters and limit 5 and light processes
-        //   1L  : 00m00s925ms, 00m01s133ms
-        //   10L : 00m03s502ms, 00m02s447ms
-        //   20L : 00m05s249ms, 00m05s193ms
-        //   100L: 00m31s037ms
-        // (avoid too late and too short-span) 
-        final long waitingIntervalMillis = option.getWaitingIntervalMillis().orElse(20L);
-        while (true) {
-            final long runningCount = runningPossibleFutureSet.stream().filter(future -> !future.isDone()).count();
-            if (runningCount < concurrencyCountlimit) {
-                break; // OK
-            }
-            try {
-                Thread.sleep(waitingIntervalMillis);
-            } catch (InterruptedException e) {
-                throw new IllegalStateException("Failed to sleep the current thread: " + Thread.currentThread(), e);
-            }
+    // -----------------------------------------------------
+    //                                     Concurrency Limit
+    //                                     -----------------
+    // [concurrency limit performance]
+    // polling of running futures (sleep 20ms as default) had taken most time of light runners
+    //   e.g. when 2000 parameters and limit 5 and light processes
+    //     polling by 20L: 00m05s249ms, 00m05s193ms
+    // so it uses permits released by finished runner, next runner starts as soon as a permit is released
+    protected Semaphore prepareParallelConcurrencyPermit(ConcurrentParallelOption option) {
+        return option.getConcurrencyCountLimit().map(limit -> newParallelConcurrencyPermit(limit)).orElse(null);
+    }
+
+    protected Semaphore newParallelConcurrencyPermit(Integer concurrencyCountlimit) {
+        return new Semaphore(concurrencyCountlimit);
+    }
+
+    protected void waitForParallelConcurrencyLimitation(Semaphore concurrencyPermit, ConcurrentParallelOption option) {
+        try {
+            concurrencyPermit.acquire(); // released when the runner is finished
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Failed to wait for the concurrency permit: " + Thread.currentThread(), e);
+        }
+    }
+
+    protected void releaseParallelConcurrencyPermit(Semaphore concurrencyPermit, AtomicBoolean permitReleased) {
+        if (concurrencyPermit != null && permitReleased.compareAndSet(false, true)) { // only once
+            concurrencyPermit.release(); // for next runner
         }
     }
 
     protected ConcurrentAsyncCall createParallelAsyncCall(ConcurrentParallelCall runnerLambda, int entryNumber, Object parameter,
-            Object lockObj, ConcurrentParallelOption option) {
-        return new ConcurrentAsyncCall() {
+            Object lockObj, Semaphore concurrencyPermit, AtomicBoolean permitReleased, ConcurrentParallelOption option) {
+        return new CompletionHookedAsyncCall() {
             @Override
             public void callback() { // contains destructive handling
-                final long threadId = Thread.currentThread().getId();
-                final ConcurrentParallelRunner runner = createConcurrentParallelRunner(threadId, entryNumber, parameter, lockObj);
-                runnerLambda.callback(runner);
+                try {
+                    final long threadId = Thread.currentThread().getId();
+                    final ConcurrentParallelRunner runner = createConcurrentParallelRunner(threadId, entryNumber, parameter, lockObj);
+                    runnerLambda.callback(runner);
+                } finally {
+                    releaseParallelConcurrencyPermit(concurrencyPermit, permitReleased);
+                }
+            }
+
+            @Override
+            public void hookFutureCompletion(boolean cancelled) { // e.g. dropped by overflow policy, failed to prepare contexts
+                releaseParallelConcurrencyPermit(concurrencyPermit, permitReleased);
             }
 
             @Override
@@ -986,17 +1398,19 @@ public class SimpleAsyncManager implements AsyncManager {
     //                                     Wait for all done
     //                                     -----------------
     protected void waitForParallelRunnerAllDone(Map<Integer, YourFuture> futureMap, ConcurrentParallelOption option) {
-        final long waitingIntervalMillis = option.getWaitingIntervalMillis().orElse(100L); // as default fixedly
-        while (true) {
-            if (futureMap.values().stream().allMatch(future -> future.isDone())) {
-                logger.debug("#flow #parallel ...Finishing all runners of parallel(): runnerCount={}", futureMap.size());
-                break;
-            }
-            try {
-                Thread.sleep(waitingIntervalMillis);
-            } catch (InterruptedException e) {
-                throw new IllegalStateException("Failed to sleep the current thread: " + Thread.currentThread(), e);
-            }
+        for (YourFuture future : futureMap.values()) { // blocking without polling, returns as soon as the last is done
+            findParallelRunnerResult(future); // exception is handled in the result so no thrown here
+        }
+        logger.debug("#flow #parallel ...Finishing all runners of parallel(): runnerCount={}", futureMap.size());
+    }
+
+    protected WaitingAsyncResult findParallelRunnerResult(YourFuture future) {
+        try {
+            return future.waitForDone();
+        } catch (YourFutureCancelledException e) { // e.g. dropped by overflow policy, the runner never runs
+            final WaitingAsyncResult result = new WaitingAsyncResult();
+            result.setWaitingAsyncException(createWaitingAsyncException("The parallel runner was cancelled before finished.", e));
+            return result;
         }
     }
 
@@ -1007,7 +1421,7 @@ public class SimpleAsyncManager implements AsyncManager {
             ConcurrentParallelOption option) {
         final List<WaitingAsyncException> asyncExpList = new ArrayList<>();
         allFutureMap.forEach((entryNumber, future) -> {
-            final WaitingAsyncResult result = future.waitForDone();
+            final WaitingAsyncResult result = findParallelRunnerResult(future);
             result.getWaitingAsyncException().ifPresent(exp -> {
                 asyncExpList.add(exp);
                 exp.setEntryNumber(entryNumber);
@@ -1066,6 +1480,12 @@ public class SimpleAsyncManager implements AsyncManager {
         }
     }
 
+    protected void assertSupplyCallbackNotNull(ConcurrentAsyncSupplyCall<?> supplyLambda) {
+        if (supplyLambda == null) {
+            throw new IllegalArgumentException("The argument 'supplyLambda' should not be null.");
+        }
+    }
+
     protected void assertExecutorServiceValid() {
         if (primaryExecutorService == null) {
             throw new IllegalArgumentException("The primaryExecutorService should not be null.");
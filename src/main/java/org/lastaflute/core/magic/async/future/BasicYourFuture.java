@@ -15,6 +15,7 @@
  */
 package org.lastaflute.core.magic.async.future;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -37,6 +38,11 @@ public class BasicYourFuture implements YourFuture {
         return wrapped.isDone();
     }
 
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return wrapped.cancel(mayInterruptIfRunning);
+    }
+
     @Override
     public WaitingAsyncResult waitForDone() {
         try {
@@ -44,6 +50,9 @@ public class BasicYourFuture implements YourFuture {
         } catch (InterruptedException e) {
             String msg = "Interrupted the asynchronous process: " + wrapped;
             throw new YourFutureInterruptedException(msg, e);
+        } catch (CancellationException e) { // e.g. dropped by overflow policy, cancelled by supply()
+            String msg = "Cancelled the asynchronous process: " + wrapped;
+            throw new YourFutureCancelledException(msg, e);
         } catch (ExecutionException e) { // basically no way, already catched in asyncManager
             String msg = "Failed to wait for the asynchronous process done: " + wrapped;
             throw new YourFutureWaitForDoneFailureException(msg, e.getCause());
@@ -34,9 +34,19 @@ public interface YourFuture {
      * The exception in the result is already handled as error logging as default option. <br>
      * So basically the exception is only for business determination.
      * @return The result of asynchronous execution. (NotNull)
+     * @throws YourFutureCancelledException When the execution was cancelled, e.g. dropped by overflow policy.
      */
     WaitingAsyncResult waitForDone();
 
+    /**
+     * Cancel the asynchronous execution if not started or running.
+     * @param mayInterruptIfRunning Does it interrupt the running thread?
+     * @return The determination, true if cancelled.
+     */
+    default boolean cancel(boolean mayInterruptIfRunning) { // @since 1.2.7
+        return false; // as default, e.g. already done in destructive
+    }
+
     public static class YourFutureInterruptedException extends RuntimeException {
 
         private static final long serialVersionUID = 1L;
@@ -54,4 +64,13 @@ public interface YourFuture {
             super(msg, cause);
         }
     }
+
+    public static class YourFutureCancelledException extends RuntimeException { // @since 1.2.7
+
+        private static final long serialVersionUID = 1L;
+
+        public YourFutureCancelledException(String msg, Throwable cause) {
+            super(msg, cause);
+        }
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.magic.async.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.lastaflute.core.magic.async.ConcurrentAsyncCall.ConcurrentAsyncImportance;
+
+/**
+ * The live metrics of one executor (importance tier) of asynchronous process. <br>
+ * e.g. for sizing pools, finding log bursts that starve business processes.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class AsyncExecutorMetrics {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final ConcurrentAsyncImportance importance; // not null
+    protected final AtomicInteger activeCount = new AtomicInteger(); // running now
+    protected final AtomicInteger queuedCount = new AtomicInteger(); // submitted but not started yet
+    protected final LongAdder completedCount = new LongAdder();
+    protected final LongAdder rejectedCount = new LongAdder(); // overflow of pool and queue
+    protected final LongAdder droppedCount = new LongAdder(); // never executed by overflow policy
+    protected final AsyncTimeHistogram waitTimeHistogram = new AsyncTimeHistogram(); // from submitted to started
+    protected final AsyncTimeHistogram runTimeHistogram = new AsyncTimeHistogram(); // from started to finished
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public AsyncExecutorMetrics(ConcurrentAsyncImportance importance) {
+        this.importance = importance;
+    }
+
+    // ===================================================================================
+    //                                                                              Record
+    //                                                                              ======
+    /**
+     * @return The nano time when submitted, used for waiting time. (NotMinus)
+     */
+    public long markSubmitted() { // caller thread
+        queuedCount.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * @param submittedNanos The nano time when submitted. (NotMinus)
+     * @return The nano time when started, used for running time. (NotMinus)
+     */
+    public long markStarted(long submittedNanos) { // asynchronous thread
+        final long startedNanos = System.nanoTime();
+        queuedCount.decrementAndGet();
+        activeCount.incrementAndGet();
+        waitTimeHistogram.record(startedNanos - submittedNanos);
+        return startedNanos;
+    }
+
+    /**
+     * @param startedNanos The nano time when started. (NotMinus)
+     */
+    public void markFinished(long startedNanos) { // asynchronous thread
+        activeCount.decrementAndGet();
+        completedCount.increment();
+        runTimeHistogram.record(System.nanoTime() - startedNanos);
+    }
+
+    public void markRejected() { // counted even if the task is executed later by overflow policy
+        rejectedCount.increment();
+    }
+
+    public void markSubmitFailed() { // e.g. fail-fast overflow policy, the caller receives exception
+        queuedCount.decrementAndGet();
+    }
+
+    public void markDropped() { // the task was submitted but never started
+        queuedCount.decrementAndGet();
+        droppedCount.increment();
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return importance + ":{active=" + activeCount.get() + ", queued=" + queuedCount.get() + ", completed=" + completedCount.sum()
+                + ", rejected=" + rejectedCount.sum() + ", dropped=" + droppedCount.sum() + ", wait=" + waitTimeHistogram + ", run="
+                + runTimeHistogram + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public ConcurrentAsyncImportance getImportance() {
+        return importance;
+    }
+
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    public int getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public AsyncTimeHistogram getWaitTimeHistogram() {
+        return waitTimeHistogram;
+    }
+
+    public AsyncTimeHistogram getRunTimeHistogram() {
+        return runTimeHistogram;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.magic.async.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The histogram of elapsed time by fixed buckets, recorded without lock. <br>
+ * Bucket upper bounds are 1ms, 5ms, 10ms, 50ms, 100ms, 500ms, 1s, 5s, 10s, 60s and over.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class AsyncTimeHistogram {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final long[] BUCKET_UPPER_MILLIS = { 1L, 5L, 10L, 50L, 100L, 500L, 1000L, 5000L, 10000L, 60000L };
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final LongAdder[] bucketCounts; // last is over
+    protected final LongAdder totalCount = new LongAdder();
+    protected final LongAdder totalNanos = new LongAdder();
+    protected final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public AsyncTimeHistogram() {
+        bucketCounts = new LongAdder[BUCKET_UPPER_MILLIS.length + 1];
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = new LongAdder();
+        }
+    }
+
+    // ===================================================================================
+    //                                                                              Record
+    //                                                                              ======
+    /**
+     * @param elapsedNanos The elapsed time as nanoseconds. (NotMinus: minus is treated as zero)
+     */
+    public void record(long elapsedNanos) {
+        final long nanos = Math.max(0L, elapsedNanos);
+        bucketCounts[findBucketIndex(nanos)].increment();
+        totalCount.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    protected int findBucketIndex(long nanos) {
+        for (int i = 0; i < BUCKET_UPPER_MILLIS.length; i++) {
+            if (nanos <= TimeUnit.MILLISECONDS.toNanos(BUCKET_UPPER_MILLIS[i])) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_MILLIS.length; // over
+    }
+
+    // ===================================================================================
+    //                                                                            Snapshot
+    //                                                                            ========
+    /**
+     * @return The map of bucket label and count, e.g. {"~1ms"=3, "~5ms"=1, ..., "60s~"=0}. (NotNull)
+     */
+    public Map<String, Long> toBucketCountMap() {
+        final Map<String, Long> countMap = new LinkedHashMap<String, Long>();
+        for (int i = 0; i < BUCKET_UPPER_MILLIS.length; i++) {
+            countMap.put("~" + toMillisExp(BUCKET_UPPER_MILLIS[i]), bucketCounts[i].sum());
+        }
+        countMap.put(toMillisExp(BUCKET_UPPER_MILLIS[BUCKET_UPPER_MILLIS.length - 1]) + "~", bucketCounts[BUCKET_UPPER_MILLIS.length].sum());
+        return countMap;
+    }
+
+    protected String toMillisExp(long millis) {
+        return millis >= 1000L ? (millis / 1000L) + "s" : millis + "ms";
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getAverageMillis() {
+        final long count = totalCount.sum();
+        return count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count) : 0L;
+    }
+
+    public long getMaxMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{count=" + getCount() + ", avg=" + getAverageMillis() + "ms, max=" + getMaxMillis() + "ms, " + toBucketCountMap() + "}";
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.magic.async.pipeline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The pipeline that request threads only hand off elements, and one daemon thread drains them. <br>
+ * Elements are put into bounded lock-free ring buffer (multiple producers, single consumer), <br>
+ * and the consumer thread writes them in batches. <br>
+ * If the buffer is full, the element is dropped (counted) not to block request threads.
+ * @param <ELEMENT> The type of element handed off.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class BoundedDrainPipeline<ELEMENT> {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(BoundedDrainPipeline.class);
+    protected static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100L); // as safety net of unpark
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String consumerThreadName; // not null
+    protected final String elementTitle; // not null, for logging e.g. "in-out logs"
+    protected final AtomicReferenceArray<ELEMENT> ringBuffer; // not null, null element means empty slot
+    protected final int mask; // capacity - 1, capacity is power of two
+    protected final int batchSize; // positive
+    protected final Consumer<List<ELEMENT>> batchWriter; // not null, called by consumer thread only
+    protected final AtomicLong producerIndex = new AtomicLong(); // next slot to be claimed
+    protected volatile long consumerIndex; // next slot to be consumed, written by consumer thread only
+
+    protected final LongAdder acceptedCount = new LongAdder();
+    protected final LongAdder droppedCount = new LongAdder();
+    protected final LongAdder writtenCount = new LongAdder();
+    protected final LongAdder failedCount = new LongAdder();
+    protected long reportedDroppedCount; // consumer thread only
+
+    protected volatile Thread consumerThread; // null allowed before start
+    protected volatile boolean consumerParking; // to unpark only when needed
+    protected volatile boolean stopped;
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param consumerThreadName The name of consumer thread. (NotNull)
+     * @param elementTitle The title of elements for logging e.g. "in-out logs". (NotNull)
+     * @param bufferSize The size of ring buffer, rounded up to power of two. (Positive)
+     * @param batchSize The max size of elements written at one time. (Positive)
+     * @param batchWriter The callback to write the drained elements, called by only consumer thread. (NotNull)
+     */
+    public BoundedDrainPipeline(String consumerThreadName, String elementTitle, int bufferSize, int batchSize,
+            Consumer<List<ELEMENT>> batchWriter) {
+        if (consumerThreadName == null) {
+            throw new IllegalArgumentException("The argument 'consumerThreadName' should not be null.");
+        }
+        if (elementTitle == null) {
+            throw new IllegalArgumentException("The argument 'elementTitle' should not be null.");
+        }
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The argument 'bufferSize' should be positive: " + bufferSize);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The argument 'batchSize' should be positive: " + batchSize);
+        }
+        if (batchWriter == null) {
+            throw new IllegalArgumentException("The argument 'batchWriter' should not be null.");
+        }
+        this.consumerThreadName = consumerThreadName;
+        this.elementTitle = elementTitle;
+        final int capacity = roundUpPowerOfTwo(bufferSize);
+        this.ringBuffer = new AtomicReferenceArray<ELEMENT>(capacity);
+        this.mask = capacity - 1;
+        this.batchSize = batchSize;
+        this.batchWriter = batchWriter;
+    }
+
+    protected int roundUpPowerOfTwo(int size) {
+        final int highest = Integer.highestOneBit(size);
+        return highest == size ? size : Math.min(highest << 1, 1 << 30);
+    }
+
+    // ===================================================================================
+    //                                                                       Start or Stop
+    //                                                                       =============
+    public synchronized void start() {
+        if (consumerThread != null) {
+            return;
+        }
+        final Thread thread = new Thread(() -> consume(), consumerThreadName);
+        thread.setDaemon(true); // not to prevent application shutdown
+        consumerThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Stop the consumer thread after writing remaining elements.
+     * @param waitMillis The milliseconds to wait for the consumer finished. (ZeroAllowed: no wait)
+     */
+    public void stop(long waitMillis) {
+        stopped = true;
+        final Thread thread = consumerThread;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        if (waitMillis > 0) {
+            try {
+                thread.join(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Hand off
+    //                                                                            ========
+    /**
+     * Hand off the element to the consumer thread, never blocks.
+     * @param element The element to be written, should not be changed after this. (NotNull)
+     * @return true if accepted, false if dropped because of full buffer or stopped.
+     */
+    public boolean offer(ELEMENT element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The argument 'element' should not be null.");
+        }
+        if (stopped) {
+            droppedCount.increment();
+            return false;
+        }
+        final int capacity = mask + 1;
+        long claimed;
+        do {
+            claimed = producerIndex.get();
+            if (claimed - consumerIndex >= capacity) { // full
+                droppedCount.increment();
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(claimed, claimed + 1));
+        ringBuffer.lazySet((int) (claimed & mask), element); // publish, consumer reads it by volatile get
+        acceptedCount.increment();
+        if (consumerParking) {
+            final Thread thread = consumerThread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+        return true;
+    }
+
+    // ===================================================================================
+    //                                                                             Consume
+    //                                                                             =======
+    protected void consume() {
+        try {
+            doConsume();
+        } finally {
+            hookConsumerFinally();
+        }
+    }
+
+    protected void doConsume() {
+        final List<ELEMENT> batchList = new ArrayList<ELEMENT>(batchSize);
+        while (true) {
+            drain(batchList);
+            if (!batchList.isEmpty()) {
+                writeBatch(batchList);
+                batchList.clear();
+                continue; // drain again until empty
+            }
+            reportDroppedIfNeeds();
+            if (stopped) {
+                drainAllForStop(batchList);
+                break;
+            }
+            consumerParking = true;
+            if (!hasPendingElement()) { // double check after parking flag to avoid lost unpark
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            consumerParking = false;
+        }
+    }
+
+    protected void drain(List<ELEMENT> batchList) {
+        long index = consumerIndex;
+        while (batchList.size() < batchSize) {
+            final int slot = (int) (index & mask);
+            final ELEMENT element = ringBuffer.get(slot);
+            if (element == null) { // empty or claimed but not published yet
+                break;
+            }
+            ringBuffer.lazySet(slot, null);
+            batchList.add(element);
+            ++index;
+        }
+        consumerIndex = index; // free the slots for producers
+    }
+
+    protected boolean hasPendingElement() {
+        return producerIndex.get() != consumerIndex;
+    }
+
+    protected void drainAllForStop(List<ELEMENT> batchList) {
+        while (true) {
+            drain(batchList);
+            if (batchList.isEmpty()) {
+                break;
+            }
+            writeBatch(batchList);
+            batchList.clear();
+        }
+    }
+
+    protected void writeBatch(List<ELEMENT> batchList) {
+        try {
+            batchWriter.accept(batchList);
+            writtenCount.add(batchList.size());
+        } catch (RuntimeException continued) { // not main process, and consumer should be alive
+            failedCount.add(batchList.size());
+            logger.info("*Failed to write " + elementTitle + ": size=" + batchList.size(), continued);
+        }
+    }
+
+    protected void reportDroppedIfNeeds() {
+        final long currentDropped = droppedCount.sum();
+        if (currentDropped > reportedDroppedCount) {
+            final long newlyDropped = currentDropped - reportedDroppedCount;
+            logger.info("*Dropped " + elementTitle + " because of full buffer: " + newlyDropped + " (total " + currentDropped + ")");
+            reportedDroppedCount = currentDropped;
+        }
+    }
+
+    /**
+     * Hook the end of consumer thread, called in the consumer thread after remaining elements are written. <br>
+     * e.g. closing the file written by the batch writer
+     */
+    protected void hookConsumerFinally() { // for extension
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return consumerThreadName + ":{capacity=" + (mask + 1) + ", batchSize=" + batchSize + ", accepted=" + getAcceptedCount()
+                + ", dropped=" + getDroppedCount() + ", written=" + getWrittenCount() + ", failed=" + getFailedCount() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+}
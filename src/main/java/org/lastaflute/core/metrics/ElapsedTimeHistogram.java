@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The histogram of elapsed nanoseconds, log-linear buckets like HdrHistogram, recorded without lock. <br>
+ * Each power of two has 8 sub-buckets so percentiles are within about 12.5% error, up to about 18 minutes. <br>
+ * It is shared by metrics of e.g. action phases, connection pool.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ElapsedTimeHistogram {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int SUB_BUCKET_BITS = 3;
+    protected static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS; // 8
+    protected static final int MAX_EXPONENT = 40; // 2^40 nanos is about 18 minutes
+    protected static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT); // small memory rather than LongAdder
+    protected final LongAdder totalCount = new LongAdder();
+    protected final LongAdder totalNanos = new LongAdder();
+    protected final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+
+    // ===================================================================================
+    //                                                                              Record
+    //                                                                              ======
+    /**
+     * @param nanos The span as nanoseconds. (NotMinus: minus is treated as zero)
+     */
+    public void record(long nanos) {
+        final long value = Math.max(0L, nanos);
+        bucketCounts.incrementAndGet(findBucketIndex(value));
+        totalCount.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    protected int findBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value); // SUB_BUCKET_BITS or more here
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1; // as over
+        }
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int sub = (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + sub;
+    }
+
+    protected long toBucketUpperNanos(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        final int sub = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((long) (SUB_BUCKET_COUNT + sub + 1) << shift) - 1;
+    }
+
+    // ===================================================================================
+    //                                                                          Percentile
+    //                                                                          ==========
+    /**
+     * @param percentile The percentile e.g. 50.0, 99.0. (0.0 to 100.0)
+     * @return The upper value of bucket containing the percentile as nanoseconds, max if last bucket. (ZeroAllowed: no record)
+     */
+    public long getPercentileNanos(double percentile) {
+        final long count = totalCount.sum();
+        if (count == 0) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(count * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+        long accumulated = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            accumulated += bucketCounts.get(i);
+            if (accumulated >= rank) {
+                return Math.min(toBucketUpperNanos(i), getMaxNanos()); // not over actual max
+            }
+        }
+        return getMaxNanos(); // may be recording now
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{count=" + getCount() + ", avg=" + toMicros(getAverageNanos()) + "us, p50=" + toMicros(getPercentileNanos(50.0))
+                + "us, p90=" + toMicros(getPercentileNanos(90.0)) + "us, p99=" + toMicros(getPercentileNanos(99.0)) + "us, max="
+                + toMicros(getMaxNanos()) + "us}";
+    }
+
+    protected long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getAverageNanos() {
+        final long count = totalCount.sum();
+        return count > 0 ? totalNanos.sum() / count : 0L;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+}
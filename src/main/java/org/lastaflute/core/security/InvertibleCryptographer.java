@@ -16,20 +16,41 @@
 package org.lastaflute.core.security;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 
+import javax.crypto.AEADBadTagException;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
 import org.dbflute.helper.message.ExceptionMessageBuilder;
 import org.lastaflute.core.security.exception.CipherFailureException;
 
 /**
+ * The invertible cryptographer, thread-safe without lock. <br>
+ * Cipher instances are kept per thread because a cipher cannot be shared between threads.
+ * <pre>
+ * e.g. text (hex) API
+ *  String encrypted = cryptographer.encrypt("sea");
+ *  String decrypted = cryptographer.decrypt(encrypted);
+ * 
+ * e.g. binary API (no hex conversion)
+ *  byte[] encrypted = cryptographer.encryptBytes(plainBytes);
+ *  ByteBuffer decrypted = cryptographer.decryptBuffer(encryptedBuffer);
+ * 
+ * e.g. AES-GCM mode (authenticated, random IV per encryption)
+ *  InvertibleCryptographer.createAesGcmCipher("1234567890123456");
+ * </pre>
  * @author jflute (using Commons-Codec logic, thanks)
  */
 public class InvertibleCryptographer {
@@ -38,11 +59,17 @@ public class InvertibleCryptographer {
     //                                                                          Definition
     //                                                                          ==========
     public static final String ALGORITHM_AES = "AES";
+    public static final String ALGORITHM_AES_GCM = "AES/GCM/NoPadding"; // @since 1.2.7
     public static final String ALGORITHM_BLOWFISH = "Blowfish";
     public static final String ALGORITHM_DES = "DES";
     public static final String ALGORITHM_RSA = "RSA";
     public static final String ALGORITHM_UNSUPPORTED = "UNSUPPORTED";
     public static final String ENCODING_UTF8 = "UTF-8";
+    protected static final int GCM_IV_LENGTH = 12; // bytes, recommended for GCM
+    protected static final int GCM_TAG_BIT_LENGTH = 128; // max length
+
+    /** The random for IV of GCM per thread, to avoid contention on one instance. (NotNull) */
+    protected static final ThreadLocal<SecureRandom> ivRandomLocal = ThreadLocal.withInitial(() -> new SecureRandom());
 
     // ===================================================================================
     //                                                                           Attribute
@@ -50,8 +77,9 @@ public class InvertibleCryptographer {
     protected final String algorithm;
     protected final SecretKey skey;
     protected final String encoding;
-    protected Cipher encryptingCipher;
-    protected Cipher decryptingCipher;
+    protected volatile boolean initialized; // to check only once
+    protected final ThreadLocal<Cipher> encryptingCipherLocal = ThreadLocal.withInitial(() -> newCipher(Cipher.ENCRYPT_MODE));
+    protected final ThreadLocal<Cipher> decryptingCipherLocal = ThreadLocal.withInitial(() -> newCipher(Cipher.DECRYPT_MODE));
 
     // ===================================================================================
     //                                                                         Constructor
@@ -69,13 +97,28 @@ public class InvertibleCryptographer {
     }
 
     protected SecretKey createSKey(String skey) {
-        return new SecretKeySpec(skey.getBytes(), algorithm);
+        return new SecretKeySpec(skey.getBytes(), extractKeyAlgorithm());
+    }
+
+    protected String extractKeyAlgorithm() { // e.g. AES/GCM/NoPadding to AES
+        final int modeIndex = algorithm.indexOf('/');
+        return modeIndex >= 0 ? algorithm.substring(0, modeIndex) : algorithm;
     }
 
     public static InvertibleCryptographer createAesCipher(String skey) {
         return new InvertibleCryptographer(ALGORITHM_AES, skey, ENCODING_UTF8);
     }
 
+    /**
+     * Create the cryptographer of AES-GCM, which is authenticated encryption. <br>
+     * The encrypted data has random IV at the head so the same plain text is encrypted differently.
+     * @param skey The secret key for AES, e.g. 16 bytes. (NotNull)
+     * @return The new-created cryptographer. (NotNull)
+     */
+    public static InvertibleCryptographer createAesGcmCipher(String skey) {
+        return new InvertibleCryptographer(ALGORITHM_AES_GCM, skey, ENCODING_UTF8);
+    }
+
     public static InvertibleCryptographer createBlowfishCipher(String skey) {
         return new InvertibleCryptographer(ALGORITHM_BLOWFISH, skey, ENCODING_UTF8);
     }
@@ -110,12 +153,13 @@ public class InvertibleCryptographer {
     // ===================================================================================
     //                                                                          Initialize
     //                                                                          ==========
-    protected synchronized void initialize() {
-        if (encryptingCipher != null) {
+    protected synchronized void initialize() { // called only while not initialized
+        if (initialized) {
             return;
         }
         assertInit();
         doInitializeCipher();
+        initialized = true;
     }
 
     protected void assertInit() {
@@ -127,21 +171,36 @@ public class InvertibleCryptographer {
         }
     }
 
-    protected void doInitializeCipher() {
+    protected void doInitializeCipher() { // to fail early, and the ciphers are used in this thread
+        encryptingCipherLocal.get();
+        decryptingCipherLocal.get();
+    }
+
+    protected Cipher newCipher(int cipherMode) {
         try {
-            encryptingCipher = Cipher.getInstance(algorithm);
-            encryptingCipher.init(Cipher.ENCRYPT_MODE, skey);
-            decryptingCipher = Cipher.getInstance(algorithm);
-            decryptingCipher.init(Cipher.DECRYPT_MODE, skey);
+            final Cipher cipher = Cipher.getInstance(algorithm);
+            if (isGcmMode()) { // needs IV so initialized per process, but check the key here
+                cipher.init(cipherMode, skey, new GCMParameterSpec(GCM_TAG_BIT_LENGTH, new byte[GCM_IV_LENGTH]));
+            } else {
+                cipher.init(cipherMode, skey);
+            }
+            return cipher;
         } catch (NoSuchAlgorithmException e) {
             throw new CipherFailureException("Failed by unknown algorithm: " + algorithm, e);
         } catch (NoSuchPaddingException e) {
             throw new CipherFailureException("Failed by no such padding: " + algorithm, e);
         } catch (InvalidKeyException e) {
             throwCipherFailureInvalidKeyException(e); // frequently ocurred
+            return null; // unreachable
+        } catch (InvalidAlgorithmParameterException e) {
+            throw new CipherFailureException("Failed by invalid parameter: " + algorithm, e);
         }
     }
 
+    protected boolean isGcmMode() {
+        return algorithm.contains("/GCM/");
+    }
+
     protected void throwCipherFailureInvalidKeyException(InvalidKeyException e) {
         final ExceptionMessageBuilder br = new ExceptionMessageBuilder();
         br.addNotice("Failed to initialize the cipher by the invalid key.");
@@ -164,9 +223,9 @@ public class InvertibleCryptographer {
      * @return The encrypted text from the plain text. (NotNull, EmptyAllowed: depends on algorithm)
      * @throws CipherFailureException When the cipher fails.
      */
-    public synchronized String encrypt(String plainText) {
+    public String encrypt(String plainText) {
         assertArgumentNotNull("plainText", plainText);
-        if (encryptingCipher == null) {
+        if (!initialized) {
             initialize();
         }
         return new String(encodeHex(doEncrypt(plainText)));
@@ -174,11 +233,7 @@ public class InvertibleCryptographer {
 
     protected byte[] doEncrypt(String plainText) {
         try {
-            return encryptingCipher.doFinal(plainText.getBytes(encoding));
-        } catch (IllegalBlockSizeException e) {
-            throw new CipherFailureException("Failed by illegal block size: " + plainText, e);
-        } catch (BadPaddingException e) {
-            throw new CipherFailureException("Failed by bad padding: " + plainText, e);
+            return encryptBytes(plainText.getBytes(encoding));
         } catch (UnsupportedEncodingException e) {
             throw new CipherFailureException("Failed by unsupported encoding: " + encoding, e);
         }
@@ -190,9 +245,9 @@ public class InvertibleCryptographer {
      * @return The plain text from the encrypted text. (NotNull, EmptyAllowed: if secret key is empty)
      * @throws CipherFailureException When the cipher fails.
      */
-    public synchronized String decrypt(String encryptedText) {
+    public String decrypt(String encryptedText) {
         assertArgumentNotNull("encryptedText", encryptedText);
-        if (decryptingCipher == null) {
+        if (!initialized) {
             initialize();
         }
         try {
@@ -203,12 +258,144 @@ public class InvertibleCryptographer {
     }
 
     protected byte[] doDecrypt(String cryptedText) {
+        return decryptBytes(decodeHex(cryptedText.toCharArray()));
+    }
+
+    // -----------------------------------------------------
+    //                                            Byte Array
+    //                                            ----------
+    /**
+     * Encrypt the bytes as invertible, without hex conversion.
+     * @param plainBytes The plain bytes to be encrypted. (NotNull, EmptyAllowed)
+     * @return The new-created encrypted bytes, with IV at the head if GCM. (NotNull)
+     * @throws CipherFailureException When the cipher fails.
+     */
+    public byte[] encryptBytes(byte[] plainBytes) {
+        assertArgumentNotNull("plainBytes", plainBytes);
+        final ByteBuffer encrypted = encryptBuffer(ByteBuffer.wrap(plainBytes));
+        return encrypted.array(); // exactly-sized heap buffer
+    }
+
+    /**
+     * Decrypt the encrypted bytes (back to plain bytes), without hex conversion.
+     * @param encryptedBytes The encrypted bytes to be decrypted. (NotNull, EmptyAllowed)
+     * @return The new-created plain bytes. (NotNull)
+     * @throws CipherFailureException When the cipher fails.
+     */
+    public byte[] decryptBytes(byte[] encryptedBytes) {
+        assertArgumentNotNull("encryptedBytes", encryptedBytes);
+        final ByteBuffer decrypted = decryptBuffer(ByteBuffer.wrap(encryptedBytes));
+        final byte[] plainBytes = new byte[decrypted.remaining()];
+        decrypted.get(plainBytes);
+        return plainBytes;
+    }
+
+    // -----------------------------------------------------
+    //                                           Byte Buffer
+    //                                           -----------
+    /**
+     * Encrypt the remaining bytes of the buffer as invertible. <br>
+     * The position of the plain buffer is moved to its limit.
+     * @param plainBuffer The buffer of plain bytes to be encrypted. (NotNull, EmptyAllowed)
+     * @return The new-created buffer of encrypted bytes, ready to read. (NotNull)
+     * @throws CipherFailureException When the cipher fails.
+     */
+    public ByteBuffer encryptBuffer(ByteBuffer plainBuffer) {
+        assertArgumentNotNull("plainBuffer", plainBuffer);
+        final Cipher cipher = prepareEncryptingCipher();
         try {
-            return decryptingCipher.doFinal(decodeHex(cryptedText.toCharArray()));
+            final byte[] iv = prepareEncryptingIv(cipher);
+            final ByteBuffer output = ByteBuffer.allocate(iv.length + cipher.getOutputSize(plainBuffer.remaining()));
+            output.put(iv);
+            cipher.doFinal(plainBuffer, output);
+            return finishOutputBuffer(output);
         } catch (IllegalBlockSizeException e) {
-            throw new CipherFailureException("Failed by illegal block size: " + cryptedText, e);
+            throw new CipherFailureException("Failed by illegal block size: " + algorithm, e); // not show data for security
         } catch (BadPaddingException e) {
-            throw new CipherFailureException("Failed by bad padding: " + cryptedText, e);
+            throw new CipherFailureException("Failed by bad padding: " + algorithm, e);
+        } catch (ShortBufferException e) { // basically no way
+            throw new CipherFailureException("Failed by short buffer: " + algorithm, e);
+        }
+    }
+
+    /**
+     * Decrypt the remaining bytes of the buffer (back to plain bytes). <br>
+     * The position of the encrypted buffer is moved to its limit.
+     * @param encryptedBuffer The buffer of encrypted bytes to be decrypted, with IV at the head if GCM. (NotNull, EmptyAllowed)
+     * @return The new-created buffer of plain bytes, ready to read. (NotNull)
+     * @throws CipherFailureException When the cipher fails, e.g. tampered if GCM.
+     */
+    public ByteBuffer decryptBuffer(ByteBuffer encryptedBuffer) {
+        assertArgumentNotNull("encryptedBuffer", encryptedBuffer);
+        final Cipher cipher = prepareDecryptingCipher(encryptedBuffer);
+        try {
+            final ByteBuffer output = ByteBuffer.allocate(cipher.getOutputSize(encryptedBuffer.remaining()));
+            cipher.doFinal(encryptedBuffer, output);
+            return finishOutputBuffer(output);
+        } catch (AEADBadTagException e) { // before bad padding because of subclass
+            throw new CipherFailureException("Failed by bad authentication tag: " + algorithm, e);
+        } catch (IllegalBlockSizeException e) {
+            throw new CipherFailureException("Failed by illegal block size: " + algorithm, e);
+        } catch (BadPaddingException e) {
+            throw new CipherFailureException("Failed by bad padding: " + algorithm, e);
+        } catch (ShortBufferException e) { // basically no way
+            throw new CipherFailureException("Failed by short buffer: " + algorithm, e);
+        }
+    }
+
+    protected ByteBuffer finishOutputBuffer(ByteBuffer output) {
+        output.flip();
+        if (output.limit() == output.capacity()) {
+            return output;
+        }
+        // output size is estimated so it may be larger than actual, e.g. decryption with padding
+        final ByteBuffer exact = ByteBuffer.allocate(output.remaining());
+        exact.put(output);
+        exact.flip();
+        return exact;
+    }
+
+    // -----------------------------------------------------
+    //                                        Cipher Prepare
+    //                                        --------------
+    protected Cipher prepareEncryptingCipher() {
+        if (!initialized) {
+            initialize();
+        }
+        return encryptingCipherLocal.get(); // per thread so no lock
+    }
+
+    protected byte[] prepareEncryptingIv(Cipher cipher) {
+        if (!isGcmMode()) {
+            return new byte[0]; // e.g. ECB
+        }
+        final byte[] iv = new byte[GCM_IV_LENGTH]; // must not be reused with same key
+        ivRandomLocal.get().nextBytes(iv);
+        reinitCipher(cipher, Cipher.ENCRYPT_MODE, iv);
+        return iv;
+    }
+
+    protected Cipher prepareDecryptingCipher(ByteBuffer encryptedBuffer) {
+        if (!initialized) {
+            initialize();
+        }
+        final Cipher cipher = decryptingCipherLocal.get(); // per thread so no lock
+        if (isGcmMode()) {
+            if (encryptedBuffer.remaining() < GCM_IV_LENGTH) {
+                throw new CipherFailureException("Too short data for GCM: " + encryptedBuffer.remaining());
+            }
+            final byte[] iv = new byte[GCM_IV_LENGTH];
+            encryptedBuffer.get(iv);
+            reinitCipher(cipher, Cipher.DECRYPT_MODE, iv);
+        }
+        return cipher;
+    }
+
+    protected void reinitCipher(Cipher cipher, int cipherMode, byte[] iv) {
+        try {
+            cipher.init(cipherMode, skey, new GCMParameterSpec(GCM_TAG_BIT_LENGTH, iv));
+        } catch (GeneralSecurityException e) { // basically no way, already checked at initialization
+            throw new CipherFailureException("Failed to initialize the cipher with IV: " + algorithm, e);
         }
     }
 
@@ -27,6 +27,7 @@ public abstract class ManagedHotdeploy {
     //                                                                           Attribute
     //                                                                           =========
     protected static volatile int hotdeployCount;
+    protected static volatile long hotdeployGeneration; // incremented when hot deploy is started, for caches
 
     // ===================================================================================
     //                                                                  HotDeploy Resource
@@ -73,6 +74,7 @@ public abstract class ManagedHotdeploy {
                 // _/_/_/_/_/_/_/_/_/_/
                 //if (!isThreadContextHotdeploy()) {
                 HotdeployUtil.start();
+                ++hotdeployGeneration; // classes may be reloaded
             }
             ++hotdeployCount;
             return originalLoader;
@@ -114,4 +116,13 @@ public abstract class ManagedHotdeploy {
     public static synchronized int getHotdeployCount() {
         return hotdeployCount;
     }
+
+    /**
+     * Get the generation of hot deploy, which is incremented when hot deploy is started. <br>
+     * You can clear your caches related to application classes if the generation is changed.
+     * @return The number of generation, always zero if not hot deploy.
+     */
+    public static long getHotdeployGeneration() { // not synchronized for performance
+        return hotdeployGeneration;
+    }
 }
@@ -82,6 +82,9 @@ public class SimpleTemplateManager implements TemplateManager {
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
+    /** The cache of analyzed template nodes, read and analyzed only once per path. (NotNull: after initialization) */
+    protected TemplateNodeCache templateNodeCache;
+
     protected final FileTextIO textIO = createFileTextIO();
 
     protected FileTextIO createFileTextIO() {
@@ -97,7 +100,15 @@ public class SimpleTemplateManager implements TemplateManager {
      */
     @PostConstruct
     public synchronized void initialize() {
-        // empty for now
+        templateNodeCache = newTemplateNodeCache(getTemplateNodeCacheLimit());
+    }
+
+    protected TemplateNodeCache newTemplateNodeCache(int limitSize) {
+        return new TemplateNodeCache(limitSize);
+    }
+
+    protected int getTemplateNodeCacheLimit() {
+        return 1000; // enough for templates in application
     }
 
     // ===================================================================================
@@ -108,7 +119,7 @@ public class SimpleTemplateManager implements TemplateManager {
         assertArgumentNotNull("pmb", pmb);
         final String templatePath = pmb.getTemplatePath();
         assertArgumentNotNull("pmb.getTemplatePath()", templatePath);
-        final String evaluated = evaluate(readText(templatePath), pmb);
+        final String evaluated = evaluateNode(prepareTemplateNode(templatePath), pmb);
         return filterBodyMeta(templatePath, evaluated);
     }
 
@@ -116,10 +127,14 @@ public class SimpleTemplateManager implements TemplateManager {
     public String parse(String templatePath, Map<String, Object> variableMap) {
         assertArgumentNotNull("templatePath", templatePath);
         assertArgumentNotNull("variableMap", variableMap);
-        final String evaluated = evaluate(readText(templatePath), variableMap);
+        final String evaluated = evaluateNode(prepareTemplateNode(templatePath), variableMap);
         return filterBodyMeta(templatePath, evaluated);
     }
 
+    protected Node prepareTemplateNode(String templatePath) { // cached because of immutable node
+        return templateNodeCache.findOrCreate(templatePath, path -> analyze(filterTemplateText(readText(path), null)));
+    }
+
     protected String readText(String templatePath) {
         final InputStream ins = DfResourceUtil.getResourceStream(templatePath);
         if (ins == null) {
@@ -158,8 +173,11 @@ public class SimpleTemplateManager implements TemplateManager {
     // -----------------------------------------------------
     //                                              Evaluate
     //                                              --------
-    protected String evaluate(String templateText, Object pmb) {
-        final Node node = analyze(filterTemplateText(templateText, pmb));
+    protected String evaluate(String templateText, Object pmb) { // without cache
+        return evaluateNode(analyze(filterTemplateText(templateText, pmb)), pmb);
+    }
+
+    protected String evaluateNode(Node node, Object pmb) {
         final CommandContext ctx = prepareContext(pmb);
         node.accept(ctx);
         return ctx.getSql();
@@ -168,7 +186,7 @@ public class SimpleTemplateManager implements TemplateManager {
     // -----------------------------------------------------
     //                                       Line Adjustment
     //                                       ---------------
-    protected String filterTemplateText(String templateText, Object pmb) {
+    protected String filterTemplateText(String templateText, Object pmb) { // pmb is null when cached analyzing
         final String replaced = Srl.replace(templateText, CRLF, LF);
         final List<String> lineList = Srl.splitList(replaced, LF);
         final StringBuilder sb = new StringBuilder(templateText.length());
@@ -726,4 +744,11 @@ public class SimpleTemplateManager implements TemplateManager {
             throw new IllegalArgumentException("The argument '" + variableName + "' should not be null.");
         }
     }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public TemplateNodeCache getTemplateNodeCache() {
+        return templateNodeCache;
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.template;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.dbflute.twowaysql.node.Node;
+import org.lastaflute.core.smartdeploy.ManagedHotdeploy;
+
+/**
+ * The bounded cache of analyzed template nodes keyed by template path. <br>
+ * The node tree is immutable after analyzing so it can be reused by plural threads. <br>
+ * All entries are cleared when hot deploy is started because templates may be changed in development.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class TemplateNodeCache {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final int limitSize; // positive
+    protected final Map<String, Node> nodeMap; // least-recently-used, synchronized by itself
+    protected volatile long hotdeployGeneration; // to clear all when hot deploy
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong missCount = new AtomicLong();
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public TemplateNodeCache(int limitSize) {
+        if (limitSize <= 0) {
+            throw new IllegalArgumentException("The argument 'limitSize' should be positive: " + limitSize);
+        }
+        this.limitSize = limitSize;
+        this.nodeMap = new LinkedHashMap<String, Node>(16, 0.75f, /*accessOrder*/true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Node> eldest) {
+                return size() > TemplateNodeCache.this.limitSize;
+            }
+        };
+        this.hotdeployGeneration = ManagedHotdeploy.getHotdeployGeneration();
+    }
+
+    // ===================================================================================
+    //                                                                       Find or Create
+    //                                                                       ==============
+    /**
+     * @param templatePath The path of template file as key. (NotNull)
+     * @param nodeCreator The creator of new node when not cached (read and analyze), called outside lock. (NotNull)
+     * @return The cached or new-created node of the template. (NotNull)
+     */
+    public Node findOrCreate(String templatePath, Function<String, Node> nodeCreator) {
+        clearIfHotdeployed();
+        synchronized (nodeMap) {
+            final Node cached = nodeMap.get(templatePath);
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                return cached;
+            }
+        }
+        missCount.incrementAndGet();
+        final Node created = nodeCreator.apply(templatePath); // may be created twice by other thread, no problem
+        synchronized (nodeMap) {
+            final Node existing = nodeMap.putIfAbsent(templatePath, created);
+            return existing != null ? existing : created;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                           Clear All
+    //                                                                           =========
+    protected void clearIfHotdeployed() {
+        final long currentGeneration = ManagedHotdeploy.getHotdeployGeneration();
+        if (hotdeployGeneration != currentGeneration) {
+            clearAll();
+            hotdeployGeneration = currentGeneration;
+        }
+    }
+
+    public void clearAll() {
+        synchronized (nodeMap) {
+            nodeMap.clear();
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "templateNodeCache:{limit=" + limitSize + ", size=" + getCachedSize() + ", hit=" + hitCount.get() + ", miss="
+                + missCount.get() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getLimitSize() {
+        return limitSize;
+    }
+
+    public int getCachedSize() {
+        synchronized (nodeMap) {
+            return nodeMap.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+}
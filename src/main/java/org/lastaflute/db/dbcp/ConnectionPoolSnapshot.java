@@ -0,0 +1,207 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.dbcp;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.lastaflute.core.metrics.ElapsedTimeHistogram;
+
+/**
+ * The immutable snapshot of connection pool telemetry.
+ * <pre>
+ * e.g. by your monitoring action
+ *  HookedConnectionPool pool = ContainerUtil.getComponent(HookedConnectionPool.class);
+ *  ConnectionPoolSnapshot snapshot = pool.snapshotTelemetry();
+ *  snapshot.getPendingCount(); snapshot.getCheckOutWaitP99Millis(); snapshot.getCurrentSlowHolderList();
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ConnectionPoolSnapshot {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    // -----------------------------------------------------
+    //                                             Pool Size
+    //                                             ---------
+    protected final int maxPoolSize;
+    protected final int activeSize; // without transaction
+    protected final int txActiveSize;
+    protected final int freeSize;
+    protected final long pendingCount; // threads waiting for check-out
+
+    // -----------------------------------------------------
+    //                                             Check Out
+    //                                             ---------
+    protected final long checkOutCount;
+    protected final long checkOutFailureCount;
+    protected final double checkOutWaitAvgMillis;
+    protected final double checkOutWaitP50Millis;
+    protected final double checkOutWaitP99Millis;
+    protected final double checkOutWaitMaxMillis;
+
+    // -----------------------------------------------------
+    //                                               Holding
+    //                                               -------
+    protected final long slowHoldingCount; // already checked-in
+    protected final Map<String, HoldingSummary> holdingSummaryMap; // not null, read-only, key is holder e.g. SeaAction@index
+    protected final List<String> currentSlowHolderList; // not null, read-only, still holding
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public ConnectionPoolSnapshot(int maxPoolSize, int activeSize, int txActiveSize, int freeSize, long pendingCount, long checkOutCount,
+            long checkOutFailureCount, ElapsedTimeHistogram checkOutWaitHistogram, long slowHoldingCount,
+            Map<String, ElapsedTimeHistogram> holdingHistogramMap, List<String> currentSlowHolderList) {
+        this.maxPoolSize = maxPoolSize;
+        this.activeSize = activeSize;
+        this.txActiveSize = txActiveSize;
+        this.freeSize = freeSize;
+        this.pendingCount = pendingCount;
+        this.checkOutCount = checkOutCount;
+        this.checkOutFailureCount = checkOutFailureCount;
+        this.checkOutWaitAvgMillis = toMillis(checkOutWaitHistogram.getAverageNanos());
+        this.checkOutWaitP50Millis = toMillis(checkOutWaitHistogram.getPercentileNanos(50.0));
+        this.checkOutWaitP99Millis = toMillis(checkOutWaitHistogram.getPercentileNanos(99.0));
+        this.checkOutWaitMaxMillis = toMillis(checkOutWaitHistogram.getMaxNanos());
+        this.slowHoldingCount = slowHoldingCount;
+        final Map<String, HoldingSummary> summaryMap = new LinkedHashMap<String, HoldingSummary>(holdingHistogramMap.size());
+        holdingHistogramMap.forEach((holderKey, histogram) -> summaryMap.put(holderKey, new HoldingSummary(histogram)));
+        this.holdingSummaryMap = Collections.unmodifiableMap(summaryMap);
+        this.currentSlowHolderList = currentSlowHolderList;
+    }
+
+    protected static double toMillis(long nanos) { // keep fraction for sub-millisecond wait
+        return nanos / 1000000.0;
+    }
+
+    public static class HoldingSummary {
+
+        protected final long count;
+        protected final double avgMillis;
+        protected final double p99Millis;
+        protected final double maxMillis;
+
+        public HoldingSummary(ElapsedTimeHistogram histogram) {
+            this.count = histogram.getCount();
+            this.avgMillis = toMillis(histogram.getAverageNanos());
+            this.p99Millis = toMillis(histogram.getPercentileNanos(99.0));
+            this.maxMillis = toMillis(histogram.getMaxNanos());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("{count=%d, avg=%.1fms, p99=%.1fms, max=%.1fms}", count, avgMillis, p99Millis, maxMillis);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getAvgMillis() {
+            return avgMillis;
+        }
+
+        public double getP99Millis() {
+            return p99Millis;
+        }
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("pool={max=").append(maxPoolSize).append(", active=").append(activeSize);
+        sb.append(", txActive=").append(txActiveSize).append(", free=").append(freeSize).append(", pending=").append(pendingCount);
+        sb.append("}, checkOut={count=").append(checkOutCount).append(", failure=").append(checkOutFailureCount);
+        sb.append(String.format(", wait={avg=%.1fms, p50=%.1fms, p99=%.1fms, max=%.1fms}}", checkOutWaitAvgMillis, checkOutWaitP50Millis,
+                checkOutWaitP99Millis, checkOutWaitMaxMillis));
+        sb.append(", slowHolding=").append(slowHoldingCount);
+        if (!currentSlowHolderList.isEmpty()) {
+            sb.append(", currentSlowHolders=").append(currentSlowHolderList);
+        }
+        return sb.toString();
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getMaxPoolSize() {
+        return maxPoolSize;
+    }
+
+    public int getActiveSize() {
+        return activeSize;
+    }
+
+    public int getTxActiveSize() {
+        return txActiveSize;
+    }
+
+    public int getFreeSize() {
+        return freeSize;
+    }
+
+    public long getPendingCount() {
+        return pendingCount;
+    }
+
+    public long getCheckOutCount() {
+        return checkOutCount;
+    }
+
+    public long getCheckOutFailureCount() {
+        return checkOutFailureCount;
+    }
+
+    public double getCheckOutWaitAvgMillis() {
+        return checkOutWaitAvgMillis;
+    }
+
+    public double getCheckOutWaitP50Millis() {
+        return checkOutWaitP50Millis;
+    }
+
+    public double getCheckOutWaitP99Millis() {
+        return checkOutWaitP99Millis;
+    }
+
+    public double getCheckOutWaitMaxMillis() {
+        return checkOutWaitMaxMillis;
+    }
+
+    public long getSlowHoldingCount() {
+        return slowHoldingCount;
+    }
+
+    public Map<String, HoldingSummary> getHoldingSummaryMap() { // read-only
+        return holdingSummaryMap;
+    }
+
+    public List<String> getCurrentSlowHolderList() { // read-only
+        return currentSlowHolderList;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.dbcp;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.lastaflute.core.metrics.ElapsedTimeHistogram;
+
+/**
+ * The live telemetry of connection pool, recorded by low-overhead striped counters. <br>
+ * e.g. check-out wait time, pending threads, holding time per action, slow holding count
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ConnectionPoolTelemetry {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final ElapsedTimeHistogram checkOutWaitHistogram = new ElapsedTimeHistogram();
+    protected final LongAdder pendingCount = new LongAdder(); // increment and decrement
+    protected final LongAdder checkOutCount = new LongAdder();
+    protected final LongAdder checkOutFailureCount = new LongAdder(); // e.g. pool short
+    protected final LongAdder slowHoldingCount = new LongAdder();
+    protected final Map<String, ElapsedTimeHistogram> holdingHistogramMap = new ConcurrentHashMap<String, ElapsedTimeHistogram>();
+
+    // ===================================================================================
+    //                                                                           Check Out
+    //                                                                           =========
+    public void beginCheckOut() {
+        pendingCount.increment();
+    }
+
+    /**
+     * @param waitNanos The nanoseconds from the beginning of check-out to the end. (NotMinus)
+     * @param success Is the check-out successful? (false e.g. pool short)
+     */
+    public void endCheckOut(long waitNanos, boolean success) {
+        pendingCount.decrement();
+        if (success) {
+            checkOutCount.increment();
+            checkOutWaitHistogram.record(waitNanos);
+        } else {
+            checkOutFailureCount.increment();
+        }
+    }
+
+    /**
+     * End the check-out that reuses the connection already held by the same transaction. <br>
+     * It is not a take from the pool so only the pending count is restored.
+     */
+    public void endCheckOutByReuse() {
+        pendingCount.decrement();
+    }
+
+    // ===================================================================================
+    //                                                                             Holding
+    //                                                                             =======
+    /**
+     * @param holderKey The key of holder e.g. SeaAction@index. (NotNull)
+     * @param holdingNanos The nanoseconds from check-out to check-in. (NotMinus)
+     * @param slow Is the holding longer than the threshold?
+     */
+    public void recordHolding(String holderKey, long holdingNanos, boolean slow) {
+        ElapsedTimeHistogram histogram = holdingHistogramMap.get(holderKey); // no lock if exists
+        if (histogram == null) {
+            histogram = holdingHistogramMap.computeIfAbsent(holderKey, key -> new ElapsedTimeHistogram());
+        }
+        histogram.record(holdingNanos);
+        if (slow) {
+            slowHoldingCount.increment();
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Snapshot
+    //                                                                            ========
+    /**
+     * @param maxPoolSize The max size of the pool.
+     * @param activeSize The count of active (checked-out) connections without transaction.
+     * @param txActiveSize The count of active connections with transaction.
+     * @param freeSize The count of free connections.
+     * @param currentSlowHolderList The list of current slow holders e.g. "SeaAction@index 12345ms". (NotNull, EmptyAllowed)
+     * @return The immutable snapshot of the telemetry. (NotNull)
+     */
+    public ConnectionPoolSnapshot toSnapshot(int maxPoolSize, int activeSize, int txActiveSize, int freeSize,
+            List<String> currentSlowHolderList) {
+        final Map<String, ElapsedTimeHistogram> holdingMap = new TreeMap<String, ElapsedTimeHistogram>(holdingHistogramMap);
+        return new ConnectionPoolSnapshot(maxPoolSize, activeSize, txActiveSize, freeSize, pendingCount.sum(), checkOutCount.sum(),
+                checkOutFailureCount.sum(), checkOutWaitHistogram, slowHoldingCount.sum(), Collections.unmodifiableMap(holdingMap),
+                Collections.unmodifiableList(currentSlowHolderList));
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public ElapsedTimeHistogram getCheckOutWaitHistogram() {
+        return checkOutWaitHistogram;
+    }
+
+    public long getPendingCount() {
+        return pendingCount.sum();
+    }
+
+    public long getSlowHoldingCount() {
+        return slowHoldingCount.sum();
+    }
+}
@@ -60,6 +60,9 @@ public class ConnectionPoolViewBuilder {
                 sb.append("\n").append("freePool=").append(free);
                 sb.append(", activePool=").append(active).append(", txActivePool=").append(txActive);
             }
+            if (pool instanceof HookedConnectionPool) { // e.g. to diagnose pool short
+                sb.append("\n").append(((HookedConnectionPool) pool).snapshotTelemetry());
+            }
             final List<String> txViewList = findTransactionViewList(pool);
             if (!txViewList.isEmpty()) {
                 for (String txView : txViewList) {
@@ -17,6 +17,10 @@ package org.lastaflute.db.dbcp;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.annotation.PostConstruct;
 import javax.sql.XAConnection;
@@ -38,6 +42,18 @@ public class HookedConnectionPool extends SimpleConnectionPool {
     //                                                                          Definition
     //                                                                          ==========
     private static final Logger logger = LoggerFactory.getLogger(HookedConnectionPool.class);
+    protected static final long DEFAULT_SLOW_HOLDING_MILLIS = 10000L;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final ConnectionPoolTelemetry telemetry = newConnectionPoolTelemetry();
+    protected long slowHoldingMillis = DEFAULT_SLOW_HOLDING_MILLIS; // minus means no detection, can be set by Di xml
+    protected final ThreadLocal<Boolean> poolTakenLocal = new ThreadLocal<Boolean>(); // true if taken in current check-out
+
+    protected ConnectionPoolTelemetry newConnectionPoolTelemetry() {
+        return new ConnectionPoolTelemetry();
+    }
 
     // ===================================================================================
     //                                                                          Initialize
@@ -66,7 +82,127 @@ public class HookedConnectionPool extends SimpleConnectionPool {
                 logger.info(" validationQuery: \"" + validationQuery + "\"");
                 logger.info(" validationInterval: " + validationInterval + " milliseconds");
             }
+            logger.info(" slowHoldingMillis: " + slowHoldingMillis + " milliseconds");
+        }
+    }
+
+    // ===================================================================================
+    //                                                                           Telemetry
+    //                                                                           =========
+    @Override
+    public ConnectionWrapper checkOut() throws SQLException { // not synchronized to measure waiting for the lock
+        telemetry.beginCheckOut();
+        final long beginNanos = System.nanoTime();
+        boolean success = false;
+        try {
+            final ConnectionWrapper wrapper = super.checkOut();
+            success = true;
+            return wrapper;
+        } finally {
+            final boolean taken = poolTakenLocal.get() != null;
+            poolTakenLocal.remove();
+            if (success && !taken) { // reused in the same transaction, not a take from the pool
+                telemetry.endCheckOutByReuse();
+            } else {
+                telemetry.endCheckOut(System.nanoTime() - beginNanos, success);
+            }
+        }
+    }
+
+    @Override
+    protected void setConnectionActivePool(ConnectionWrapper wrapper) { // in lock, real take from the pool
+        super.setConnectionActivePool(wrapper);
+        markPoolTaken();
+        markHoldingBegin(wrapper);
+    }
+
+    @Override
+    protected void setConnectionTxActivePool(Transaction tx, ConnectionWrapper wrapper) { // in lock, real take from the pool
+        super.setConnectionTxActivePool(tx, wrapper);
+        markPoolTaken();
+        markHoldingBegin(wrapper);
+    }
+
+    protected void markPoolTaken() {
+        poolTakenLocal.set(Boolean.TRUE);
+    }
+
+    protected void markHoldingBegin(ConnectionWrapper wrapper) {
+        if (wrapper instanceof HookedConnectionWrapper) {
+            ((HookedConnectionWrapper) wrapper).markHoldingBegin();
+        }
+    }
+
+    @Override
+    protected void checkInFreePool(ConnectionWrapper wrapper) { // in lock, from both checkIn() and checkInTx()
+        recordHoldingEnd(wrapper);
+        super.checkInFreePool(wrapper);
+    }
+
+    @Override
+    public synchronized void release(ConnectionWrapper wrapper) {
+        recordHoldingEnd(wrapper);
+        super.release(wrapper);
+    }
+
+    protected void recordHoldingEnd(ConnectionWrapper wrapper) {
+        if (!(wrapper instanceof HookedConnectionWrapper)) {
+            return;
+        }
+        final HookedConnectionWrapper hooked = (HookedConnectionWrapper) wrapper;
+        final String holderKey = hooked.getHoldingKey();
+        final long holdingNanos = hooked.markHoldingEnd();
+        if (holdingNanos < 0) { // not holding
+            return;
+        }
+        final boolean slow = isSlowHolding(holdingNanos);
+        telemetry.recordHolding(holderKey, holdingNanos, slow);
+        if (slow) {
+            handleSlowHolding(hooked, holderKey, holdingNanos);
+        }
+    }
+
+    protected boolean isSlowHolding(long holdingNanos) {
+        return slowHoldingMillis >= 0 && holdingNanos / 1000000L > slowHoldingMillis;
+    }
+
+    protected void handleSlowHolding(HookedConnectionWrapper wrapper, String holderKey, long holdingNanos) {
+        logger.warn("*Slow connection holding: {}ms by {} (threshold={}ms)", holdingNanos / 1000000L, holderKey, slowHoldingMillis);
+    }
+
+    /**
+     * Take the snapshot of telemetry, e.g. wait time of check-out, holding time per action, current slow holders.
+     * @return The immutable snapshot of telemetry. (NotNull)
+     */
+    public ConnectionPoolSnapshot snapshotTelemetry() {
+        final int active;
+        final int txActive;
+        final int free;
+        final List<String> currentSlowHolderList;
+        synchronized (this) { // short lock, same as pool view
+            active = getActivePoolSize();
+            txActive = getTxActivePoolSize();
+            free = getFreePoolSize();
+            currentSlowHolderList = findCurrentSlowHolderList();
+        }
+        return telemetry.toSnapshot(maxPoolSize, active, txActive, free, currentSlowHolderList);
+    }
+
+    protected List<String> findCurrentSlowHolderList() { // in lock
+        final Map<ConnectionWrapper, Boolean> wrapperMap = new IdentityHashMap<ConnectionWrapper, Boolean>();
+        activePool.forEach(wrapper -> wrapperMap.put(wrapper, true));
+        txActivePool.values().forEach(wrapper -> wrapperMap.put(wrapper, true));
+        final List<String> slowHolderList = new ArrayList<String>();
+        for (ConnectionWrapper wrapper : wrapperMap.keySet()) {
+            if (wrapper instanceof HookedConnectionWrapper) {
+                final HookedConnectionWrapper hooked = (HookedConnectionWrapper) wrapper;
+                final long holdingNanos = hooked.getCurrentHoldingNanos();
+                if (holdingNanos >= 0 && isSlowHolding(holdingNanos)) {
+                    slowHolderList.add(hooked.getHoldingKey() + " " + (holdingNanos / 1000000L) + "ms");
+                }
+            }
         }
+        return slowHolderList;
     }
 
     // ===================================================================================
@@ -88,4 +224,19 @@ public class HookedConnectionPool extends SimpleConnectionPool {
             ConnectionPool connectionPool, Transaction tx) throws SQLException {
         return new HookedConnectionWrapper(xaConnection, physicalConnection, connectionPool, tx);
     }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public ConnectionPoolTelemetry getTelemetry() {
+        return telemetry;
+    }
+
+    public long getSlowHoldingMillis() {
+        return slowHoldingMillis;
+    }
+
+    public void setSlowHoldingMillis(long slowHoldingMillis) {
+        this.slowHoldingMillis = slowHoldingMillis;
+    }
 }
@@ -42,13 +42,14 @@ public class HookedConnectionWrapper extends ConnectionWrapperImpl {
     //                                          Check Out/In
     //                                          ------------
     // all null allowed, overridden many times
+    // method and user bean are kept as reference, expressions are built only when the view is needed
     protected String checkingOutRequestPath; // key item
-    protected String checkingOutEntryExp;
-    protected String checkingOutUserExp;
+    protected Method checkingOutEntryMethod;
+    protected Object checkingOutUserBean;
     protected Long checkingOutMillis;
     protected String checkingInRequestPath; // key item
-    protected String checkingInEntryExp;
-    protected String checkingInUserExp;
+    protected Method checkingInEntryMethod;
+    protected Object checkingInUserBean;
     protected Long checkingInMillis;
 
     // -----------------------------------------------------
@@ -56,9 +57,18 @@ public class HookedConnectionWrapper extends ConnectionWrapperImpl {
     //                                          ------------
     // all null allowed, only once be set
     protected String closingReallyRequestPath; // key item
-    protected String closingReallyEntryExp;
-    protected String closingReallyUserExp;
+    protected Method closingReallyEntryMethod;
+    protected Object closingReallyUserBean;
     protected Long closingReallyMillis;
+    protected Throwable closingReallyCallerTrace; // when no request e.g. by timer, stack elements are resolved lazily
+
+    // -----------------------------------------------------
+    //                                               Holding
+    //                                               -------
+    // for telemetry of pool, marked by pool and read by snapshot of other threads
+    protected volatile boolean holding;
+    protected volatile long holdingBeginNanos;
+    protected volatile String holdingKey; // not null if holding e.g. SeaAction@index
 
     // ===================================================================================
     //                                                                         Constructor
@@ -78,8 +88,8 @@ public class HookedConnectionWrapper extends ConnectionWrapperImpl {
     public void saveCheckOutHistory() {
         if (ThreadCacheContext.exists()) { // e.g. in action
             checkingOutRequestPath = ThreadCacheContext.findRequestPath();
-            checkingOutEntryExp = convertMethodToMethodExp(ThreadCacheContext.findEntryMethod());
-            checkingOutUserExp = convertUserBeanToUserExp(ThreadCacheContext.findUserBean());
+            checkingOutEntryMethod = ThreadCacheContext.findEntryMethod();
+            checkingOutUserBean = ThreadCacheContext.findUserBean();
             checkingOutMillis = currentTimeMillis();
         }
         super.saveCheckOutHistory();
@@ -89,13 +99,66 @@ public class HookedConnectionWrapper extends ConnectionWrapperImpl {
     public void saveCheckInHistory() {
         if (ThreadCacheContext.exists()) { // e.g. in action
             checkingInRequestPath = ThreadCacheContext.findRequestPath();
-            checkingInEntryExp = convertMethodToMethodExp(ThreadCacheContext.findEntryMethod());
-            checkingInUserExp = convertUserBeanToUserExp(ThreadCacheContext.findUserBean());
+            checkingInEntryMethod = ThreadCacheContext.findEntryMethod();
+            checkingInUserBean = ThreadCacheContext.findUserBean();
             checkingInMillis = currentTimeMillis();
         }
         super.saveCheckInHistory();
     }
 
+    // -----------------------------------------------------
+    //                                               Holding
+    //                                               -------
+    /**
+     * Mark the beginning of holding, called when checked out from free pool or created. <br>
+     * Nothing if already holding, e.g. reused in the same transaction.
+     */
+    public void markHoldingBegin() {
+        if (holding) {
+            return;
+        }
+        holdingKey = deriveHoldingKey();
+        holdingBeginNanos = System.nanoTime();
+        holding = true;
+    }
+
+    /**
+     * Mark the end of holding, called when checked in or released.
+     * @return The holding nanoseconds. (MinusAllowed: if not holding)
+     */
+    public long markHoldingEnd() {
+        if (!holding) {
+            return -1L;
+        }
+        holding = false;
+        return System.nanoTime() - holdingBeginNanos;
+    }
+
+    protected String deriveHoldingKey() { // same as latest check-out history
+        if (ThreadCacheContext.exists()) { // e.g. in action
+            final Method entryMethod = ThreadCacheContext.findEntryMethod();
+            if (entryMethod != null) {
+                return entryMethod.getDeclaringClass().getSimpleName() + "@" + entryMethod.getName();
+            }
+            final String requestPath = ThreadCacheContext.findRequestPath();
+            if (requestPath != null) {
+                return requestPath;
+            }
+        }
+        return "(no action)"; // e.g. boot process, timer
+    }
+
+    /**
+     * @return The nanoseconds of current holding. (MinusAllowed: if not holding)
+     */
+    public long getCurrentHoldingNanos() {
+        return holding ? System.nanoTime() - holdingBeginNanos : -1L;
+    }
+
+    public String getHoldingKey() {
+        return holdingKey;
+    }
+
     // -----------------------------------------------------
     //                                       Inherit History
     //                                       ---------------
@@ -105,17 +168,18 @@ public class HookedConnectionWrapper extends ConnectionWrapperImpl {
         if (wrapper instanceof HookedConnectionWrapper) {
             final HookedConnectionWrapper inherited = (HookedConnectionWrapper) wrapper;
             checkingOutRequestPath = inherited.checkingOutRequestPath;
-            checkingOutEntryExp = inherited.checkingOutEntryExp;
-            checkingOutUserExp = inherited.checkingOutUserExp;
+            checkingOutEntryMethod = inherited.checkingOutEntryMethod;
+            checkingOutUserBean = inherited.checkingOutUserBean;
             checkingOutMillis = inherited.checkingOutMillis;
             checkingInRequestPath = inherited.checkingInRequestPath;
-            checkingInEntryExp = inherited.checkingInEntryExp;
-            checkingInUserExp = inherited.checkingInUserExp;
+            checkingInEntryMethod = inherited.checkingInEntryMethod;
+            checkingInUserBean = inherited.checkingInUserBean;
             checkingInMillis = inherited.checkingInMillis;
             closingReallyRequestPath = inherited.closingReallyRequestPath;
-            closingReallyEntryExp = inherited.closingReallyEntryExp;
-            closingReallyUserExp = inherited.closingReallyUserExp;
+            closingReallyEntryMethod = inherited.closingReallyEntryMethod;
+            closingReallyUserBean = inherited.closingReallyUserBean;
             closingReallyMillis = inherited.closingReallyMillis;
+            closingReallyCallerTrace = inherited.closingReallyCallerTrace;
         }
     }
 
@@ -129,15 +193,19 @@ public class HookedConnectionWrapper extends ConnectionWrapperImpl {
         sb.append(baseView); // same as toString()
         if (checkingOutRequestPath != null) {
             sb.append("\n latest checkOut(): ").append(checkingOutRequestPath).append(", ");
-            sb.append(checkingOutEntryExp).append(", ").append(checkingOutUserExp).append(", ").append(checkingOutMillis);
+            sb.append(convertMethodToMethodExp(checkingOutEntryMethod)).append(", ");
+            sb.append(convertUserBeanToUserExp(checkingOutUserBean)).append(", ").append(checkingOutMillis);
         }
         if (checkingInRequestPath != null) {
             sb.append("\n latest checkIn(): ").append(checkingInRequestPath).append(", ");
-            sb.append(checkingInEntryExp).append(", ").append(checkingInUserExp).append(", ").append(checkingInMillis);
+            sb.append(convertMethodToMethodExp(checkingInEntryMethod)).append(", ");
+            sb.append(convertUserBeanToUserExp(checkingInUserBean)).append(", ").append(checkingInMillis);
         }
-        if (closingReallyRequestPath != null) {
-            sb.append("\n closeReally(): ").append(closingReallyRequestPath).append(", ");
-            sb.append(closingReallyEntryExp).append(", ").append(closingReallyUserExp).append(", ").append(closingReallyMillis);
+        final String closingRequestExp = buildClosingReallyRequestExp();
+        if (closingRequestExp != null) {
+            sb.append("\n closeReally(): ").append(closingRequestExp).append(", ");
+            sb.append(buildClosingReallyEntryExp()).append(", ");
+            sb.append(convertUserBeanToUserExp(closingReallyUserBean)).append(", ").append(closingReallyMillis);
         }
         return sb.toString();
     }
@@ -154,21 +222,39 @@ public class HookedConnectionWrapper extends ConnectionWrapperImpl {
     protected void saveClosingHistory() {
         if (ThreadCacheContext.exists()) { // e.g. in action
             closingReallyRequestPath = ThreadCacheContext.findRequestPath();
-            closingReallyEntryExp = convertMethodToMethodExp(ThreadCacheContext.findEntryMethod());
-            closingReallyUserExp = convertUserBeanToUserExp(ThreadCacheContext.findUserBean());
+            closingReallyEntryMethod = ThreadCacheContext.findEntryMethod();
+            closingReallyUserBean = ThreadCacheContext.findUserBean();
             closingReallyMillis = currentTimeMillis();
         }
-        if (closingReallyRequestPath == null || closingReallyEntryExp == null) { // e.g. by timer
-            final StackTraceElement[] stackTrace = new Exception().getStackTrace();
-            final int requestCallerLevel = 1;
-            if (closingReallyRequestPath == null && stackTrace != null && stackTrace.length > requestCallerLevel) {
-                closingReallyRequestPath = buildCallerExp(requestCallerLevel, stackTrace[requestCallerLevel]);
-            }
-            final int entryCallerLevel = 5;
-            if (closingReallyEntryExp == null && stackTrace != null && stackTrace.length > entryCallerLevel) {
-                closingReallyEntryExp = buildCallerExp(entryCallerLevel, stackTrace[entryCallerLevel]);
-            }
+        if (closingReallyRequestPath == null || closingReallyEntryMethod == null) { // e.g. by timer
+            // only filled-in here, stack trace elements (heavy) are resolved when the view is needed
+            closingReallyCallerTrace = new Throwable();
+        }
+    }
+
+    protected String buildClosingReallyRequestExp() { // null allowed
+        if (closingReallyRequestPath != null) {
+            return closingReallyRequestPath;
+        }
+        return findClosingReallyCallerExp(1); // closeReally()
+    }
+
+    protected String buildClosingReallyEntryExp() { // null allowed
+        if (closingReallyEntryMethod != null) {
+            return convertMethodToMethodExp(closingReallyEntryMethod);
+        }
+        return findClosingReallyCallerExp(5);
+    }
+
+    protected String findClosingReallyCallerExp(int callerLevel) { // level from saveClosingHistory()
+        if (closingReallyCallerTrace == null) {
+            return null;
+        }
+        final StackTraceElement[] stackTrace = closingReallyCallerTrace.getStackTrace();
+        if (stackTrace == null || stackTrace.length <= callerLevel) {
+            return null;
         }
+        return buildCallerExp(callerLevel, stackTrace[callerLevel]);
     }
 
     protected String buildCallerExp(int requestCallerLevel, StackTraceElement caller) {
@@ -185,9 +271,9 @@ public class HookedConnectionWrapper extends ConnectionWrapperImpl {
         br.addItem("Advice");
         br.addElement("You cannot use the closed connection. (no way)");
         br.addItem("Closing Request");
-        br.addElement("requestPath: " + closingReallyRequestPath);
-        br.addElement("entryMethod: " + closingReallyEntryExp);
-        br.addElement("userBean: " + closingReallyUserExp);
+        br.addElement("requestPath: " + buildClosingReallyRequestExp());
+        br.addElement("entryMethod: " + buildClosingReallyEntryExp());
+        br.addElement("userBean: " + convertUserBeanToUserExp(closingReallyUserBean));
         br.addElement("closingMillis: " + closingReallyMillis);
         br.addItem("Current Request");
         if (ThreadCacheContext.exists()) { // e.g. in action
@@ -200,13 +286,13 @@ public class HookedConnectionWrapper extends ConnectionWrapperImpl {
         }
         br.addItem("Latest CheckOut");
         br.addElement("requestPath: " + checkingOutRequestPath);
-        br.addElement("entryMethod: " + checkingOutEntryExp);
-        br.addElement("userBean: " + checkingOutUserExp);
+        br.addElement("entryMethod: " + convertMethodToMethodExp(checkingOutEntryMethod));
+        br.addElement("userBean: " + convertUserBeanToUserExp(checkingOutUserBean));
         br.addElement("checkOutMillis: " + checkingOutMillis);
         br.addItem("Latest CheckIn");
         br.addElement("requestPath: " + checkingInRequestPath);
-        br.addElement("entryMethod: " + checkingInEntryExp);
-        br.addElement("userBean: " + checkingInUserExp);
+        br.addElement("entryMethod: " + convertMethodToMethodExp(checkingInEntryMethod));
+        br.addElement("userBean: " + convertUserBeanToUserExp(checkingInUserBean));
         br.addElement("checkInMillis: " + checkingInMillis);
         br.addItem("XA Connection");
         br.addElement(xaConnection);
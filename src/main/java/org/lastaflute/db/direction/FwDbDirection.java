@@ -20,6 +20,7 @@ import org.lastaflute.db.dbcp.ConnectionPoolAdjustmentProvider;
 import org.lastaflute.db.dbcp.XAConnectionHook;
 import org.lastaflute.db.dbflute.classification.ListedClassificationProvider;
 import org.lastaflute.db.jta.stage.VestibuleTxProvider;
+import org.lastaflute.db.replication.slavedb.SlaveDBStickinessOption;
 
 /**
  * @author jflute
@@ -41,6 +42,11 @@ public class FwDbDirection {
     protected XAConnectionHook newbornConnectionHook;
     protected VestibuleTxProvider vestibuleTxProvider;
 
+    // -----------------------------------------------------
+    //                                           Replication
+    //                                           -----------
+    protected SlaveDBStickinessOption slaveDBStickinessOption;
+
     // ===================================================================================
     //                                                                     Direct Property
     //                                                                     ===============
@@ -67,6 +73,14 @@ public class FwDbDirection {
         this.vestibuleTxProvider = vestibuleTxProvider;
     }
 
+    // -----------------------------------------------------
+    //                                           Replication
+    //                                           -----------
+    public void directSlaveDBStickiness(SlaveDBStickinessOption slaveDBStickinessOption) {
+        assertArgumentNotNull("slaveDBStickinessOption", slaveDBStickinessOption);
+        this.slaveDBStickinessOption = slaveDBStickinessOption;
+    }
+
     // ===================================================================================
     //                                                                              Assist
     //                                                                              ======
@@ -93,6 +107,13 @@ public class FwDbDirection {
         return vestibuleTxProvider; // not required, it's optional assist
     }
 
+    // -----------------------------------------------------
+    //                                           Replication
+    //                                           -----------
+    public SlaveDBStickinessOption assistSlaveDBStickinessOption() {
+        return slaveDBStickinessOption; // not required, it's optional assist
+    }
+
     // ===================================================================================
     //                                                                       Assert Helper
     //                                                                       =============
@@ -19,7 +19,6 @@ import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,6 +36,7 @@ import org.lastaflute.db.jta.romanticist.SavedTransactionMemories;
 import org.lastaflute.db.jta.romanticist.TransactionCurrentSqlBuilder;
 import org.lastaflute.db.jta.romanticist.TransactionMemoriesProvider;
 import org.lastaflute.db.jta.romanticist.TransactionRomanticMemoriesBuilder;
+import org.lastaflute.db.jta.romanticist.TransactionRecentResultRing;
 import org.lastaflute.db.jta.romanticist.TransactionRomanticSnapshotBuilder;
 import org.lastaflute.db.jta.romanticist.TransactionSavedRecentResult;
 import org.lastaflute.jta.core.LaTransaction;
@@ -74,7 +74,7 @@ public class RomanticTransaction extends LaTransaction {
     //                                         Recent Result
     //                                         -------------
     // basically for simple debug of current tranasction
-    protected LinkedList<TransactionSavedRecentResult> recentResultList; // lazy loaded, needs synchronized
+    protected volatile TransactionRecentResultRing recentResultRing; // lazy loaded, registered by transaction thread only
 
     // ===================================================================================
     //                                                                               Begin
@@ -226,43 +226,31 @@ public class RomanticTransaction extends LaTransaction {
     // ===================================================================================
     //                                                                       Recent Result
     //                                                                       =============
+    // called by every SQL so no lock and no conversion here, the ring is single writer (thread of the transaction)
+    // and result map is converted only when memories are built (other threads can read the ring safely)
     public void registerRecentResult(String tableName, String command, Long beginMillis, Long endMillis, Class<?> resultType,
             Object resultValue, BehaviorCommandMeta meta) {
-        synchronized (this) { // toRomanticString() of exception thread looks the resources
-            doRegisterRecentResult(tableName, command, beginMillis, endMillis, resultType, resultValue, meta);
-        }
+        doRegisterRecentResult(tableName, command, beginMillis, endMillis, resultType, resultValue, meta);
     }
 
     public void doRegisterRecentResult(String tableName, String command, Long beginMillis, Long endMillis, Class<?> resultType,
             Object resultValue, BehaviorCommandMeta meta) {
-        if (recentResultList == null) {
-            recentResultList = newRecentResult();
+        TransactionRecentResultRing ring = recentResultRing;
+        if (ring == null) {
+            ring = newRecentResultRing(getRecentResultSavingLimit());
+            recentResultRing = ring;
         }
-        if (recentResultList.size() > getRecentResultSavingLimit()) {
-            recentResultList.removeFirst();
-        }
-        final long statementNo = prepareRecentResultStatementNo();
-        recentResultList
-                .add(createSavedRecentResult(statementNo, tableName, command, beginMillis, endMillis, resultType, resultValue, meta));
+        ring.register(tableName, command, beginMillis, endMillis, resultType, resultValue, meta);
     }
 
-    protected LinkedList<TransactionSavedRecentResult> newRecentResult() {
-        return new LinkedList<TransactionSavedRecentResult>(); // plain because of synchronized
+    protected TransactionRecentResultRing newRecentResultRing(int savingLimit) {
+        return new TransactionRecentResultRing(savingLimit); // preallocated here
     }
 
     protected int getRecentResultSavingLimit() {
         return 30;
     }
 
-    protected long prepareRecentResultStatementNo() {
-        return recentResultList.isEmpty() ? 1L : recentResultList.peekLast().getStatementNo() + 1;
-    }
-
-    protected TransactionSavedRecentResult createSavedRecentResult(long statementNo, String tableName, String command, Long beginMillis,
-            Long endMillis, Class<?> resultType, Object resultValue, BehaviorCommandMeta meta) {
-        return new TransactionSavedRecentResult(statementNo, tableName, command, beginMillis, endMillis, resultType, resultValue, meta);
-    }
-
     // -----------------------------------------------------
     //                                          Clear Recent
     //                                          ------------
@@ -273,10 +261,7 @@ public class RomanticTransaction extends LaTransaction {
     }
 
     protected void doClearRecent() {
-        if (recentResultList != null) {
-            recentResultList.clear();
-        }
-        recentResultList = null;
+        recentResultRing = null;
     }
 
     // ===================================================================================
@@ -322,9 +307,10 @@ public class RomanticTransaction extends LaTransaction {
         return currentSqlBuilder;
     }
 
-    public List<TransactionSavedRecentResult> getReadOnlyRecentResultList() {
-        if (recentResultList != null) {
-            return Collections.unmodifiableList(recentResultList);
+    public List<TransactionSavedRecentResult> getReadOnlyRecentResultList() { // as snapshot
+        final TransactionRecentResultRing ring = recentResultRing;
+        if (ring != null) {
+            return Collections.unmodifiableList(ring.toSavedResultList());
         } else {
             return Collections.emptyList();
         }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.jta.romanticist;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.dbflute.bhv.core.BehaviorCommandMeta;
+
+/**
+ * The fixed-size ring of recent results in one transaction, preallocated when the first SQL. <br>
+ * Each slot has an immutable saved result whose result value is weakly referred,
+ * so that result maps are converted only when memories are built.
+ * <pre>
+ * Registration is by the thread of the transaction only (single writer), no lock.
+ * Other threads can read it, entries overwritten while reading are excluded.
+ * (the whole entry is published to the slot at once, so fields are never mixed)
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class TransactionRecentResultRing {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final int savingLimit; // positive, max count of entries
+    protected final AtomicReferenceArray<TransactionSavedRecentResult> slots; // element is null until registered
+    protected volatile long registeredCount; // published after entry is set
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public TransactionRecentResultRing(int savingLimit) {
+        if (savingLimit <= 0) {
+            throw new IllegalArgumentException("The argument 'savingLimit' should be positive: " + savingLimit);
+        }
+        this.savingLimit = savingLimit;
+        this.slots = new AtomicReferenceArray<TransactionSavedRecentResult>(savingLimit);
+    }
+
+    // ===================================================================================
+    //                                                                            Register
+    //                                                                            ========
+    /**
+     * Register the result as the next statement, the oldest one is overwritten if full. <br>
+     * Call this only in the thread of the transaction.
+     * @param tableName The display name of table. (NotNull)
+     * @param command The name of behavior command. (NotNull)
+     * @param beginMillis The begin time of the command. (NullAllowed: when failure)
+     * @param endMillis The end time of the command. (NullAllowed: when failure)
+     * @param resultType The type of result. (NotNull)
+     * @param resultValue The value of result, weakly referred. (NullAllowed: e.g. selectCursor())
+     * @param meta The meta of behavior command, not kept (key of entity update is extracted here). (NullAllowed)
+     * @return The registered statement number, begins with 1. (NotMinus)
+     */
+    public long register(String tableName, String command, Long beginMillis, Long endMillis, Class<?> resultType, Object resultValue,
+            BehaviorCommandMeta meta) {
+        final long count = registeredCount; // single writer so plain read-modify-write
+        final long statementNo = count + 1;
+        final Reference<Object> resultValueRef = resultValue != null ? new WeakReference<Object>(resultValue) : null;
+        final TransactionSavedRecentResult entry =
+                newSavedRecentResult(statementNo, tableName, command, beginMillis, endMillis, resultType, resultValueRef, meta);
+        slots.set((int) (count % savingLimit), entry);
+        registeredCount = statementNo; // publish
+        return statementNo;
+    }
+
+    protected TransactionSavedRecentResult newSavedRecentResult(long statementNo, String tableName, String command, Long beginMillis,
+            Long endMillis, Class<?> resultType, Reference<Object> resultValueRef, BehaviorCommandMeta meta) {
+        return new TransactionSavedRecentResult(statementNo, tableName, command, beginMillis, endMillis, resultType, resultValueRef,
+                meta);
+    }
+
+    // ===================================================================================
+    //                                                                        Saved Result
+    //                                                                        ============
+    /**
+     * @return The new-created list of saved results ordered by statement number, result maps are lazy. (NotNull, EmptyAllowed)
+     */
+    public List<TransactionSavedRecentResult> toSavedResultList() {
+        final long count = registeredCount;
+        final long from = Math.max(0L, count - savingLimit);
+        final List<TransactionSavedRecentResult> resultList = new ArrayList<TransactionSavedRecentResult>((int) (count - from));
+        for (long seq = from; seq < count; seq++) {
+            final TransactionSavedRecentResult result = slots.get((int) (seq % savingLimit));
+            if (result != null && result.getStatementNo() == seq + 1) { // not overwritten by the writer while reading
+                resultList.add(result);
+            }
+        }
+        return resultList;
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getSavingLimit() {
+        return savingLimit;
+    }
+
+    public long getRegisteredCount() {
+        return registeredCount;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package org.lastaflute.db.jta.romanticist;
 
+import java.lang.ref.Reference;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -50,7 +51,9 @@ public class TransactionSavedRecentResult {
     protected final Long beginMillis; // null allowed when failure
     protected final Long endMillis; // null allowed when failure
     protected final Class<?> resultType; // not null e.g. Integer, Entity, List
-    protected final Map<String, Object> resultMap; // not null, empty allowed
+    protected final Reference<Object> resultValueRef; // null allowed when eager or no value
+    protected final Map<String, Object> entityUpdateKeyMap; // null allowed when not entity update, captured eagerly
+    protected volatile Map<String, Object> resultMap; // lazy-loaded if weak reference, not null after loaded
 
     // ===================================================================================
     //                                                                         Constructor
@@ -64,19 +67,53 @@ public class TransactionSavedRecentResult {
         this.beginMillis = beginMillis;
         this.endMillis = endMillis;
         this.resultType = resultType;
-        this.resultMap = convertToResultMap(resultValue, meta);
+        this.resultValueRef = null;
+        this.entityUpdateKeyMap = extractEntityUpdateKeyMapIfNeeds(meta);
+        this.resultMap = convertToResultMap(resultValue);
     }
 
-    protected Map<String, Object> convertToResultMap(Object resultValue, BehaviorCommandMeta meta) {
+    /**
+     * The result map is converted lazily by weakly-referred value, e.g. from recent result ring. <br>
+     * If the value has been garbage-collected before conversion, the result map tells it. <br>
+     * The key of entity update is captured here because the meta is not kept until the conversion.
+     */
+    public TransactionSavedRecentResult(long statementNo, String tableName, String command, Long beginMillis, Long endMillis,
+            Class<?> resultType, Reference<Object> resultValueRef, BehaviorCommandMeta meta) {
+        this.statementNo = statementNo;
+        this.tableName = tableName;
+        this.command = command;
+        this.beginMillis = beginMillis;
+        this.endMillis = endMillis;
+        this.resultType = resultType;
+        this.resultValueRef = resultValueRef;
+        this.entityUpdateKeyMap = extractEntityUpdateKeyMapIfNeeds(meta);
+    }
+
+    protected Map<String, Object> resolveLazyResultMap() {
+        if (resultValueRef == null) { // e.g. selectCursor()
+            return Collections.emptyMap();
+        }
+        final Object resultValue = resultValueRef.get();
+        if (resultValue == null) { // already garbage-collected
+            return prepareCollectedResultMap();
+        }
+        return convertToResultMap(resultValue);
+    }
+
+    protected Map<String, Object> prepareCollectedResultMap() {
+        return DfCollectionUtil.newHashMap("*", "garbage-collected");
+    }
+
+    protected Map<String, Object> convertToResultMap(Object resultValue) {
         try {
-            return doConvertToResultMap(resultValue, meta);
+            return doConvertToResultMap(resultValue);
         } catch (RuntimeException continued) { // just in case
-            logger.info("Failed to convert the resultValue to resultMap: value={} meta={}", resultValue, meta, continued);
+            logger.info("Failed to convert the resultValue to resultMap: value={} command={}", resultValue, command, continued);
             return Collections.emptyMap();
         }
     }
 
-    protected Map<String, Object> doConvertToResultMap(Object resultValue, BehaviorCommandMeta meta) {
+    protected Map<String, Object> doConvertToResultMap(Object resultValue) {
         final Map<String, Object> resultMap;
         if (resultValue != null) {
             if (resultValue instanceof Entity) { // e.g. selectEntity()
@@ -99,11 +136,11 @@ public class TransactionSavedRecentResult {
                 }
                 resultMap.put("first", firstExp);
             } else { // e.g. Integer
-                final String valueTitle = deriveOtherTypeValueTitle(meta);
+                final String valueTitle = deriveOtherTypeValueTitle();
                 resultMap = new LinkedHashMap<String, Object>(2);
                 resultMap.put(valueTitle, resultValue);
-                if (meta.isEntityUpdateFamily()) {
-                    resultMap.put("key", prepareEntityUpdateKeyMap(meta));
+                if (entityUpdateKeyMap != null) {
+                    resultMap.put("key", entityUpdateKeyMap);
                 }
             }
         } else { // e.g. selectCursor()
@@ -133,25 +170,45 @@ public class TransactionSavedRecentResult {
     // ===================================================================================
     //                                                                          Other Type
     //                                                                          ==========
-    protected String deriveOtherTypeValueTitle(BehaviorCommandMeta meta) {
+    protected String deriveOtherTypeValueTitle() { // by command name, e.g. insert, batchUpdate, queryDelete
         final String valueTitle;
-        if (meta.isInsert()) {
+        if (isCommandOf("insert")) {
             valueTitle = "inserted";
-        } else if (meta.isUpdate()) {
+        } else if (isCommandOf("update")) {
             valueTitle = "updated";
-        } else if (meta.isDelete()) {
+        } else if (isCommandOf("delete")) {
             valueTitle = "deleted";
-        } else if (meta.isSelectCount()) {
+        } else if ("selectCount".equals(command)) {
             valueTitle = "count";
-        } else {
+        } else { // e.g. outside-sql execute
             valueTitle = "value";
         }
         return valueTitle;
     }
 
+    protected boolean isCommandOf(String keyword) { // e.g. update, updateNonstrict, batchUpdate, queryUpdate
+        if (command == null) {
+            return false;
+        }
+        final String capitalized = Character.toUpperCase(keyword.charAt(0)) + keyword.substring(1);
+        return command.startsWith(keyword) || command.contains(capitalized);
+    }
+
     // ===================================================================================
     //                                                                       Entity Update
     //                                                                       =============
+    protected Map<String, Object> extractEntityUpdateKeyMapIfNeeds(BehaviorCommandMeta meta) { // null allowed
+        if (meta == null || !meta.isEntityUpdateFamily()) {
+            return null;
+        }
+        try {
+            return prepareEntityUpdateKeyMap(meta);
+        } catch (RuntimeException continued) { // just in case
+            logger.info("Failed to extract the key of entity update: meta={}", meta, continued);
+            return null;
+        }
+    }
+
     protected Map<String, Object> prepareEntityUpdateKeyMap(BehaviorCommandMeta meta) {
         final Entity entity = extractArgumentEntity(meta); // always can get if entity update
         if (entity == null) { // no way, just in case
@@ -222,6 +279,9 @@ public class TransactionSavedRecentResult {
     }
 
     public Map<String, Object> getResultMap() {
+        if (resultMap == null) { // lazy, converted only when memories are built
+            resultMap = resolveLazyResultMap(); // no lock, duplicate conversion is no problem
+        }
         return resultMap;
     }
 }
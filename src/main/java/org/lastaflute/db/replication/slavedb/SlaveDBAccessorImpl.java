@@ -15,11 +15,18 @@
  */
 package org.lastaflute.db.replication.slavedb;
 
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+
 import javax.annotation.Resource;
 
 import org.dbflute.bhv.core.BehaviorCommandHook;
 import org.dbflute.bhv.core.BehaviorCommandMeta;
 import org.dbflute.hook.CallbackContext;
+import org.dbflute.util.DfTypeUtil;
+import org.lastaflute.core.direction.FwAssistantDirector;
+import org.lastaflute.core.magic.ThreadCacheContext;
 import org.lastaflute.db.replication.selectable.SelectableDataSourceHolder;
 import org.lastaflute.di.util.LdiSrl;
 import org.slf4j.Logger;
@@ -41,6 +48,12 @@ public class SlaveDBAccessorImpl implements SlaveDBAccessor {
     @Resource
     private SelectableDataSourceHolder selectableDataSourceHolder; // needs selectable_datasource.xml
 
+    @Resource
+    private FwAssistantDirector assistantDirector; // for e.g. stickiness option
+
+    protected volatile SlaveDBReplicaRouter replicaRouter; // lazy loaded, null if single SlaveDB
+    protected volatile boolean replicaRouterPrepared; // to avoid option creation per access
+
     // ===================================================================================
     //                                                                      SlaveDB Access
     //                                                                      ==============
@@ -55,9 +68,19 @@ public class SlaveDBAccessorImpl implements SlaveDBAccessor {
 
     protected <RESULT> RESULT doAccessFixedly(SlaveDBCallback<RESULT> callback) {
         assertCallbackNotNull(callback);
+        if (isStickyToMaster()) { // read-your-writes
+            return doMasterAccessFixedly(callback);
+        }
+        final SlaveDBReplicaRouter router = prepareReplicaRouter();
+        if (router != null) { // plural SlaveDBs
+            return doAccessReplica(callback, router);
+        }
+        return doAccessSlave(callback, prepareSlaveDataSourceKey());
+    }
+
+    protected <RESULT> RESULT doAccessSlave(SlaveDBCallback<RESULT> callback, String slaveKey) {
         final String currentKey = selectableDataSourceHolder.getCurrentSelectableDataSourceKey();
         try {
-            final String slaveKey = prepareSlaveDataSourceKey();
             if (logger.isDebugEnabled()) {
                 logger.debug(buildSlaveDBAccessDebugMessage(slaveKey));
             }
@@ -74,6 +97,94 @@ public class SlaveDBAccessorImpl implements SlaveDBAccessor {
         return "...Accessing to SlaveDB for " + mySchemaDisp() + " by the key: " + slaveKey;
     }
 
+    // -----------------------------------------------------
+    //                                               Replica
+    //                                               -------
+    protected <RESULT> RESULT doAccessReplica(SlaveDBCallback<RESULT> callback, SlaveDBReplicaRouter router) {
+        final SlaveDBReplicaRoute route = router.select();
+        if (route == null) { // all replicas are ejected
+            if (logger.isDebugEnabled()) {
+                logger.debug("...Falling back to MasterDB because all replicas are ejected: " + router);
+            }
+            return doMasterAccessFixedly(callback);
+        }
+        final SlaveDBReplicaState replica = route.getReplica();
+        final long beginNanos = replica.begin(); // latency is measured around the whole callback
+        boolean failure = false;
+        try {
+            return doAccessSlave(callback, prepareReplicaDataSourceKey(replica.getReplicaKey()));
+        } catch (RuntimeException e) {
+            failure = isReplicaFailure(e);
+            throw e;
+        } finally {
+            router.finish(route, beginNanos, failure);
+        }
+    }
+
+    /**
+     * Does the exception mean failure of the replica? (not application exception) <br>
+     * Only connection or availability failures are counted, e.g. constraint violation and SQL syntax error are not.
+     * @param cause The exception thrown in the access. (NotNull)
+     * @return The determination, true or false. If true, counted as failure of replica.
+     */
+    protected boolean isReplicaFailure(RuntimeException cause) {
+        Throwable current = cause;
+        int depth = 0;
+        while (current != null && depth < 10) { // e.g. SQLFailureException wraps SQLException
+            if (current instanceof SQLException && isReplicaUnavailableSQLException((SQLException) current)) {
+                return true;
+            }
+            current = current.getCause();
+            ++depth;
+        }
+        return false;
+    }
+
+    protected boolean isReplicaUnavailableSQLException(SQLException cause) {
+        if (cause instanceof SQLTransientConnectionException || cause instanceof SQLNonTransientConnectionException) {
+            return true;
+        }
+        final String sqlState = cause.getSQLState();
+        return sqlState != null && sqlState.startsWith("08"); // connection exception class
+    }
+
+    protected SlaveDBReplicaRouter prepareReplicaRouter() { // null allowed
+        if (replicaRouterPrepared) {
+            return replicaRouter;
+        }
+        synchronized (this) {
+            if (!replicaRouterPrepared) {
+                final SlaveDBReplicaOption option = mySlaveReplicaOption();
+                if (option != null) {
+                    replicaRouter = newSlaveDBReplicaRouter(option);
+                    logger.info("...Routing to replicas for " + mySchemaDisp() + ": " + DfTypeUtil.toClassTitle(this) + " " + option);
+                }
+                replicaRouterPrepared = true;
+            }
+            return replicaRouter;
+        }
+    }
+
+    protected SlaveDBReplicaRouter newSlaveDBReplicaRouter(SlaveDBReplicaOption option) {
+        return new SlaveDBReplicaRouter(option);
+    }
+
+    /**
+     * Get the option of replica routing, for plural SlaveDBs. <br>
+     * You can override it if you have plural SlaveDBs e.g. slave1DataSource, slave2DataSource.
+     * @return The option of replica routing. (NullAllowed: if null, single SlaveDB as default)
+     */
+    protected SlaveDBReplicaOption mySlaveReplicaOption() {
+        return null; // single SlaveDB as default
+    }
+
+    /**
+     * @return The router of replicas, for e.g. monitoring. (NullAllowed: if single SlaveDB)
+     */
+    public SlaveDBReplicaRouter getReplicaRouter() {
+        return prepareReplicaRouter();
+    }
+
     // -----------------------------------------------------
     //                                               IfNeeds
     //                                               -------
@@ -104,6 +215,41 @@ public class SlaveDBAccessorImpl implements SlaveDBAccessor {
         return (determinationNumber % 2) == 0;
     }
 
+    // ===================================================================================
+    //                                                                          Stickiness
+    //                                                                          ==========
+    /**
+     * Does the SlaveDB access go to MasterDB for read-your-writes? <br>
+     * True if the current process already wrote or the latest write of the user is in the lag window.
+     * @return The determination, true or false.
+     */
+    protected boolean isStickyToMaster() {
+        final SlaveDBStickinessOption option = mySlaveStickinessOption();
+        if (option == null) {
+            return false;
+        }
+        if (existsCurrentWrite() || option.isInLagWindow(System.currentTimeMillis())) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("...Sticking to MasterDB for " + mySchemaDisp() + " after write: " + option);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the option of read-your-writes stickiness. <br>
+     * It is from DB direction as default, you can override it e.g. if multiple DB.
+     * @return The option of stickiness. (NullAllowed: if null, no stickiness as default)
+     */
+    protected SlaveDBStickinessOption mySlaveStickinessOption() {
+        return assistantDirector.assistDbDirection().assistSlaveDBStickinessOption();
+    }
+
+    protected boolean existsCurrentWrite() { // in the current request (or process)
+        return ThreadCacheContext.isDBWritten(); // marked by write marking hook, independent from SQL counter
+    }
+
     // ===================================================================================
     //                                                                        Fixed Master
     //                                                                        ============
@@ -215,6 +361,15 @@ public class SlaveDBAccessorImpl implements SlaveDBAccessor {
         return SLAVE_DB + getSchemaSuffix();
     }
 
+    /**
+     * Prepare data source key for the replica of SlaveDB.
+     * @param replicaKey The key of replica e.g. slave1. (NotNull)
+     * @return The key string corresponding to the replica schema e.g. slave1, slave1Seadb. (NotNull)
+     */
+    protected String prepareReplicaDataSourceKey(String replicaKey) {
+        return replicaKey + getSchemaSuffix();
+    }
+
     protected String getSchemaSuffix() {
         final String keyword = mySchemaKeyword(); // null allowed
         return keyword != null ? LdiSrl.initCap(keyword) : ""; // e.g. seadb to Seadb (for masterSeadb)
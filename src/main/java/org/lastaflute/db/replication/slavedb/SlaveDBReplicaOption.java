@@ -0,0 +1,235 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.replication.slavedb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The option of replica routing for plural SlaveDBs. <br>
+ * Each replica key is the prefix of data source component like slave, e.g. slave1 to slave1DataSource.
+ * <pre>
+ * e.g. three replicas, in your SlaveDBAccessorImpl extension
+ *  &#064;Override
+ *  protected SlaveDBReplicaOption mySlaveReplicaOption() {
+ *      return new SlaveDBReplicaOption().replica("slave1", 2).replica("slave2", 1).replica("slave3", 1)
+ *              .leastOutstanding().ejectFailureCount(3).reprobeMillis(30000L);
+ *  }
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SlaveDBReplicaOption {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final int DEFAULT_EJECT_FAILURE_COUNT = 3;
+    public static final long DEFAULT_REPROBE_MILLIS = 30000L;
+    public static final long DEFAULT_LAG_CHECK_INTERVAL_MILLIS = 5000L;
+
+    public enum ReplicaSelection {
+        /** by weight of replica, in turn among available replicas */
+        WEIGHTED_ROUND_ROBIN,
+        /** the replica that has the least outstanding accesses, for uneven query costs */
+        LEAST_OUTSTANDING
+    }
+
+    /**
+     * The determiner of replication lag, e.g. it reads the delay cached by your monitoring. <br>
+     * It is called in request thread at intervals, so it should be light.
+     */
+    @FunctionalInterface
+    public static interface ReplicaLagDeterminer {
+
+        /**
+         * @param replicaKey The key of replica e.g. slave1. (NotNull)
+         * @return The determination, true or false. If true, the replica is ejected until reprobe.
+         */
+        boolean isLagging(String replicaKey);
+    }
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final List<ReplicaWeight> replicaWeightList = new ArrayList<ReplicaWeight>();
+    protected ReplicaSelection selection = ReplicaSelection.WEIGHTED_ROUND_ROBIN;
+    protected int ejectFailureCount = DEFAULT_EJECT_FAILURE_COUNT; // consecutive failures
+    protected long ejectLatencyMillis = -1L; // minus means no ejection by latency
+    protected long reprobeMillis = DEFAULT_REPROBE_MILLIS;
+    protected ReplicaLagDeterminer lagDeterminer; // null allowed
+    protected long lagCheckIntervalMillis = DEFAULT_LAG_CHECK_INTERVAL_MILLIS;
+
+    public static class ReplicaWeight {
+
+        protected final String replicaKey; // not null
+        protected final int weight; // positive
+
+        public ReplicaWeight(String replicaKey, int weight) {
+            this.replicaKey = replicaKey;
+            this.weight = weight;
+        }
+
+        public String getReplicaKey() {
+            return replicaKey;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                             Replica
+    //                                                                             =======
+    /**
+     * @param replicaKey The key of replica, prefix of data source e.g. slave1 (for slave1DataSource). (NotNull, NotEmpty)
+     * @param weight The weight for round robin selection. (Positive)
+     * @return this. (NotNull)
+     */
+    public SlaveDBReplicaOption replica(String replicaKey, int weight) {
+        if (replicaKey == null || replicaKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("The argument 'replicaKey' should not be null or empty: " + replicaKey);
+        }
+        if (weight <= 0) {
+            throw new IllegalArgumentException("The argument 'weight' should be positive: " + weight);
+        }
+        for (ReplicaWeight existing : replicaWeightList) {
+            if (existing.getReplicaKey().equals(replicaKey)) {
+                throw new IllegalArgumentException("Already registered the replica key: " + replicaKey);
+            }
+        }
+        replicaWeightList.add(new ReplicaWeight(replicaKey, weight));
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                           Selection
+    //                                                                           =========
+    public SlaveDBReplicaOption weightedRoundRobin() {
+        selection = ReplicaSelection.WEIGHTED_ROUND_ROBIN;
+        return this;
+    }
+
+    public SlaveDBReplicaOption leastOutstanding() {
+        selection = ReplicaSelection.LEAST_OUTSTANDING;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                            Ejection
+    //                                                                            ========
+    /**
+     * @param ejectFailureCount The count of consecutive failures (SQL exceptions) to eject the replica. (Positive)
+     * @return this. (NotNull)
+     */
+    public SlaveDBReplicaOption ejectFailureCount(int ejectFailureCount) {
+        if (ejectFailureCount <= 0) {
+            throw new IllegalArgumentException("The argument 'ejectFailureCount' should be positive: " + ejectFailureCount);
+        }
+        this.ejectFailureCount = ejectFailureCount;
+        return this;
+    }
+
+    /**
+     * The latency is measured around the whole SlaveDB callback, not per SQL. <br>
+     * So set the threshold for the callback, e.g. plural selects and application logic in the callback are included.
+     * @param ejectLatencyMillis The average latency (exponentially weighted) to eject the replica. (MinusAllowed: no ejection by latency)
+     * @return this. (NotNull)
+     */
+    public SlaveDBReplicaOption ejectLatencyMillis(long ejectLatencyMillis) {
+        this.ejectLatencyMillis = ejectLatencyMillis;
+        return this;
+    }
+
+    /**
+     * @param reprobeMillis The milliseconds to reprobe the ejected replica by one access. (NotMinus)
+     * @return this. (NotNull)
+     */
+    public SlaveDBReplicaOption reprobeMillis(long reprobeMillis) {
+        if (reprobeMillis < 0) {
+            throw new IllegalArgumentException("The argument 'reprobeMillis' should not be minus: " + reprobeMillis);
+        }
+        this.reprobeMillis = reprobeMillis;
+        return this;
+    }
+
+    /**
+     * @param lagDeterminer The determiner of replication lag. (NotNull)
+     * @param lagCheckIntervalMillis The interval milliseconds of lag check per replica. (NotMinus)
+     * @return this. (NotNull)
+     */
+    public SlaveDBReplicaOption ejectLagging(ReplicaLagDeterminer lagDeterminer, long lagCheckIntervalMillis) {
+        if (lagDeterminer == null) {
+            throw new IllegalArgumentException("The argument 'lagDeterminer' should not be null.");
+        }
+        if (lagCheckIntervalMillis < 0) {
+            throw new IllegalArgumentException("The argument 'lagCheckIntervalMillis' should not be minus: " + lagCheckIntervalMillis);
+        }
+        this.lagDeterminer = lagDeterminer;
+        this.lagCheckIntervalMillis = lagCheckIntervalMillis;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("{replicas=[");
+        for (int i = 0; i < replicaWeightList.size(); i++) {
+            final ReplicaWeight replicaWeight = replicaWeightList.get(i);
+            sb.append(i > 0 ? ", " : "").append(replicaWeight.getReplicaKey()).append("*").append(replicaWeight.getWeight());
+        }
+        sb.append("], selection=").append(selection).append(", ejectFailureCount=").append(ejectFailureCount);
+        sb.append(", ejectLatencyMillis=").append(ejectLatencyMillis).append(", reprobeMillis=").append(reprobeMillis);
+        sb.append(", lagDeterminer=").append(lagDeterminer != null).append("}");
+        return sb.toString();
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public List<ReplicaWeight> getReplicaWeightList() { // read-only
+        return Collections.unmodifiableList(replicaWeightList);
+    }
+
+    public ReplicaSelection getSelection() {
+        return selection;
+    }
+
+    public int getEjectFailureCount() {
+        return ejectFailureCount;
+    }
+
+    public long getEjectLatencyMillis() {
+        return ejectLatencyMillis;
+    }
+
+    public long getReprobeMillis() {
+        return reprobeMillis;
+    }
+
+    public ReplicaLagDeterminer getLagDeterminer() {
+        return lagDeterminer;
+    }
+
+    public long getLagCheckIntervalMillis() {
+        return lagCheckIntervalMillis;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.replication.slavedb;
+
+/**
+ * The route to the replica selected by the router, to be passed to finish() of the router. <br>
+ * It knows whether the access is the reprobe, which cannot be determined by the shared state of the replica
+ * because other accesses that began before ejection may finish while reprobing.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SlaveDBReplicaRoute {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final SlaveDBReplicaState replica; // not null
+    protected final boolean probe; // true if the access reprobes the ejected replica
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public SlaveDBReplicaRoute(SlaveDBReplicaState replica, boolean probe) {
+        this.replica = replica;
+        this.probe = probe;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "route:{" + replica.getReplicaKey() + (probe ? ", *probe" : "") + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public SlaveDBReplicaState getReplica() {
+        return replica;
+    }
+
+    public boolean isProbe() {
+        return probe;
+    }
+}
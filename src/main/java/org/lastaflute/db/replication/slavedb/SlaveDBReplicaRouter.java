@@ -0,0 +1,239 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.replication.slavedb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.lastaflute.db.replication.slavedb.SlaveDBReplicaOption.ReplicaLagDeterminer;
+import org.lastaflute.db.replication.slavedb.SlaveDBReplicaOption.ReplicaSelection;
+import org.lastaflute.db.replication.slavedb.SlaveDBReplicaOption.ReplicaWeight;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The router to plural replicas (SlaveDBs), health-aware and no lock. <br>
+ * Failing, slow or lagging replicas are ejected, and reprobed by one access after a while.
+ * If all replicas are ejected, the caller falls back to MasterDB.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SlaveDBReplicaRouter {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(SlaveDBReplicaRouter.class);
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final SlaveDBReplicaOption option; // not null
+    protected final List<SlaveDBReplicaState> replicaList; // not null, read-only, fixed
+    protected final AtomicLong sequence = new AtomicLong(); // for round robin
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public SlaveDBReplicaRouter(SlaveDBReplicaOption option) {
+        if (option == null) {
+            throw new IllegalArgumentException("The argument 'option' should not be null.");
+        }
+        if (option.getReplicaWeightList().isEmpty()) {
+            throw new IllegalArgumentException("The option should have at least one replica: " + option);
+        }
+        this.option = option;
+        final List<SlaveDBReplicaState> stateList = new ArrayList<SlaveDBReplicaState>();
+        for (ReplicaWeight replicaWeight : option.getReplicaWeightList()) {
+            stateList.add(newSlaveDBReplicaState(replicaWeight));
+        }
+        this.replicaList = Collections.unmodifiableList(stateList);
+    }
+
+    protected SlaveDBReplicaState newSlaveDBReplicaState(ReplicaWeight replicaWeight) {
+        return new SlaveDBReplicaState(replicaWeight.getReplicaKey(), replicaWeight.getWeight());
+    }
+
+    // ===================================================================================
+    //                                                                              Select
+    //                                                                              ======
+    /**
+     * Select the replica for the access, call begin() of the replica and finish() of this router around the access.
+     * @return The route to selected replica, e.g. reprobe or not. (NullAllowed: when all replicas are ejected, falls back to master)
+     */
+    public SlaveDBReplicaRoute select() {
+        final long currentMillis = currentTimeMillis();
+        checkLagIfNeeds(currentMillis);
+        for (SlaveDBReplicaState replica : replicaList) { // reprobe first, only one access per replica
+            if (replica.tryProbe(currentMillis)) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("...Reprobing the ejected replica: {}", replica);
+                }
+                return newSlaveDBReplicaRoute(replica, true);
+            }
+        }
+        final SlaveDBReplicaState selected;
+        if (option.getSelection() == ReplicaSelection.LEAST_OUTSTANDING) {
+            selected = selectLeastOutstanding();
+        } else {
+            selected = selectWeightedRoundRobin();
+        }
+        return selected != null ? newSlaveDBReplicaRoute(selected, false) : null;
+    }
+
+    protected SlaveDBReplicaRoute newSlaveDBReplicaRoute(SlaveDBReplicaState replica, boolean probe) {
+        return new SlaveDBReplicaRoute(replica, probe);
+    }
+
+    protected SlaveDBReplicaState selectWeightedRoundRobin() {
+        int totalWeight = 0;
+        for (SlaveDBReplicaState replica : replicaList) {
+            if (replica.isAvailable()) {
+                totalWeight += replica.getWeight();
+            }
+        }
+        if (totalWeight == 0) { // all ejected
+            return null;
+        }
+        long point = Math.floorMod(sequence.getAndIncrement(), (long) totalWeight);
+        for (SlaveDBReplicaState replica : replicaList) {
+            if (replica.isAvailable()) {
+                if (point < replica.getWeight()) {
+                    return replica;
+                }
+                point -= replica.getWeight();
+            }
+        }
+        return null; // ejected while selecting (rare), falls back to master once
+    }
+
+    protected SlaveDBReplicaState selectLeastOutstanding() {
+        final int size = replicaList.size();
+        final int start = (int) Math.floorMod(sequence.getAndIncrement(), (long) size); // not to concentrate on the first when ties
+        SlaveDBReplicaState selected = null;
+        long selectedScore = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            final SlaveDBReplicaState replica = replicaList.get((start + i) % size);
+            if (!replica.isAvailable()) {
+                continue;
+            }
+            // weighted, e.g. weight 2 can have twice outstanding accesses
+            final long score = ((long) replica.getOutstandingCount() + 1) * 1000L / replica.getWeight();
+            if (score < selectedScore) {
+                selected = replica;
+                selectedScore = score;
+            }
+        }
+        return selected; // null if all ejected
+    }
+
+    // ===================================================================================
+    //                                                                              Finish
+    //                                                                              ======
+    /**
+     * Finish the access to the replica. <br>
+     * The latency is from begin() to this finish, so it contains the whole callback of the access.
+     * @param route The route to replica returned by select(). (NotNull)
+     * @param beginNanos The nanoseconds returned by begin() of the replica.
+     * @param failure Is the access failed by replica? (e.g. SQL exception)
+     */
+    public void finish(SlaveDBReplicaRoute route, long beginNanos, boolean failure) {
+        final SlaveDBReplicaState replica = route.getReplica();
+        final boolean probing = route.isProbe(); // not shared state, other accesses may finish while reprobing
+        final int consecutiveFailures = replica.end(beginNanos, failure);
+        if (failure) {
+            if (probing || consecutiveFailures >= option.getEjectFailureCount()) {
+                eject(replica, "failures=" + consecutiveFailures);
+            }
+            return;
+        }
+        if (probing) {
+            replica.resetLatency(System.nanoTime() - beginNanos);
+            if (isOverLatency(replica)) {
+                eject(replica, "latency");
+            } else {
+                replica.restore();
+                logger.info("...Restoring the replica after reprobe: {}", replica);
+            }
+        } else if (isOverLatency(replica)) {
+            eject(replica, "latency");
+        }
+    }
+
+    protected boolean isOverLatency(SlaveDBReplicaState replica) {
+        final long ejectLatencyMillis = option.getEjectLatencyMillis();
+        return ejectLatencyMillis >= 0 && replica.getLatencyEwmaMillis() > ejectLatencyMillis;
+    }
+
+    protected void eject(SlaveDBReplicaState replica, String reason) {
+        replica.eject(currentTimeMillis() + option.getReprobeMillis(), reason);
+        logger.info("*Ejected the replica until reprobe: {} (reprobe after {}ms)", replica, option.getReprobeMillis());
+    }
+
+    // ===================================================================================
+    //                                                                           Lag Check
+    //                                                                           =========
+    protected void checkLagIfNeeds(long currentMillis) {
+        final ReplicaLagDeterminer determiner = option.getLagDeterminer();
+        if (determiner == null) {
+            return;
+        }
+        for (SlaveDBReplicaState replica : replicaList) {
+            if (replica.isAvailable() && replica.tryLagCheck(currentMillis, option.getLagCheckIntervalMillis())) {
+                if (determineLagging(determiner, replica)) {
+                    eject(replica, "lagging");
+                }
+            }
+        }
+    }
+
+    protected boolean determineLagging(ReplicaLagDeterminer determiner, SlaveDBReplicaState replica) {
+        try {
+            return determiner.isLagging(replica.getReplicaKey());
+        } catch (RuntimeException continued) { // not to stop accesses
+            logger.info("Failed to determine lag of the replica: " + replica.getReplicaKey(), continued);
+            return false;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Small Helper
+    //                                                                        ============
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "replicaRouter:{" + option.getSelection() + ", " + replicaList + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public SlaveDBReplicaOption getOption() {
+        return option;
+    }
+
+    public List<SlaveDBReplicaState> getReplicaList() { // read-only
+        return replicaList;
+    }
+}
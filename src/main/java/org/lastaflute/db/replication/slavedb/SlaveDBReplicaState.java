@@ -0,0 +1,207 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.replication.slavedb;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The live state of one replica (SlaveDB) for routing, e.g. outstanding accesses, latency, ejection.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SlaveDBReplicaState {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int LATENCY_EWMA_SHIFT = 3; // weight of new sample is 1/8
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String replicaKey; // not null e.g. slave1
+    protected final int weight; // positive
+    protected final AtomicInteger outstandingCount = new AtomicInteger();
+    protected final LongAdder accessCount = new LongAdder();
+    protected final LongAdder failureCount = new LongAdder();
+    protected final LongAdder ejectedCount = new LongAdder();
+    protected final AtomicInteger consecutiveFailureCount = new AtomicInteger();
+    protected final AtomicLong latencyEwmaMicros = new AtomicLong(-1L); // minus means no sample yet
+    protected volatile boolean ejected;
+    protected volatile long reprobeTimeMillis; // valid if ejected
+    protected volatile String ejectedReason; // null allowed, for display
+    protected final AtomicBoolean probing = new AtomicBoolean(); // only one access while reprobe
+    protected final AtomicLong nextLagCheckMillis = new AtomicLong();
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public SlaveDBReplicaState(String replicaKey, int weight) {
+        this.replicaKey = replicaKey;
+        this.weight = weight;
+    }
+
+    // ===================================================================================
+    //                                                                              Access
+    //                                                                              ======
+    /**
+     * @return The nanoseconds of beginning, to be passed to end(). (NotMinus)
+     */
+    public long begin() {
+        outstandingCount.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * @param beginNanos The nanoseconds of beginning returned by begin().
+     * @param failure Is the access failed by replica? (e.g. SQL exception)
+     * @return The count of consecutive failures after this access. (NotMinus)
+     */
+    public int end(long beginNanos, boolean failure) {
+        outstandingCount.decrementAndGet();
+        accessCount.increment();
+        recordLatency(System.nanoTime() - beginNanos);
+        if (failure) {
+            failureCount.increment();
+            return consecutiveFailureCount.incrementAndGet();
+        } else {
+            consecutiveFailureCount.set(0);
+            return 0;
+        }
+    }
+
+    protected void recordLatency(long nanos) {
+        final long micros = Math.max(0L, nanos / 1000L);
+        while (true) { // no lock
+            final long current = latencyEwmaMicros.get();
+            final long next = current < 0 ? micros : current + ((micros - current) >> LATENCY_EWMA_SHIFT);
+            if (latencyEwmaMicros.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                           Ejection
+    //                                                                           ========
+    public boolean isAvailable() {
+        return !ejected;
+    }
+
+    /**
+     * @param currentMillis The current time millis.
+     * @return true if this thread can reprobe the ejected replica (only one thread at the same time).
+     */
+    public boolean tryProbe(long currentMillis) {
+        return ejected && currentMillis >= reprobeTimeMillis && probing.compareAndSet(false, true);
+    }
+
+    public boolean isProbing() {
+        return probing.get();
+    }
+
+    public void eject(long reprobeTimeMillis, String reason) {
+        this.reprobeTimeMillis = reprobeTimeMillis;
+        this.ejectedReason = reason;
+        if (!ejected) {
+            ejectedCount.increment();
+        }
+        ejected = true;
+        probing.set(false);
+    }
+
+    public void restore() {
+        ejected = false;
+        ejectedReason = null;
+        consecutiveFailureCount.set(0);
+        probing.set(false);
+    }
+
+    public void resetLatency(long nanos) { // e.g. after reprobe, old latency is meaningless
+        latencyEwmaMicros.set(Math.max(0L, nanos / 1000L));
+    }
+
+    /**
+     * @param currentMillis The current time millis.
+     * @param intervalMillis The interval of lag check.
+     * @return true if this thread should check lag now (only one thread per interval).
+     */
+    public boolean tryLagCheck(long currentMillis, long intervalMillis) {
+        final long next = nextLagCheckMillis.get();
+        return currentMillis >= next && nextLagCheckMillis.compareAndSet(next, currentMillis + intervalMillis);
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(replicaKey).append("{weight=").append(weight).append(", outstanding=").append(getOutstandingCount());
+        sb.append(", access=").append(getAccessCount()).append(", failure=").append(getFailureCount());
+        sb.append(", latency=").append(String.format("%.1fms", getLatencyEwmaMillis()));
+        if (ejected) {
+            sb.append(", *ejected(").append(ejectedReason).append(")");
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public String getReplicaKey() {
+        return replicaKey;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getOutstandingCount() {
+        return outstandingCount.get();
+    }
+
+    public long getAccessCount() {
+        return accessCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getEjectedCount() {
+        return ejectedCount.sum();
+    }
+
+    /**
+     * @return The exponentially weighted moving average of latency in milliseconds. (NotMinus: zero if no sample)
+     */
+    public double getLatencyEwmaMillis() {
+        return Math.max(0L, latencyEwmaMicros.get()) / 1000.0;
+    }
+
+    public boolean isEjected() {
+        return ejected;
+    }
+
+    public String getEjectedReason() {
+        return ejectedReason;
+    }
+}
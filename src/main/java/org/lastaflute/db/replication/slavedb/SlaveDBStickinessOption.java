@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.replication.slavedb;
+
+/**
+ * The option of read-your-writes stickiness for master/slave routing. <br>
+ * After a write, SlaveDB accesses by the same user go to MasterDB within the lag window. <br>
+ * The write is marked at the write command by {@link SlaveDBWriteMarkingHook}, set by web request process.
+ * <pre>
+ * e.g. in your DB direction (session store is provided by web)
+ *  direction.directSlaveDBStickiness(new SlaveDBStickinessOption(5000L, new SessionSlaveDBStickinessStore()));
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SlaveDBStickinessOption {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final long lagWindowMillis; // positive, e.g. max replication lag
+    protected final SlaveDBStickinessStore store; // not null
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param lagWindowMillis The milliseconds of window after write, reads go to MasterDB in it. (Positive)
+     * @param store The store of latest write time e.g. session. (NotNull)
+     */
+    public SlaveDBStickinessOption(long lagWindowMillis, SlaveDBStickinessStore store) {
+        if (lagWindowMillis <= 0) {
+            throw new IllegalArgumentException("The argument 'lagWindowMillis' should be positive: " + lagWindowMillis);
+        }
+        if (store == null) {
+            throw new IllegalArgumentException("The argument 'store' should not be null.");
+        }
+        this.lagWindowMillis = lagWindowMillis;
+        this.store = store;
+    }
+
+    // ===================================================================================
+    //                                                                         Determinate
+    //                                                                         ===========
+    /**
+     * @param currentMillis The current time millis.
+     * @return The determination, true or false. If true, the latest write is in the lag window.
+     */
+    public boolean isInLagWindow(long currentMillis) {
+        return store.findLatestWriteMillis().map(writeMillis -> currentMillis - writeMillis <= lagWindowMillis).orElse(false);
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{lagWindowMillis=" + lagWindowMillis + ", store=" + store + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public long getLagWindowMillis() {
+        return lagWindowMillis;
+    }
+
+    public SlaveDBStickinessStore getStore() {
+        return store;
+    }
+}
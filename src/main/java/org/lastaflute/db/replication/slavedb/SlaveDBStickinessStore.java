@@ -0,0 +1,39 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.replication.slavedb;
+
+import org.dbflute.optional.OptionalThing;
+
+/**
+ * The store of latest write time for read-your-writes stickiness, e.g. session, cookie.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public interface SlaveDBStickinessStore {
+
+    /**
+     * Find the latest write time of the current user (or client).
+     * @return The optional time millis of latest write. (NotNull, EmptyAllowed: e.g. no write, no request)
+     */
+    OptionalThing<Long> findLatestWriteMillis();
+
+    /**
+     * Save the latest write time of the current user (or client). <br>
+     * It should do nothing if no user context e.g. batch.
+     * @param writeMillis The time millis of the write.
+     */
+    void saveLatestWriteMillis(long writeMillis);
+}
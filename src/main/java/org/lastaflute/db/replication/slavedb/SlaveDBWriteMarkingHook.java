@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.replication.slavedb;
+
+import org.dbflute.bhv.core.BehaviorCommandHook;
+import org.dbflute.bhv.core.BehaviorCommandMeta;
+import org.lastaflute.core.magic.ThreadCacheContext;
+
+/**
+ * The hook of behavior command to mark the write for read-your-writes stickiness of SlaveDB. <br>
+ * The latest write time is saved just after the write command, so before the response is committed.
+ * It does not depend on SQL counter (string filter) so it works even if the filter is replaced.
+ * <pre>
+ * e.g. set by framework (web) when the stickiness option exists
+ *  CallbackContext.setBehaviorCommandHookOnThread(new SlaveDBWriteMarkingHook(option));
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SlaveDBWriteMarkingHook implements BehaviorCommandHook {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final SlaveDBStickinessOption option; // not null
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public SlaveDBWriteMarkingHook(SlaveDBStickinessOption option) {
+        if (option == null) {
+            throw new IllegalArgumentException("The argument 'option' should not be null.");
+        }
+        this.option = option;
+    }
+
+    // ===================================================================================
+    //                                                                        Hook Command
+    //                                                                        ============
+    @Override
+    public void hookBefore(BehaviorCommandMeta meta) {
+    }
+
+    @Override
+    public void hookFinally(BehaviorCommandMeta meta, RuntimeException cause) {
+        if (cause == null && isWriteCommand(meta)) {
+            ThreadCacheContext.markDBWritten(); // for later SlaveDB accesses in the current process
+            option.getStore().saveLatestWriteMillis(currentTimeMillis()); // for next requests
+        }
+    }
+
+    protected boolean isWriteCommand(BehaviorCommandMeta meta) {
+        return !meta.isSelect(); // contains e.g. update, procedure, same as forced master
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public boolean inheritsExistingHook() {
+        return true; // not override existing hook e.g. lazy transaction
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "writeMarkingHook:{" + option + "}";
+    }
+}
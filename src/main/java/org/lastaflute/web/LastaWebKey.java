@@ -42,9 +42,11 @@ public interface LastaWebKey {
     String FIRST_SUBMITTED_KEY = "lastaflute.action.FIRST_SUBMITTED_MARK"; // Request
     String REQUEST_BODY_KEY = "lastaflute.action.REQUEST_BODY"; // Request
     String INOUT_LOGGING_KEY = "lastaflute.action.INOUT_LOGGING"; // Request
+    String PROCESS_HASH_KEY = "lastaflute.action.PROCESS_HASH"; // Request
 
     String DBFLUTE_SQL_COUNT_KEY = "lastaflute.dbflute.SQL_COUNT"; // Request
     String DBFLUTE_TRANSACTION_MEMORIES_KEY = "lastaflute.dbflute.TRANSACTION_MEMORIES"; // Request
+    String DBFLUTE_SLAVEDB_LATEST_WRITE_KEY = "lastaflute.dbflute.SLAVEDB_LATEST_WRITE"; // Session
     String MAILFLUTE_MAIL_COUNT_KEY = "lastaflute.mailflute.MAIL_COUNT"; // Request
     String REMOTEAPI_COUNT_KEY = "lastaflute.remoteapi.REMOTE_API_COUNT"; // Request
 }
@@ -22,6 +22,7 @@ import org.lastaflute.core.direction.FwAssistantDirector;
 import org.lastaflute.core.util.ContainerUtil;
 import org.lastaflute.di.core.ComponentDef;
 import org.lastaflute.di.core.customizer.ComponentCustomizer;
+import org.lastaflute.di.core.smart.SmartDeployMode;
 import org.lastaflute.web.Execute;
 import org.lastaflute.web.aspect.verifier.RomanticStructuredActionVerifier;
 import org.lastaflute.web.direction.FwWebDirection;
@@ -62,8 +63,16 @@ public class RomanticActionCustomizer implements ComponentCustomizer {
     //                                                                           =========
     @Override
     public void customize(ComponentDef componentDef) {
-        final ActionMapping actionMapping = createActionMapping(componentDef);
-        getModuleConfig().addActionMapping(actionMapping);
+        if (isParallelActionSetup()) { // set up later in parallel, see ModuleConfig.prepareReservedActionMapping()
+            getModuleConfig().reserveActionMapping(() -> createActionMapping(componentDef));
+        } else { // normally here
+            final ActionMapping actionMapping = createActionMapping(componentDef);
+            getModuleConfig().addActionMapping(actionMapping);
+        }
+    }
+
+    protected boolean isParallelActionSetup() { // only cool because others register actions lazily
+        return SmartDeployMode.isCool() && comeOnAdjustmentProvider().isParallelActionSetup();
     }
 
     // ===================================================================================
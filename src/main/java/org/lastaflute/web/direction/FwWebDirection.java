@@ -26,6 +26,7 @@ import javax.servlet.Filter;
 import org.lastaflute.core.direction.exception.FwRequiredAssistNotFoundException;
 import org.lastaflute.web.api.ApiFailureHook;
 import org.lastaflute.web.path.ActionAdjustmentProvider;
+import org.lastaflute.web.path.NoRoutingCacheOption;
 import org.lastaflute.web.ruts.multipart.MultipartResourceProvider;
 import org.lastaflute.web.ruts.renderer.HtmlRenderingProvider;
 import org.lastaflute.web.servlet.cookie.CookieResourceProvider;
@@ -63,6 +64,11 @@ public class FwWebDirection {
     //                                            ----------
     protected ActionAdjustmentProvider actionAdjustmentProvider;
 
+    // -----------------------------------------------------
+    //                                               Routing
+    //                                               -------
+    protected NoRoutingCacheOption noRoutingCacheOption;
+
     // -----------------------------------------------------
     //                                               Message
     //                                               -------
@@ -138,6 +144,14 @@ public class FwWebDirection {
         this.actionAdjustmentProvider = actionAdjustmentProvider;
     }
 
+    // -----------------------------------------------------
+    //                                               Routing
+    //                                               -------
+    public void directNoRoutingCache(NoRoutingCacheOption noRoutingCacheOption) {
+        assertArgumentNotNull("noRoutingCacheOption", noRoutingCacheOption);
+        this.noRoutingCacheOption = noRoutingCacheOption;
+    }
+
     // -----------------------------------------------------
     //                                               Message
     //                                               -------
@@ -276,6 +290,13 @@ public class FwWebDirection {
         return actionAdjustmentProvider;
     }
 
+    // -----------------------------------------------------
+    //                                               Routing
+    //                                               -------
+    public NoRoutingCacheOption assistNoRoutingCacheOption() {
+        return noRoutingCacheOption; // not required, it's optional assist
+    }
+
     // -----------------------------------------------------
     //                                               Message
     //                                               -------
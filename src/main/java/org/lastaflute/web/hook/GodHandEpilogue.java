@@ -18,6 +18,7 @@ package org.lastaflute.web.hook;
 import org.dbflute.bhv.proposal.callback.ExecutedSqlCounter;
 import org.dbflute.hook.CallbackContext;
 import org.dbflute.hook.SqlStringFilter;
+import org.lastaflute.core.direction.FwAssistantDirector;
 import org.lastaflute.core.magic.ThreadCacheContext;
 import org.lastaflute.core.mail.PostedMailCounter;
 import org.lastaflute.core.mail.RequestedMailCount;
@@ -26,6 +27,7 @@ import org.lastaflute.core.remoteapi.RequestedRemoteApiCount;
 import org.lastaflute.db.dbflute.accesscontext.PreparedAccessContext;
 import org.lastaflute.db.dbflute.callbackcontext.traceablesql.RequestedSqlCount;
 import org.lastaflute.web.LastaWebKey;
+import org.lastaflute.web.hook.metrics.RequestedCountMetrics;
 import org.lastaflute.web.ruts.process.ActionRuntime;
 import org.lastaflute.web.servlet.request.RequestManager;
 import org.lastaflute.web.servlet.request.ResponseManager;
@@ -45,6 +47,7 @@ public class GodHandEpilogue {
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
+    protected final FwAssistantDirector assistantDirector;
     protected final RequestManager requestManager;
     protected final ResponseManager responseManager;
     protected final TooManySqlOption tooManySqlOption;
@@ -53,6 +56,7 @@ public class GodHandEpilogue {
     //                                                                         Constructor
     //                                                                         ===========
     public GodHandEpilogue(GodHandResource resource, TooManySqlOption tooManySqlOption) {
+        this.assistantDirector = resource.getAssistantDirector();
         this.requestManager = resource.getRequestManager();
         this.responseManager = resource.getResponseManager();
         this.tooManySqlOption = tooManySqlOption;
@@ -68,6 +72,7 @@ public class GodHandEpilogue {
         handleSqlCount(runtime);
         handleMailCount(runtime);
         handleRemoteApiCount(runtime);
+        foldRequestedCountIfNeeds(runtime);
         clearCallbackContext();
         clearPreparedAccessContext();
     }
@@ -187,6 +192,30 @@ public class GodHandEpilogue {
         return new RequestedRemoteApiCount(counter); // as snapshot
     }
 
+    // ===================================================================================
+    //                                                                       Count Metrics
+    //                                                                       =============
+    /**
+     * Fold the requested counts (saved as snapshot here) into process-wide metrics per action.
+     * @param runtime The runtime meta of action execute. (NotNull)
+     */
+    protected void foldRequestedCountIfNeeds(ActionRuntime runtime) {
+        if (!requestManager.getActionAdjustmentProvider().isUseRequestedCountMetrics()) {
+            return;
+        }
+        final RequestedSqlCount sqlCount =
+                requestManager.getAttribute(LastaWebKey.DBFLUTE_SQL_COUNT_KEY, RequestedSqlCount.class).orElse(null);
+        final RequestedMailCount mailCount =
+                requestManager.getAttribute(LastaWebKey.MAILFLUTE_MAIL_COUNT_KEY, RequestedMailCount.class).orElse(null);
+        final RequestedRemoteApiCount remoteApiCount =
+                requestManager.getAttribute(LastaWebKey.REMOTEAPI_COUNT_KEY, RequestedRemoteApiCount.class).orElse(null);
+        RequestedCountMetrics.getStatistics().fold(buildCountMetricsKey(runtime), sqlCount, mailCount, remoteApiCount);
+    }
+
+    protected String buildCountMetricsKey(ActionRuntime runtime) { // same as phase timing
+        return runtime.getActionType().getSimpleName() + "@" + runtime.getExecuteMethod().getName();
+    }
+
     // ===================================================================================
     //                                                                    Callback Context
     //                                                                    ================
@@ -195,10 +224,18 @@ public class GodHandEpilogue {
      * This is called by callback process so you should NOT call this directly in your action.
      */
     protected void clearCallbackContext() {
+        clearSlaveDBWriteMarkingIfNeeds();
         CallbackContext.clearSqlStringFilterOnThread();
         CallbackContext.clearSqlFireHookOnThread();
     }
 
+    protected void clearSlaveDBWriteMarkingIfNeeds() { // same condition as prologue's arrangement
+        if (assistantDirector.assistDbDirection().assistSlaveDBStickinessOption() != null) {
+            // latest only (the marking hook set by prologue), other hooks e.g. application's are kept
+            CallbackContext.terminateLastBehaviorCommandHookOnThread();
+        }
+    }
+
     // ===================================================================================
     //                                                                      Access Context
     //                                                                      ==============
@@ -28,6 +28,7 @@ import org.dbflute.hook.SqlResultHandler;
 import org.dbflute.hook.SqlStringFilter;
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.DfTypeUtil;
+import org.lastaflute.core.direction.FwAssistantDirector;
 import org.lastaflute.core.magic.ThreadCacheContext;
 import org.lastaflute.core.message.MessageManager;
 import org.lastaflute.db.dbflute.accesscontext.AccessContextArranger;
@@ -36,6 +37,8 @@ import org.lastaflute.db.dbflute.accesscontext.PreparedAccessContext;
 import org.lastaflute.db.dbflute.callbackcontext.traceablesql.RomanticTraceableSqlFireHook;
 import org.lastaflute.db.dbflute.callbackcontext.traceablesql.RomanticTraceableSqlResultHandler;
 import org.lastaflute.db.dbflute.callbackcontext.traceablesql.RomanticTraceableSqlStringFilter;
+import org.lastaflute.db.replication.slavedb.SlaveDBStickinessOption;
+import org.lastaflute.db.replication.slavedb.SlaveDBWriteMarkingHook;
 import org.lastaflute.web.api.ApiManager;
 import org.lastaflute.web.login.LoginHandlingResource;
 import org.lastaflute.web.login.LoginManager;
@@ -54,6 +57,7 @@ public class GodHandPrologue {
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
+    protected final FwAssistantDirector assistantDirector;
     protected final MessageManager messageManager;
     protected final RequestManager requestManager;
     protected final SessionManager sessionManager;
@@ -69,6 +73,7 @@ public class GodHandPrologue {
     //                                                                         ===========
     public GodHandPrologue(GodHandResource resource, EmbeddedMessageKeySupplier keySupplier, AccessContextArranger accessContextArranger,
             Supplier<OptionalThing<? extends UserBean<?>>> userBeanSupplier, Supplier<String> appTypeSupplier) {
+        this.assistantDirector = resource.getAssistantDirector();
         this.messageManager = resource.getMessageManager();
         this.requestManager = resource.getRequestManager();
         this.sessionManager = resource.getSessionManager();
@@ -150,6 +155,7 @@ public class GodHandPrologue {
         CallbackContext.setSqlFireHookOnThread(createSqlFireHook(runtime));
         CallbackContext.setSqlStringFilterOnThread(createSqlStringFilter(runtime));
         CallbackContext.setSqlResultHandlerOnThread(createSqlResultHandler());
+        arrangeSlaveDBWriteMarkingIfNeeds(runtime);
     }
 
     /**
@@ -198,6 +204,22 @@ public class GodHandPrologue {
         return new RomanticTraceableSqlResultHandler();
     }
 
+    /**
+     * Arrange the hook to mark the write for read-your-writes stickiness of SlaveDB if the option exists. <br>
+     * The write is saved to the store at the write command, before the response is committed.
+     * @param runtime The runtime meta of action execute. (NotNull)
+     */
+    protected void arrangeSlaveDBWriteMarkingIfNeeds(ActionRuntime runtime) {
+        final SlaveDBStickinessOption option = assistantDirector.assistDbDirection().assistSlaveDBStickinessOption();
+        if (option != null) {
+            CallbackContext.setBehaviorCommandHookOnThread(newSlaveDBWriteMarkingHook(option));
+        }
+    }
+
+    protected SlaveDBWriteMarkingHook newSlaveDBWriteMarkingHook(SlaveDBStickinessOption option) {
+        return new SlaveDBWriteMarkingHook(option);
+    }
+
     /**
      * Clear callback context. <br>
      * This is called by callback process so you should NOT call this directly in your action.
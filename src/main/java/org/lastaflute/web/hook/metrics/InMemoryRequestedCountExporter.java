@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.hook.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.dbflute.optional.OptionalThing;
+
+/**
+ * The exporter keeping the latest snapshots in memory, e.g. for unit test or simple monitoring action.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class InMemoryRequestedCountExporter implements RequestedCountExporter {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Map<String, RequestedCountSnapshot> snapshotMap = new ConcurrentHashMap<String, RequestedCountSnapshot>();
+    protected final AtomicInteger exportCount = new AtomicInteger();
+
+    // ===================================================================================
+    //                                                                              Export
+    //                                                                              ======
+    @Override
+    public void export(List<RequestedCountSnapshot> snapshotList) {
+        for (RequestedCountSnapshot snapshot : snapshotList) {
+            snapshotMap.put(snapshot.getActionKey(), snapshot);
+        }
+        exportCount.incrementAndGet();
+    }
+
+    // ===================================================================================
+    //                                                                               Query
+    //                                                                               =====
+    /**
+     * @param actionKey The key of action execute e.g. SeaAction@index. (NotNull)
+     * @return The optional snapshot of the action. (NotNull, EmptyAllowed: when not exported yet)
+     */
+    public OptionalThing<RequestedCountSnapshot> findSnapshot(String actionKey) {
+        return OptionalThing.ofNullable(snapshotMap.get(actionKey), () -> {
+            throw new IllegalStateException("Not found the exported snapshot: " + actionKey + " in " + snapshotMap.keySet());
+        });
+    }
+
+    /**
+     * @return The read-only list of latest snapshots. (NotNull, EmptyAllowed)
+     */
+    public List<RequestedCountSnapshot> getSnapshotList() {
+        return Collections.unmodifiableList(new ArrayList<RequestedCountSnapshot>(snapshotMap.values()));
+    }
+
+    public int getExportCount() {
+        return exportCount.get();
+    }
+
+    public void clear() {
+        snapshotMap.clear();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.hook.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.lastaflute.core.mail.RequestedMailCount;
+import org.lastaflute.core.remoteapi.RequestedRemoteApiCount;
+import org.lastaflute.db.dbflute.callbackcontext.traceablesql.RequestedSqlCount;
+
+/**
+ * The aggregate of requested counts (SQL, mail, remote API) for one action execute. <br>
+ * Requests without the counter (e.g. no SQL executed) are recorded as zero count.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class RequestedCountAggregate {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String actionKey; // not null e.g. SeaAction@index
+    protected final LongAdder requestCount = new LongAdder();
+
+    // -----------------------------------------------------
+    //                                                   SQL
+    //                                                   ---
+    protected final RequestedCountDistribution sqlDistribution = new RequestedCountDistribution();
+    protected final LongAdder selectCBCount = new LongAdder();
+    protected final LongAdder entityUpdateCount = new LongAdder();
+    protected final LongAdder queryUpdateCount = new LongAdder();
+    protected final LongAdder outsideSqlCount = new LongAdder();
+    protected final LongAdder procedureCount = new LongAdder();
+
+    // -----------------------------------------------------
+    //                                                  Mail
+    //                                                  ----
+    protected final RequestedCountDistribution mailDistribution = new RequestedCountDistribution();
+
+    // -----------------------------------------------------
+    //                                            Remote API
+    //                                            ----------
+    protected final RequestedCountDistribution remoteApiDistribution = new RequestedCountDistribution();
+    protected final Map<String, LongAdder> facadeCountMap = new ConcurrentHashMap<String, LongAdder>();
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public RequestedCountAggregate(String actionKey) {
+        this.actionKey = actionKey;
+    }
+
+    // ===================================================================================
+    //                                                                                Fold
+    //                                                                                ====
+    /**
+     * @param sqlCount The snapshot of SQL count in the request. (NullAllowed: if null, no SQL)
+     * @param mailCount The snapshot of mail count in the request. (NullAllowed: if null, no mail)
+     * @param remoteApiCount The snapshot of remote API count in the request. (NullAllowed: if null, no calling)
+     */
+    public void fold(RequestedSqlCount sqlCount, RequestedMailCount mailCount, RequestedRemoteApiCount remoteApiCount) {
+        requestCount.increment();
+        foldSqlCount(sqlCount);
+        foldMailCount(mailCount);
+        foldRemoteApiCount(remoteApiCount);
+    }
+
+    protected void foldSqlCount(RequestedSqlCount sqlCount) {
+        if (sqlCount == null) {
+            sqlDistribution.record(0);
+            return;
+        }
+        sqlDistribution.record(sqlCount.getTotalCountOfSql());
+        selectCBCount.add(sqlCount.getCountOfSelectCB());
+        entityUpdateCount.add(sqlCount.getCountOfEntityUpdate());
+        queryUpdateCount.add(sqlCount.getCountOfQueryUpdate());
+        outsideSqlCount.add(sqlCount.getCountOfOutsideSql());
+        procedureCount.add(sqlCount.getCountOfProcedure());
+    }
+
+    protected void foldMailCount(RequestedMailCount mailCount) {
+        mailDistribution.record(mailCount != null ? mailCount.getCountOfPosting() : 0);
+    }
+
+    protected void foldRemoteApiCount(RequestedRemoteApiCount remoteApiCount) {
+        if (remoteApiCount == null) {
+            remoteApiDistribution.record(0);
+            return;
+        }
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : remoteApiCount.getFacadeCountMap().entrySet()) {
+            final int count = entry.getValue();
+            LongAdder adder = facadeCountMap.get(entry.getKey()); // no lock if exists
+            if (adder == null) {
+                adder = facadeCountMap.computeIfAbsent(entry.getKey(), key -> new LongAdder());
+            }
+            adder.add(count);
+            total += count;
+        }
+        remoteApiDistribution.record(total);
+    }
+
+    // ===================================================================================
+    //                                                                            Snapshot
+    //                                                                            ========
+    /**
+     * @return The immutable snapshot of current counts, for exporters. (NotNull)
+     */
+    public RequestedCountSnapshot toSnapshot() {
+        final Map<String, Long> facadeSnapshotMap = new TreeMap<String, Long>();
+        facadeCountMap.forEach((facadeName, adder) -> facadeSnapshotMap.put(facadeName, adder.sum()));
+        return new RequestedCountSnapshot(actionKey, getRequestCount(), sqlDistribution, selectCBCount.sum(), entityUpdateCount.sum(),
+                queryUpdateCount.sum(), outsideSqlCount.sum(), procedureCount.sum(), mailDistribution, remoteApiDistribution,
+                Collections.unmodifiableMap(facadeSnapshotMap));
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "countAggregate:{" + actionKey + ", requests=" + getRequestCount() + ", sql=" + sqlDistribution + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public String getActionKey() {
+        return actionKey;
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public RequestedCountDistribution getSqlDistribution() {
+        return sqlDistribution;
+    }
+
+    public RequestedCountDistribution getMailDistribution() {
+        return mailDistribution;
+    }
+
+    public RequestedCountDistribution getRemoteApiDistribution() {
+        return remoteApiDistribution;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.hook.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The distribution of count per request (e.g. SQL count), by fixed buckets of small counts. <br>
+ * Buckets are striped counters (LongAdder) so that hot actions don't contend on one field.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class RequestedCountDistribution {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    /** The upper bounds (inclusive) of buckets, the last bucket is for over the max bound. */
+    protected static final int[] BUCKET_BOUNDS = { 0, 1, 2, 3, 4, 5, 6, 8, 10, 15, 20, 30, 50, 75, 100, 150, 200, 300, 500, 1000 };
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final LongAdder[] buckets; // not null, length is bounds + 1
+    protected final LongAdder count = new LongAdder();
+    protected final LongAdder sum = new LongAdder();
+    protected final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public RequestedCountDistribution() {
+        buckets = new LongAdder[BUCKET_BOUNDS.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    // ===================================================================================
+    //                                                                              Record
+    //                                                                              ======
+    /**
+     * @param value The count in one request. (NotMinus)
+     */
+    public void record(int value) {
+        if (value < 0) {
+            return; // no way, just in case
+        }
+        buckets[findBucketIndex(value)].increment();
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    protected int findBucketIndex(int value) {
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) { // small array so linear
+            if (value <= BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS.length; // over
+    }
+
+    // ===================================================================================
+    //                                                                               Query
+    //                                                                               =====
+    /**
+     * @param percentile The percentile e.g. 99.0 (0.0 - 100.0)
+     * @return The upper bound of the bucket containing the percentile, or max if over. (NotMinus: zero if no record)
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("The argument 'percentile' should be 0.0 - 100.0: " + percentile);
+        }
+        final long total = getCount();
+        if (total == 0) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(total * percentile / 100.0));
+        final long maxValue = getMax();
+        long passed = 0;
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            passed += buckets[i].sum();
+            if (passed >= rank) {
+                return Math.min(BUCKET_BOUNDS[i], maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    public double getAverage() {
+        final long total = getCount();
+        return total > 0 ? (double) getSum() / total : 0.0;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{count=" + getCount() + ", avg=" + String.format("%.1f", getAverage()) + ", p50=" + getPercentile(50.0) + ", p90="
+                + getPercentile(90.0) + ", p99=" + getPercentile(99.0) + ", max=" + getMax() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.hook.metrics;
+
+import java.util.List;
+
+/**
+ * The exporter of requested counts, e.g. to your monitoring system for alerting N+1 regressions per action.
+ * <pre>
+ * e.g. by your scheduled job or monitoring action
+ *  RequestedCountMetrics.getStatistics().export(snapshotList -&gt; {
+ *      snapshotList.forEach(snapshot -&gt; gauge(snapshot.getActionKey(), snapshot.getSqlP99()));
+ *  });
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+@FunctionalInterface
+public interface RequestedCountExporter {
+
+    /**
+     * @param snapshotList The list of snapshots sorted by action key, one per action. (NotNull, EmptyAllowed)
+     */
+    void export(List<RequestedCountSnapshot> snapshotList);
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.hook.metrics;
+
+/**
+ * The process-wide metrics of requested counts, folded from per-request counters when action is finished. <br>
+ * It is enabled by ActionAdjustmentProvider.isUseRequestedCountMetrics().
+ * <pre>
+ * e.g. alert N+1 query regressions per action
+ *  RequestedCountMetrics.getStatistics().export(yourExporter);
+ *  (in-memory exporter is also available for unit test)
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class RequestedCountMetrics {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final RequestedCountStatistics statistics = new RequestedCountStatistics();
+
+    // ===================================================================================
+    //                                                                          Statistics
+    //                                                                          ==========
+    /**
+     * @return The process-wide statistics of requested counts. (NotNull)
+     */
+    public static RequestedCountStatistics getStatistics() {
+        return statistics;
+    }
+}
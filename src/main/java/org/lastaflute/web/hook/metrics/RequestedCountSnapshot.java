@@ -0,0 +1,185 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.hook.metrics;
+
+import java.util.Map;
+
+/**
+ * The immutable snapshot of requested counts for one action execute, passed to exporters.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class RequestedCountSnapshot {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String actionKey; // not null e.g. SeaAction@index
+    protected final long requestCount;
+
+    // -----------------------------------------------------
+    //                                                   SQL
+    //                                                   ---
+    protected final long sqlTotalCount;
+    protected final double sqlAverage;
+    protected final long sqlP50;
+    protected final long sqlP90;
+    protected final long sqlP99;
+    protected final long sqlMax;
+    protected final long selectCBCount;
+    protected final long entityUpdateCount;
+    protected final long queryUpdateCount;
+    protected final long outsideSqlCount;
+    protected final long procedureCount;
+
+    // -----------------------------------------------------
+    //                                          Mail, Remote
+    //                                          ------------
+    protected final long mailPostingCount;
+    protected final long mailMax;
+    protected final long remoteApiTotalCount;
+    protected final long remoteApiP99;
+    protected final long remoteApiMax;
+    protected final Map<String, Long> facadeCountMap; // not null, read-only
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public RequestedCountSnapshot(String actionKey, long requestCount, RequestedCountDistribution sqlDistribution, long selectCBCount,
+            long entityUpdateCount, long queryUpdateCount, long outsideSqlCount, long procedureCount,
+            RequestedCountDistribution mailDistribution, RequestedCountDistribution remoteApiDistribution,
+            Map<String, Long> facadeCountMap) {
+        this.actionKey = actionKey;
+        this.requestCount = requestCount;
+        this.sqlTotalCount = sqlDistribution.getSum();
+        this.sqlAverage = sqlDistribution.getAverage();
+        this.sqlP50 = sqlDistribution.getPercentile(50.0);
+        this.sqlP90 = sqlDistribution.getPercentile(90.0);
+        this.sqlP99 = sqlDistribution.getPercentile(99.0);
+        this.sqlMax = sqlDistribution.getMax();
+        this.selectCBCount = selectCBCount;
+        this.entityUpdateCount = entityUpdateCount;
+        this.queryUpdateCount = queryUpdateCount;
+        this.outsideSqlCount = outsideSqlCount;
+        this.procedureCount = procedureCount;
+        this.mailPostingCount = mailDistribution.getSum();
+        this.mailMax = mailDistribution.getMax();
+        this.remoteApiTotalCount = remoteApiDistribution.getSum();
+        this.remoteApiP99 = remoteApiDistribution.getPercentile(99.0);
+        this.remoteApiMax = remoteApiDistribution.getMax();
+        this.facadeCountMap = facadeCountMap;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(actionKey).append(" {requests=").append(requestCount);
+        sb.append(", sql={total=").append(sqlTotalCount).append(", avg=").append(String.format("%.1f", sqlAverage));
+        sb.append(", p50=").append(sqlP50).append(", p90=").append(sqlP90).append(", p99=").append(sqlP99);
+        sb.append(", max=").append(sqlMax).append("}");
+        if (mailPostingCount > 0) {
+            sb.append(", mail={total=").append(mailPostingCount).append(", max=").append(mailMax).append("}");
+        }
+        if (remoteApiTotalCount > 0) {
+            sb.append(", remoteApi={total=").append(remoteApiTotalCount).append(", p99=").append(remoteApiP99);
+            sb.append(", max=").append(remoteApiMax).append(", facade=").append(facadeCountMap).append("}");
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public String getActionKey() {
+        return actionKey;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getSqlTotalCount() {
+        return sqlTotalCount;
+    }
+
+    public double getSqlAverage() {
+        return sqlAverage;
+    }
+
+    public long getSqlP50() {
+        return sqlP50;
+    }
+
+    public long getSqlP90() {
+        return sqlP90;
+    }
+
+    public long getSqlP99() {
+        return sqlP99;
+    }
+
+    public long getSqlMax() {
+        return sqlMax;
+    }
+
+    public long getSelectCBCount() {
+        return selectCBCount;
+    }
+
+    public long getEntityUpdateCount() {
+        return entityUpdateCount;
+    }
+
+    public long getQueryUpdateCount() {
+        return queryUpdateCount;
+    }
+
+    public long getOutsideSqlCount() {
+        return outsideSqlCount;
+    }
+
+    public long getProcedureCount() {
+        return procedureCount;
+    }
+
+    public long getMailPostingCount() {
+        return mailPostingCount;
+    }
+
+    public long getMailMax() {
+        return mailMax;
+    }
+
+    public long getRemoteApiTotalCount() {
+        return remoteApiTotalCount;
+    }
+
+    public long getRemoteApiP99() {
+        return remoteApiP99;
+    }
+
+    public long getRemoteApiMax() {
+        return remoteApiMax;
+    }
+
+    public Map<String, Long> getFacadeCountMap() { // read-only
+        return facadeCountMap;
+    }
+}
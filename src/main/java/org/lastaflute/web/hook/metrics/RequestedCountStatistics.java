@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.hook.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.lastaflute.core.mail.RequestedMailCount;
+import org.lastaflute.core.remoteapi.RequestedRemoteApiCount;
+import org.lastaflute.db.dbflute.callbackcontext.traceablesql.RequestedSqlCount;
+
+/**
+ * The statistics of requested counts (SQL, mail, remote API), aggregates per action execute.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class RequestedCountStatistics {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Map<String, RequestedCountAggregate> aggregateMap = new ConcurrentHashMap<String, RequestedCountAggregate>();
+
+    // ===================================================================================
+    //                                                                                Fold
+    //                                                                                ====
+    /**
+     * @param actionKey The key of action execute e.g. SeaAction@index. (NotNull)
+     * @param sqlCount The snapshot of SQL count in the request. (NullAllowed: if null, no SQL)
+     * @param mailCount The snapshot of mail count in the request. (NullAllowed: if null, no mail)
+     * @param remoteApiCount The snapshot of remote API count in the request. (NullAllowed: if null, no calling)
+     */
+    public void fold(String actionKey, RequestedSqlCount sqlCount, RequestedMailCount mailCount, RequestedRemoteApiCount remoteApiCount) {
+        RequestedCountAggregate aggregate = aggregateMap.get(actionKey); // no lock if exists
+        if (aggregate == null) {
+            aggregate = aggregateMap.computeIfAbsent(actionKey, key -> newRequestedCountAggregate(key));
+        }
+        aggregate.fold(sqlCount, mailCount, remoteApiCount);
+    }
+
+    protected RequestedCountAggregate newRequestedCountAggregate(String actionKey) {
+        return new RequestedCountAggregate(actionKey);
+    }
+
+    // ===================================================================================
+    //                                                                              Export
+    //                                                                              ======
+    /**
+     * Export snapshots of all aggregates to the exporter, counts are not reset.
+     * @param exporter The exporter of requested counts. (NotNull)
+     */
+    public void export(RequestedCountExporter exporter) {
+        if (exporter == null) {
+            throw new IllegalArgumentException("The argument 'exporter' should not be null.");
+        }
+        final List<RequestedCountSnapshot> snapshotList = new ArrayList<RequestedCountSnapshot>(aggregateMap.size());
+        getAggregateMap().forEach((actionKey, aggregate) -> snapshotList.add(aggregate.toSnapshot()));
+        exporter.export(Collections.unmodifiableList(snapshotList));
+    }
+
+    // ===================================================================================
+    //                                                                               Query
+    //                                                                               =====
+    /**
+     * @param actionKey The key of action execute e.g. SeaAction@index. (NotNull)
+     * @return The aggregate of the action, null if no request yet. (NullAllowed)
+     */
+    public RequestedCountAggregate findAggregate(String actionKey) {
+        return aggregateMap.get(actionKey);
+    }
+
+    /**
+     * @return The read-only map of aggregates sorted by action key. (NotNull)
+     */
+    public Map<String, RequestedCountAggregate> getAggregateMap() {
+        return Collections.unmodifiableMap(new TreeMap<String, RequestedCountAggregate>(aggregateMap));
+    }
+
+    public void clear() {
+        aggregateMap.clear();
+    }
+}
@@ -33,6 +33,19 @@ import org.lastaflute.web.validation.VaConfigSetupper;
  */
 public interface ActionAdjustmentProvider {
 
+    // ===================================================================================
+    //                                                                        Action Setup
+    //                                                                        ============
+    /**
+     * Does it set up action executes in parallel at boot? (only when cool deploy) <br>
+     * Action components are registered at container initialization as usual,
+     * and then their execute analysis and checks are processed by fork-join pool.
+     * @return The determination, true or false. If false, set up one by one when registered.
+     */
+    default boolean isParallelActionSetup() {
+        return false;
+    }
+
     // ===================================================================================
     //                                                                             Routing
     //                                                                             =======
@@ -69,6 +82,19 @@ public interface ActionAdjustmentProvider {
         return false;
     }
 
+    // -----------------------------------------------------
+    //                                         Routing Index
+    //                                         -------------
+    /**
+     * Does it suppress the routing index of action path? <br>
+     * The index is built from registered action mappings at first routing (only when cool deploy)
+     * and resolves actions without action name candidates and container search per request.
+     * @return The determination, true or false. If true, searches actions by container per request.
+     */
+    default boolean isSuppressRoutingIndex() {
+        return false;
+    }
+
     // -----------------------------------------------------
     //                                           URL Mapping
     //                                           -----------
@@ -246,6 +272,30 @@ public interface ActionAdjustmentProvider {
         return null;
     }
 
+    // ===================================================================================
+    //                                                                        Phase Timing
+    //                                                                        ============
+    /**
+     * Does it use phase timing of action? (e.g. routing, form populate, action method, JSON serialize) <br>
+     * The spans are aggregated per action, see ActionPhaseTimer.getStatistics().
+     * @return The determination, true or false. If false, no timing.
+     */
+    default boolean isUseActionPhaseTiming() {
+        return false;
+    }
+
+    // ===================================================================================
+    //                                                                       Count Metrics
+    //                                                                       =============
+    /**
+     * Does it use metrics of requested counts? (e.g. SQL count per action for N+1 alert) <br>
+     * The counts are folded per action when finished, see RequestedCountMetrics.getStatistics().
+     * @return The determination, true or false. If false, no folding.
+     */
+    default boolean isUseRequestedCountMetrics() {
+        return false;
+    }
+
     // ===================================================================================
     //                                                                       Error Logging
     //                                                                       =============
@@ -28,14 +28,19 @@ import org.dbflute.util.DfStringUtil;
 import org.dbflute.util.Srl;
 import org.lastaflute.core.direction.FwAssistantDirector;
 import org.lastaflute.di.core.LaContainer;
+import org.lastaflute.di.core.smart.SmartDeployMode;
 import org.lastaflute.di.naming.NamingConvention;
 import org.lastaflute.di.util.LdiSrl;
 import org.lastaflute.di.util.LdiStringUtil;
 import org.lastaflute.web.UrlChain;
 import org.lastaflute.web.direction.FwWebDirection;
 import org.lastaflute.web.exception.ActionClassPackageMismatchException;
+import org.lastaflute.web.path.ActionPathRoutingIndex.RoutingNode;
 import org.lastaflute.web.ruts.config.ActionExecute;
+import org.lastaflute.web.ruts.config.ActionMapping;
+import org.lastaflute.web.ruts.config.ModuleConfig;
 import org.lastaflute.web.util.LaActionExecuteUtil;
+import org.lastaflute.web.util.LaModuleConfigUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -72,6 +77,9 @@ public class ActionPathResolver {
     /** The provider of action adjustment. (NotNull: after initialization) */
     protected ActionAdjustmentProvider actionAdjustmentProvider;
 
+    /** The cache of no-routing paths. (NullAllowed: when no option) */
+    protected NoRoutingCache noRoutingCache;
+
     // ===================================================================================
     //                                                                          Initialize
     //                                                                          ==========
@@ -83,6 +91,8 @@ public class ActionPathResolver {
     public synchronized void initialize() {
         final FwWebDirection direction = assistOptionalActionDirection();
         actionAdjustmentProvider = direction.assistActionAdjustmentProvider();
+        final NoRoutingCacheOption noRoutingCacheOption = direction.assistNoRoutingCacheOption();
+        noRoutingCache = noRoutingCacheOption != null ? newNoRoutingCache(noRoutingCacheOption) : null;
         showBootLogging();
     }
 
@@ -90,10 +100,17 @@ public class ActionPathResolver {
         return assistantDirector.assistWebDirection();
     }
 
+    protected NoRoutingCache newNoRoutingCache(NoRoutingCacheOption noRoutingCacheOption) {
+        return new NoRoutingCache(noRoutingCacheOption);
+    }
+
     protected void showBootLogging() {
         if (logger.isInfoEnabled()) {
             logger.info("[Action Resolver]");
             logger.info(" actionAdjustmentProvider: " + actionAdjustmentProvider);
+            if (noRoutingCache != null) {
+                logger.info(" noRoutingCache: " + noRoutingCache.getOption());
+            }
         }
     }
 
@@ -111,7 +128,15 @@ public class ActionPathResolver {
         assertArgumentNotNull("requestPath", requestPath);
         assertArgumentNotNull("handler", handler);
         final MappingPathResource pathResource = customizeActionMapping(requestPath);
+        final String noRoutingKey = noRoutingCache != null ? noRoutingCache.buildMappingKey(pathResource) : null;
+        if (noRoutingKey != null && noRoutingCache.isNoRouting(noRoutingKey)) { // e.g. scanner's path
+            return new MappingResolutionResult(pathResource, false).asCachedNoRouting();
+        }
         final boolean pathHandled = mappingActionPath(pathResource, handler);
+        if (noRoutingKey != null && !pathHandled && !pathResource.isActionFound()) {
+            // only when no action candidate having possible execute because execute may be found by e.g. HTTP method
+            noRoutingCache.registerNoRouting(noRoutingKey);
+        }
         return new MappingResolutionResult(pathResource, pathHandled);
     }
 
@@ -157,6 +182,101 @@ public class ActionPathResolver {
     //                                 ActionMapping Process
     //                                 ---------------------
     protected boolean mappingActionPath(MappingPathResource pathResource, ActionFoundPathHandler handler) throws Exception {
+        final ActionPathRoutingIndex routingIndex = findRoutingIndex(pathResource); // null allowed e.g. hot deploy
+        if (routingIndex != null) {
+            return mappingActionPathByIndex(pathResource, handler, routingIndex);
+        } else {
+            return mappingActionPathByContainer(pathResource, handler);
+        }
+    }
+
+    // -----------------------------------------------------
+    //                                         Routing Index
+    //                                         -------------
+    protected ActionPathRoutingIndex findRoutingIndex(MappingPathResource pathResource) { // null allowed
+        if (!isRoutingIndexAvailable()) {
+            return null;
+        }
+        final String actionNameSuffix = pathResource.getActionNameSuffix().orElse(""); // option so basically empty
+        final ActionPathRoutingIndex routingIndex = getModuleConfig().prepareRoutingIndex(actionNameSuffix, mappingList -> {
+            return createRoutingIndex(actionNameSuffix, mappingList);
+        });
+        return routingIndex.isAvailable() ? routingIndex : null;
+    }
+
+    protected boolean isRoutingIndexAvailable() {
+        // hot and warm deploy register action mappings lazily (by container search)
+        // so the index can be used only when all actions are registered at boot
+        return SmartDeployMode.isCool() && !actionAdjustmentProvider.isSuppressRoutingIndex();
+    }
+
+    protected ActionPathRoutingIndex createRoutingIndex(String actionNameSuffix, List<ActionMapping> mappingList) {
+        final long before = System.currentTimeMillis();
+        final ActionPathRoutingIndex routingIndex = newActionPathRoutingIndex(actionNameSuffix, mappingList);
+        if (logger.isInfoEnabled()) {
+            final long cost = System.currentTimeMillis() - before;
+            logger.info("...Preparing routing index of action path: {} ({}ms)", routingIndex, cost);
+        }
+        return routingIndex;
+    }
+
+    protected ActionPathRoutingIndex newActionPathRoutingIndex(String actionNameSuffix, List<ActionMapping> mappingList) {
+        return new ActionPathRoutingIndex(actionNameSuffix, namingConvention.getActionSuffix(), mappingList);
+    }
+
+    protected ModuleConfig getModuleConfig() {
+        return LaModuleConfigUtil.getModuleConfig();
+    }
+
+    protected boolean mappingActionPathByIndex(MappingPathResource pathResource, ActionFoundPathHandler handler,
+            ActionPathRoutingIndex routingIndex) throws Exception {
+        // same search order as container search, see mappingActionPathByContainer() for the detail
+        final String[] names = LdiStringUtil.split(pathResource.getMappingPath(), URL_DELIMITER); // e.g. [sea, land] if /sea/land/
+        final ActionMapping rootMapping = routingIndex.getRootActionMapping(); // null allowed
+        if (names.length == 0) { // root action, / => rootAction
+            if (rootMapping != null) {
+                if (executeHandlerIfFound(pathResource, handler, rootMapping, RoutingParamPath.EMPTY)) {
+                    return true;
+                }
+            }
+        }
+        RoutingNode currentNode = routingIndex.getRootNode(); // null after no more indexed path
+        for (int index = 0; index < names.length; index++) {
+            final String currentName = names[index];
+            if (containsNotAllowedCharacterAsActionPath(currentName)) { // e.g. /Sea/land/, /sea/Land/
+                return false; // cannot use upper case in action path (while, allowed in param path)
+            }
+            if (currentNode == null) { // only checking characters of rear elements
+                continue;
+            }
+            currentNode = currentNode.findChild(currentName);
+            if (currentNode == null) {
+                continue;
+            }
+            final int candidateLength = currentNode.getCandidateLength(); // e.g. 3 if /sea/land/: seaLand, sea_seaLand, sea_land_seaLand
+            for (int packageCount = 0; packageCount < candidateLength; packageCount++) {
+                final ActionMapping mapping = currentNode.findCandidate(packageCount);
+                if (mapping != null) {
+                    if (executeHandlerIfFound(pathResource, handler, mapping, buildParamPath(names, index + 1))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        if (names.length > 0) { // e.g. /sea/land but not found except root action
+            if (rootMapping != null) {
+                if (executeHandlerIfFound(pathResource, handler, rootMapping, buildParamPath(names, 0))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // -----------------------------------------------------
+    //                                      Container Search
+    //                                      ----------------
+    protected boolean mappingActionPathByContainer(MappingPathResource pathResource, ActionFoundPathHandler handler) throws Exception {
         final String mappingPath = pathResource.getMappingPath();
         final String[] names = LdiStringUtil.split(mappingPath, URL_DELIMITER); // e.g. [sea, land] if /sea/land/
         final LaContainer root = container.getRoot(); // because actions are in root
@@ -320,6 +440,11 @@ public class ActionPathResolver {
             RoutingParamPath paramPath) throws Exception {
         final boolean emptyParam = paramPath == null || paramPath.isEmpty(); // basically not null, empty allowed
         final ActionExecute execByParam = !emptyParam ? findActionExecute(actionName, paramPath).orElse(null) : null;
+        if (emptyParam || execByParam != null || getModuleConfig().findActionMapping(actionName).map(mapping -> {
+            return hasHttpMethodDependentExecute(mapping);
+        }).orElse(false)) {
+            pathResource.markActionFound();
+        }
         if (emptyParam || execByParam != null) { // certainly hit
             return handler.handleActionPath(pathResource, actionName, paramPath, execByParam);
         }
@@ -330,6 +455,30 @@ public class ActionPathResolver {
         return LaActionExecuteUtil.findActionExecute(actionName, paramPath);
     }
 
+    protected boolean executeHandlerIfFound(MappingPathResource pathResource, ActionFoundPathHandler handler, ActionMapping mapping,
+            RoutingParamPath paramPath) throws Exception { // for routing index, without action name search
+        final boolean emptyParam = paramPath == null || paramPath.isEmpty(); // basically not null, empty allowed
+        final ActionExecute execByParam = !emptyParam ? mapping.findActionExecute(paramPath) : null;
+        if (emptyParam || execByParam != null || hasHttpMethodDependentExecute(mapping)) {
+            pathResource.markActionFound();
+        }
+        if (emptyParam || execByParam != null) { // certainly hit
+            return handler.handleActionPath(pathResource, mapping.getActionName(), paramPath, execByParam);
+        }
+        return false;
+    }
+
+    // action found means that the path might be routed by other requests so it is not cached as no-routing
+    // e.g. /wp-admin/x.php to root action without matched execute is not found, cached as no-routing
+    protected boolean hasHttpMethodDependentExecute(ActionMapping mapping) { // e.g. get$index(), may be matched by other method
+        for (ActionExecute execute : mapping.getExecuteList()) {
+            if (execute.getRestfulHttpMethod().isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // ===================================================================================
     //                                                                  Action URL Reverse
     //                                                                  ==================
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.lastaflute.web.ruts.config.ActionMapping;
+
+/**
+ * The routing index of action path, segment trie over registered action mappings. <br>
+ * Action names are parsed into path segments once so that routing can walk the request path
+ * without building action name candidates and probing the container per request.
+ * <pre>
+ * e.g. sea_land_seaLandAction
+ *  /sea/land/ : node [sea, land], candidate index 2 (package elements count)
+ *
+ * e.g. sea_seaLandAction
+ *  /sea/land/ : node [sea, land], candidate index 1
+ *
+ * candidate index is same as search order of container search, so you can get the same action
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ActionPathRoutingIndex {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    /** The limit count of path patterns per one action, to avoid explosion of ambiguous names e.g. many digits. */
+    protected static final int PATH_PATTERN_LIMIT = 256;
+
+    protected static final String ROOT_CLASS_PREFIX = "root";
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String actionNameSuffix; // not null, empty allowed e.g. Sp (from URL mapping option)
+    protected final String actionSuffix; // not null, from naming convention e.g. Action
+    protected final RoutingNode rootNode = new RoutingNode(); // not null, fixed after construction
+    protected ActionMapping rootActionMapping; // null allowed, e.g. RootAction
+    protected int indexedCount; // count of indexed action mappings
+    protected String unavailableReason; // null allowed, not null means the index cannot be used
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param actionNameSuffix The suffix of action name from URL mapping option. (NotNull, EmptyAllowed: normally empty)
+     * @param actionSuffix The suffix of action name from naming convention e.g. 'Action'. (NotNull)
+     * @param mappingList The list of all registered action mappings. (NotNull, EmptyAllowed: then unavailable)
+     */
+    public ActionPathRoutingIndex(String actionNameSuffix, String actionSuffix, List<ActionMapping> mappingList) {
+        assertArgumentNotNull("actionNameSuffix", actionNameSuffix);
+        assertArgumentNotNull("actionSuffix", actionSuffix);
+        assertArgumentNotNull("mappingList", mappingList);
+        this.actionNameSuffix = actionNameSuffix;
+        this.actionSuffix = actionSuffix;
+        for (ActionMapping mapping : mappingList) {
+            registerMapping(mapping);
+            if (unavailableReason != null) {
+                break;
+            }
+        }
+        if (unavailableReason == null && indexedCount == 0) {
+            unavailableReason = "no indexed action mapping (may be lazy registration)";
+        }
+    }
+
+    // ===================================================================================
+    //                                                                    Register Mapping
+    //                                                                    ================
+    protected void registerMapping(ActionMapping mapping) {
+        final String actionName = mapping.getActionName(); // e.g. sea_seaLandAction
+        final String nameSuffix = actionNameSuffix + actionSuffix; // e.g. Action, SpAction
+        if (!actionName.endsWith(nameSuffix)) { // e.g. other suffix action
+            return;
+        }
+        final String body = actionName.substring(0, actionName.length() - nameSuffix.length()); // e.g. sea_seaLand
+        if (body.isEmpty()) { // no way, just in case
+            return;
+        }
+        if (containsNonAsciiChar(body)) { // case conversion may be complex so give up
+            unavailableReason = "non-ASCII character in action name: " + actionName;
+            return;
+        }
+        if (ROOT_CLASS_PREFIX.equals(body)) {
+            rootActionMapping = mapping;
+        }
+        final List<RoutingPathPattern> patternList = parsePathPattern(body);
+        if (patternList == null) {
+            unavailableReason = "too many path patterns of action name: " + actionName;
+            return;
+        }
+        for (RoutingPathPattern pattern : patternList) {
+            indexPathPattern(pattern, mapping);
+        }
+        ++indexedCount;
+    }
+
+    protected boolean containsNonAsciiChar(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) > 0x7F) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected void indexPathPattern(RoutingPathPattern pattern, ActionMapping mapping) {
+        RoutingNode node = rootNode;
+        for (String segment : pattern.getSegmentList()) {
+            node = node.prepareChild(segment);
+        }
+        node.registerCandidate(pattern.getSegmentList().size(), pattern.getPackageCount(), mapping);
+    }
+
+    // ===================================================================================
+    //                                                                  Parse Path Pattern
+    //                                                                  ==================
+    // _/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/
+    // reverse of action name building in ActionPathResolver:
+    //  action name = (package elements joined with '_' + '_') + (camelized path segments) + suffix
+    //  and package elements are the front segments of the path
+    // e.g. sea_land_seaLandPiari
+    //  [sea, land, piari] with package 2
+    //  and also [sea, land, piari] with package 0 is sea_land_seaLandPiari? no, it's seaLandPiari
+    //  so one action name basically has one pattern (ambiguous only when e.g. digit or underscore)
+    // _/_/_/_/_/_/_/_/_/_/
+    /**
+     * @param body The body of action name without suffix e.g. sea_seaLand. (NotNull, NotEmpty)
+     * @return The list of path pattern. (NullAllowed: when too many patterns)
+     */
+    protected List<RoutingPathPattern> parsePathPattern(String body) {
+        final List<RoutingPathPattern> patternList = new ArrayList<RoutingPathPattern>(2);
+        for (int i = 0; i < body.length(); i++) {
+            if (i > 0 && body.charAt(i - 1) != '_') { // package part always ends with underscore
+                continue;
+            }
+            final String classPrefix = body.substring(i); // e.g. seaLand
+            if (i == 0) { // no package e.g. seaLandAction
+                for (List<String> segmentList : splitCamelSegment(classPrefix, /*capFirst*/false)) {
+                    patternList.add(new RoutingPathPattern(segmentList, 0));
+                }
+            } else { // with package e.g. sea_seaLandAction
+                final String packagePart = body.substring(0, i - 1); // e.g. sea (without last underscore)
+                for (List<String> packageList : splitPackageSegment(packagePart)) {
+                    final String packageCamel = camelizeSegment(packageList); // e.g. sea
+                    if (!classPrefix.startsWith(packageCamel)) {
+                        continue;
+                    }
+                    final String rear = classPrefix.substring(packageCamel.length()); // e.g. Land
+                    if (rear.isEmpty()) { // whole package e.g. sea_land_seaLandAction for /sea/land/
+                        patternList.add(new RoutingPathPattern(packageList, packageList.size()));
+                    } else {
+                        for (List<String> rearList : splitCamelSegment(rear, /*capFirst*/true)) {
+                            final List<String> segmentList = new ArrayList<String>(packageList.size() + rearList.size());
+                            segmentList.addAll(packageList);
+                            segmentList.addAll(rearList);
+                            patternList.add(new RoutingPathPattern(segmentList, packageList.size()));
+                        }
+                    }
+                }
+            }
+            if (patternList.size() > PATH_PATTERN_LIMIT) {
+                return null;
+            }
+        }
+        return patternList;
+    }
+
+    protected List<List<String>> splitPackageSegment(String packagePart) { // e.g. sea_land => [[sea, land], [sea_land]]
+        final List<List<String>> resultList = new ArrayList<List<String>>(1);
+        doSplitPackageSegment(packagePart, 0, 0, new ArrayList<String>(4), resultList);
+        return resultList;
+    }
+
+    protected void doSplitPackageSegment(String packagePart, int beginIndex, int searchIndex, List<String> currentList,
+            List<List<String>> resultList) {
+        if (resultList.size() > PATH_PATTERN_LIMIT) {
+            return;
+        }
+        final int delimiterIndex = packagePart.indexOf('_', searchIndex);
+        if (delimiterIndex < 0) { // last segment
+            final String segment = packagePart.substring(beginIndex);
+            if (isSegmentCandidate(segment)) {
+                final List<String> segmentList = new ArrayList<String>(currentList);
+                segmentList.add(segment);
+                resultList.add(segmentList);
+            }
+            return;
+        }
+        // split here
+        final String segment = packagePart.substring(beginIndex, delimiterIndex);
+        if (isSegmentCandidate(segment)) {
+            currentList.add(segment);
+            doSplitPackageSegment(packagePart, delimiterIndex + 1, delimiterIndex + 1, currentList, resultList);
+            currentList.remove(currentList.size() - 1);
+        }
+        // or underscore is a part of segment
+        doSplitPackageSegment(packagePart, beginIndex, delimiterIndex + 1, currentList, resultList);
+    }
+
+    protected List<List<String>> splitCamelSegment(String camel, boolean capFirst) { // e.g. seaLand => [[sea, land]]
+        final char firstCh = camel.charAt(0);
+        if (capFirst ? isLowerCaseChar(firstCh) : isUpperCaseChar(firstCh)) { // cannot be first of segment
+            return Collections.emptyList();
+        }
+        final List<List<String>> resultList = new ArrayList<List<String>>(1);
+        doSplitCamelSegment(camel, 0, 1, capFirst, new ArrayList<String>(4), resultList);
+        return resultList;
+    }
+
+    protected void doSplitCamelSegment(String camel, int beginIndex, int searchIndex, boolean capped, List<String> currentList,
+            List<List<String>> resultList) {
+        if (resultList.size() > PATH_PATTERN_LIMIT) {
+            return;
+        }
+        int index = searchIndex;
+        while (index < camel.length() && isLowerCaseChar(camel.charAt(index))) { // cannot be boundary
+            ++index;
+        }
+        if (index >= camel.length()) { // last segment
+            final List<String> segmentList = new ArrayList<String>(currentList);
+            segmentList.add(toPathSegment(camel.substring(beginIndex), capped));
+            resultList.add(segmentList);
+            return;
+        }
+        // here index points to upper case or no-case character e.g. digit, hyphen
+        currentList.add(toPathSegment(camel.substring(beginIndex, index), capped));
+        doSplitCamelSegment(camel, index, index + 1, /*capped*/true, currentList, resultList); // as boundary
+        currentList.remove(currentList.size() - 1);
+        if (!isUpperCaseChar(camel.charAt(index))) { // no-case character can be a part of segment
+            doSplitCamelSegment(camel, beginIndex, index + 1, capped, currentList, resultList);
+        }
+    }
+
+    protected String toPathSegment(String element, boolean capped) { // e.g. Land => land
+        if (!capped) {
+            return element;
+        }
+        final char firstCh = element.charAt(0);
+        return isUpperCaseChar(firstCh) ? Character.toLowerCase(firstCh) + element.substring(1) : element;
+    }
+
+    protected boolean isSegmentCandidate(String segment) { // path segment cannot be empty and cannot have upper case
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (isUpperCaseChar(segment.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected String camelizeSegment(List<String> segmentList) { // same as action name building e.g. [sea, land] => seaLand
+        final StringBuilder sb = new StringBuilder();
+        for (String segment : segmentList) {
+            if (sb.length() == 0) {
+                sb.append(segment);
+            } else {
+                sb.append(Character.toUpperCase(segment.charAt(0))).append(segment.substring(1));
+            }
+        }
+        return sb.toString();
+    }
+
+    protected boolean isUpperCaseChar(char ch) {
+        return Character.isUpperCase(ch);
+    }
+
+    protected boolean isLowerCaseChar(char ch) {
+        return Character.isLowerCase(ch);
+    }
+
+    protected static class RoutingPathPattern {
+
+        protected final List<String> segmentList; // not null, not empty e.g. [sea, land]
+        protected final int packageCount; // e.g. 1 if sea_seaLandAction
+
+        public RoutingPathPattern(List<String> segmentList, int packageCount) {
+            this.segmentList = segmentList;
+            this.packageCount = packageCount;
+        }
+
+        @Override
+        public String toString() {
+            return "{" + segmentList + ", package=" + packageCount + "}";
+        }
+
+        public List<String> getSegmentList() {
+            return segmentList;
+        }
+
+        public int getPackageCount() {
+            return packageCount;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Routing Node
+    //                                                                        ============
+    /**
+     * The node of segment trie, which is not modified after index construction.
+     * @author jflute
+     */
+    public static class RoutingNode {
+
+        protected Map<String, RoutingNode> childMap; // null allowed (lazy loaded), map:{path segment : node}
+        protected ActionMapping[] candidates; // null allowed, index is package elements count (so same as search order)
+
+        protected RoutingNode prepareChild(String segment) {
+            if (childMap == null) {
+                childMap = new HashMap<String, RoutingNode>(4);
+            }
+            RoutingNode child = childMap.get(segment);
+            if (child == null) {
+                child = new RoutingNode();
+                childMap.put(segment, child);
+            }
+            return child;
+        }
+
+        protected void registerCandidate(int depth, int packageCount, ActionMapping mapping) {
+            if (candidates == null) {
+                candidates = new ActionMapping[depth + 1]; // package elements count is 0 to depth
+            }
+            if (candidates[packageCount] == null) { // same position means same action name
+                candidates[packageCount] = mapping;
+            }
+        }
+
+        /**
+         * @param segment The path segment of request e.g. sea. (NotNull)
+         * @return The child node for the segment. (NullAllowed: when not found)
+         */
+        public RoutingNode findChild(String segment) {
+            return childMap != null ? childMap.get(segment) : null;
+        }
+
+        /**
+         * @return The count of candidate positions, zero if no candidate at this node.
+         */
+        public int getCandidateLength() {
+            return candidates != null ? candidates.length : 0;
+        }
+
+        /**
+         * @param packageCount The count of package elements in action name, which is also search order.
+         * @return The action mapping at the position. (NullAllowed: when no action)
+         */
+        public ActionMapping findCandidate(int packageCount) {
+            return candidates != null ? candidates[packageCount] : null;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Small Helper
+    //                                                                        ============
+    protected void assertArgumentNotNull(String variableName, Object value) {
+        if (variableName == null) {
+            throw new IllegalArgumentException("The variableName should not be null.");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("The argument '" + variableName + "' should not be null.");
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        final String suffixExp = !actionNameSuffix.isEmpty() ? "suffix=" + actionNameSuffix + ", " : "";
+        final String stateExp = unavailableReason != null ? "unavailable=" + unavailableReason : "indexed=" + indexedCount;
+        return "routingIndex:{" + suffixExp + stateExp + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public boolean isAvailable() {
+        return unavailableReason == null;
+    }
+
+    public RoutingNode getRootNode() {
+        return rootNode;
+    }
+
+    public ActionMapping getRootActionMapping() { // null allowed
+        return rootActionMapping;
+    }
+
+    public int getIndexedCount() {
+        return indexedCount;
+    }
+}
@@ -55,6 +55,8 @@ public class FormMappingOption {
     protected OptionalThing<DateTimeFormatter> zonedDateTimeFormatter = OptionalThing.empty();
     protected OptionalThing<Function<Map<String, Object>, Map<String, Object>>> requestParameterMapFilter = OptionalThing.empty();
     protected OptionalThing<Function<ActionRuntime, RealJsonEngine>> requestJsonEngineProvider = OptionalThing.empty();
+    protected boolean jsonBodyStreamed; // parses JSON body from request reader without whole body string
+    protected int jsonBodyKeptLimit; // limit of kept body for logging, valid only when streamed
 
     // ===================================================================================
     //                                                                              Facade
@@ -157,6 +159,21 @@ public class FormMappingOption {
         return this;
     }
 
+    /**
+     * Parse JSON body by streaming from request reader to avoid whole body string e.g. for large list. <br>
+     * The body for error logging and in-out logging is kept up to the limit (as copy of read text).
+     * @param jsonBodyKeptLimit The limit size of kept body, characters. (ZeroAllowed: keeps nothing)
+     * @return this. (NotNull)
+     */
+    public FormMappingOption streamJsonBody(int jsonBodyKeptLimit) {
+        if (jsonBodyKeptLimit < 0) {
+            throw new IllegalArgumentException("The argument 'jsonBodyKeptLimit' should not be minus: " + jsonBodyKeptLimit);
+        }
+        this.jsonBodyStreamed = true;
+        this.jsonBodyKeptLimit = jsonBodyKeptLimit;
+        return this;
+    }
+
     // ===================================================================================
     //                                                                      Basic Override
     //                                                                      ==============
@@ -165,7 +182,7 @@ public class FormMappingOption {
         final String title = DfTypeUtil.toClassTitle(this);
         return title + ":{" + keepEmptyStringParameter + ", " + simpleTextParameterFilter + ", " + undefinedParameterError + ", "
                 + indefinableParameterSet + ", " + yourCollectionResourceList + ", " + zonedDateTimeFormatter + ", "
-                + requestParameterMapFilter + ", " + requestJsonEngineProvider + "}";
+                + requestParameterMapFilter + ", " + requestJsonEngineProvider + ", " + jsonBodyStreamed + "}";
     }
 
     // ===================================================================================
@@ -227,4 +244,12 @@ public class FormMappingOption {
     public OptionalThing<Function<ActionRuntime, RealJsonEngine>> getRequestJsonEngineProvider() {
         return requestJsonEngineProvider;
     }
+
+    public boolean isJsonBodyStreamed() {
+        return jsonBodyStreamed;
+    }
+
+    public int getJsonBodyKeptLimit() {
+        return jsonBodyKeptLimit;
+    }
 }
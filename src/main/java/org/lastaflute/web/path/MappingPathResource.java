@@ -30,6 +30,7 @@ public class MappingPathResource {
     protected final String mappingPath; // not null, same value as requestPath if no customization
     protected final OptionalThing<String> actionNameSuffix; // not null, empty allowed
     protected final boolean restfulMapping; // if customized by RESTful router
+    protected boolean actionFound; // true if any action is found in routing (even if execute is not found)
 
     // ===================================================================================
     //                                                                         Constructor
@@ -50,6 +51,13 @@ public class MappingPathResource {
         return !requestPath.equals(mappingPath);
     }
 
+    // ===================================================================================
+    //                                                                         Action Mark
+    //                                                                         ===========
+    public void markActionFound() { // called in routing
+        actionFound = true;
+    }
+
     // ===================================================================================
     //                                                                      Basic Override
     //                                                                      ==============
@@ -76,4 +84,8 @@ public class MappingPathResource {
     public boolean isRestfulMapping() {
         return restfulMapping;
     }
+
+    public boolean isActionFound() {
+        return actionFound;
+    }
 }
@@ -23,12 +23,18 @@ public class MappingResolutionResult {
 
     protected final MappingPathResource pathResource; // not null
     protected final boolean pathHandled;
+    protected boolean cachedNoRouting; // true if no-routing is determined by cache
 
     public MappingResolutionResult(MappingPathResource pathResource, boolean pathHandled) {
         this.pathResource = pathResource;
         this.pathHandled = pathHandled;
     }
 
+    public MappingResolutionResult asCachedNoRouting() {
+        cachedNoRouting = true;
+        return this;
+    }
+
     public MappingPathResource getPathResource() {
         return pathResource;
     }
@@ -36,4 +42,8 @@ public class MappingResolutionResult {
     public boolean isPathHandled() {
         return pathHandled;
     }
+
+    public boolean isCachedNoRouting() {
+        return cachedNoRouting;
+    }
 }
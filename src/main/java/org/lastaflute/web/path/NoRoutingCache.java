@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.path;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.lastaflute.core.smartdeploy.ManagedHotdeploy;
+
+/**
+ * The bounded cache of no-routing paths, which have no action candidate at all. <br>
+ * Stripes of least-recently-used map so that routed requests (cache miss) don't wait for one lock. <br>
+ * All entries are cleared when hot deploy is started because actions may be changed.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class NoRoutingCache {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final int STRIPE_COUNT = 16; // power of two
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final NoRoutingCacheOption option; // not null
+    protected final NoRoutingStripe[] stripes; // not null
+    protected volatile long hotdeployGeneration; // to clear all when hot deploy
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong putCount = new AtomicLong();
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public NoRoutingCache(NoRoutingCacheOption option) {
+        if (option == null) {
+            throw new IllegalArgumentException("The argument 'option' should not be null.");
+        }
+        this.option = option;
+        final int stripeLimit = Math.max(1, option.getLimitSize() / STRIPE_COUNT);
+        this.stripes = new NoRoutingStripe[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            this.stripes[i] = new NoRoutingStripe(stripeLimit);
+        }
+        this.hotdeployGeneration = ManagedHotdeploy.getHotdeployGeneration();
+    }
+
+    protected static class NoRoutingStripe extends LinkedHashMap<String, Long> { // value is cached time millis
+
+        private static final long serialVersionUID = 1L;
+
+        protected final int stripeLimit;
+
+        public NoRoutingStripe(int stripeLimit) {
+            super(16, 0.75f, /*accessOrder*/true);
+            this.stripeLimit = stripeLimit;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > stripeLimit;
+        }
+    }
+
+    // ===================================================================================
+    //                                                                          Determine
+    //                                                                          =========
+    /**
+     * @param mappingKey The key of mapping path, see buildMappingKey(). (NotNull)
+     * @return The determination, true or false. If true, the path was no-routing recently.
+     */
+    public boolean isNoRouting(String mappingKey) {
+        clearIfHotdeployed();
+        final NoRoutingStripe stripe = findStripe(mappingKey);
+        final boolean found;
+        synchronized (stripe) {
+            final Long cachedTime = stripe.get(mappingKey);
+            if (cachedTime == null) {
+                return false;
+            }
+            if (isExpired(cachedTime)) {
+                stripe.remove(mappingKey);
+                found = false;
+            } else {
+                found = true;
+            }
+        }
+        if (found) {
+            hitCount.incrementAndGet();
+        }
+        return found;
+    }
+
+    protected boolean isExpired(long cachedTime) {
+        final long expireMillis = option.getExpireMillis();
+        return expireMillis >= 0 && System.currentTimeMillis() - cachedTime > expireMillis;
+    }
+
+    // ===================================================================================
+    //                                                                            Register
+    //                                                                            ========
+    /**
+     * @param mappingKey The key of mapping path, see buildMappingKey(). (NotNull)
+     */
+    public void registerNoRouting(String mappingKey) {
+        clearIfHotdeployed();
+        final NoRoutingStripe stripe = findStripe(mappingKey);
+        synchronized (stripe) {
+            stripe.put(mappingKey, System.currentTimeMillis());
+        }
+        putCount.incrementAndGet();
+    }
+
+    // ===================================================================================
+    //                                                                         Mapping Key
+    //                                                                         ===========
+    /**
+     * Build the key of mapping path, normalized about trailing slash.
+     * @param pathResource The resource of mapping path. (NotNull)
+     * @return The key for the cache. (NotNull)
+     */
+    public String buildMappingKey(MappingPathResource pathResource) {
+        final String mappingPath = pathResource.getMappingPath();
+        final String normalized; // /sea/land/ and /sea/land are the same routing
+        if (mappingPath.length() > 1 && mappingPath.endsWith("/")) {
+            normalized = mappingPath.substring(0, mappingPath.length() - 1);
+        } else {
+            normalized = mappingPath;
+        }
+        return pathResource.getActionNameSuffix().map(suffix -> normalized + "@" + suffix).orElse(normalized);
+    }
+
+    // ===================================================================================
+    //                                                                           Clear All
+    //                                                                           =========
+    protected void clearIfHotdeployed() {
+        final long currentGeneration = ManagedHotdeploy.getHotdeployGeneration();
+        if (hotdeployGeneration != currentGeneration) {
+            clearAll();
+            hotdeployGeneration = currentGeneration;
+        }
+    }
+
+    public void clearAll() {
+        for (NoRoutingStripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    protected NoRoutingStripe findStripe(String mappingKey) {
+        final int hash = mappingKey.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "noRoutingCache:{" + option + ", hit=" + hitCount.get() + ", put=" + putCount.get() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public NoRoutingCacheOption getOption() {
+        return option;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getPutCount() {
+        return putCount.get();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.path;
+
+/**
+ * The option of no-routing cache, which remembers paths that have no action. <br>
+ * e.g. for scanners that request many unknown paths.
+ * <pre>
+ * e.g. in your web direction
+ *  direction.directNoRoutingCache(new NoRoutingCacheOption().limitSize(10000).expireMillis(60000L));
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class NoRoutingCacheOption {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final int DEFAULT_LIMIT_SIZE = 10000;
+    public static final long DEFAULT_EXPIRE_MILLIS = 10 * 60 * 1000L; // 10 minutes
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected int limitSize = DEFAULT_LIMIT_SIZE; // positive
+    protected long expireMillis = DEFAULT_EXPIRE_MILLIS; // minus means no expiration
+
+    // ===================================================================================
+    //                                                                              Facade
+    //                                                                              ======
+    /**
+     * @param limitSize The limit size of cached paths, least-recently-used ones are removed when over. (Positive)
+     * @return this. (NotNull)
+     */
+    public NoRoutingCacheOption limitSize(int limitSize) {
+        if (limitSize <= 0) {
+            throw new IllegalArgumentException("The argument 'limitSize' should be positive: " + limitSize);
+        }
+        this.limitSize = limitSize;
+        return this;
+    }
+
+    /**
+     * @param expireMillis The milliseconds to expire cached path. (MinusAllowed: if minus, no expiration)
+     * @return this. (NotNull)
+     */
+    public NoRoutingCacheOption expireMillis(long expireMillis) {
+        this.expireMillis = expireMillis;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{limitSize=" + limitSize + ", expireMillis=" + expireMillis + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public int getLimitSize() {
+        return limitSize;
+    }
+
+    public long getExpireMillis() {
+        return expireMillis;
+    }
+}
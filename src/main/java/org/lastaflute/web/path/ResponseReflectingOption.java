@@ -50,6 +50,7 @@ public class ResponseReflectingOption {
     //                                           JSON Engine
     //                                           -----------
     protected OptionalThing<Function<ActionRuntime, RealJsonEngine>> responseJsonEngineProvider = OptionalThing.empty();
+    protected boolean jsonResponseStreamed; // writes JSON to response without whole JSON string
 
     // ===================================================================================
     //                                                                              Facade
@@ -96,6 +97,17 @@ public class ResponseReflectingOption {
         return this;
     }
 
+    /**
+     * Write JSON response by streaming to avoid whole JSON string e.g. for large list. <br>
+     * JSONP and in-out logging are also available (in-out logging keeps the copy of JSON only when enabled). <br>
+     * Direct JSON (asJsonDirectly()) and empty body are written as string as usual.
+     * @return this. (NotNull)
+     */
+    public ResponseReflectingOption streamJsonResponse() {
+        jsonResponseStreamed = true;
+        return this;
+    }
+
     // ===================================================================================
     //                                                                      Basic Override
     //                                                                      ==============
@@ -115,6 +127,7 @@ public class ResponseReflectingOption {
         sb.append("}");
         sb.append("jsonEngine:{");
         sb.append(responseJsonEngineProvider);
+        sb.append(", ").append(jsonResponseStreamed);
         sb.append("}");
         sb.append("}");
         return sb.toString();
@@ -155,4 +168,8 @@ public class ResponseReflectingOption {
     public OptionalThing<Function<ActionRuntime, RealJsonEngine>> getResponseJsonEngineProvider() {
         return responseJsonEngineProvider;
     }
+
+    public boolean isJsonResponseStreamed() {
+        return jsonResponseStreamed;
+    }
 }
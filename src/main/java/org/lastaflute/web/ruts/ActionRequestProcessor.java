@@ -30,11 +30,14 @@ import org.lastaflute.core.util.ContainerUtil;
 import org.lastaflute.db.jta.stage.NoneTransactionStage;
 import org.lastaflute.db.jta.stage.TransactionStage;
 import org.lastaflute.db.jta.stage.VestibuleTxProvider;
+import org.lastaflute.web.LastaWebKey;
 import org.lastaflute.web.path.ActionAdjustmentProvider;
 import org.lastaflute.web.ruts.config.ActionExecute;
 import org.lastaflute.web.ruts.config.ModuleConfig;
 import org.lastaflute.web.ruts.inoutlogging.InOutLogKeeper;
 import org.lastaflute.web.ruts.inoutlogging.InOutLogger;
+import org.lastaflute.web.ruts.phase.ActionPhase;
+import org.lastaflute.web.ruts.phase.ActionPhaseTimer;
 import org.lastaflute.web.ruts.process.ActionFormMapper;
 import org.lastaflute.web.ruts.process.ActionResponseReflector;
 import org.lastaflute.web.ruts.process.ActionRuntime;
@@ -137,6 +140,7 @@ public class ActionRequestProcessor {
         final String processHash = askProcessHash(beginTime);
         ThreadCacheContext.registerBeginTime(beginTime);
         ThreadCacheContext.registerProcessHash(processHash);
+        getRequestManager().setAttribute(LastaWebKey.PROCESS_HASH_KEY, processHash); // for e.g. access log after thread cache
         beginInOutLoggingIfNeeds(beginTime, processHash);
     }
 
@@ -218,7 +222,9 @@ public class ActionRequestProcessor {
     protected void populateParameter(ActionRuntime runtime, OptionalThing<VirtualForm> form) throws ServletException {
         if (form.isPresent()) { // cannot be callback for ServletException
             final ActionFormMapper actionFormPopulator = createActionFormPopulator(runtime, form.get());
+            final long marked = ActionPhaseTimer.mark();
             actionFormPopulator.populateParameter(); // *updates real form in virtual form
+            ActionPhaseTimer.record(ActionPhase.FORM_POPULATE, marked);
         }
     }
 
@@ -275,7 +281,9 @@ public class ActionRequestProcessor {
                 doRedirect(runtime, journey);
             } else {
                 final HtmlRenderer renderer = prepareHtmlRenderer(runtime, journey);
+                final long marked = ActionPhaseTimer.mark();
                 renderer.render(getRequestManager(), runtime, journey);
+                ActionPhaseTimer.record(ActionPhase.HTML_RENDER, marked);
             }
         }
         // do nothing if undefined
@@ -340,6 +348,23 @@ public class ActionRequestProcessor {
         });
     }
 
+    // ===================================================================================
+    //                                                                             Destroy
+    //                                                                             =======
+    public void destroy() { // called by routing filter, @since 1.2.7
+        stopInOutLoggingPipelineIfNeeds();
+    }
+
+    protected void stopInOutLoggingPipelineIfNeeds() {
+        if (inOutLogger != null) {
+            inOutLogger.stopPipeline(getInOutLoggingPipelineStopWaitMillis()); // remaining logs are written
+        }
+    }
+
+    protected long getInOutLoggingPipelineStopWaitMillis() {
+        return 3000L;
+    }
+
     // ===================================================================================
     //                                                                           Component
     //                                                                           =========
@@ -41,6 +41,8 @@ import org.lastaflute.web.exception.ExecuteMethodArgumentMismatchException;
 import org.lastaflute.web.hook.ActionHook;
 import org.lastaflute.web.response.ActionResponse;
 import org.lastaflute.web.ruts.config.ActionExecute;
+import org.lastaflute.web.ruts.phase.ActionPhase;
+import org.lastaflute.web.ruts.phase.ActionPhaseTimer;
 import org.lastaflute.web.ruts.process.ActionResponseReflector;
 import org.lastaflute.web.ruts.process.ActionRuntime;
 import org.lastaflute.web.ruts.process.exception.ActionCreateFailureException;
@@ -139,9 +141,19 @@ public class GodHandableAction implements VirtualAction {
     //                                          Main Execute
     //                                          ------------
     protected NextJourney transactionalExecute(OptionalThing<VirtualForm> form, ActionHook hook) {
-        final ExecuteTransactionResult result = (ExecuteTransactionResult) stage.selectable(tx -> {
-            doExecute(form, hook, tx); // #to_action
-        }, getExecuteTransactionGenre()).get(); // because of not null
+        final long[] txEndMarked = new long[1]; // to measure commit or rollback (also by exception)
+        final ExecuteTransactionResult result;
+        try {
+            result = (ExecuteTransactionResult) stage.selectable(tx -> {
+                try {
+                    doExecute(form, hook, tx); // #to_action
+                } finally {
+                    txEndMarked[0] = ActionPhaseTimer.mark();
+                }
+            }, getExecuteTransactionGenre()).get(); // because of not null
+        } finally {
+            ActionPhaseTimer.record(ActionPhase.TRANSACTION_COMMIT, txEndMarked[0]); // zero (ignored) if not begun
+        }
         if (!result.isRollbackOnly()) {
             hookAfterTxCommitIfExists(result);
         }
@@ -354,6 +366,7 @@ public class GodHandableAction implements VirtualAction {
     //                                         -------------
     protected Object invokeExecuteMethod(Method executeMethod, Object[] requestArgs) {
         Object result = null;
+        final long marked = ActionPhaseTimer.mark();
         try {
             result = executeMethod.invoke(action, requestArgs); // #to_action just here
             redCardableAssist.checkValidatorCalled();
@@ -363,6 +376,8 @@ public class GodHandableAction implements VirtualAction {
             throwExecuteMethodAccessFailureException(executeMethod, requestArgs, e);
         } catch (IllegalArgumentException e) { // e.g. different argument number
             throwExecuteMethodArgumentMismatchException(executeMethod, requestArgs, e);
+        } finally {
+            ActionPhaseTimer.record(ActionPhase.ACTION_METHOD, marked); // also when e.g. validation error
         }
         return result;
     }
@@ -20,6 +20,12 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.dbflute.optional.OptionalThing;
 import org.dbflute.util.DfTypeUtil;
@@ -27,6 +33,7 @@ import org.lastaflute.core.smartdeploy.ManagedHotdeploy;
 import org.lastaflute.di.Disposable;
 import org.lastaflute.di.DisposableUtil;
 import org.lastaflute.di.core.factory.SingletonLaContainerFactory;
+import org.lastaflute.web.path.ActionPathRoutingIndex;
 
 /**
  * @author modified by jflute (originated in Seasar and Struts)
@@ -45,6 +52,13 @@ public class ModuleConfig implements Disposable, Serializable {
     protected final List<ActionMapping> actionMappingList = new ArrayList<ActionMapping>();
     protected volatile boolean initialized;
 
+    // map:{actionNameSuffix : index}, lazy loaded at first routing, cleared when mapping is added
+    protected final Map<String, ActionPathRoutingIndex> routingIndexMap = new ConcurrentHashMap<String, ActionPathRoutingIndex>();
+
+    // reserved at container initialization when parallel action setup, cleared when prepared
+    // transient because the creators are not serializable (and meaningless after boot)
+    protected transient List<Supplier<ActionMapping>> reservedMappingList; // null allowed, lazy loaded
+
     // ===================================================================================
     //                                                                         Constructor
     //                                                                         ===========
@@ -90,6 +104,72 @@ public class ModuleConfig implements Disposable, Serializable {
     public void addActionMapping(ActionMapping mapping) {
         actionMappingMap.put(mapping.getActionName(), mapping);
         actionMappingList.add(mapping);
+        routingIndexMap.clear(); // rebuilt at next routing
+    }
+
+    // ===================================================================================
+    //                                                                     Reserved Action
+    //                                                                     ===============
+    /**
+     * Reserve the action mapping to be created later in parallel. (basically called by customizer)
+     * @param mappingCreator The creator of action mapping, called in other thread. (NotNull)
+     */
+    public synchronized void reserveActionMapping(Supplier<ActionMapping> mappingCreator) {
+        if (reservedMappingList == null) {
+            reservedMappingList = new ArrayList<Supplier<ActionMapping>>();
+        }
+        reservedMappingList.add(mappingCreator);
+    }
+
+    /**
+     * Prepare the reserved action mappings in parallel and add them in reserved order. <br>
+     * It does nothing if no reservation e.g. parallel action setup is not used.
+     * @param pool The fork-join pool to create action mappings. (NotNull)
+     * @return The count of prepared action mappings. (ZeroAllowed: when no reservation)
+     */
+    public synchronized int prepareReservedActionMapping(ForkJoinPool pool) {
+        if (reservedMappingList == null || reservedMappingList.isEmpty()) {
+            return 0;
+        }
+        final List<Supplier<ActionMapping>> creatorList = new ArrayList<Supplier<ActionMapping>>(reservedMappingList);
+        final List<ActionMapping> mappingList;
+        try {
+            mappingList = pool.submit(() -> {
+                return creatorList.parallelStream().map(creator -> creator.get()).collect(Collectors.toList());
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted the parallel action setup: reserved=" + creatorList.size(), e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) { // e.g. execute method check failure
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Failed to set up the reserved actions: reserved=" + creatorList.size(), cause);
+        }
+        for (ActionMapping mapping : mappingList) { // in reserved order
+            addActionMapping(mapping);
+        }
+        reservedMappingList = null; // no longer needed
+        return mappingList.size();
+    }
+
+    // ===================================================================================
+    //                                                                       Routing Index
+    //                                                                       =============
+    /**
+     * Prepare the routing index of action path, created only once per the key.
+     * @param indexKey The key of index, e.g. action name suffix. (NotNull, EmptyAllowed)
+     * @param indexCreator The creator of index from all registered action mappings. (NotNull)
+     * @return The prepared routing index, might be unavailable. (NotNull)
+     */
+    public ActionPathRoutingIndex prepareRoutingIndex(String indexKey, Function<List<ActionMapping>, ActionPathRoutingIndex> indexCreator) {
+        return routingIndexMap.computeIfAbsent(indexKey, key -> {
+            return indexCreator.apply(new ArrayList<ActionMapping>(actionMappingList)); // snapshot
+        });
     }
 
     // ===================================================================================
@@ -98,6 +178,8 @@ public class ModuleConfig implements Disposable, Serializable {
     public void dispose() {
         actionMappingMap.clear();
         actionMappingList.clear();
+        routingIndexMap.clear();
+        reservedMappingList = null;
         initialized = false;
     }
 
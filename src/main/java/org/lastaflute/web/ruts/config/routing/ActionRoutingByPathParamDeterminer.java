@@ -56,6 +56,7 @@ public class ActionRoutingByPathParamDeterminer {
     protected final Supplier<String> callerExpProvider; // for debug, not null
 
     protected final RestfulComponentAnalyzer restfulComponentAnalyzer; // not null
+    protected final String routingHeadLiteral; // null allowed, fixed first element of URL pattern e.g. sea (from sea/{})
 
     // ===================================================================================
     //                                                                         Constructor
@@ -73,16 +74,38 @@ public class ActionRoutingByPathParamDeterminer {
         this.callerExpProvider = callerExpProvider;
 
         this.restfulComponentAnalyzer = newRestfulComponentAnalyzer();
+        this.routingHeadLiteral = extractRoutingHeadLiteral();
     }
 
     protected RestfulComponentAnalyzer newRestfulComponentAnalyzer() {
         return new RestfulComponentAnalyzer();
     }
 
+    protected String extractRoutingHeadLiteral() { // null allowed
+        if (restfulHttpMethod.isPresent()) { // e.g. RESTish event retry changes path
+            return null;
+        }
+        final String resolvedUrlPattern = preparedUrlPattern.getResolvedUrlPattern(); // e.g. sea/{}, {}/sea, "" (index())
+        final String headElement = Srl.substringFirstFront(resolvedUrlPattern, "/"); // e.g. sea, {}
+        if (headElement.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < headElement.length(); i++) { // only plain characters not to be different from regular expression
+            final char ch = headElement.charAt(i);
+            if (!Character.isLetterOrDigit(ch) && ch != '_' && ch != '-') {
+                return null;
+            }
+        }
+        return headElement;
+    }
+
     // ===================================================================================
     //                                                                           Determine
     //                                                                           =========
     public boolean determine(RoutingParamPath paramPath) {
+        if (certainlyUnmatchesHeadLiteral(paramPath.getRequestParamPath())) { // fast determination without regular expression
+            return false;
+        }
         if (starndardDetermine(paramPath.getRequestParamPath())) {
             return true;
         }
@@ -92,6 +115,22 @@ public class ActionRoutingByPathParamDeterminer {
         return false;
     }
 
+    // ===================================================================================
+    //                                                                  Head Determination
+    //                                                                  ==================
+    protected boolean certainlyUnmatchesHeadLiteral(String paramPath) {
+        // URL pattern regular expression starts with the head literal e.g. ^sea/([^/]+)$
+        // and optional handling also needs first element as method name so unmatched if different
+        if (routingHeadLiteral == null || isParameterEmpty(paramPath)) {
+            return false;
+        }
+        final int headLength = routingHeadLiteral.length();
+        if (!paramPath.startsWith(routingHeadLiteral)) {
+            return true;
+        }
+        return paramPath.length() > headLength && paramPath.charAt(headLength) != '/'; // e.g. seaLand/3 for sea/{}
+    }
+
     // ===================================================================================
     //                                                              Standard Determination
     //                                                              ======================
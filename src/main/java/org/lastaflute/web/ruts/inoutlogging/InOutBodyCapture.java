@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.ruts.inoutlogging;
+
+/**
+ * The captured body of request or response for in-out logging. <br>
+ * Only head and tail parts are kept (if capped), so the whole body can be released early. <br>
+ * The expression for logging is built lazily when the log is actually shown.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class InOutBodyCapture {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String head; // not null, whole body if not truncated
+    protected final String tail; // not null, empty if not truncated
+    protected final int originalLength; // length of original body
+    protected String cachedExp; // lazy-loaded, benign race because of same value
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    protected InOutBodyCapture(String head, String tail, int originalLength) {
+        this.head = head;
+        this.tail = tail;
+        this.originalLength = originalLength;
+    }
+
+    /**
+     * Capture the body with the cap sizes.
+     * @param body The body content. (NotNull)
+     * @param headSize The max size of head characters kept. (MinusAllowed: if minus, whole body is kept)
+     * @param tailSize The max size of tail characters kept when truncated. (ZeroAllowed)
+     * @return The new-created capture, which does not refer the original body if truncated. (NotNull)
+     */
+    public static InOutBodyCapture capture(String body, int headSize, int tailSize) {
+        if (body == null) {
+            throw new IllegalArgumentException("The argument 'body' should not be null.");
+        }
+        final int length = body.length();
+        final int realTail = Math.max(0, tailSize);
+        if (headSize < 0 || length <= headSize + realTail) { // no cap or small enough
+            return new InOutBodyCapture(body, "", length);
+        }
+        // substring() copies characters so the original body is not held
+        final String head = body.substring(0, headSize);
+        final String tail = realTail > 0 ? body.substring(length - realTail) : "";
+        return new InOutBodyCapture(head, tail, length);
+    }
+
+    /**
+     * Create the capture from already kept parts, e.g. by streaming writer with head and tail buffer.
+     * @param head The kept head part of the body. (NotNull)
+     * @param tail The kept tail part after the head. (NotNull, EmptyAllowed)
+     * @param originalLength The length of original body, containing not-kept part.
+     * @return The new-created capture, which is not truncated if the parts cover the original length. (NotNull)
+     */
+    public static InOutBodyCapture ofKept(String head, String tail, int originalLength) {
+        if (head == null) {
+            throw new IllegalArgumentException("The argument 'head' should not be null.");
+        }
+        if (tail == null) {
+            throw new IllegalArgumentException("The argument 'tail' should not be null.");
+        }
+        if (head.length() + tail.length() >= originalLength) { // nothing omitted
+            return new InOutBodyCapture(head + tail, "", originalLength);
+        }
+        return new InOutBodyCapture(head, tail, originalLength);
+    }
+
+    // ===================================================================================
+    //                                                                  Logging Expression
+    //                                                                  ==================
+    /**
+     * @return The expression of the body for logging, contains omitted mark if truncated. (NotNull)
+     */
+    public String toLoggingExp() {
+        String exp = cachedExp;
+        if (exp == null) {
+            exp = buildLoggingExp();
+            cachedExp = exp;
+        }
+        return exp;
+    }
+
+    protected String buildLoggingExp() {
+        if (!isTruncated()) {
+            return head;
+        }
+        final int omittedLength = originalLength - head.length() - tail.length();
+        final StringBuilder sb = new StringBuilder(head.length() + tail.length() + 40);
+        sb.append(head).append("...(").append(omittedLength).append(" chars omitted)...").append(tail);
+        return sb.toString();
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "bodyCapture:{length=" + originalLength + ", truncated=" + isTruncated() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public boolean isTruncated() {
+        return head.length() + tail.length() < originalLength;
+    }
+
+    public int getOriginalLength() {
+        return originalLength;
+    }
+}
@@ -52,11 +52,11 @@ public class InOutLogKeeper {
 
     protected Supplier<Map<String, Object>> requestHeaderMapProvider; // null allowed if request header name is not specified by InOutLogOption
     protected Map<String, Object> requestParameterMap; // null allowed if e.g. no parameter
-    protected String requestBodyContent; // null allowed if e.g. no body
+    protected InOutBodyCapture requestBodyCapture; // null allowed if e.g. no body, may be capped by option
     protected String requestBodyType; // body format e.g. json, xml, null allowed if e.g. no body or null body
 
     protected Supplier<Map<String, Object>> responseHeaderMapProvider; // null allowed if response header name is not specified by InOutLogOption
-    protected String responseBodyContent; // null allowed if e.g. no body or null body
+    protected InOutBodyCapture responseBodyCapture; // null allowed if e.g. no body or null body, may be capped by option
     protected String responseBodyType; // body format e.g. json, xml, null allowed until response or if e.g. no body
 
     protected Throwable frameworkCause; // runtime has only application's one so keep here, null allowed
@@ -138,7 +138,8 @@ public class InOutLogKeeper {
 
     public void keepRequestBody(String requestBodyContent, String requestBodyType) { // accept null just in case
         assertArgumentNotNull("requestBodyType", requestBodyType);
-        this.requestBodyContent = requestBodyContent;
+        final InOutLogOption option = getOption();
+        this.requestBodyCapture = captureBody(requestBodyContent, option.getRequestBodyHeadSize(), option.getRequestBodyTailSize());
         this.requestBodyType = requestBodyType;
     }
 
@@ -156,7 +157,24 @@ public class InOutLogKeeper {
 
     public void keepResponseBody(String responseBodyContent, String responseBodyType) { // accept null just in case
         assertArgumentNotNull("responseBodyType", responseBodyType);
-        this.responseBodyContent = responseBodyContent;
+        final InOutLogOption option = getOption();
+        if (option.isSuppressResponseBody()) { // not to hold e.g. big JSON until the end of request
+            this.responseBodyCapture = null;
+        } else {
+            this.responseBodyCapture = captureBody(responseBodyContent, option.getResponseBodyHeadSize(), option.getResponseBodyTailSize());
+        }
+        this.responseBodyType = responseBodyType;
+    }
+
+    /**
+     * Keep the response body already captured, e.g. by streaming writer that keeps only head and tail.
+     * @param responseBodyCapture The capture of response body. (NotNull)
+     * @param responseBodyType The body format e.g. json. (NotNull)
+     */
+    public void keepResponseBodyCapture(InOutBodyCapture responseBodyCapture, String responseBodyType) {
+        assertArgumentNotNull("responseBodyCapture", responseBodyCapture);
+        assertArgumentNotNull("responseBodyType", responseBodyType);
+        this.responseBodyCapture = getOption().isSuppressResponseBody() ? null : responseBodyCapture;
         this.responseBodyType = responseBodyType;
     }
 
@@ -165,6 +183,10 @@ public class InOutLogKeeper {
         this.frameworkCause = frameworkCause;
     }
 
+    protected InOutBodyCapture captureBody(String bodyContent, int headSize, int tailSize) { // not to hold whole body if capped
+        return bodyContent != null ? InOutBodyCapture.capture(bodyContent, headSize, tailSize) : null;
+    }
+
     // ===================================================================================
     //                                                                        Small Helper
     //                                                                        ============
@@ -206,9 +228,13 @@ public class InOutLogKeeper {
         return requestParameterMap != null ? Collections.unmodifiableMap(requestParameterMap) : Collections.emptyMap();
     }
 
-    public OptionalThing<String> getRequestBodyContent() {
-        return OptionalThing.ofNullable(requestBodyContent, () -> {
-            throw new IllegalStateException("Not found the request body content.");
+    public OptionalThing<String> getRequestBodyContent() { // built if capped so use capture if possible
+        return getRequestBodyCapture().map(capture -> capture.toLoggingExp());
+    }
+
+    public OptionalThing<InOutBodyCapture> getRequestBodyCapture() {
+        return OptionalThing.ofNullable(requestBodyCapture, () -> {
+            throw new IllegalStateException("Not found the request body capture.");
         });
     }
 
@@ -224,9 +250,13 @@ public class InOutLogKeeper {
         });
     }
 
-    public OptionalThing<String> getResponseBodyContent() {
-        return OptionalThing.ofNullable(responseBodyContent, () -> {
-            throw new IllegalStateException("Not found the response body content.");
+    public OptionalThing<String> getResponseBodyContent() { // built if capped so use capture if possible
+        return getResponseBodyCapture().map(capture -> capture.toLoggingExp());
+    }
+
+    public OptionalThing<InOutBodyCapture> getResponseBodyCapture() {
+        return OptionalThing.ofNullable(responseBodyCapture, () -> {
+            throw new IllegalStateException("Not found the response body capture.");
         });
     }
 
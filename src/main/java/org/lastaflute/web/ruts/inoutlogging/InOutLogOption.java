@@ -32,11 +32,25 @@ import org.lastaflute.web.ruts.process.ActionRuntime;
  */
 public class InOutLogOption {
 
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final int DEFAULT_PIPELINE_BUFFER_SIZE = 1024;
+    public static final int DEFAULT_PIPELINE_BATCH_SIZE = 64;
+
     // ===================================================================================
     //                                                                           Attribute
     //                                                                           =========
     protected boolean async;
+    protected boolean pipeline;
+    protected int pipelineBufferSize = DEFAULT_PIPELINE_BUFFER_SIZE; // positive
+    protected int pipelineBatchSize = DEFAULT_PIPELINE_BATCH_SIZE; // positive
     protected boolean suppressResponseBody; // may be too big
+    protected int requestBodyHeadSize = -1; // minus means no cap
+    protected int requestBodyTailSize; // used only when capped
+    protected int responseBodyHeadSize = -1; // minus means no cap
+    protected int responseBodyTailSize; // used only when capped
+    protected InOutBodySampler bodySampler; // null allowed if all bodies are shown
     protected List<String> requestHeaderNameList; // keeping order
     protected Function<String, String> requestParameterFilter;
     protected Function<InOutValueEntry, Object> requestParameterValueFilter;
@@ -64,6 +78,37 @@ public class InOutLogOption {
         return this;
     }
 
+    /**
+     * Enable logging by dedicated pipeline, which formats and writes in-out logs by one thread. <br>
+     * Request thread only hands off detached record to bounded ring buffer, so no formatting cost there. <br>
+     * If the buffer is full, the log is dropped (and the count is logged later). <br>
+     * This takes priority over async().
+     * @return this. (NotNull)
+     */
+    public InOutLogOption pipeline() {
+        pipeline = true;
+        return this;
+    }
+
+    /**
+     * Enable logging by dedicated pipeline with the sizes.
+     * @param bufferSize The size of ring buffer, rounded up to power of two. (Positive)
+     * @param batchSize The max size of logs written at one time by the consumer thread. (Positive)
+     * @return this. (NotNull)
+     */
+    public InOutLogOption pipeline(int bufferSize, int batchSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The argument 'bufferSize' should be positive: " + bufferSize);
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The argument 'batchSize' should be positive: " + batchSize);
+        }
+        pipeline = true;
+        pipelineBufferSize = bufferSize;
+        pipelineBatchSize = batchSize;
+        return this;
+    }
+
     /**
      * Suppress response body. (remove response body from in-out log)
      * @return this. (NotNull)
@@ -73,6 +118,85 @@ public class InOutLogOption {
         return this;
     }
 
+    // -----------------------------------------------------
+    //                                                  Body
+    //                                                  ----
+    /**
+     * Cap the request body, only head and tail characters are kept for logging. <br>
+     * The whole body is not held by in-out logging until the end of request.
+     * <pre>
+     * e.g. first 2000 and last 200 characters
+     *  option.capRequestBody(2000, 200);
+     *  (logged as: {"sea": ...(12345 chars omitted)...]})
+     * </pre>
+     * @param headSize The max size of head characters. (ZeroAllowed)
+     * @param tailSize The max size of tail characters. (ZeroAllowed)
+     * @return this. (NotNull)
+     */
+    public InOutLogOption capRequestBody(int headSize, int tailSize) {
+        assertBodyCapSize(headSize, tailSize);
+        requestBodyHeadSize = headSize;
+        requestBodyTailSize = tailSize;
+        return this;
+    }
+
+    /**
+     * Cap the response body, only head and tail characters are kept for logging. <br>
+     * The whole body is not held by in-out logging until the end of request. (e.g. big JSON for export)
+     * @param headSize The max size of head characters. (ZeroAllowed)
+     * @param tailSize The max size of tail characters. (ZeroAllowed)
+     * @return this. (NotNull)
+     */
+    public InOutLogOption capResponseBody(int headSize, int tailSize) {
+        assertBodyCapSize(headSize, tailSize);
+        responseBodyHeadSize = headSize;
+        responseBodyTailSize = tailSize;
+        return this;
+    }
+
+    protected void assertBodyCapSize(int headSize, int tailSize) {
+        if (headSize < 0) {
+            throw new IllegalArgumentException("The argument 'headSize' should not be minus: " + headSize);
+        }
+        if (tailSize < 0) {
+            throw new IllegalArgumentException("The argument 'tailSize' should not be minus: " + tailSize);
+        }
+    }
+
+    /**
+     * Sample request/response bodies by the rate determined per action or per status. <br>
+     * Other parts of in-out log are always shown, only bodies are removed if not sampled.
+     * <pre>
+     * e.g. 10% for export action, all for error status
+     *  option.sampleBody((runtime, status) -&gt; {
+     *      if (status &gt;= 400) {
+     *          return 1.0;
+     *      }
+     *      return runtime.getActionType().equals(ProductExportAction.class) ? 0.1 : 1.0;
+     *  });
+     * </pre>
+     * @param bodySampler The sampler of bodies, which returns rate as 0.0 to 1.0. (NotNull)
+     * @return this. (NotNull)
+     */
+    public InOutLogOption sampleBody(InOutBodySampler bodySampler) {
+        if (bodySampler == null) {
+            throw new IllegalArgumentException("The argument 'bodySampler' should not be null.");
+        }
+        this.bodySampler = bodySampler;
+        return this;
+    }
+
+    @FunctionalInterface
+    public static interface InOutBodySampler {
+
+        /**
+         * @param runtime The runtime of current action. (NotNull)
+         * @param status The HTTP status of response. (may be not fixed yet e.g. when exception)
+         * @return The rate of showing bodies, 0.0 (never) to 1.0 (always).
+         */
+        double rate(ActionRuntime runtime, int status);
+    }
+
     // -----------------------------------------------------
     //                                               Request
     //                                               -------
@@ -202,10 +326,44 @@ public class InOutLogOption {
         return async;
     }
 
+    public boolean isPipeline() {
+        return pipeline;
+    }
+
+    public int getPipelineBufferSize() {
+        return pipelineBufferSize;
+    }
+
+    public int getPipelineBatchSize() {
+        return pipelineBatchSize;
+    }
+
     public boolean isSuppressResponseBody() {
         return suppressResponseBody;
     }
 
+    public int getRequestBodyHeadSize() { // minus means no cap
+        return requestBodyHeadSize;
+    }
+
+    public int getRequestBodyTailSize() {
+        return requestBodyTailSize;
+    }
+
+    public int getResponseBodyHeadSize() { // minus means no cap
+        return responseBodyHeadSize;
+    }
+
+    public int getResponseBodyTailSize() {
+        return responseBodyTailSize;
+    }
+
+    public OptionalThing<InOutBodySampler> getBodySampler() {
+        return OptionalThing.ofNullable(bodySampler, () -> {
+            throw new IllegalStateException("Not found the bodySampler.");
+        });
+    }
+
     public List<String> getRequestHeaderNameList() { // not null
         return requestHeaderNameList != null ? requestHeaderNameList : Collections.emptyList();
     }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.ruts.inoutlogging;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.lastaflute.core.magic.async.pipeline.BoundedDrainPipeline;
+
+/**
+ * The logging pipeline of in-out log, request threads only hand off records. <br>
+ * Records are drained by one daemon thread and written in batches, dropped (counted) if the buffer is full.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class InOutLogPipeline extends BoundedDrainPipeline<InOutLogRecord> {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final String CONSUMER_THREAD_NAME = "lasta_inout_logging";
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param bufferSize The size of ring buffer, rounded up to power of two. (Positive)
+     * @param batchSize The max size of records written at one time. (Positive)
+     * @param batchWriter The callback to write the drained records, called by only consumer thread. (NotNull)
+     */
+    public InOutLogPipeline(int bufferSize, int batchSize, Consumer<List<InOutLogRecord>> batchWriter) {
+        super(CONSUMER_THREAD_NAME, "in-out logs", bufferSize, batchSize, batchWriter);
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "inoutPipeline:{capacity=" + getCapacity() + ", batchSize=" + batchSize + ", accepted=" + getAcceptedCount() + ", dropped="
+                + getDroppedCount() + ", written=" + getWrittenCount() + ", failed=" + getFailedCount() + "}";
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.ruts.inoutlogging;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+
+import org.dbflute.optional.OptionalThing;
+import org.lastaflute.core.mail.RequestedMailCount;
+import org.lastaflute.core.remoteapi.RequestedRemoteApiCount;
+import org.lastaflute.db.dbflute.callbackcontext.traceablesql.RequestedSqlCount;
+
+/**
+ * The detached snapshot of one in-out log, captured on request thread. <br>
+ * It does not refer request, response and action runtime, so it can be formatted by other thread. <br>
+ * Accept methods are called only before hand-off, it should be treated as immutable after that.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class InOutLogRecord {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final InOutLogOption option; // not null
+
+    // -----------------------------------------------------
+    //                                                 Basic
+    //                                                 -----
+    protected String requestPath; // not null after capture
+    protected String httpMethod; // null allowed if unknown
+    protected String actionName; // not null after capture
+    protected String methodName; // not null after capture
+    protected LocalDateTime beginDateTime; // null allowed if no begun
+    protected LocalDateTime endDateTime; // null allowed if no begun
+    protected String processHash; // null allowed
+    protected String userAgent; // null allowed
+    protected Throwable cause; // application or framework cause, null allowed
+
+    // -----------------------------------------------------
+    //                                               In-Out
+    //                                               ------
+    protected Map<String, Object> requestHeaderMap; // null allowed if no target header
+    protected Map<String, Object> requestParameterMap; // not null after capture
+    protected InOutBodyCapture requestBodyCapture; // null allowed if no body or not sampled
+    protected String requestBodyType; // null allowed
+    protected Map<String, Object> responseHeaderMap; // null allowed if no target header
+    protected InOutBodyCapture responseBodyCapture; // null allowed if no body or not sampled
+    protected String responseBodyType; // null allowed
+
+    // -----------------------------------------------------
+    //                                               Various
+    //                                               -------
+    protected RequestedSqlCount sqlCount; // null allowed
+    protected RequestedMailCount mailCount; // null allowed
+    protected RequestedRemoteApiCount remoteApiCount; // null allowed
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public InOutLogRecord(InOutLogOption option) {
+        if (option == null) {
+            throw new IllegalArgumentException("The argument 'option' should not be null.");
+        }
+        this.option = option;
+    }
+
+    // ===================================================================================
+    //                                                                       Accept Facade
+    //                                                                       =============
+    public void acceptBasic(String requestPath, String httpMethod, String actionName, String methodName) {
+        this.requestPath = requestPath;
+        this.httpMethod = httpMethod;
+        this.actionName = actionName;
+        this.methodName = methodName;
+    }
+
+    public void acceptTime(LocalDateTime beginDateTime, LocalDateTime endDateTime) {
+        this.beginDateTime = beginDateTime;
+        this.endDateTime = endDateTime;
+    }
+
+    public void acceptProcess(String processHash, String userAgent, Throwable cause) {
+        this.processHash = processHash;
+        this.userAgent = userAgent;
+        this.cause = cause;
+    }
+
+    public void acceptRequest(Map<String, Object> headerMap, Map<String, Object> parameterMap, InOutBodyCapture bodyCapture,
+            String bodyType) {
+        this.requestHeaderMap = headerMap;
+        this.requestParameterMap = parameterMap;
+        this.requestBodyCapture = bodyCapture;
+        this.requestBodyType = bodyType;
+    }
+
+    public void acceptResponse(Map<String, Object> headerMap, InOutBodyCapture bodyCapture, String bodyType) {
+        this.responseHeaderMap = headerMap;
+        this.responseBodyCapture = bodyCapture;
+        this.responseBodyType = bodyType;
+    }
+
+    public void acceptVarious(RequestedSqlCount sqlCount, RequestedMailCount mailCount, RequestedRemoteApiCount remoteApiCount) {
+        this.sqlCount = sqlCount;
+        this.mailCount = mailCount;
+        this.remoteApiCount = remoteApiCount;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "inoutRecord:{" + httpMethod + " " + requestPath + ", " + actionName + "@" + methodName + "(), #" + processHash + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public InOutLogOption getOption() {
+        return option;
+    }
+
+    public String getRequestPath() {
+        return requestPath;
+    }
+
+    public OptionalThing<String> getHttpMethod() {
+        return OptionalThing.ofNullable(httpMethod, () -> {
+            throw new IllegalStateException("Not found the HTTP method.");
+        });
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public OptionalThing<LocalDateTime> getBeginDateTime() {
+        return OptionalThing.ofNullable(beginDateTime, () -> {
+            throw new IllegalStateException("Not found the begin date-time.");
+        });
+    }
+
+    public OptionalThing<LocalDateTime> getEndDateTime() {
+        return OptionalThing.ofNullable(endDateTime, () -> {
+            throw new IllegalStateException("Not found the end date-time.");
+        });
+    }
+
+    public OptionalThing<String> getProcessHash() {
+        return OptionalThing.ofNullable(processHash, () -> {
+            throw new IllegalStateException("Not found the process hash.");
+        });
+    }
+
+    public OptionalThing<String> getUserAgent() {
+        return OptionalThing.ofNullable(userAgent, () -> {
+            throw new IllegalStateException("Not found the user agent.");
+        });
+    }
+
+    public OptionalThing<Throwable> getCause() {
+        return OptionalThing.ofNullable(cause, () -> {
+            throw new IllegalStateException("Not found the cause.");
+        });
+    }
+
+    public OptionalThing<Map<String, Object>> getRequestHeaderMap() {
+        return OptionalThing.ofNullable(requestHeaderMap, () -> {
+            throw new IllegalStateException("Not found the request header map.");
+        });
+    }
+
+    public Map<String, Object> getRequestParameterMap() { // not null
+        return requestParameterMap != null ? requestParameterMap : Collections.emptyMap();
+    }
+
+    public OptionalThing<String> getRequestBodyContent() { // built lazily here e.g. in pipeline thread
+        return OptionalThing.ofNullable(requestBodyCapture, () -> {
+            throw new IllegalStateException("Not found the request body content.");
+        }).map(capture -> capture.toLoggingExp());
+    }
+
+    public OptionalThing<String> getRequestBodyType() {
+        return OptionalThing.ofNullable(requestBodyType, () -> {
+            throw new IllegalStateException("Not found the request body type.");
+        });
+    }
+
+    public OptionalThing<Map<String, Object>> getResponseHeaderMap() {
+        return OptionalThing.ofNullable(responseHeaderMap, () -> {
+            throw new IllegalStateException("Not found the response header map.");
+        });
+    }
+
+    public OptionalThing<String> getResponseBodyContent() { // built lazily here e.g. in pipeline thread
+        return OptionalThing.ofNullable(responseBodyCapture, () -> {
+            throw new IllegalStateException("Not found the response body content.");
+        }).map(capture -> capture.toLoggingExp());
+    }
+
+    public OptionalThing<String> getResponseBodyType() {
+        return OptionalThing.ofNullable(responseBodyType, () -> {
+            throw new IllegalStateException("Not found the response body type.");
+        });
+    }
+
+    public OptionalThing<RequestedSqlCount> getSqlCount() {
+        return OptionalThing.ofNullable(sqlCount, () -> {
+            throw new IllegalStateException("Not found the SQL count.");
+        });
+    }
+
+    public OptionalThing<RequestedMailCount> getMailCount() {
+        return OptionalThing.ofNullable(mailCount, () -> {
+            throw new IllegalStateException("Not found the mail count.");
+        });
+    }
+
+    public OptionalThing<RequestedRemoteApiCount> getRemoteApiCount() {
+        return OptionalThing.ofNullable(remoteApiCount, () -> {
+            throw new IllegalStateException("Not found the remote API count.");
+        });
+    }
+}
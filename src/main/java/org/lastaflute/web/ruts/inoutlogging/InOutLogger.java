@@ -20,6 +20,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 import javax.servlet.ServletException;
 
@@ -52,6 +53,11 @@ public class InOutLogger {
     protected static final Logger logger = LoggerFactory.getLogger(LOGGER_NAME);
     protected static final DateTimeFormatter beginTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
 
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected volatile InOutLogPipeline pipeline; // null allowed until first pipeline logging
+
     // ===================================================================================
     //                                                                             Logging
     //                                                                             =======
@@ -86,26 +92,99 @@ public class InOutLogger {
     }
 
     protected void doShowInOutLog(RequestManager requestManager, ActionRuntime runtime, InOutLogKeeper keeper) {
-        final String whole = buildWhole(requestManager, runtime, keeper);
-        if (keeper.getOption().isAsync()) {
-            asyncShow(requestManager, whole);
+        final InOutLogOption option = keeper.getOption();
+        final InOutLogRecord record = captureRecord(requestManager, runtime, keeper);
+        if (option.isPipeline()) {
+            preparePipeline(option).offer(record); // no formatting here, dropped if full
+        } else if (option.isAsync()) {
+            asyncShow(requestManager, buildWhole(record));
         } else { // basically here
-            log(whole); // also no wait because of after writing response (except redirection)
+            log(buildWhole(record)); // also no wait because of after writing response (except redirection)
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Capture Record
+    //                                                                      ==============
+    /**
+     * Capture the detached record from request resources, which can be formatted by other thread.
+     * @param requestManager The manager of request. (NotNull)
+     * @param runtime The runtime of current action. (NotNull)
+     * @param keeper The keeper of in-out log. (NotNull)
+     * @return The new-created record. (NotNull)
+     */
+    protected InOutLogRecord captureRecord(RequestManager requestManager, ActionRuntime runtime, InOutLogKeeper keeper) {
+        final InOutLogRecord record = new InOutLogRecord(keeper.getOption());
+        final String actionName = runtime.getActionType().getSimpleName();
+        final String methodName = runtime.getActionExecute().getExecuteMethod().getName();
+        record.acceptBasic(requestManager.getRequestPath(), requestManager.getHttpMethod().orElse(null), actionName, methodName);
+        final LocalDateTime beginDateTime = keeper.getBeginDateTime().orElse(null);
+        record.acceptTime(beginDateTime, beginDateTime != null ? flashDateTime(requestManager) : null);
+        final String userAgent = requestManager.getHeaderUserAgent().orElse(null);
+        record.acceptProcess(keeper.getProcessHash().orElse(null), userAgent, resolveCause(runtime, keeper));
+
+        // header providers refer request/response so evaluate them here
+        // bodies are captures (may be capped) and their expressions are built when shown
+        final boolean bodySampled = determineBodySampled(requestManager, runtime, keeper);
+        final Map<String, Object> requestHeaderMap = keeper.getRequestHeaderMapProvider().map(provider -> provider.get()).orElse(null);
+        final Map<String, Object> parameterMap = keeper.getRequestParameterMap(); // already copied by keeper
+        final InOutBodyCapture requestBody = bodySampled ? keeper.getRequestBodyCapture().orElse(null) : null;
+        record.acceptRequest(requestHeaderMap, parameterMap, requestBody, keeper.getRequestBodyType().orElse(null));
+        final Map<String, Object> responseHeaderMap = keeper.getResponseHeaderMapProvider().map(provider -> provider.get()).orElse(null);
+        final InOutBodyCapture responseBody = bodySampled ? keeper.getResponseBodyCapture().orElse(null) : null;
+        record.acceptResponse(responseHeaderMap, responseBody, keeper.getResponseBodyType().orElse(null));
+
+        final RequestedSqlCount sqlCount =
+                requestManager.getAttribute(LastaWebKey.DBFLUTE_SQL_COUNT_KEY, RequestedSqlCount.class).orElse(null);
+        final RequestedMailCount mailCount =
+                requestManager.getAttribute(LastaWebKey.MAILFLUTE_MAIL_COUNT_KEY, RequestedMailCount.class).orElse(null);
+        final RequestedRemoteApiCount remoteApiCount =
+                requestManager.getAttribute(LastaWebKey.REMOTEAPI_COUNT_KEY, RequestedRemoteApiCount.class).orElse(null);
+        record.acceptVarious(sqlCount, mailCount, remoteApiCount); // immutable objects
+        return record;
+    }
+
+    protected LocalDateTime flashDateTime(RequestManager requestManager) { // flash not to depends on transaction
+        final TimeManager timeManager = requestManager.getTimeManager();
+        return DfTypeUtil.toLocalDateTime(timeManager.flashDate(), timeManager.getBusinessTimeZone());
+    }
+
+    protected boolean determineBodySampled(RequestManager requestManager, ActionRuntime runtime, InOutLogKeeper keeper) {
+        return keeper.getOption().getBodySampler().map(sampler -> {
+            final int status = requestManager.getResponseManager().getResponse().getStatus();
+            final double rate = sampler.rate(runtime, status);
+            return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+        }).orElse(true);
+    }
+
+    protected Throwable resolveCause(ActionRuntime runtime, InOutLogKeeper keeper) {
+        final RuntimeException failureCause = runtime.getFailureCause();
+        if (failureCause != null) {
+            return failureCause;
         }
+        // application does not have exception but framework may have...
+        return keeper.getFrameworkCause().map(frameworkCause -> {
+            if (frameworkCause instanceof ServletException) {
+                final Throwable rootCause = ((ServletException) frameworkCause).getRootCause();
+                return rootCause != null ? rootCause : frameworkCause; // the servlet exception may be simple wrapper
+            } else { // basically framework's runtime exception or IO exception
+                return frameworkCause;
+            }
+        }).orElse(null);
     }
 
     // ===================================================================================
     //                                                                         Build Whole
     //                                                                         ===========
-    protected String buildWhole(RequestManager requestManager, ActionRuntime runtime, InOutLogKeeper keeper) {
-        final InOutLogOption option = keeper.getOption();
+    protected String buildWhole(InOutLogRecord record) {
+        final InOutLogOption option = record.getOption();
         final StringBuilder sb = new StringBuilder();
-        setupBasic(sb, requestManager, runtime, keeper);
-        setupBegin(sb, keeper);
-        setupPerformance(sb, requestManager, keeper);
-        setupProcess(sb, keeper);
-        setupCaller(sb, requestManager, keeper);
-        setupCause(sb, runtime, keeper);
+        setupBasic(sb, record);
+        setupBegin(sb, record);
+        setupPerformance(sb, record);
+        setupProcess(sb, record);
+        setupCaller(sb, record);
+        setupCause(sb, record);
 
         // in-out data here
         boolean alreadyLineSep = false;
@@ -113,38 +192,38 @@ public class InOutLogger {
         // _/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/
         // Request: requestHeader, requestParameter, requestBody
         // _/_/_/_/_/_/_/_/_/_/
-        final String requestHeaderExp = buildRequestHeaderExp(keeper, option);
+        final String requestHeaderExp = buildRequestHeaderExp(record);
         if (requestHeaderExp != null) {
             final String title = "requestHeader";
             final String realExp = requestHeaderExp;
-            alreadyLineSep = buildInOutRequest(sb, title, realExp, alreadyLineSep, keeper);
+            alreadyLineSep = buildInOutRequest(sb, title, realExp, alreadyLineSep, record);
         }
-        final String paramsExp = buildRequestParameterExp(keeper, option);
+        final String paramsExp = doBuildRequestParameterExp(record.getRequestParameterMap(), option);
         if (paramsExp != null) {
             final String title = "requestParameter";
             final String realExp = option.getRequestParameterFilter().map(filter -> filter.apply(paramsExp)).orElse(paramsExp);
-            alreadyLineSep = buildInOutRequest(sb, title, realExp, alreadyLineSep, keeper);
+            alreadyLineSep = buildInOutRequest(sb, title, realExp, alreadyLineSep, record);
         }
-        if (keeper.getRequestBodyContent().isPresent()) {
-            final String body = keeper.getRequestBodyContent().get();
-            final String title = "requestBody(" + keeper.getRequestBodyType().orElse("unknown") + ")";
+        if (record.getRequestBodyContent().isPresent()) {
+            final String body = record.getRequestBodyContent().get();
+            final String title = "requestBody(" + record.getRequestBodyType().orElse("unknown") + ")";
             final String realExp = option.getRequestBodyFilter().map(filter -> filter.apply(body)).orElse(body);
-            alreadyLineSep = buildInOutRequest(sb, title, realExp, alreadyLineSep, keeper);
+            alreadyLineSep = buildInOutRequest(sb, title, realExp, alreadyLineSep, record);
         }
 
         // _/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/
         // Response: responseHeader, responseBody
         // _/_/_/_/_/_/_/_/_/_/
-        final String responseHeaderExp = buildResponseHeaderExp(keeper);
+        final String responseHeaderExp = buildResponseHeaderExp(record);
         if (responseHeaderExp != null) {
             final String title = "responseHeader";
             final String realExp = responseHeaderExp;
             alreadyLineSep = buildInOutResponsePlus(sb, title, realExp, alreadyLineSep);
         }
-        if (!keeper.getOption().isSuppressResponseBody()) {
-            if (keeper.getResponseBodyContent().isPresent()) {
-                final String body = keeper.getResponseBodyContent().get();
-                final String title = "responseBody(" + keeper.getResponseBodyType().orElse("unknown") + ")";
+        if (!option.isSuppressResponseBody()) {
+            if (record.getResponseBodyContent().isPresent()) {
+                final String body = record.getResponseBodyContent().get();
+                final String title = "responseBody(" + record.getResponseBodyType().orElse("unknown") + ")";
                 final String realExp = option.getResponseBodyFilter().map(filter -> filter.apply(body)).orElse(body);
                 alreadyLineSep = buildInOutResponsePlus(sb, title, realExp, alreadyLineSep);
             }
@@ -153,24 +232,21 @@ public class InOutLogger {
         // _/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/_/
         // Various: sqlCount, mailCount, remoteApiCount
         // _/_/_/_/_/_/_/_/_/_/
-        final OptionalThing<RequestedSqlCount> optSql =
-                requestManager.getAttribute(LastaWebKey.DBFLUTE_SQL_COUNT_KEY, RequestedSqlCount.class);
+        final OptionalThing<RequestedSqlCount> optSql = record.getSqlCount();
         if (optSql.isPresent()) {
             final RequestedSqlCount count = optSql.get();
             if (count.getTotalCountOfSql() > 0) {
                 alreadyLineSep = buildInOutResponsePlus(sb, "sqlCount", count.toString(), alreadyLineSep);
             }
         }
-        final OptionalThing<RequestedMailCount> optMail =
-                requestManager.getAttribute(LastaWebKey.MAILFLUTE_MAIL_COUNT_KEY, RequestedMailCount.class);
+        final OptionalThing<RequestedMailCount> optMail = record.getMailCount();
         if (optMail.isPresent()) {
             final RequestedMailCount count = optMail.get();
             if (count.getCountOfPosting() > 0) {
                 alreadyLineSep = buildInOutResponsePlus(sb, "mailCount", count.toString(), alreadyLineSep);
             }
         }
-        final OptionalThing<RequestedRemoteApiCount> optRemoteApi =
-                requestManager.getAttribute(LastaWebKey.REMOTEAPI_COUNT_KEY, RequestedRemoteApiCount.class);
+        final OptionalThing<RequestedRemoteApiCount> optRemoteApi = record.getRemoteApiCount();
         if (optRemoteApi.isPresent()) {
             final RequestedRemoteApiCount count = optRemoteApi.get();
             if (!count.getFacadeCountMap().isEmpty()) {
@@ -184,69 +260,47 @@ public class InOutLogger {
     // ===================================================================================
     //                                                                         Setup Parts
     //                                                                         ===========
-    protected void setupBasic(StringBuilder sb, RequestManager requestManager, ActionRuntime runtime, InOutLogKeeper keeper) {
-        final String requestPath = requestManager.getRequestPath();
-        final String httpMethod = requestManager.getHttpMethod().orElse("unknown");
-        sb.append(httpMethod).append(" ").append(requestPath);
+    protected void setupBasic(StringBuilder sb, InOutLogRecord record) {
+        final String httpMethod = record.getHttpMethod().orElse("unknown");
+        sb.append(httpMethod).append(" ").append(record.getRequestPath());
         // not use HTTP status because of not fiexed yet here when e.g. exception
         // (and in-out logging is not access log and you can derive it by exception type)
         //requestManager.getResponseManager().getResponse().getStatus();
-        final String actionName = runtime.getActionType().getSimpleName();
-        final String methodName = runtime.getActionExecute().getExecuteMethod().getName();
-        sb.append(" ").append(actionName).append("@").append(methodName).append("()");
+        sb.append(" ").append(record.getActionName()).append("@").append(record.getMethodName()).append("()");
     }
 
-    protected void setupBegin(StringBuilder sb, InOutLogKeeper keeper) {
-        final String beginExp = keeper.getBeginDateTime().map(begin -> {
+    protected void setupBegin(StringBuilder sb, InOutLogRecord record) {
+        final String beginExp = record.getBeginDateTime().map(begin -> {
             return beginTimeFormatter.format(begin);
         }).orElse("no begun"); // basically no way, just in case
         sb.append(" (").append(beginExp).append(")");
     }
 
-    protected void setupPerformance(StringBuilder sb, RequestManager requestManager, InOutLogKeeper keeper) {
-        final String performanceCost = keeper.getBeginDateTime().map(begin -> {
+    protected void setupPerformance(StringBuilder sb, InOutLogRecord record) {
+        final String performanceCost = record.getBeginDateTime().flatMap(begin -> record.getEndDateTime().map(end -> {
             final long before = DfTypeUtil.toDate(begin).getTime();
-            final long after = DfTypeUtil.toDate(flashDateTime(requestManager)).getTime();
+            final long after = DfTypeUtil.toDate(end).getTime();
             return DfTraceViewUtil.convertToPerformanceView(after - before);
-        }).orElse("no ended");
+        })).orElse("no ended");
         sb.append(" [").append(performanceCost).append("]");
     }
 
-    protected LocalDateTime flashDateTime(RequestManager requestManager) { // flash not to depends on transaction
-        final TimeManager timeManager = requestManager.getTimeManager();
-        return DfTypeUtil.toLocalDateTime(timeManager.flashDate(), timeManager.getBusinessTimeZone());
-    }
-
-    protected void setupProcess(StringBuilder sb, InOutLogKeeper keeper) {
-        keeper.getProcessHash().ifPresent(hash -> { // basically present
+    protected void setupProcess(StringBuilder sb, InOutLogRecord record) {
+        record.getProcessHash().ifPresent(hash -> { // basically present
             sb.append(" #").append(hash);
         }); // no else because of sub item
     }
 
-    protected void setupCaller(StringBuilder sb, RequestManager requestManager, InOutLogKeeper keeper) {
-        requestManager.getHeaderUserAgent().ifPresent(userAgent -> {
+    protected void setupCaller(StringBuilder sb, InOutLogRecord record) {
+        record.getUserAgent().ifPresent(userAgent -> {
             sb.append(" caller:{").append(Srl.cut(userAgent, 50, "...")).append("}"); // may be too big so cut
         });
     }
 
-    protected void setupCause(StringBuilder sb, ActionRuntime runtime, InOutLogKeeper keeper) {
-        final RuntimeException failureCause = runtime.getFailureCause();
-        if (failureCause != null) {
-            doSetupCause(sb, failureCause);
-        } else { // application does not have exception but framework may have...
-            keeper.getFrameworkCause().ifPresent(frameworkCause -> {
-                if (frameworkCause instanceof ServletException) {
-                    final Throwable rootCause = ((ServletException) frameworkCause).getRootCause();
-                    if (rootCause != null) { // the servlet exception is simple wrapper
-                        doSetupCause(sb, rootCause);
-                    } else { // the servlet exception is main exception
-                        doSetupCause(sb, frameworkCause);
-                    }
-                } else { // basically framework's runtime exception or IO exception
-                    doSetupCause(sb, frameworkCause);
-                }
-            });
-        }
+    protected void setupCause(StringBuilder sb, InOutLogRecord record) {
+        record.getCause().ifPresent(cause -> { // already resolved e.g. root cause of servlet exception
+            doSetupCause(sb, cause);
+        });
     }
 
     protected void doSetupCause(StringBuilder sb, Throwable cause) {
@@ -260,17 +314,13 @@ public class InOutLogger {
     // -----------------------------------------------------
     //                                        Request Header
     //                                        --------------
-    protected String buildRequestHeaderExp(InOutLogKeeper keeper, InOutLogOption option) {
-        return keeper.getRequestHeaderMapProvider().map(provider -> buildMapExp(provider.get())).orElse(null);
+    protected String buildRequestHeaderExp(InOutLogRecord record) {
+        return record.getRequestHeaderMap().map(headerMap -> buildMapExp(headerMap)).orElse(null);
     }
 
     // -----------------------------------------------------
     //                                     Request Parameter
     //                                     -----------------
-    protected String buildRequestParameterExp(InOutLogKeeper keeper, InOutLogOption option) {
-        return doBuildRequestParameterExp(keeper.getRequestParameterMap(), option);
-    }
-
     protected String doBuildRequestParameterExp(Map<String, Object> requestParameterMap, InOutLogOption option) {
         return buildMapExp(filterRequestParameterMap(requestParameterMap, option));
     }
@@ -293,8 +343,8 @@ public class InOutLogger {
     // -----------------------------------------------------
     //                                    Response Parameter
     //                                    ------------------
-    protected String buildResponseHeaderExp(InOutLogKeeper keeper) {
-        return keeper.getResponseHeaderMapProvider().map(provider -> buildMapExp(provider.get())).orElse(null);
+    protected String buildResponseHeaderExp(InOutLogRecord record) {
+        return record.getResponseHeaderMap().map(headerMap -> buildMapExp(headerMap)).orElse(null);
     }
 
     // -----------------------------------------------------
@@ -357,9 +407,9 @@ public class InOutLogger {
     // ===================================================================================
     //                                                                         Build InOut
     //                                                                         ===========
-    protected boolean buildInOutRequest(StringBuilder sb, String title, String value, boolean alreadyLineSep, InOutLogKeeper keeper) {
+    protected boolean buildInOutRequest(StringBuilder sb, String title, String value, boolean alreadyLineSep, InOutLogRecord record) {
         String noSepDelim = " "; // as default (if same line show)
-        if (willBeLineSeparatedLater(keeper) && !value.contains("\n") && !alreadyLineSep) {
+        if (willBeLineSeparatedLater(record) && !value.contains("\n") && !alreadyLineSep) {
             sb.append("\n"); // line-separate request beginning point for view
             noSepDelim = "";
         }
@@ -367,9 +417,9 @@ public class InOutLogger {
         return noSepDelim.isEmpty() || nextLineSep; // empty means already line-separated here
     }
 
-    protected boolean willBeLineSeparatedLater(InOutLogKeeper keeper) {
-        return keeper.getResponseBodyContent().filter(body -> { // response body may have line separator
-            return !keeper.getOption().isSuppressResponseBody() && body.contains("\n");
+    protected boolean willBeLineSeparatedLater(InOutLogRecord record) {
+        return record.getResponseBodyContent().filter(body -> { // response body may have line separator
+            return !record.getOption().isSuppressResponseBody() && body.contains("\n");
         }).isPresent();
     }
 
@@ -407,6 +457,51 @@ public class InOutLogger {
         });
     }
 
+    // ===================================================================================
+    //                                                                            Pipeline
+    //                                                                            ========
+    protected InOutLogPipeline preparePipeline(InOutLogOption option) {
+        InOutLogPipeline current = pipeline;
+        if (current == null) {
+            synchronized (this) {
+                current = pipeline;
+                if (current == null) { // first option determines the sizes
+                    current = createPipeline(option);
+                    current.start();
+                    pipeline = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    protected InOutLogPipeline createPipeline(InOutLogOption option) {
+        final int bufferSize = option.getPipelineBufferSize();
+        final int batchSize = option.getPipelineBatchSize();
+        return new InOutLogPipeline(bufferSize, batchSize, batchList -> writePipelineBatch(batchList));
+    }
+
+    protected void writePipelineBatch(List<InOutLogRecord> batchList) { // in consumer thread
+        for (InOutLogRecord record : batchList) {
+            try {
+                log(buildWhole(record)); // one log per request for log tools
+            } catch (RuntimeException continued) { // not to lose other records in the batch
+                logger.info("*Failed to show in-out log: " + record.getRequestPath(), continued);
+            }
+        }
+    }
+
+    /**
+     * Stop the logging pipeline if it exists, remaining logs are written before stop.
+     * @param waitMillis The milliseconds to wait for the remaining logs written. (ZeroAllowed: no wait)
+     */
+    public void stopPipeline(long waitMillis) {
+        final InOutLogPipeline current = pipeline;
+        if (current != null) {
+            current.stop(waitMillis);
+        }
+    }
+
     // ===================================================================================
     //                                                                         Value Entry
     //                                                                         ===========
@@ -428,4 +523,13 @@ public class InOutLogger {
             return value;
         }
     }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public OptionalThing<InOutLogPipeline> getPipeline() { // e.g. to see dropped count
+        return OptionalThing.ofNullable(pipeline, () -> {
+            throw new IllegalStateException("Not found the in-out logging pipeline (not used yet?).");
+        });
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.ruts.phase;
+
+/**
+ * The phases of action pipeline measured by phase timing. <br>
+ * Some phases are inside others, e.g. validation is called in action method.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public enum ActionPhase {
+
+    /** from routing filter beginning to action found (by action path resolver) */
+    ROUTING("routing"),
+
+    /** analyzing path parameters of the action execute */
+    PATH_PARAM("pathParam"),
+
+    /** populating request parameters (or JSON body) to action form */
+    FORM_POPULATE("formPopulate"),
+
+    /** validation by action validator (inside action method) */
+    VALIDATION("validation"),
+
+    /** invoking action execute method (including validation) */
+    ACTION_METHOD("actionMethod"),
+
+    /** ending action transaction (commit or rollback) */
+    TRANSACTION_COMMIT("txCommit"),
+
+    /** serializing JSON response (and writing if streaming) */
+    JSON_SERIALIZE("jsonSerialize"),
+
+    /** rendering HTML response */
+    HTML_RENDER("htmlRender");
+
+    private final String title;
+
+    private ActionPhase(String title) {
+        this.title = title;
+    }
+
+    public String title() {
+        return title;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.ruts.phase;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.lastaflute.core.metrics.ElapsedTimeHistogram;
+
+/**
+ * The aggregate of phase spans for one action execute.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ActionPhaseAggregate {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final String actionKey; // not null e.g. SeaAction@index
+    protected final Map<ActionPhase, ElapsedTimeHistogram> histogramMap; // not null, fixed keys so read without lock
+    protected final LongAdder requestCount = new LongAdder();
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public ActionPhaseAggregate(String actionKey) {
+        this.actionKey = actionKey;
+        final Map<ActionPhase, ElapsedTimeHistogram> map = new EnumMap<ActionPhase, ElapsedTimeHistogram>(ActionPhase.class);
+        for (ActionPhase phase : ActionPhase.values()) {
+            map.put(phase, new ElapsedTimeHistogram());
+        }
+        this.histogramMap = Collections.unmodifiableMap(map);
+    }
+
+    // ===================================================================================
+    //                                                                              Record
+    //                                                                              ======
+    /**
+     * @param spanNanos The array of span nanoseconds indexed by phase ordinal, minus means not passed. (NotNull)
+     */
+    public void record(long[] spanNanos) {
+        requestCount.increment();
+        for (ActionPhase phase : ActionPhase.values()) {
+            final long nanos = spanNanos[phase.ordinal()];
+            if (nanos >= 0) {
+                histogramMap.get(phase).record(nanos);
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "phaseAggregate:{" + actionKey + ", requests=" + getRequestCount() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public String getActionKey() {
+        return actionKey;
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public ElapsedTimeHistogram getHistogram(ActionPhase phase) {
+        return histogramMap.get(phase);
+    }
+
+    public Map<ActionPhase, ElapsedTimeHistogram> getHistogramMap() { // read-only
+        return histogramMap;
+    }
+}
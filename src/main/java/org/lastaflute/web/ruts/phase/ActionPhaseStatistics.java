@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.ruts.phase;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The statistics of action phase timing, aggregates per action execute.
+ * <pre>
+ * e.g. export them by your monitoring action
+ *  ActionPhaseTimer.getStatistics().buildExportText();
+ *  (one line per action and phase)
+ *  ProductListAction@index routing {count=120, avg=35us, p50=31us, p90=47us, p99=95us, max=410us}
+ *  ProductListAction@index actionMethod {count=120, ...}
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ActionPhaseStatistics {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Map<String, ActionPhaseAggregate> aggregateMap = new ConcurrentHashMap<String, ActionPhaseAggregate>();
+
+    // ===================================================================================
+    //                                                                              Record
+    //                                                                              ======
+    /**
+     * @param actionKey The key of action execute e.g. SeaAction@index. (NotNull)
+     * @param spanNanos The array of span nanoseconds indexed by phase ordinal, minus means not passed. (NotNull)
+     */
+    public void record(String actionKey, long[] spanNanos) {
+        ActionPhaseAggregate aggregate = aggregateMap.get(actionKey); // no lock if exists
+        if (aggregate == null) {
+            aggregate = aggregateMap.computeIfAbsent(actionKey, key -> newActionPhaseAggregate(key));
+        }
+        aggregate.record(spanNanos);
+    }
+
+    protected ActionPhaseAggregate newActionPhaseAggregate(String actionKey) {
+        return new ActionPhaseAggregate(actionKey);
+    }
+
+    // ===================================================================================
+    //                                                                               Query
+    //                                                                               =====
+    /**
+     * @param actionKey The key of action execute e.g. SeaAction@index. (NotNull)
+     * @return The aggregate of the action, null if no request yet. (NullAllowed)
+     */
+    public ActionPhaseAggregate findAggregate(String actionKey) {
+        return aggregateMap.get(actionKey);
+    }
+
+    /**
+     * @return The read-only map of aggregates sorted by action key. (NotNull)
+     */
+    public Map<String, ActionPhaseAggregate> getAggregateMap() {
+        return Collections.unmodifiableMap(new TreeMap<String, ActionPhaseAggregate>(aggregateMap));
+    }
+
+    /**
+     * @return The text of all aggregates, one line per action and passed phase. (NotNull, EmptyAllowed)
+     */
+    public String buildExportText() {
+        final StringBuilder sb = new StringBuilder();
+        getAggregateMap().forEach((actionKey, aggregate) -> {
+            aggregate.getHistogramMap().forEach((phase, histogram) -> {
+                if (histogram.getCount() > 0) {
+                    sb.append(actionKey).append(" ").append(phase.title()).append(" ").append(histogram).append("\n");
+                }
+            });
+        });
+        return sb.toString();
+    }
+
+    public void clear() {
+        aggregateMap.clear();
+    }
+}
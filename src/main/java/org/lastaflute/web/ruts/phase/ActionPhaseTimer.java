@@ -0,0 +1,146 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.ruts.phase;
+
+import java.util.Arrays;
+
+import org.lastaflute.web.ruts.config.ActionExecute;
+
+/**
+ * The timer of action phases per request, low overhead by thread local and nanoTime(). <br>
+ * Spans are kept in the thread while request, and aggregated per action execute when finished. <br>
+ * If timing is not begun in the thread (e.g. disabled), mark() and record() do nothing.
+ * <pre>
+ * e.g. in framework (your code can use it as the same way)
+ *  final long marked = ActionPhaseTimer.mark();
+ *  ... // the phase process
+ *  ActionPhaseTimer.record(ActionPhase.FORM_POPULATE, marked);
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ActionPhaseTimer {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    protected static final ThreadLocal<PhaseSpans> spansLocal = new ThreadLocal<PhaseSpans>();
+    protected static final ActionPhaseStatistics statistics = new ActionPhaseStatistics();
+
+    // ===================================================================================
+    //                                                                          Life Cycle
+    //                                                                          ==========
+    /**
+     * Begin phase timing in the current thread, routing phase starts here.
+     * @return true if begun here, false if already begun (e.g. forward). Call finish() only when true.
+     */
+    public static boolean begin() {
+        if (spansLocal.get() != null) {
+            return false;
+        }
+        spansLocal.set(new PhaseSpans(System.nanoTime()));
+        return true;
+    }
+
+    public static boolean isBegun() {
+        return spansLocal.get() != null;
+    }
+
+    /**
+     * End routing phase and identify the action of the request.
+     * @param execute The found action execute. (NotNull)
+     */
+    public static void endRouting(ActionExecute execute) {
+        final PhaseSpans spans = spansLocal.get();
+        if (spans == null || spans.actionKey != null) { // e.g. disabled, forward
+            return;
+        }
+        spans.add(ActionPhase.ROUTING, System.nanoTime() - spans.routingBegun);
+        spans.actionKey = buildActionKey(execute);
+    }
+
+    protected static String buildActionKey(ActionExecute execute) {
+        return execute.getActionMapping().getActionDef().getComponentClass().getSimpleName() + "@" + execute.getExecuteMethod().getName();
+    }
+
+    /**
+     * Finish phase timing in the current thread, spans are aggregated if action is identified.
+     */
+    public static void finish() {
+        final PhaseSpans spans = spansLocal.get();
+        if (spans == null) {
+            return;
+        }
+        spansLocal.remove();
+        if (spans.actionKey != null) { // not aggregated if e.g. no routing
+            statistics.record(spans.actionKey, spans.spanNanos);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                         Mark/Record
+    //                                                                         ===========
+    /**
+     * @return The marked nanoseconds, zero if not begun. (used by record())
+     */
+    public static long mark() {
+        return spansLocal.get() != null ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Record the span from the marked time to now. <br>
+     * If the phase is passed several times in one request, the spans are summed.
+     * @param phase The phase to be recorded. (NotNull)
+     * @param marked The nanoseconds returned by mark(). (ZeroAllowed: then do nothing)
+     */
+    public static void record(ActionPhase phase, long marked) {
+        if (marked == 0L) {
+            return;
+        }
+        final PhaseSpans spans = spansLocal.get();
+        if (spans != null) {
+            spans.add(phase, System.nanoTime() - marked);
+        }
+    }
+
+    protected static class PhaseSpans {
+
+        protected final long routingBegun;
+        protected final long[] spanNanos; // indexed by ordinal, minus means not passed
+        protected String actionKey; // null allowed until routing
+
+        public PhaseSpans(long routingBegun) {
+            this.routingBegun = routingBegun;
+            this.spanNanos = new long[ActionPhase.values().length];
+            Arrays.fill(this.spanNanos, -1L);
+        }
+
+        public void add(ActionPhase phase, long nanos) {
+            final int index = phase.ordinal();
+            spanNanos[index] = (spanNanos[index] < 0 ? 0L : spanNanos[index]) + Math.max(0L, nanos);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                          Statistics
+    //                                                                          ==========
+    /**
+     * @return The statistics of all actions, which can be queried or exported. (NotNull)
+     */
+    public static ActionPhaseStatistics getStatistics() {
+        return statistics;
+    }
+}
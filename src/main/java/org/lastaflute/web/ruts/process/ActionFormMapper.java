@@ -69,6 +69,7 @@ import org.lastaflute.web.ruts.process.populate.FormSimpleTextParameterMeta;
 import org.lastaflute.web.ruts.process.populate.FormYourCollectionResource;
 import org.lastaflute.web.servlet.filter.RequestLoggingFilter.WholeShowErrorFlushAttribute;
 import org.lastaflute.web.servlet.request.RequestManager;
+import org.lastaflute.web.servlet.request.stream.TeeTextReader;
 import org.lastaflute.web.validation.theme.conversion.TypeFailureBean;
 import org.lastaflute.web.validation.theme.conversion.TypeFailureElement;
 import org.lastaflute.web.validation.theme.conversion.ValidateTypeFailure;
@@ -245,6 +246,10 @@ public class ActionFormMapper { // created per request (since 1.1.2)
     protected boolean handleJsonBody() {
         final ActionFormMeta formMeta = virtualForm.getFormMeta();
         if (formMeta.isJsonBodyMapping()) {
+            if (isJsonBodyStreamed() && (formMeta.isRootSymbolForm() || formMeta.isTypedListForm())) {
+                mappingJsonBodyByStreaming(formMeta); // e.g. large list
+                return true;
+            }
             if (formMeta.isRootSymbolForm()) {
                 mappingJsonBody(prepareJsonFromRequestBody());
                 return true;
@@ -324,6 +329,63 @@ public class ActionFormMapper { // created per request (since 1.1.2)
         coinsHelper.throwListJsonBodyParseFailureException(runtime, virtualForm, json, e);
     }
 
+    // -----------------------------------------------------
+    //                                        JSON Streaming
+    //                                        --------------
+    protected boolean isJsonBodyStreamed() {
+        return option.isJsonBodyStreamed();
+    }
+
+    protected void mappingJsonBodyByStreaming(ActionFormMeta formMeta) {
+        final TeeTextReader bodyReader = prepareJsonBodyStreamingReader();
+        final Object realForm;
+        try {
+            final JsonObjectConvertible engine = chooseJsonObjectConvertible();
+            if (formMeta.isRootSymbolForm()) {
+                realForm = engine.fromJson(bodyReader, formMeta.getRootFormType());
+            } else { // typed list form
+                final ParameterizedType pt = formMeta.getListFormParameterParameterizedType().get(); // already checked
+                realForm = engine.fromJsonParameteried(bodyReader, pt);
+            }
+        } catch (RuntimeException e) {
+            throwJsonBodyStreamingFailureException(formMeta, keepStreamedJsonBody(bodyReader), e); // bounded copy
+            return; // unreachable
+        }
+        final String keptJson = keepStreamedJsonBody(bodyReader); // only once, after reading
+        try {
+            acceptJsonRealForm(realForm);
+        } catch (RuntimeException e) {
+            throwJsonBodyStreamingFailureException(formMeta, keptJson, e);
+        }
+    }
+
+    protected void throwJsonBodyStreamingFailureException(ActionFormMeta formMeta, String keptJson, RuntimeException e) {
+        if (formMeta.isRootSymbolForm()) {
+            throwJsonBodyParseFailureException(keptJson, e);
+        } else {
+            throwListJsonBodyParseFailureException(keptJson, e);
+        }
+    }
+
+    protected TeeTextReader prepareJsonBodyStreamingReader() {
+        try {
+            return new TeeTextReader(requestManager.getRequestBodyReader(), option.getJsonBodyKeptLimit());
+        } catch (RuntimeException e) {
+            throwJsonBodyCannotReadFromRequestException(e);
+            return null; // unreachable
+        }
+    }
+
+    protected String keepStreamedJsonBody(TeeTextReader bodyReader) {
+        final String keptJson = bodyReader.getKeptText(); // read text only, cut if over limit
+        if (logger.isDebugEnabled()) {
+            logger.debug("#flow ...Parsed JSON from request body by streaming:{}", buildJsonBodyDebugDisplay(keptJson));
+        }
+        keepRequestBodyForErrorFlush(keptJson);
+        keepRequestBodyForInOutLoggingIfNeeds(keptJson, "json");
+        return keptJson;
+    }
+
     // -----------------------------------------------------
     //                                          Assist Logic
     //                                          ------------
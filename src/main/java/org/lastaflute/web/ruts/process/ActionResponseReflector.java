@@ -15,6 +15,7 @@
  */
 package org.lastaflute.web.ruts.process;
 
+import java.io.Writer;
 import java.lang.reflect.Parameter;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -38,13 +39,19 @@ import org.lastaflute.web.response.render.RenderData;
 import org.lastaflute.web.ruts.NextJourney;
 import org.lastaflute.web.ruts.NextJourney.PlannedJourneyProvider;
 import org.lastaflute.web.ruts.VirtualForm;
+import org.lastaflute.web.ruts.inoutlogging.InOutBodyCapture;
 import org.lastaflute.web.ruts.inoutlogging.InOutLogKeeper;
+import org.lastaflute.web.ruts.inoutlogging.InOutLogOption;
+import org.lastaflute.web.ruts.phase.ActionPhase;
+import org.lastaflute.web.ruts.phase.ActionPhaseTimer;
 import org.lastaflute.web.ruts.process.ActionRuntime.DisplayDataValidator;
 import org.lastaflute.web.ruts.process.validatebean.ResponseHtmlBeanValidator;
 import org.lastaflute.web.ruts.process.validatebean.ResponseJsonBeanValidator;
 import org.lastaflute.web.servlet.request.RequestManager;
 import org.lastaflute.web.servlet.request.ResponseDownloadResource;
 import org.lastaflute.web.servlet.request.ResponseManager;
+import org.lastaflute.web.servlet.request.stream.TeeTextWriter;
+import org.lastaflute.web.servlet.request.stream.WrittenTextCall;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -256,6 +263,10 @@ public class ActionResponseReflector {
             final ResponseManager responseManager = requestManager.getResponseManager();
             setupActionResponseHeader(responseManager, response);
             setupActionResponseHttpStatus(responseManager, response);
+            if (isJsonResponseStreamed(response, option)) { // streamJsonResponse(), e.g. large list
+                writeJsonResponseByStreaming(responseManager, response, option);
+                return;
+            }
             final String json;
             if (response.isReturnAsEmptyBody()) { // asEmptyBody()
                 if (option.isJsonEmptyBodyTreatedAsEmptyObject()) { // for e.g. client fitting
@@ -272,6 +283,7 @@ public class ActionResponseReflector {
                     // 3. use engine by option if specified
                     // 4. use JsonManager
                     final Object jsonResult = response.getJsonResult();
+                    final long marked = ActionPhaseTimer.mark();
                     final OptionalThing<Supplier<RealJsonEngine>> jsonEngineSwitcher = response.getJsonEngineSwitcher();
                     if (jsonEngineSwitcher.isPresent()) { // switchJsonEngine() for different rule action
                         json = toJsonBySwitchedJsonEngine(jsonResult, jsonEngineSwitcher.get());
@@ -283,6 +295,7 @@ public class ActionResponseReflector {
                             json = chooseJsonObjectConvertible(option).toJson(jsonResult);
                         }
                     }
+                    ActionPhaseTimer.record(ActionPhase.JSON_SERIALIZE, marked);
                 }
             }
             keepOriginalBodyForInOutLoggingIfNeeds(json, "json");
@@ -328,21 +341,28 @@ public class ActionResponseReflector {
     //                                       Switched Engine
     //                                       ---------------
     protected String toJsonBySwitchedJsonEngine(Object jsonResult, Supplier<RealJsonEngine> jsonEngineSwitcher) {
+        return prepareSwitchedJsonEngine(jsonEngineSwitcher).toJson(jsonResult);
+    }
+
+    protected RealJsonEngine prepareSwitchedJsonEngine(Supplier<RealJsonEngine> jsonEngineSwitcher) {
         final RealJsonEngine switchedEngine = jsonEngineSwitcher.get(); // application's callback
         if (switchedEngine == null) { // check for user method
             throw new IllegalStateException("The jsonEngineSwitcher cannot return null: " + jsonEngineSwitcher);
         }
-        return switchedEngine.toJson(jsonResult);
+        return switchedEngine;
     }
 
     protected String toJsonBySwitchedMappingOption(Object jsonResult, Consumer<JsonMappingOption> switcher) {
+        return prepareSwitchedMappingOptionEngine(switcher).toJson(jsonResult);
+    }
+
+    protected RealJsonEngine prepareSwitchedMappingOptionEngine(Consumer<JsonMappingOption> switcher) {
         final JsonEngineResource resource = new JsonEngineResource();
         final JsonMappingOption option = new JsonMappingOption();
         switcher.accept(option); // application's callback
         resource.acceptMappingOption(option);
         final JsonManager jsonManager = requestManager.getJsonManager();
-        final RealJsonEngine ruledEngine = jsonManager.newRuledEngine(resource);
-        return ruledEngine.toJson(jsonResult);
+        return jsonManager.prepareRuledEngine(resource); // cached by effective option
     }
 
     // -----------------------------------------------------
@@ -354,6 +374,80 @@ public class ActionResponseReflector {
                 .orElseGet(() -> requestManager.getJsonManager());
     }
 
+    // -----------------------------------------------------
+    //                                        JSON Streaming
+    //                                        --------------
+    protected boolean isJsonResponseStreamed(JsonResponse<?> response, ResponseReflectingOption option) {
+        return option.isJsonResponseStreamed() && !response.isReturnAsEmptyBody() && !response.isReturnAsJsonDirectly();
+    }
+
+    protected void writeJsonResponseByStreaming(ResponseManager responseManager, JsonResponse<?> response,
+            ResponseReflectingOption option) {
+        final JsonObjectConvertible engine = chooseStreamingJsonEngine(response, option); // same priority as string
+        final Object jsonResult = response.getJsonResult();
+        final InOutLogKeeper keeper = findStreamingBodyKeeperIfNeeds(responseManager); // copy is kept only if needed
+        final WrittenTextCall jsonCall = writer -> {
+            final TeeTextWriter teeWriter = keeper != null ? newStreamingTeeWriter(writer, keeper) : null;
+            final long marked = ActionPhaseTimer.mark();
+            try {
+                engine.toJson(jsonResult, teeWriter != null ? teeWriter : writer);
+            } finally {
+                ActionPhaseTimer.record(ActionPhase.JSON_SERIALIZE, marked); // including writing
+            }
+            if (teeWriter != null) {
+                final String head = teeWriter.getKeptHead();
+                final InOutBodyCapture capture = InOutBodyCapture.ofKept(head, teeWriter.getKeptTail(), teeWriter.getWrittenLength());
+                keeper.keepResponseBodyCapture(capture, "json");
+            }
+        };
+        response.getCallback().ifPresent(callback -> { // JSONP
+            responseManager.writeAsJavaScript(writer -> {
+                writer.write(callback);
+                writer.write("(");
+                jsonCall.callback(writer);
+                writer.write(")");
+            });
+        }).orElse(() -> {
+            if (response.isForcedlyJavaScript()) {
+                responseManager.writeAsJavaScript(jsonCall);
+            } else { /* as JSON (default) */
+                responseManager.writeAsJson(jsonCall);
+            }
+        });
+    }
+
+    protected InOutLogKeeper findStreamingBodyKeeperIfNeeds(ResponseManager responseManager) { // null allowed
+        final InOutLogKeeper keeper = InOutLogKeeper.prepare(requestManager).orElse(null);
+        if (keeper == null) {
+            return null;
+        }
+        final InOutLogOption option = keeper.getOption();
+        if (option.isSuppressResponseBody()) { // no copy
+            return null;
+        }
+        final boolean neverSampled = option.getBodySampler().map(sampler -> { // status is already set here
+            return sampler.rate(runtime, responseManager.getResponse().getStatus()) <= 0.0;
+        }).orElse(false);
+        return neverSampled ? null : keeper; // random sampling is determined later so keep it (capped) if rate exists
+    }
+
+    protected TeeTextWriter newStreamingTeeWriter(Writer writer, InOutLogKeeper keeper) {
+        final InOutLogOption option = keeper.getOption(); // same caps as string body, not to build whole string
+        return new TeeTextWriter(writer, option.getResponseBodyHeadSize(), option.getResponseBodyTailSize());
+    }
+
+    protected JsonObjectConvertible chooseStreamingJsonEngine(JsonResponse<?> response, ResponseReflectingOption option) {
+        final OptionalThing<Supplier<RealJsonEngine>> jsonEngineSwitcher = response.getJsonEngineSwitcher();
+        if (jsonEngineSwitcher.isPresent()) { // switchJsonEngine()
+            return prepareSwitchedJsonEngine(jsonEngineSwitcher.get());
+        }
+        final OptionalThing<Consumer<JsonMappingOption>> mappingOptionSwitcher = response.getMappingOptionSwitcher();
+        if (mappingOptionSwitcher.isPresent()) { // switchMappingOption()
+            return prepareSwitchedMappingOptionEngine(mappingOptionSwitcher.get());
+        }
+        return chooseJsonObjectConvertible(option);
+    }
+
     // ===================================================================================
     //                                                                        XML Response
     //                                                                        ============
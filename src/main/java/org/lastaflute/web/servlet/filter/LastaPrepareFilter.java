@@ -17,6 +17,9 @@ package org.lastaflute.web.servlet.filter;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
@@ -47,6 +50,7 @@ import org.lastaflute.web.ruts.config.ModuleConfig;
 import org.lastaflute.web.ruts.message.MessageResources;
 import org.lastaflute.web.ruts.message.RutsMessageResourceGateway;
 import org.lastaflute.web.ruts.message.objective.ObjectiveMessageResources;
+import org.lastaflute.web.servlet.filter.accesslog.AccessLogHandler;
 import org.lastaflute.web.servlet.filter.bowgun.BowgunCurtainBefore;
 import org.lastaflute.web.servlet.filter.hotdeploy.HotdeployHttpServletRequest;
 import org.lastaflute.web.servlet.filter.hotdeploy.HotdeployHttpSession;
@@ -90,11 +94,17 @@ public class LastaPrepareFilter implements Filter {
         }
         final ServletContext servletContext = filterConfig.getServletContext();
         initModuleConfig(servletContext); // before container because of used by customizer (when cool)
+        final long containerBefore = System.currentTimeMillis();
         try {
             initializeContainer(servletContext);
         } catch (Throwable e) {
             handleErrorCause("Failed to initialize Lasta Di.", e);
         }
+        try {
+            prepareReservedAction(servletContext, System.currentTimeMillis() - containerBefore);
+        } catch (Throwable e) {
+            handleErrorCause("Failed to prepare actions.", e);
+        }
         try {
             adjustComponent(servletContext);
         } catch (Throwable e) {
@@ -141,6 +151,36 @@ public class LastaPrepareFilter implements Filter {
         return new WebLastaContainerInitializer();
     }
 
+    // -----------------------------------------------------
+    //                                       Reserved Action
+    //                                       ---------------
+    protected void prepareReservedAction(ServletContext servletContext, long containerCost) {
+        final ModuleConfig moduleConfig = (ModuleConfig) servletContext.getAttribute(LastaWebKey.MODULE_CONFIG_KEY);
+        final ForkJoinPool pool = newActionSetupPool();
+        try {
+            final long before = System.currentTimeMillis();
+            final int preparedCount = moduleConfig.prepareReservedActionMapping(pool); // zero if not parallel setup
+            if (preparedCount > 0) { // parallel action setup
+                final long setupCost = System.currentTimeMillis() - before;
+                logger.info("...Preparing actions in parallel: actions={}, parallelism={}", preparedCount, pool.getParallelism());
+                logger.info(" container registration: {}ms", containerCost); // also includes other components
+                logger.info(" execute setup (analysis and checks): {}ms", setupCost);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    protected ForkJoinPool newActionSetupPool() {
+        final ClassLoader contextLoader = Thread.currentThread().getContextClassLoader(); // e.g. web application loader
+        final ForkJoinWorkerThreadFactory threadFactory = pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setContextClassLoader(contextLoader); // to find application classes
+            return thread;
+        };
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), threadFactory, null, false);
+    }
+
     // -----------------------------------------------------
     //                                      Adjust Component
     //                                      ----------------
@@ -285,7 +325,9 @@ public class LastaPrepareFilter implements Filter {
     //                                                                             =======
     @Override
     public void destroy() {
-        hookCurtainFinally(getAssistantDirector());
+        final FwAssistantDirector assistantDirector = getAssistantDirector();
+        hookCurtainFinally(assistantDirector);
+        destroyAccessLogHandler(assistantDirector);
         destroyContainer();
     }
 
@@ -300,6 +342,16 @@ public class LastaPrepareFilter implements Filter {
         }
     }
 
+    // -----------------------------------------------------
+    //                                        Access Logging
+    //                                        --------------
+    protected void destroyAccessLogHandler(FwAssistantDirector assistantDirector) {
+        final AccessLogHandler handler = assistantDirector.assistWebDirection().assistAccessLogHandler();
+        if (handler != null) {
+            handler.destroy(); // e.g. stops file writer
+        }
+    }
+
     // -----------------------------------------------------
     //                                     LastaDi Container
     //                                     -----------------
@@ -41,6 +41,8 @@ import org.lastaflute.web.path.restful.verifier.RestfulMappingVerifier;
 import org.lastaflute.web.response.HtmlResponse;
 import org.lastaflute.web.ruts.ActionRequestProcessor;
 import org.lastaflute.web.ruts.config.ActionExecute;
+import org.lastaflute.web.ruts.phase.ActionPhase;
+import org.lastaflute.web.ruts.phase.ActionPhaseTimer;
 import org.lastaflute.web.ruts.process.pathparam.RequestPathParam;
 import org.lastaflute.web.ruts.process.pathparam.RequestPathParamAnalyzer;
 import org.lastaflute.web.servlet.request.RequestManager;
@@ -124,8 +126,25 @@ public class RequestRoutingFilter implements Filter {
             return;
         }
         // no extension here (may be LastaFlute URL)
+        final boolean phaseTimingBegun = beginActionPhaseTimingIfNeeds();
+        try {
+            routeToAction(httpReq, httpRes, chain, requestPath);
+        } finally {
+            if (phaseTimingBegun) {
+                ActionPhaseTimer.finish();
+            }
+        }
+    }
+
+    protected boolean beginActionPhaseTimingIfNeeds() {
+        return getActionAdjustmentProvider().isUseActionPhaseTiming() && ActionPhaseTimer.begin();
+    }
+
+    protected void routeToAction(HttpServletRequest httpReq, HttpServletResponse httpRes, FilterChain chain, String requestPath)
+            throws IOException, ServletException {
         final ActionPathResolver resolver = getRequestManager().getActionPathResolver();
         final MappingPathResource pathResource; // not null, keep for logging
+        final boolean cachedNoRouting; // already logged at first time
         try {
             final String contextPath = extractContextPath(httpReq);
             final ActionFoundPathHandler handler = createActionFoundPathHandler(httpReq, httpRes, contextPath); // (#to_action)
@@ -134,6 +153,7 @@ public class RequestRoutingFilter implements Filter {
                 return;
             }
             pathResource = result.getPathResource();
+            cachedNoRouting = result.isCachedNoRouting();
         } catch (Exception e) {
             if (e instanceof IOException) {
                 throw (IOException) e;
@@ -146,9 +166,11 @@ public class RequestRoutingFilter implements Filter {
             }
         }
         // no routing here
-        showNoRouting(pathResource, resolver); // for developer
+        if (!cachedNoRouting) {
+            showNoRouting(pathResource, resolver); // for developer
+        }
         handleNoRoutingRequest(httpReq, requestPath); // 404 if it needs
-        chain.doFilter(servReq, servRes); // to next filter outside LastaFlute
+        chain.doFilter(httpReq, httpRes); // to next filter outside LastaFlute
     }
 
     protected String extractActionRequestPath(HttpServletRequest request) {
@@ -284,9 +306,13 @@ public class RequestRoutingFilter implements Filter {
             logger.debug("...Routing to action: name={} params={}", execute.getActionMapping().getActionName(), paramPath);
             logger.debug(" by the mapping path: {}", pathResource.getMappingPath());
         }
+        ActionPhaseTimer.endRouting(execute); // do nothing if no timing
         verifyRestfulMapping(pathResource, execute, paramPath);
         LaActionExecuteUtil.setActionExecute(execute); // for e.g. tag-library use
-        getRequestProcessor().process(execute, analyzePathParam(execute, paramPath)); // #to_action
+        final long pathParamMarked = ActionPhaseTimer.mark();
+        final RequestPathParam pathParam = analyzePathParam(execute, paramPath);
+        ActionPhaseTimer.record(ActionPhase.PATH_PARAM, pathParamMarked);
+        getRequestProcessor().process(execute, pathParam); // #to_action
     }
 
     protected void verifyRestfulMapping(MappingPathResource pathResource, ActionExecute execute, RoutingParamPath paramPath) {
@@ -328,6 +354,9 @@ public class RequestRoutingFilter implements Filter {
     //                                                                             =======
     @Override
     public void destroy() {
+        if (lazyLoadedProcessor != null) { // null if no request yet
+            lazyLoadedProcessor.destroy(); // e.g. stops in-out logging pipeline
+        }
     }
 
     // ===================================================================================
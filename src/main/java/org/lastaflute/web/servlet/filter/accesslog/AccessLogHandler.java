@@ -23,4 +23,10 @@ package org.lastaflute.web.servlet.filter.accesslog;
 public interface AccessLogHandler {
 
     void handle(AccessLogResource resource);
+
+    /**
+     * Destroy the resources of the handler e.g. file writer, called when the application is destroyed.
+     */
+    default void destroy() { // @since 1.2.7
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.servlet.filter.accesslog;
+
+/**
+ * The entry of structured access log, fixed schema.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class StructuredAccessLogEntry {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final long timeMillis; // when the request begun
+    protected final String method; // null allowed if unknown
+    protected final String path; // not null
+    protected final int status;
+    protected final long elapsedMillis;
+    protected final long requestSize; // minus if unknown
+    protected final long responseSize; // minus if unknown
+    protected final String user; // null allowed if no user
+    protected final String processHash; // null allowed if e.g. not action
+    protected final String causeName; // null allowed if no failure
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public StructuredAccessLogEntry(long timeMillis, String method, String path, int status, long elapsedMillis, long requestSize,
+            long responseSize, String user, String processHash, String causeName) {
+        this.timeMillis = timeMillis;
+        this.method = method;
+        this.path = path;
+        this.status = status;
+        this.elapsedMillis = elapsedMillis;
+        this.requestSize = requestSize;
+        this.responseSize = responseSize;
+        this.user = user;
+        this.processHash = processHash;
+        this.causeName = causeName;
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getRequestSize() {
+        return requestSize;
+    }
+
+    public long getResponseSize() {
+        return responseSize;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public String getProcessHash() {
+        return processHash;
+    }
+
+    public String getCauseName() {
+        return causeName;
+    }
+}
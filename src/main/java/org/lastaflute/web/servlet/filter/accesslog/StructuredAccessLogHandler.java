@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.servlet.filter.accesslog;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.dbflute.optional.OptionalThing;
+import org.lastaflute.web.LastaWebKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The built-in handler of structured access log, cheap enough for every request. <br>
+ * Fixed schema (path, status, timings, sizes, user, process hash) is written as JSON line. <br>
+ * It is written to logger 'lastaflute.accesslog' as INFO, or to file asynchronously by option.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class StructuredAccessLogHandler implements AccessLogHandler {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final String LOGGER_NAME = "lastaflute.accesslog";
+    protected static final Logger logger = LoggerFactory.getLogger(LOGGER_NAME);
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final StructuredAccessLogOption option; // not null
+    protected final ThreadLocal<StructuredAccessLogEncoder> encoderLocal; // not null, encoder is reused per thread
+    protected volatile StructuredAccessLogWriter writer; // null allowed if logger mode or until first access
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public StructuredAccessLogHandler(StructuredAccessLogOption option) {
+        if (option == null) {
+            throw new IllegalArgumentException("The argument 'option' should not be null.");
+        }
+        this.option = option;
+        this.encoderLocal = ThreadLocal.withInitial(() -> newStructuredAccessLogEncoder());
+    }
+
+    protected StructuredAccessLogEncoder newStructuredAccessLogEncoder() {
+        return new StructuredAccessLogEncoder();
+    }
+
+    // ===================================================================================
+    //                                                                              Handle
+    //                                                                              ======
+    @Override
+    public void handle(AccessLogResource resource) {
+        final boolean fileMode = option.getFilePath().isPresent();
+        if (!fileMode && !logger.isInfoEnabled()) { // no cost if no logger settings
+            return;
+        }
+        final StructuredAccessLogEntry entry = createEntry(resource);
+        final String line = encoderLocal.get().encode(entry);
+        if (fileMode) {
+            prepareWriter().offer(line); // no wait, dropped if full
+        } else {
+            logger.info(line);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Create Entry
+    //                                                                        ============
+    protected StructuredAccessLogEntry createEntry(AccessLogResource resource) {
+        final HttpServletRequest request = resource.getRequest();
+        final HttpServletResponse response = resource.getResponse();
+        final long before = resource.getBefore();
+        final long elapsed = System.currentTimeMillis() - before;
+        final long requestSize = request.getContentLengthLong(); // minus if unknown
+        final long responseSize = extractResponseSize(response);
+        final String user = extractUser(request);
+        final String processHash = extractProcessHash(request);
+        final Throwable cause = resource.getCause();
+        final String causeName = cause != null ? cause.getClass().getSimpleName() : null;
+        return new StructuredAccessLogEntry(before, request.getMethod(), request.getRequestURI(), response.getStatus(), elapsed,
+                requestSize, responseSize, user, processHash, causeName);
+    }
+
+    protected long extractResponseSize(HttpServletResponse response) {
+        final String contentLength = response.getHeader("Content-Length"); // null if e.g. chunked
+        if (contentLength == null) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(contentLength);
+        } catch (NumberFormatException ignored) { // basically no way
+            return -1L;
+        }
+    }
+
+    protected String extractUser(HttpServletRequest request) {
+        return option.getUserProvider().map(provider -> provider.apply(request)).orElseGet(() -> request.getRemoteUser());
+    }
+
+    protected String extractProcessHash(HttpServletRequest request) {
+        final Object hash = request.getAttribute(LastaWebKey.PROCESS_HASH_KEY); // registered by action process
+        return hash != null ? hash.toString() : null;
+    }
+
+    // ===================================================================================
+    //                                                                              Writer
+    //                                                                              ======
+    protected StructuredAccessLogWriter prepareWriter() {
+        StructuredAccessLogWriter current = writer;
+        if (current == null) {
+            synchronized (this) {
+                current = writer;
+                if (current == null) {
+                    current = createWriter();
+                    current.start();
+                    writer = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    protected StructuredAccessLogWriter createWriter() {
+        final String filePath = option.getFilePath().get();
+        return new StructuredAccessLogWriter(filePath, option.getQueueSize(), option.getWriteBufferSize());
+    }
+
+    @Override
+    public void destroy() { // when the application is destroyed
+        stopWriter(getWriterStopWaitMillis());
+    }
+
+    protected long getWriterStopWaitMillis() {
+        return 3000L;
+    }
+
+    /**
+     * Stop the file writer if it exists, remaining lines are written before stop.
+     * @param waitMillis The milliseconds to wait for the remaining lines written. (ZeroAllowed: no wait)
+     */
+    public void stopWriter(long waitMillis) {
+        final StructuredAccessLogWriter current = writer;
+        if (current != null) {
+            current.stop(waitMillis);
+        }
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public StructuredAccessLogOption getOption() {
+        return option;
+    }
+
+    public OptionalThing<StructuredAccessLogWriter> getWriter() { // e.g. to see dropped count
+        return OptionalThing.ofNullable(writer, () -> {
+            throw new IllegalStateException("Not found the access log writer (logger mode or not used yet?).");
+        });
+    }
+}
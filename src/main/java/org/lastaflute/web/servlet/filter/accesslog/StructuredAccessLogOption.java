@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.servlet.filter.accesslog;
+
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.dbflute.optional.OptionalThing;
+
+/**
+ * The option of structured access log, which writes one JSON line per request.
+ * <pre>
+ * e.g. in your web direction (to logger 'lastaflute.accesslog' as INFO)
+ *  direction.directAccessLog(new StructuredAccessLogHandler(new StructuredAccessLogOption()));
+ *
+ * e.g. to file asynchronously
+ *  direction.directAccessLog(new StructuredAccessLogHandler(new StructuredAccessLogOption()
+ *      .writeToFile("/var/log/app/access.log").userProvider(request -&gt; ...)));
+ * </pre>
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class StructuredAccessLogOption {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    public static final int DEFAULT_QUEUE_SIZE = 8192;
+    public static final int DEFAULT_WRITE_BUFFER_SIZE = 64 * 1024;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected String filePath; // null allowed, logger is used if null
+    protected int queueSize = DEFAULT_QUEUE_SIZE; // positive
+    protected int writeBufferSize = DEFAULT_WRITE_BUFFER_SIZE; // positive
+    protected Function<HttpServletRequest, String> userProvider; // null allowed, remote user is used if null
+
+    // ===================================================================================
+    //                                                                              Facade
+    //                                                                              ======
+    /**
+     * Write access logs to the file asynchronously, appending by one writer thread. <br>
+     * If the queue is full, the line is dropped (and the count is logged later).
+     * @param filePath The path of access log file, created if not found. (NotNull)
+     * @return this. (NotNull)
+     */
+    public StructuredAccessLogOption writeToFile(String filePath) {
+        if (filePath == null) {
+            throw new IllegalArgumentException("The argument 'filePath' should not be null.");
+        }
+        this.filePath = filePath;
+        return this;
+    }
+
+    /**
+     * @param queueSize The size of queue of lines waiting for file writing, rounded up to power of two. (Positive)
+     * @return this. (NotNull)
+     */
+    public StructuredAccessLogOption queueSize(int queueSize) {
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("The argument 'queueSize' should be positive: " + queueSize);
+        }
+        this.queueSize = queueSize;
+        return this;
+    }
+
+    /**
+     * @param writeBufferSize The byte size of buffer for file writing, lines are written together. (Positive)
+     * @return this. (NotNull)
+     */
+    public StructuredAccessLogOption writeBufferSize(int writeBufferSize) {
+        if (writeBufferSize <= 0) {
+            throw new IllegalArgumentException("The argument 'writeBufferSize' should be positive: " + writeBufferSize);
+        }
+        this.writeBufferSize = writeBufferSize;
+        return this;
+    }
+
+    /**
+     * @param userProvider The provider of user expression e.g. member ID, returns null if no user. (NotNull)
+     * @return this. (NotNull)
+     */
+    public StructuredAccessLogOption userProvider(Function<HttpServletRequest, String> userProvider) {
+        if (userProvider == null) {
+            throw new IllegalArgumentException("The argument 'userProvider' should not be null.");
+        }
+        this.userProvider = userProvider;
+        return this;
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "{filePath=" + filePath + ", queueSize=" + queueSize + ", writeBufferSize=" + writeBufferSize + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public OptionalThing<String> getFilePath() {
+        return OptionalThing.ofNullable(filePath, () -> {
+            throw new IllegalStateException("Not found the filePath.");
+        });
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public int getWriteBufferSize() {
+        return writeBufferSize;
+    }
+
+    public OptionalThing<Function<HttpServletRequest, String>> getUserProvider() {
+        return OptionalThing.ofNullable(userProvider, () -> {
+            throw new IllegalStateException("Not found the userProvider.");
+        });
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.servlet.filter.accesslog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.lastaflute.core.magic.async.pipeline.BoundedDrainPipeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The asynchronous writer of structured access log to file. <br>
+ * Request threads only offer lines to bounded pipeline (dropped if full, never blocks), <br>
+ * and one daemon thread appends them through buffered file channel in batches.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class StructuredAccessLogWriter {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(StructuredAccessLogWriter.class);
+    protected static final String WRITER_THREAD_NAME = "lasta_access_logging";
+    protected static final int BATCH_SIZE = 256;
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Path filePath; // not null
+    protected final BoundedDrainPipeline<String> linePipeline; // not null
+    protected final ByteBuffer writeBuffer; // not null, writer thread only
+    protected final CharsetEncoder charsetEncoder; // not null, writer thread only
+    protected FileChannel channel; // null allowed before start, writer thread only after start
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param filePath The path of access log file, appended if it exists. (NotNull)
+     * @param queueSize The size of buffer for lines, rounded up to power of two. (Positive)
+     * @param writeBufferSize The byte size of buffer to write the file. (Positive)
+     */
+    public StructuredAccessLogWriter(String filePath, int queueSize, int writeBufferSize) {
+        if (filePath == null) {
+            throw new IllegalArgumentException("The argument 'filePath' should not be null.");
+        }
+        this.filePath = Paths.get(filePath);
+        this.linePipeline = createLinePipeline(queueSize);
+        this.writeBuffer = ByteBuffer.allocateDirect(writeBufferSize); // not copied by channel
+        this.charsetEncoder = StandardCharsets.UTF_8.newEncoder();
+    }
+
+    protected BoundedDrainPipeline<String> createLinePipeline(int queueSize) {
+        return new BoundedDrainPipeline<String>(WRITER_THREAD_NAME, "access logs", queueSize, BATCH_SIZE, batchList -> {
+            writeBatch(batchList);
+        }) {
+            @Override
+            protected void hookConsumerFinally() { // after remaining lines are written
+                closeChannel();
+            }
+        };
+    }
+
+    // ===================================================================================
+    //                                                                       Start or Stop
+    //                                                                       =============
+    public synchronized void start() {
+        if (channel != null) {
+            return;
+        }
+        try {
+            final Path parent = filePath.toAbsolutePath().getParent();
+            if (parent != null) {
+                parent.toFile().mkdirs();
+            }
+            channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open the access log file: " + filePath, e);
+        }
+        linePipeline.start();
+    }
+
+    /**
+     * Stop the writer thread after writing remaining lines, and close the file.
+     * @param waitMillis The milliseconds to wait for the writer finished. (ZeroAllowed: no wait)
+     */
+    public void stop(long waitMillis) {
+        linePipeline.stop(waitMillis);
+    }
+
+    // ===================================================================================
+    //                                                                               Offer
+    //                                                                               =====
+    /**
+     * @param line The line of access log without line separator. (NotNull)
+     * @return true if accepted, false if dropped because of full buffer or stopped.
+     */
+    public boolean offer(String line) {
+        return linePipeline.offer(line);
+    }
+
+    // ===================================================================================
+    //                                                                         Write Batch
+    //                                                                         ===========
+    protected void writeBatch(List<String> batchList) { // in writer thread
+        try {
+            for (String line : batchList) {
+                encodeLine(line);
+                encodeLine("\n");
+            }
+            flushBuffer();
+        } catch (IOException | RuntimeException e) { // handled by pipeline as failed lines
+            writeBuffer.clear();
+            throw new IllegalStateException("Failed to write access logs to the file: " + filePath, e);
+        }
+    }
+
+    protected void encodeLine(String line) throws IOException {
+        final CharBuffer chars = CharBuffer.wrap(line); // no copy of characters
+        while (true) {
+            final CoderResult result = charsetEncoder.encode(chars, writeBuffer, true);
+            if (result.isOverflow()) { // buffer is full so write and continue
+                flushBuffer();
+                continue;
+            }
+            charsetEncoder.reset(); // for next line, malformed characters are not in String
+            break;
+        }
+    }
+
+    protected void flushBuffer() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            channel.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    protected void closeChannel() { // in writer thread
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException continued) {
+                logger.info("*Failed to close the access log file: " + filePath, continued);
+            }
+        }
+    }
+
+    // ===================================================================================
+    //                                                                      Basic Override
+    //                                                                      ==============
+    @Override
+    public String toString() {
+        return "accessLogWriter:{" + filePath + ", written=" + getWrittenCount() + ", dropped=" + getDroppedCount() + "}";
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public long getWrittenCount() {
+        return linePipeline.getWrittenCount();
+    }
+
+    public long getDroppedCount() {
+        return linePipeline.getDroppedCount();
+    }
+
+    public boolean isChannelOpen() { // e.g. to confirm closed after stop
+        return channel != null && channel.isOpen();
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.lastaflute.web.servlet.request;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -124,6 +126,16 @@ public interface RequestManager extends ScopedAttributeHolder {
      */
     String getRequestBody();
 
+    /**
+     * Get the reader of request body for streaming e.g. large JSON. <br>
+     * The body can be read only once so you cannot get it by getRequestBody() after reading. <br>
+     * The default implementation reads it from getRequestBody(), you can override it for streaming.
+     * @return The reader of request body. (NotNull)
+     */
+    default BufferedReader getRequestBodyReader() {
+        return new BufferedReader(new StringReader(getRequestBody()));
+    }
+
     // ===================================================================================
     //                                                                       Path Handling
     //                                                                       =============
@@ -24,6 +24,7 @@ import javax.servlet.http.HttpServletResponse;
 import org.dbflute.optional.OptionalThing;
 import org.lastaflute.core.message.UserMessages;
 import org.lastaflute.web.servlet.request.stream.WrittenStreamCall;
+import org.lastaflute.web.servlet.request.stream.WrittenTextCall;
 
 /**
  * The manager of response. (response facade)
@@ -136,6 +137,24 @@ public interface ResponseManager {
      */
     void writeAsXml(String xmlStr, String encoding);
 
+    /**
+     * Write JSON to the response by streaming, without whole JSON string. <br>
+     * The default implementation writes it as string, you can override it for streaming.
+     * @param jsonCall The callback to write JSON to the buffered writer of response. (NotNull)
+     */
+    default void writeAsJson(WrittenTextCall jsonCall) {
+        writeAsJson(WrittenTextCall.toText(jsonCall));
+    }
+
+    /**
+     * Write script to the response by streaming, without whole script string. <br>
+     * The default implementation writes it as string, you can override it for streaming.
+     * @param scriptCall The callback to write script to the buffered writer of response. (NotNull)
+     */
+    default void writeAsJavaScript(WrittenTextCall scriptCall) {
+        writeAsJavaScript(WrittenTextCall.toText(scriptCall));
+    }
+
     // ===================================================================================
     //                                                                   Download Response
     //                                                                   =================
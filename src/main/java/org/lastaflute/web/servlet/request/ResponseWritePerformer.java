@@ -15,15 +15,18 @@
  */
 package org.lastaflute.web.servlet.request;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 
 import org.dbflute.util.Srl;
+import org.lastaflute.web.servlet.request.stream.WrittenTextCall;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -111,6 +114,54 @@ public class ResponseWritePerformer {
         out.close();
     }
 
+    // ===================================================================================
+    //                                                                         Text Stream
+    //                                                                         ===========
+    public void write(HttpServletResponse response, WrittenTextCall textCall, String contentType, String encoding) {
+        assertArgumentNotNull("response", response);
+        assertArgumentNotNull("textCall", textCall);
+        assertArgumentNotNull("contentType", contentType);
+        assertArgumentNotNull("encoding", encoding);
+        final String contentTypeWithCharset = buildContentTypeWithCharset(contentType, encoding);
+        showWritingStreamResponse(contentTypeWithCharset);
+        response.setContentType(contentTypeWithCharset);
+        try {
+            final Writer out = createBufferedWriter(response, encoding);
+            try {
+                textCall.callback(out);
+            } catch (IOException | RuntimeException e) { // e.g. serialization failure
+                handleStreamingFailure(response, contentType); // without flushing the writer
+                throw e;
+            }
+            out.close(); // also flush
+        } catch (IOException e) {
+            String msg = "Failed to write the text by streaming: contentType=" + contentType + ", encoding=" + encoding;
+            throw new IllegalStateException(msg, e);
+        }
+    }
+
+    protected void handleStreamingFailure(HttpServletResponse response, String contentType) {
+        if (response.isCommitted()) { // already sent partly, cannot recover the response
+            logger.warn("The response was already committed when the streaming failed, broken text was sent: {}", contentType);
+        } else { // nothing is sent yet, so discard the partial text for error handling
+            response.resetBuffer();
+        }
+    }
+
+    protected void showWritingStreamResponse(String contentType) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("#flow ...Writing response as {} by streaming", contentType);
+        }
+    }
+
+    protected Writer createBufferedWriter(HttpServletResponse response, String encoding) throws IOException {
+        return new BufferedWriter(createOutputStreamWriter(response, encoding), getStreamBufferSize());
+    }
+
+    protected int getStreamBufferSize() {
+        return 8192;
+    }
+
     // ===================================================================================
     //                                                                        Small Helper
     //                                                                        ============
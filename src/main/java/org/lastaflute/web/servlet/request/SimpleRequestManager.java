@@ -255,6 +255,11 @@ public class SimpleRequestManager implements RequestManager {
         }
     }
 
+    @Override
+    public BufferedReader getRequestBodyReader() {
+        return prepareRequestBodyReader();
+    }
+
     protected BufferedReader prepareRequestBodyReader() {
         final HttpServletRequest request = getRequest();
         final BufferedReader reader;
@@ -42,6 +42,7 @@ import org.lastaflute.web.exception.Forced404NotFoundException;
 import org.lastaflute.web.exception.ResponseInfoNotFoundException;
 import org.lastaflute.web.path.ActionPathResolver;
 import org.lastaflute.web.servlet.request.stream.WrittenStreamCall;
+import org.lastaflute.web.servlet.request.stream.WrittenTextCall;
 import org.lastaflute.web.util.LaRequestUtil;
 import org.lastaflute.web.util.LaResponseUtil;
 import org.slf4j.Logger;
@@ -245,6 +246,20 @@ public class SimpleResponseManager implements ResponseManager {
         doWrite(xmlStr, contentType, encoding);
     }
 
+    @Override
+    public void writeAsJson(WrittenTextCall jsonCall) {
+        assertArgumentNotNull("jsonCall", jsonCall);
+        final String contentType = "application/json";
+        doWrite(jsonCall, contentType);
+    }
+
+    @Override
+    public void writeAsJavaScript(WrittenTextCall scriptCall) {
+        assertArgumentNotNull("scriptCall", scriptCall);
+        final String contentType = "application/javascript";
+        doWrite(scriptCall, contentType);
+    }
+
     // -----------------------------------------------------
     //                                        Actually Write
     //                                        --------------
@@ -270,6 +285,12 @@ public class SimpleResponseManager implements ResponseManager {
         createResponseWritePerformer().write(getResponse(), text, contentType, encoding);
     }
 
+    protected void doWrite(WrittenTextCall textCall, String contentType) {
+        assertArgumentNotNull("textCall", textCall);
+        assertArgumentNotNull("contentType", contentType);
+        createResponseWritePerformer().write(getResponse(), textCall, contentType, deriveResponseEncoding());
+    }
+
     protected ResponseWritePerformer createResponseWritePerformer() {
         if (responseWritePerformerCreator != null) {
             final ResponseWritePerformer provided = responseWritePerformerCreator.get();
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.servlet.request.stream;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * The reader that keeps the copy of read text up to the limit e.g. for error logging. <br>
+ * The copy is bounded so large body is not kept wholly, you can get it after reading by getKeptText().
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class TeeTextReader extends Reader {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Reader nativeReader; // not null
+    protected final int keptLimit; // zero or positive
+    protected final StringBuilder keptSb; // not null
+    protected boolean keptOver; // true if read text is over the limit
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    public TeeTextReader(Reader nativeReader, int keptLimit) {
+        this.nativeReader = nativeReader;
+        this.keptLimit = Math.max(0, keptLimit);
+        this.keptSb = new StringBuilder(Math.min(this.keptLimit, 1024));
+    }
+
+    // ===================================================================================
+    //                                                                                Read
+    //                                                                                ====
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        final int readSize = nativeReader.read(cbuf, off, len);
+        if (readSize > 0) {
+            keep(cbuf, off, readSize);
+        }
+        return readSize;
+    }
+
+    protected void keep(char[] cbuf, int off, int readSize) {
+        if (keptOver) {
+            return;
+        }
+        final int rest = keptLimit - keptSb.length();
+        if (readSize > rest) {
+            keptSb.append(cbuf, off, rest);
+            keptOver = true;
+        } else {
+            keptSb.append(cbuf, off, readSize);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        nativeReader.close();
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    /**
+     * @return The kept text up to the limit, with "..." if over. (NotNull, EmptyAllowed: when nothing read)
+     */
+    public String getKeptText() {
+        return keptOver ? keptSb.toString() + "..." : keptSb.toString();
+    }
+
+    public boolean isKeptOver() {
+        return keptOver;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.servlet.request.stream;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * The writer that copies written text to the keeper e.g. for in-out logging. <br>
+ * The copy is not flushed, you can get it after writing by getKeptHead() and getKeptTail(). <br>
+ * The copy can be bounded: only head characters and a ring buffer of tail characters are kept,
+ * so the whole text is not built again even if large.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class TeeTextWriter extends Writer {
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected final Writer nativeWriter; // not null
+    protected final int headSize; // minus means no cap (whole text is kept in head)
+    protected final StringBuilder headSb; // not null
+    protected final char[] tailRing; // not null, empty if no tail
+    protected int tailNextIndex; // next write position in the ring
+    protected int tailFilledLength; // up to ring length
+    protected int writtenLength; // length of all written characters
+
+    // ===================================================================================
+    //                                                                         Constructor
+    //                                                                         ===========
+    /**
+     * @param nativeWriter The native writer to actually write. (NotNull)
+     */
+    public TeeTextWriter(Writer nativeWriter) { // whole text is kept
+        this(nativeWriter, -1, 0);
+    }
+
+    /**
+     * @param nativeWriter The native writer to actually write. (NotNull)
+     * @param headSize The max size of head characters kept. (MinusAllowed: if minus, whole text is kept)
+     * @param tailSize The max size of tail characters kept after head. (ZeroAllowed)
+     */
+    public TeeTextWriter(Writer nativeWriter, int headSize, int tailSize) {
+        this.nativeWriter = nativeWriter;
+        this.headSize = headSize;
+        this.headSb = new StringBuilder(headSize >= 0 ? Math.min(headSize, 1024) : 1024);
+        this.tailRing = new char[headSize >= 0 ? Math.max(0, tailSize) : 0];
+    }
+
+    // ===================================================================================
+    //                                                                               Write
+    //                                                                               =====
+    @Override
+    public void write(int c) throws IOException {
+        nativeWriter.write(c);
+        if (hasHeadSpace()) {
+            headSb.append((char) c);
+        } else {
+            keepTail((char) c);
+        }
+        ++writtenLength;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        nativeWriter.write(cbuf, off, len);
+        final int headLen = prepareHeadLength(len);
+        headSb.append(cbuf, off, headLen);
+        final int end = off + len;
+        for (int i = Math.max(off + headLen, end - tailRing.length); i < end; i++) { // only last part is kept
+            keepTail(cbuf[i]);
+        }
+        writtenLength += len;
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        nativeWriter.write(str, off, len);
+        final int headLen = prepareHeadLength(len);
+        headSb.append(str, off, off + headLen);
+        final int end = off + len;
+        for (int i = Math.max(off + headLen, end - tailRing.length); i < end; i++) { // only last part is kept
+            keepTail(str.charAt(i));
+        }
+        writtenLength += len;
+    }
+
+    protected boolean hasHeadSpace() {
+        return headSize < 0 || headSb.length() < headSize;
+    }
+
+    protected int prepareHeadLength(int len) {
+        return headSize < 0 ? len : Math.min(len, headSize - headSb.length());
+    }
+
+    protected void keepTail(char c) {
+        if (tailRing.length == 0) {
+            return;
+        }
+        tailRing[tailNextIndex] = c;
+        tailNextIndex = (tailNextIndex + 1) % tailRing.length;
+        if (tailFilledLength < tailRing.length) {
+            ++tailFilledLength;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        nativeWriter.flush();
+    }
+
+    @Override
+    public void close() throws IOException { // basically not called, closed by native owner
+        nativeWriter.close();
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    /**
+     * @return The kept head text, whole text if no cap. (NotNull)
+     */
+    public String getKeptHead() {
+        return headSb.toString();
+    }
+
+    /**
+     * @return The kept tail text after head, last characters in the ring. (NotNull, EmptyAllowed)
+     */
+    public String getKeptTail() {
+        if (tailFilledLength < tailRing.length) { // not wrapped yet
+            return new String(tailRing, 0, tailFilledLength);
+        }
+        final StringBuilder sb = new StringBuilder(tailRing.length);
+        sb.append(tailRing, tailNextIndex, tailRing.length - tailNextIndex).append(tailRing, 0, tailNextIndex);
+        return sb.toString();
+    }
+
+    /**
+     * @return The joined text of head and tail, same as whole text if not truncated. (NotNull)
+     */
+    public String getKeptText() {
+        return getKeptHead() + getKeptTail();
+    }
+
+    /**
+     * @return The length of all written characters, including not-kept ones.
+     */
+    public int getWrittenLength() {
+        return writtenLength;
+    }
+}
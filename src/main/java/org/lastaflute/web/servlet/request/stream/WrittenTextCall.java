@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.servlet.request.stream;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+/**
+ * The callback to write text to response by streaming, without whole text string.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+@FunctionalInterface
+public interface WrittenTextCall {
+
+    /**
+     * @param writer The buffered writer of response encoded by response encoding, flushed after callback. (NotNull)
+     * @throws IOException When writing text failed.
+     */
+    void callback(Writer writer) throws IOException;
+
+    /**
+     * Write the text to string, for e.g. non-streaming implementation.
+     * @param textCall The callback to write text. (NotNull)
+     * @return The whole written text. (NotNull)
+     */
+    static String toText(WrittenTextCall textCall) {
+        final StringWriter writer = new StringWriter();
+        try {
+            textCall.callback(writer);
+        } catch (IOException e) { // basically no way with string writer
+            throw new IllegalStateException("Failed to write the text to string: " + textCall, e);
+        }
+        return writer.toString();
+    }
+}
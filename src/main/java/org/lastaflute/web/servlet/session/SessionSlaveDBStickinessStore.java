@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.servlet.session;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.dbflute.optional.OptionalThing;
+import org.lastaflute.core.util.ContainerUtil;
+import org.lastaflute.db.replication.slavedb.SlaveDBStickinessStore;
+import org.lastaflute.web.LastaWebKey;
+import org.lastaflute.web.util.LaRequestUtil;
+import org.lastaflute.web.util.LaResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The store of latest write time on session, for read-your-writes stickiness of SlaveDB. <br>
+ * It does nothing if no request e.g. batch, asynchronous process. <br>
+ * The write is saved at the write command (before response) by the write marking hook,
+ * but a session cannot be created after the response is committed, so it is skipped with warning then.
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SessionSlaveDBStickinessStore implements SlaveDBStickinessStore {
+
+    // ===================================================================================
+    //                                                                          Definition
+    //                                                                          ==========
+    private static final Logger logger = LoggerFactory.getLogger(SessionSlaveDBStickinessStore.class);
+
+    // ===================================================================================
+    //                                                                           Attribute
+    //                                                                           =========
+    protected SessionManager cachedSessionManager; // lazy loaded, DB direction is before web components
+
+    // ===================================================================================
+    //                                                                          Latest Write
+    //                                                                          ============
+    @Override
+    public OptionalThing<Long> findLatestWriteMillis() {
+        if (!existsRequest()) {
+            return OptionalThing.empty();
+        }
+        return getSessionManager().getAttribute(getSessionKey(), Long.class);
+    }
+
+    @Override
+    public void saveLatestWriteMillis(long writeMillis) {
+        if (!existsRequest()) {
+            return;
+        }
+        if (isSessionUncreatable()) { // e.g. write after streaming response
+            logger.warn("Cannot save the latest write for SlaveDB stickiness because of committed response without session.");
+            return;
+        }
+        getSessionManager().setAttribute(getSessionKey(), writeMillis);
+    }
+
+    protected boolean existsRequest() {
+        return LaRequestUtil.getOptionalRequest().isPresent();
+    }
+
+    protected boolean isSessionUncreatable() {
+        final HttpServletRequest request = LaRequestUtil.getRequest();
+        if (request.getSession(false) != null) { // can set attribute even if committed
+            return false;
+        }
+        final OptionalThing<HttpServletResponse> optResponse = LaResponseUtil.getOptionalResponse();
+        return optResponse.map(response -> response.isCommitted()).orElse(false);
+    }
+
+    protected String getSessionKey() {
+        return LastaWebKey.DBFLUTE_SLAVEDB_LATEST_WRITE_KEY;
+    }
+
+    // ===================================================================================
+    //                                                                           Component
+    //                                                                           =========
+    protected SessionManager getSessionManager() {
+        if (cachedSessionManager == null) {
+            cachedSessionManager = ContainerUtil.getComponent(SessionManager.class);
+        }
+        return cachedSessionManager;
+    }
+}
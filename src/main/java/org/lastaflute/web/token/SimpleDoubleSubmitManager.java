@@ -17,7 +17,9 @@ package org.lastaflute.web.token;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.Resource;
@@ -52,6 +54,8 @@ public class SimpleDoubleSubmitManager implements DoubleSubmitManager {
     protected static final String ERRORS_APP_DOUBLE_SUBMIT_REQUEST = "errors.app.double.submit.request";
     protected static final Object DOUBLE_SUBMITTED_OBJ = new Object();
     protected static final Object SINGLE_SUBMITTED_OBJ = new Object();
+    protected static final int SESSION_LOCK_COUNT = 64; // power of two, striped by session ID
+    protected static final int NONCE_LENGTH = 16; // bytes
 
     // ===================================================================================
     //                                                                           Attribute
@@ -69,8 +73,19 @@ public class SimpleDoubleSubmitManager implements DoubleSubmitManager {
     /** Does it allow to call verifyToken() before validate()? */
     protected boolean allowsVerifyTokenBeforeValidation;
 
-    /** The time of previous process to keep for unique token */
-    protected long previousTimeMillis;
+    /** The time of previous process to keep for unique token, updated without lock. (NotNull) */
+    protected final AtomicLong previousTimeMillis = new AtomicLong();
+
+    /** The locks for token map per session, token traffic of other sessions does not wait. (NotNull) */
+    protected final Object[] sessionLocks = prepareSessionLocks();
+
+    // per thread of this component (not static) so that it is released with the component at redeploy,
+    // and values are JDK objects only so pooled threads do not pin the application class loader
+    /** The digest for token per thread, digest() resets it so reusable. (NotNull) */
+    protected final ThreadLocal<MessageDigest> digestLocal = ThreadLocal.withInitial(() -> newMessageDigest());
+
+    /** The random for nonce of token per thread, to avoid contention on one instance. (NotNull) */
+    protected final ThreadLocal<SecureRandom> randomLocal = ThreadLocal.withInitial(() -> new SecureRandom());
 
     // ===================================================================================
     //                                                                          Initialize
@@ -106,19 +121,21 @@ public class SimpleDoubleSubmitManager implements DoubleSubmitManager {
     //                                                 Save
     //                                                ------
     @Override
-    public synchronized String saveToken(Class<?> groupType) {
+    public String saveToken(Class<?> groupType) {
         if (groupType == null) {
             throw new IllegalArgumentException("The argument 'groupType' should not be null.");
         }
         checkDoubleSubmitPreconditionExists(groupType);
-        final DoubleSubmitTokenMap tokenMap = getSessionTokenMap().orElseGet(() -> {
-            final DoubleSubmitTokenMap firstMap = new DoubleSubmitTokenMap();
-            requestManager.getSessionManager().setAttribute(getTransactionTokenKey(), firstMap);
-            return firstMap;
-        });
-        final String generated = generateToken(groupType);
-        showSavingToken(groupType, generated);
-        tokenMap.put(groupType, generated);
+        final String generated = generateToken(groupType); // outside lock, no shared state
+        synchronized (findSessionLock()) { // to avoid lost map by concurrent first saving in the session
+            final DoubleSubmitTokenMap tokenMap = getSessionTokenMap().orElseGet(() -> {
+                final DoubleSubmitTokenMap firstMap = new DoubleSubmitTokenMap();
+                requestManager.getSessionManager().setAttribute(getTransactionTokenKey(), firstMap);
+                return firstMap;
+            });
+            showSavingToken(groupType, generated);
+            tokenMap.put(groupType, generated);
+        }
         return generated;
     }
 
@@ -163,23 +180,30 @@ public class SimpleDoubleSubmitManager implements DoubleSubmitManager {
     //                                              Generate
     //                                              --------
     @Override
-    public synchronized String generateToken(Class<?> groupType) {
+    public String generateToken(Class<?> groupType) { // lock-free
         assertArgumentNotNull("groupType", groupType);
         final byte[] sessionIdBytes = prepareSessionIdBytes();
         final byte[] currentBytes = prepareCurrentBytes();
+        final byte[] nonceBytes = prepareNonceBytes();
         final byte[] groupTypeBytes = prepareGroupTypeBytes(groupType);
-        return buildHex(sessionIdBytes, currentBytes, groupTypeBytes);
+        return buildHex(sessionIdBytes, currentBytes, nonceBytes, groupTypeBytes);
     }
 
-    protected String buildHex(byte[] sessionIdBytes, byte[] currentBytes, byte[] groupTypeBytes) {
+    protected String buildHex(byte[] sessionIdBytes, byte[] currentBytes, byte[] nonceBytes, byte[] groupTypeBytes) {
         final MessageDigest md = getMessageDigest();
+        md.reset(); // just in case, e.g. previous exception
         md.update(sessionIdBytes);
         md.update(currentBytes);
+        md.update(nonceBytes);
         md.update(groupTypeBytes);
         return toHex(md.digest());
     }
 
-    protected MessageDigest getMessageDigest() {
+    protected MessageDigest getMessageDigest() { // per thread so don't share it with other threads
+        return digestLocal.get();
+    }
+
+    protected MessageDigest newMessageDigest() {
         final String algorithm = "MD5"; // enough
         try {
             return MessageDigest.getInstance(algorithm);
@@ -201,14 +225,16 @@ public class SimpleDoubleSubmitManager implements DoubleSubmitManager {
         return requestManager.getSessionManager().getSessionId().getBytes();
     }
 
-    protected byte[] prepareCurrentBytes() {
-        long currentTimeMillis = System.currentTimeMillis();
-        if (currentTimeMillis == previousTimeMillis) {
-            currentTimeMillis++;
-        }
-        previousTimeMillis = currentTimeMillis;
-        byte[] currentBytes = Long.valueOf(currentTimeMillis).toString().getBytes();
-        return currentBytes;
+    protected byte[] prepareCurrentBytes() { // unique in this process, increased when same millisecond
+        final long now = System.currentTimeMillis();
+        final long currentTimeMillis = previousTimeMillis.updateAndGet(previous -> now > previous ? now : previous + 1);
+        return Long.valueOf(currentTimeMillis).toString().getBytes();
+    }
+
+    protected byte[] prepareNonceBytes() { // unpredictable even if session ID and time are known
+        final byte[] nonceBytes = new byte[NONCE_LENGTH];
+        randomLocal.get().nextBytes(nonceBytes);
+        return nonceBytes;
     }
 
     protected byte[] prepareGroupTypeBytes(Class<?> groupType) {
@@ -219,13 +245,18 @@ public class SimpleDoubleSubmitManager implements DoubleSubmitManager {
     //                                                                 Token Determination
     //                                                                 ===================
     @Override
-    public synchronized boolean determineToken(Class<?> groupType) {
+    public boolean determineToken(Class<?> groupType) { // no lock, token map is concurrent
         return doDetermineTokenValid(groupType, false);
     }
 
     @Override
-    public synchronized boolean determineTokenWithReset(Class<?> groupType) {
-        return doDetermineTokenValid(groupType, true);
+    public boolean determineTokenWithReset(Class<?> groupType) {
+        if (!getSessionTokenMap().isPresent()) { // quickly, and not to create session for lock
+            return false;
+        }
+        synchronized (findSessionLock()) { // to verify only one of concurrent requests in the session
+            return doDetermineTokenValid(groupType, true);
+        }
     }
 
     protected boolean doDetermineTokenValid(Class<?> groupType, boolean reset) {
@@ -360,16 +391,22 @@ public class SimpleDoubleSubmitManager implements DoubleSubmitManager {
     //                                                                       Token Closing
     //                                                                       =============
     @Override
-    public synchronized void resetToken(Class<?> groupType) {
-        getSessionTokenMap().ifPresent(tokenMap -> {
-            showRemovingToken(groupType, tokenMap);
-            tokenMap.remove(groupType);
-            if (tokenMap.isEmpty()) {
+    public void resetToken(Class<?> groupType) {
+        if (!getSessionTokenMap().isPresent()) { // not to create session for lock
+            removeTokenFromSession(); // just in case
+            return;
+        }
+        synchronized (findSessionLock()) { // reentrant from determination
+            getSessionTokenMap().ifPresent(tokenMap -> {
+                showRemovingToken(groupType, tokenMap);
+                tokenMap.remove(groupType);
+                if (tokenMap.isEmpty()) {
+                    removeTokenFromSession();
+                }
+            }).orElse(() -> {
                 removeTokenFromSession();
-            }
-        }).orElse(() -> {
-            removeTokenFromSession();
-        });
+            });
+        }
     }
 
     protected void showRemovingToken(Class<?> groupType, DoubleSubmitTokenMap tokenMap) {
@@ -406,6 +443,22 @@ public class SimpleDoubleSubmitManager implements DoubleSubmitManager {
         return requestManager.getAttribute(getFirstSubmittedKey(), Object.class).isPresent();
     }
 
+    // ===================================================================================
+    //                                                                        Session Lock
+    //                                                                        ============
+    protected Object[] prepareSessionLocks() {
+        final Object[] locks = new Object[SESSION_LOCK_COUNT];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+
+    protected Object findSessionLock() { // same session always uses same lock
+        final int hash = requestManager.getSessionManager().getSessionId().hashCode();
+        return sessionLocks[(hash ^ (hash >>> 16)) & (SESSION_LOCK_COUNT - 1)];
+    }
+
     // ===================================================================================
     //                                                                        Key Provider
     //                                                                        ============
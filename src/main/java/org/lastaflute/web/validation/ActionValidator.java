@@ -71,6 +71,8 @@ import org.lastaflute.di.helper.beans.factory.BeanDescFactory;
 import org.lastaflute.web.api.ApiFailureResource;
 import org.lastaflute.web.path.ActionAdjustmentProvider;
 import org.lastaflute.web.response.ApiResponse;
+import org.lastaflute.web.ruts.phase.ActionPhase;
+import org.lastaflute.web.ruts.phase.ActionPhaseTimer;
 import org.lastaflute.web.ruts.process.ActionRuntime;
 import org.lastaflute.web.servlet.request.RequestManager;
 import org.lastaflute.web.util.LaActionRuntimeUtil;
@@ -262,7 +264,12 @@ public class ActionValidator<MESSAGES extends UserMessages> {
     //                                          ------------
     protected ValidationSuccess doValidate(Object form, VaMore<MESSAGES> moreValidationLambda, VaErrorHook validationErrorLambda) {
         verifyFormType(form);
-        return actuallyValidate(wrapAsValidIfNeeds(form), moreValidationLambda, validationErrorLambda);
+        final long marked = ActionPhaseTimer.mark();
+        try {
+            return actuallyValidate(wrapAsValidIfNeeds(form), moreValidationLambda, validationErrorLambda);
+        } finally {
+            ActionPhaseTimer.record(ActionPhase.VALIDATION, marked); // also when validation error
+        }
     }
 
     protected Object wrapAsValidIfNeeds(Object form) {
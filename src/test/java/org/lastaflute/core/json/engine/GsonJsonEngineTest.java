@@ -15,6 +15,8 @@
  */
 package org.lastaflute.core.json.engine;
 
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -27,11 +29,14 @@ import org.dbflute.utflute.core.PlainTestCase;
 import org.dbflute.utflute.core.cannonball.CannonballCar;
 import org.dbflute.utflute.core.cannonball.CannonballOption;
 import org.dbflute.utflute.core.cannonball.CannonballRun;
+import org.lastaflute.core.json.annotation.JsonDatePattern;
 import org.lastaflute.core.json.bind.JsonYourScalarResource;
 import org.lastaflute.core.json.exception.JsonPropertyNumberParseFailureException;
+import org.lastaflute.di.helper.misc.ParameterizedRef;
 import org.lastaflute.unit.mock.db.MockCDef;
 import org.lastaflute.unit.mock.db.MockDepCDef;
 import org.lastaflute.unit.mock.db.MockOldCDef;
+import org.lastaflute.web.servlet.request.stream.TeeTextReader;
 
 import com.google.gson.GsonBuilder;
 
@@ -116,6 +121,39 @@ public class GsonJsonEngineTest extends PlainTestCase {
         });
     }
 
+    public void test_java8time_toJson_fromJson_datePattern() throws Exception {
+        // ## Arrange ##
+        GsonJsonEngine engine = new GsonJsonEngine(builder -> {}, op -> {});
+        MockSlashDateBean slashBean = new MockSlashDateBean();
+        slashBean.birthdate = toLocalDate("2015/05/18");
+        MockCompactDateBean compactBean = new MockCompactDateBean();
+        compactBean.birthdate = toLocalDate("2015/05/18");
+
+        // ## Act ##
+        // same field name in other classes, and twice for cached formatter
+        String slashJson = engine.toJson(slashBean);
+        String compactJson = engine.toJson(compactBean);
+        String secondJson = engine.toJson(slashBean);
+
+        // ## Assert ##
+        log(slashJson, compactJson);
+        assertContains(slashJson, "2015/05/18");
+        assertContains(compactJson, "20150518");
+        assertEquals(slashJson, secondJson);
+        assertEquals(slashBean.birthdate, engine.fromJson(slashJson, MockSlashDateBean.class).birthdate);
+        assertEquals(compactBean.birthdate, engine.fromJson(compactJson, MockCompactDateBean.class).birthdate);
+    }
+
+    public static class MockSlashDateBean {
+        @JsonDatePattern("yyyy/MM/dd")
+        public LocalDate birthdate;
+    }
+
+    public static class MockCompactDateBean {
+        @JsonDatePattern("yyyyMMdd")
+        public LocalDate birthdate;
+    }
+
     // ===================================================================================
     //                                                                             Boolean
     //                                                                             =======
@@ -621,6 +659,51 @@ public class GsonJsonEngineTest extends PlainTestCase {
         log(json);
     }
 
+    // ===================================================================================
+    //                                                                           Streaming
+    //                                                                           =========
+    public void test_streaming_toJson_fromJson_basic() throws Exception {
+        // ## Arrange ##
+        GsonJsonEngine engine = new GsonJsonEngine(builder -> {}, op -> {});
+        MockUser mockUser = new MockUser();
+        mockUser.id = 2;
+        mockUser.name = "land";
+        StringWriter writer = new StringWriter();
+
+        // ## Act ##
+        engine.toJson(mockUser, writer);
+
+        // ## Assert ##
+        String json = writer.toString();
+        log(json);
+        assertEquals(engine.toJson(mockUser), json);
+
+        // ## Act ##
+        TeeTextReader reader = new TeeTextReader(new StringReader(json), 10);
+        MockUser fromJson = engine.fromJson(reader, MockUser.class);
+
+        // ## Assert ##
+        assertEquals("land", fromJson.name);
+        assertTrue(reader.isKeptOver());
+        assertEquals(json.substring(0, 10) + "...", reader.getKeptText());
+    }
+
+    public void test_streaming_fromJson_empty() throws Exception {
+        // ## Arrange ##
+        GsonJsonEngine engine = new GsonJsonEngine(builder -> {}, op -> {});
+
+        // ## Act ##
+        MockUser fromJson = engine.fromJson(new StringReader(""), MockUser.class);
+        List<MockUser> fromJsonList = engine.fromJsonParameteried(new StringReader(""), new ParameterizedRef<List<MockUser>>() {
+        }.getType());
+
+        // ## Assert ##
+        assertNotNull(fromJson);
+        assertNull(fromJson.name);
+        assertNotNull(fromJsonList);
+        assertTrue(fromJsonList.isEmpty());
+    }
+
     // ===================================================================================
     //                                                                         Thread Safe
     //                                                                         ===========
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.json.engine;
+
+import java.time.format.DateTimeFormatter;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.core.json.JsonEngineResource;
+import org.lastaflute.core.json.JsonMappingOption;
+import org.lastaflute.core.json.JsonMappingOption.JsonFieldNaming;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class RuledJsonEngineCacheTest extends PlainTestCase {
+
+    public void test_findOrCreate_equivalentOption() {
+        // ## Arrange ##
+        RuledJsonEngineCache cache = new RuledJsonEngineCache(2);
+
+        // ## Act ##
+        RealJsonEngine first = cache.findOrCreate(prepareResource("yyyy/MM/dd"), res -> newEngine(res));
+        RealJsonEngine second = cache.findOrCreate(prepareResource("yyyy/MM/dd"), res -> newEngine(res));
+        RealJsonEngine another = cache.findOrCreate(prepareResource("yyyy-MM-dd"), res -> newEngine(res));
+
+        // ## Assert ##
+        log(cache);
+        assertSame(first, second);
+        assertNotSame(first, another);
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(2L, cache.getMissCount());
+    }
+
+    public void test_findOrCreate_limitSize() {
+        // ## Arrange ##
+        RuledJsonEngineCache cache = new RuledJsonEngineCache(2);
+
+        // ## Act ##
+        cache.findOrCreate(prepareResource("yyyy/MM/dd"), res -> newEngine(res));
+        cache.findOrCreate(prepareResource("yyyy-MM-dd"), res -> newEngine(res));
+        cache.findOrCreate(prepareResource("yyyyMMdd"), res -> newEngine(res));
+
+        // ## Assert ##
+        assertEquals(2, cache.getCachedSize());
+    }
+
+    public void test_findOrCreate_functionalSetting() {
+        // ## Arrange ##
+        RuledJsonEngineCache cache = new RuledJsonEngineCache(2);
+
+        // ## Act ##
+        RealJsonEngine first = cache.findOrCreate(prepareFilteredResource("sea"), res -> newEngine(res));
+        RealJsonEngine second = cache.findOrCreate(prepareFilteredResource("sea"), res -> newEngine(res));
+
+        // ## Assert ##
+        log(cache);
+        assertNotSame(first, second);
+        assertEquals(0, cache.getCachedSize()); // not evict others
+        assertEquals(2L, cache.getUncachedCount());
+        assertEquals(0L, cache.getMissCount());
+    }
+
+    private JsonEngineResource prepareFilteredResource(String suffix) {
+        JsonMappingOption option = new JsonMappingOption();
+        option.filterSimpleTextReading(text -> text + suffix); // capturing lambda, new instance per call
+        return new JsonEngineResource().acceptMappingOption(option);
+    }
+
+    private JsonEngineResource prepareResource(String datePattern) {
+        JsonMappingOption option = new JsonMappingOption();
+        option.formatLocalDateBy(DateTimeFormatter.ofPattern(datePattern)); // new instance per call
+        option.asFieldNaming(JsonFieldNaming.CAMEL_TO_LOWER_SNAKE);
+        return new JsonEngineResource().acceptMappingOption(option);
+    }
+
+    private RealJsonEngine newEngine(JsonEngineResource resource) {
+        return new GsonJsonEngine(builder -> {}, op -> resource.getMappingOption().ifPresent(another -> op.acceptAnother(another)));
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.magic;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ThreadCacheMapTest extends PlainTestCase {
+
+    public void test_inherited_copyOnWrite() {
+        // ## Arrange ##
+        ThreadCacheMap parentMap = new ThreadCacheMap(Collections.emptyMap());
+        parentMap.put("sea", "mystic");
+        parentMap.put("land", "oneman");
+        parentMap.put("completed", new ThreadCompleted() {
+        });
+        Map<String, Object> snapshot = parentMap.toInheritedSnapshot();
+
+        // ## Act ##
+        ThreadCacheMap childMap = new ThreadCacheMap(snapshot);
+        childMap.put("sea", "hangar");
+        childMap.remove("land");
+        childMap.put("piari", null);
+
+        // ## Assert ##
+        assertFalse(snapshot.containsKey("completed"));
+        assertEquals("hangar", childMap.get("sea"));
+        assertNull(childMap.get("land"));
+        assertFalse(childMap.containsKey("land"));
+        assertTrue(childMap.containsKey("piari"));
+        assertEquals(2, childMap.size());
+        assertEquals("mystic", snapshot.get("sea")); // not affected
+        assertEquals("oneman", parentMap.get("land"));
+    }
+
+    public void test_snapshot_reused() {
+        // ## Arrange ##
+        ThreadCacheMap map = new ThreadCacheMap(Collections.emptyMap());
+        map.put("sea", "mystic");
+
+        // ## Act ##
+        Map<String, Object> first = map.toInheritedSnapshot();
+        Map<String, Object> second = map.toInheritedSnapshot();
+        map.put("land", "oneman");
+        Map<String, Object> third = map.toInheritedSnapshot();
+
+        // ## Assert ##
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals(1, first.size());
+        assertEquals(2, third.size());
+    }
+}
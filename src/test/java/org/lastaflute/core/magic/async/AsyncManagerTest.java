@@ -0,0 +1,128 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.magic.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import org.lastaflute.core.magic.async.bridge.AsyncStateBridge;
+import org.lastaflute.core.magic.async.bridge.AsyncStateBridgeOpCall;
+import org.lastaflute.core.magic.async.future.YourFuture;
+import org.lastaflute.core.magic.async.waiting.WaitingAsyncResult;
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class AsyncManagerTest extends UnitLastaFluteTestCase {
+
+    // ===================================================================================
+    //                                                                   Composable Future
+    //                                                                   =================
+    public void test_supply_default_basic() {
+        // ## Arrange ##
+        AsyncManager manager = new ThreadOnlyAsyncManager();
+
+        // ## Act ##
+        CompletableFuture<String> seaFuture = manager.supply(() -> "sea");
+        CompletableFuture<String> landFuture = manager.supply(() -> "land", 10000L);
+
+        // ## Assert ##
+        assertEquals("sea:land", seaFuture.thenCombine(landFuture, (sea, land) -> sea + ":" + land).join());
+    }
+
+    public void test_supply_default_exception() {
+        // ## Arrange ##
+        AsyncManager manager = new ThreadOnlyAsyncManager();
+
+        // ## Act ##
+        CompletableFuture<String> future = manager.supply(new ConcurrentAsyncSupplyCall<String>() {
+            public String supply() {
+                throw new IllegalStateException("mystic");
+            }
+
+            public boolean suppressesErrorLogging() {
+                return true;
+            }
+        });
+
+        // ## Assert ##
+        assertException(CompletionException.class, () -> future.join()).handle(cause -> {
+            assertTrue(cause.getCause() instanceof IllegalStateException);
+        });
+    }
+
+    public void test_supply_default_timeout() {
+        // ## Arrange ##
+        AsyncManager manager = new ThreadOnlyAsyncManager();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        // ## Act ##
+        CompletableFuture<String> future = manager.supply(() -> {
+            try {
+                latch.await();
+            } catch (InterruptedException ignored) {}
+            return "sea";
+        }, 100L);
+
+        // ## Assert ##
+        assertException(CompletionException.class, () -> future.join()).handle(cause -> {
+            assertTrue(cause.getCause() instanceof TimeoutException);
+        });
+        latch.countDown();
+    }
+
+    // ===================================================================================
+    //                                                                        Test Manager
+    //                                                                        ============
+    protected static class ThreadOnlyAsyncManager implements AsyncManager { // only abstract methods are implemented
+
+        @Override
+        public YourFuture async(ConcurrentAsyncCall noArgLambda) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    noArgLambda.callback();
+                } catch (RuntimeException ignored) { // already completed in future
+                } finally {
+                    noArgLambda.hookFinally(null);
+                }
+            });
+            thread.start();
+            return new YourFuture() {
+                public boolean isDone() {
+                    return !thread.isAlive();
+                }
+
+                public WaitingAsyncResult waitForDone() {
+                    throw new UnsupportedOperationException("not used in the test");
+                }
+            };
+        }
+
+        @Override
+        public AsyncStateBridge bridgeState(AsyncStateBridgeOpCall opLambda) {
+            throw new UnsupportedOperationException("not used in the test");
+        }
+
+        @Override
+        public void parallel(ConcurrentParallelCall runnerLambda, ConcurrentParallelOpCall opLambda) {
+            throw new UnsupportedOperationException("not used in the test");
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.magic.async;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.lastaflute.core.magic.ThreadCacheContext;
+import org.lastaflute.core.magic.async.ConcurrentAsyncCall.ConcurrentAsyncImportance;
+import org.lastaflute.core.magic.async.exception.ConcurrentParallelRunnerException;
+import org.lastaflute.core.magic.async.future.YourFuture;
+import org.lastaflute.core.magic.async.future.YourFuture.YourFutureCancelledException;
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SimpleAsyncManagerTest extends UnitLastaFluteTestCase {
+
+    // ===================================================================================
+    //                                                                   Composable Future
+    //                                                                   =================
+    public void test_supply_thenCombine() {
+        // ## Arrange ##
+        SimpleAsyncManager manager = prepareAsyncManager();
+        ThreadCacheContext.initialize();
+        ThreadCacheContext.setObject("sea", "mystic");
+
+        // ## Act ##
+        CompletableFuture<String> seaFuture = manager.supply(() -> ThreadCacheContext.getObject("sea"));
+        CompletableFuture<String> landFuture = manager.supply(() -> "oneman");
+        String combined = seaFuture.thenCombine(landFuture, (sea, land) -> sea + "/" + land).join();
+
+        // ## Assert ##
+        assertEquals("mystic/oneman", combined); // inherited thread cache
+        ThreadCacheContext.clear();
+    }
+
+    public void test_supply_allOf_anyOf() {
+        // ## Arrange ##
+        SimpleAsyncManager manager = prepareAsyncManager();
+
+        // ## Act ##
+        List<CompletableFuture<Integer>> futureList = Arrays.asList(manager.supply(() -> 1), manager.supply(() -> 2));
+        List<Integer> allList = manager.allOf(futureList).join();
+        Integer any = manager.anyOf(futureList).join();
+
+        // ## Assert ##
+        assertEquals(Arrays.asList(1, 2), allList);
+        assertTrue(any == 1 || any == 2);
+    }
+
+    public void test_supply_timeout() {
+        // ## Arrange ##
+        SimpleAsyncManager manager = prepareAsyncManager();
+
+        // ## Act ##
+        CompletableFuture<String> future = manager.supply(() -> {
+            sleep(3000);
+            return "late";
+        }, 100L);
+
+        // ## Assert ##
+        assertException(CompletionException.class, () -> future.join()).handle(cause -> {
+            assertTrue(cause.getCause() instanceof TimeoutException);
+        });
+    }
+
+    // ===================================================================================
+    //                                                                     Overflow Policy
+    //                                                                     ===============
+    public void test_async_callerRuns_suspendsCallerContext() throws Exception {
+        // ## Arrange ##
+        SimpleAsyncManager manager = prepareQueuedAsyncManager(new ConcurrentAsyncQueueOption().boundQueue(1).overflowRunInCaller());
+        CountDownLatch latch = new CountDownLatch(1);
+        ThreadCacheContext.initialize();
+        ThreadCacheContext.setObject("sea", "mystic");
+        Thread callerThread = Thread.currentThread();
+        List<Object> runList = new CopyOnWriteArrayList<Object>();
+        try {
+            manager.async(() -> await(latch)); // occupies the only thread
+            manager.async(() -> await(latch)); // in queue
+
+            // ## Act ##
+            YourFuture future = manager.async(() -> {
+                runList.add(Thread.currentThread());
+                runList.add(ThreadCacheContext.getObject("sea")); // inherited
+                ThreadCacheContext.setObject("sea", "overridden");
+            });
+
+            // ## Assert ##
+            assertTrue(future.isDone());
+            assertEquals(Arrays.asList(callerThread, "mystic"), runList);
+            assertTrue(ThreadCacheContext.exists());
+            assertEquals("mystic", ThreadCacheContext.getObject("sea")); // resumed
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    public void test_async_dropOldest_cancelled() throws Exception {
+        // ## Arrange ##
+        SimpleAsyncManager manager = prepareQueuedAsyncManager(new ConcurrentAsyncQueueOption().boundQueue(1).overflowDropOldest());
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            manager.async(() -> await(latch)); // occupies the only thread
+            YourFuture dropped = manager.async(() -> {}); // in queue
+
+            // ## Act ##
+            CompletableFuture<String> droppedSupply = manager.supply(() -> "sea"); // drops the queued one, then queued
+            manager.async(() -> {}); // drops the supply
+
+            // ## Assert ##
+            assertException(YourFutureCancelledException.class, () -> dropped.waitForDone());
+            assertException(CompletionException.class, () -> droppedSupply.join()).handle(cause -> {
+                assertTrue(cause.getCause() instanceof YourFutureCancelledException);
+            });
+            assertEquals(2L, manager.getExecutorMetrics(ConcurrentAsyncImportance.SECONDARY).getDroppedCount());
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    public void test_async_shutdown_rejected() {
+        // ## Arrange ##
+        SimpleAsyncManager manager = prepareQueuedAsyncManager(new ConcurrentAsyncQueueOption().boundQueue(1).overflowRunInCaller());
+        manager.secondaryExecutorService.shutdown();
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(RejectedExecutionException.class, () -> manager.async(() -> {}));
+        assertException(RejectedExecutionException.class, () -> manager.supply(() -> "sea"));
+    }
+
+    public void test_async_shutdown_blockCaller_rejected() throws Exception {
+        // ## Arrange ##
+        SimpleAsyncManager manager = prepareQueuedAsyncManager(new ConcurrentAsyncQueueOption().boundQueue(1).overflowBlockCaller());
+        manager.secondaryExecutorService.shutdown();
+
+        // ## Act ##
+        // ## Assert ##
+        // the caller should not wait for the dead pool's queue forever
+        CompletableFuture.runAsync(() -> {
+            assertException(RejectedExecutionException.class, () -> manager.async(() -> {}));
+        }).get(10, TimeUnit.SECONDS);
+    }
+
+    // ===================================================================================
+    //                                                                            Parallel
+    //                                                                            ========
+    public void test_parallel_concurrencyLimit_dropOldest() throws Exception {
+        // ## Arrange ##
+        SimpleAsyncManager manager = prepareQueuedAsyncManager(new ConcurrentAsyncQueueOption().boundQueue(1).overflowDropOldest());
+        List<Object> paramList = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        List<Object> doneList = new CopyOnWriteArrayList<Object>();
+
+        // ## Act ##
+        // the permits of dropped runners should be released, or the caller hangs
+        CompletableFuture.runAsync(() -> {
+            assertException(ConcurrentParallelRunnerException.class, () -> {
+                manager.parallel(runner -> {
+                    sleep(50);
+                    doneList.add(runner.getParameter().get());
+                }, op -> op.params(paramList).limitConcurrencyCount(3));
+            }).handle(cause -> {
+                cause.getRunnerCauseList().forEach(exp -> {
+                    assertTrue(exp.getCause() instanceof YourFutureCancelledException);
+                });
+                assertEquals(paramList.size(), doneList.size() + cause.getRunnerCauseList().size());
+            });
+        }).get(10, TimeUnit.SECONDS);
+
+        // ## Assert ##
+        assertHasAnyElement(doneList);
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private SimpleAsyncManager prepareAsyncManager() {
+        SimpleAsyncManager manager = new SimpleAsyncManager();
+        manager.defaultConcurrentAsyncOption = new ConcurrentAsyncOption();
+        manager.executorMetricsMap = manager.prepareExecutorMetricsMap();
+        manager.primaryExecutorService = manager.createDefaultExecutorService(null, ConcurrentAsyncImportance.PRIMARY);
+        manager.secondaryExecutorService = manager.createDefaultExecutorService(null, ConcurrentAsyncImportance.SECONDARY);
+        manager.tertiaryExecutorService = manager.createDefaultExecutorService(null, ConcurrentAsyncImportance.TERTIARY);
+        return manager;
+    }
+
+    private SimpleAsyncManager prepareQueuedAsyncManager(ConcurrentAsyncQueueOption queueOption) {
+        SimpleAsyncManager manager = new SimpleAsyncManager();
+        manager.defaultConcurrentAsyncOption = new ConcurrentAsyncOption();
+        manager.executorMetricsMap = manager.prepareExecutorMetricsMap();
+        ConcurrentAsyncExecutorProvider provider = new ConcurrentAsyncExecutorProvider() {
+            public ConcurrentAsyncOption provideDefaultOption() {
+                return null;
+            }
+
+            public Integer provideMaxPoolSize() {
+                return 1;
+            }
+
+            public ConcurrentAsyncQueueOption provideQueueOption(ConcurrentAsyncImportance importance) {
+                return queueOption;
+            }
+        };
+        manager.primaryExecutorService = manager.createDefaultExecutorService(provider, ConcurrentAsyncImportance.PRIMARY);
+        manager.secondaryExecutorService = manager.createDefaultExecutorService(provider, ConcurrentAsyncImportance.SECONDARY);
+        manager.tertiaryExecutorService = manager.createDefaultExecutorService(provider, ConcurrentAsyncImportance.TERTIARY);
+        return manager;
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS); // not to hang if broken
+        } catch (InterruptedException e) {
+            throw new IllegalStateException("Interrupted while waiting for the latch.", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.magic.async.metrics;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.dbflute.utflute.core.PlainTestCase;
+import org.lastaflute.core.magic.async.ConcurrentAsyncCall.ConcurrentAsyncImportance;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class AsyncExecutorMetricsTest extends PlainTestCase {
+
+    public void test_mark_basic() {
+        // ## Arrange ##
+        AsyncExecutorMetrics metrics = new AsyncExecutorMetrics(ConcurrentAsyncImportance.TERTIARY);
+
+        // ## Act ##
+        long submitted = metrics.markSubmitted();
+        metrics.markSubmitted(); // dropped later
+        metrics.markSubmitted(); // failed later
+        long started = metrics.markStarted(submitted);
+        int activeInRunning = metrics.getActiveCount();
+        metrics.markFinished(started);
+        metrics.markRejected();
+        metrics.markDropped();
+        metrics.markRejected();
+        metrics.markSubmitFailed();
+
+        // ## Assert ##
+        log(metrics);
+        assertEquals(1, activeInRunning);
+        assertEquals(0, metrics.getActiveCount());
+        assertEquals(0, metrics.getQueuedCount());
+        assertEquals(1L, metrics.getCompletedCount());
+        assertEquals(2L, metrics.getRejectedCount());
+        assertEquals(1L, metrics.getDroppedCount());
+        assertEquals(1L, metrics.getWaitTimeHistogram().getCount());
+        assertEquals(1L, metrics.getRunTimeHistogram().getCount());
+    }
+
+    public void test_histogram_bucket() {
+        // ## Arrange ##
+        AsyncTimeHistogram histogram = new AsyncTimeHistogram();
+
+        // ## Act ##
+        histogram.record(TimeUnit.MICROSECONDS.toNanos(300));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(7));
+        histogram.record(TimeUnit.SECONDS.toNanos(90));
+
+        // ## Assert ##
+        log(histogram);
+        Map<String, Long> countMap = histogram.toBucketCountMap();
+        assertEquals(Long.valueOf(2L), countMap.get("~1ms"));
+        assertEquals(Long.valueOf(0L), countMap.get("~5ms"));
+        assertEquals(Long.valueOf(1L), countMap.get("~10ms"));
+        assertEquals(Long.valueOf(1L), countMap.get("60s~"));
+        assertEquals(4L, histogram.getCount());
+        assertEquals(90000L, histogram.getMaxMillis());
+    }
+}
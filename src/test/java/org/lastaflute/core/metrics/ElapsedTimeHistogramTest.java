@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.metrics;
+
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ElapsedTimeHistogramTest extends UnitLastaFluteTestCase {
+
+    public void test_percentile_basic() {
+        // ## Arrange ##
+        ElapsedTimeHistogram histogram = new ElapsedTimeHistogram();
+
+        // ## Act ##
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L); // 1us to 1000us
+        }
+
+        // ## Assert ##
+        log(histogram);
+        assertEquals(1000L, histogram.getCount());
+        assertEquals(1000000L, histogram.getMaxNanos());
+        assertEquals(500500L, histogram.getAverageNanos());
+        assertRoughly(500000L, histogram.getPercentileNanos(50.0));
+        assertRoughly(990000L, histogram.getPercentileNanos(99.0));
+        assertEquals(1000000L, histogram.getPercentileNanos(100.0));
+    }
+
+    public void test_percentile_small() {
+        // ## Arrange ##
+        ElapsedTimeHistogram histogram = new ElapsedTimeHistogram();
+
+        // ## Act ##
+        histogram.record(3L);
+        histogram.record(-1L); // as zero
+
+        // ## Assert ##
+        assertEquals(0L, histogram.getPercentileNanos(50.0));
+        assertEquals(3L, histogram.getPercentileNanos(100.0));
+        assertEquals(0L, new ElapsedTimeHistogram().getPercentileNanos(50.0));
+    }
+
+    public void test_percentile_millis() {
+        // ## Arrange ##
+        ElapsedTimeHistogram histogram = new ElapsedTimeHistogram();
+
+        // ## Act ##
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000_000L); // 1ms
+        }
+        histogram.record(100_000_000L); // 100ms
+
+        // ## Assert ##
+        assertEquals(100L, histogram.getCount());
+        assertRoughly(1_000_000L, histogram.getPercentileNanos(50.0));
+        assertEquals(100_000_000L, histogram.getPercentileNanos(100.0));
+    }
+
+    private void assertRoughly(long expected, long actual) { // log-linear buckets are within 12.5%
+        assertTrue("expected=" + expected + ", actual=" + actual, Math.abs(actual - expected) <= expected / 8);
+    }
+}
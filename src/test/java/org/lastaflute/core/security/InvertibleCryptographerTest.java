@@ -15,7 +15,11 @@
  */
 package org.lastaflute.core.security;
 
+import java.nio.ByteBuffer;
+
 import org.dbflute.utflute.core.PlainTestCase;
+import org.dbflute.utflute.core.cannonball.CannonballOption;
+import org.lastaflute.core.security.exception.CipherFailureException;
 
 /**
  * @author jflute
@@ -36,6 +40,54 @@ public class InvertibleCryptographerTest extends PlainTestCase {
         assertEquals("abc", decrypted);
     }
 
+    public void test_AES_GCM() throws Exception {
+        // ## Arrange ##
+        String key = "1234567890123456"; // 16 byte
+        InvertibleCryptographer cipher = InvertibleCryptographer.createAesGcmCipher(key);
+
+        // ## Act ##
+        String encrypted = cipher.encrypt("abc");
+        String decrypted = cipher.decrypt(encrypted);
+
+        // ## Assert ##
+        log(encrypted, decrypted);
+        assertEquals("abc", decrypted);
+        assertFalse(encrypted.equals(cipher.encrypt("abc"))); // random IV
+        String tampered = encrypted.substring(0, encrypted.length() - 1) + (encrypted.endsWith("0") ? "1" : "0");
+        assertException(CipherFailureException.class, () -> cipher.decrypt(tampered));
+    }
+
+    public void test_bytes_and_buffer() throws Exception {
+        // ## Arrange ##
+        InvertibleCryptographer cipher = InvertibleCryptographer.createAesCipher("1234567890123456");
+        byte[] plainBytes = "sea, land, piari".getBytes("UTF-8");
+
+        // ## Act ##
+        byte[] encryptedBytes = cipher.encryptBytes(plainBytes);
+        ByteBuffer decryptedBuffer = cipher.decryptBuffer(ByteBuffer.wrap(encryptedBytes));
+
+        // ## Assert ##
+        assertEquals(cipher.encrypt("sea, land, piari"), new String(cipher.encodeHex(encryptedBytes)));
+        byte[] decryptedBytes = new byte[decryptedBuffer.remaining()];
+        decryptedBuffer.get(decryptedBytes);
+        assertEquals("sea, land, piari", new String(decryptedBytes, "UTF-8"));
+        assertEquals("sea, land, piari", new String(cipher.decryptBytes(encryptedBytes), "UTF-8"));
+    }
+
+    public void test_concurrent() throws Exception {
+        // ## Arrange ##
+        InvertibleCryptographer cipher = InvertibleCryptographer.createAesGcmCipher("1234567890123456");
+
+        // ## Act ##
+        // ## Assert ##
+        cannonball(car -> {
+            for (int i = 0; i < 100; i++) {
+                String plainText = "sea" + car.getEntryNumber() + "_" + i;
+                assertEquals(plainText, cipher.decrypt(cipher.encrypt(plainText)));
+            }
+        }, new CannonballOption().threadCount(8));
+    }
+
     public void test_UNSUPPORTED() throws Exception {
         // ## Arrange ##
         InvertibleCryptographer cipher = InvertibleCryptographer.createUnsupportedCipher("sea");
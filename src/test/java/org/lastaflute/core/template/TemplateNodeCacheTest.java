@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.core.template;
+
+import org.dbflute.twowaysql.SqlAnalyzer;
+import org.dbflute.twowaysql.node.Node;
+import org.dbflute.utflute.core.PlainTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class TemplateNodeCacheTest extends PlainTestCase {
+
+    public void test_findOrCreate_basic() {
+        // ## Arrange ##
+        TemplateNodeCache cache = new TemplateNodeCache(2);
+
+        // ## Act ##
+        Node sea = cache.findOrCreate("sea.dfmail", path -> analyze(path));
+        Node seaAgain = cache.findOrCreate("sea.dfmail", path -> {
+            fail("should be cached: " + path);
+            return null;
+        });
+
+        // ## Assert ##
+        log(cache);
+        assertSame(sea, seaAgain);
+        assertEquals(1, cache.getCachedSize());
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+    }
+
+    public void test_findOrCreate_limit() {
+        // ## Arrange ##
+        TemplateNodeCache cache = new TemplateNodeCache(2);
+        Node sea = cache.findOrCreate("sea.dfmail", path -> analyze(path));
+        cache.findOrCreate("land.dfmail", path -> analyze(path));
+        cache.findOrCreate("sea.dfmail", path -> analyze(path)); // sea is recently used
+
+        // ## Act ##
+        cache.findOrCreate("piari.dfmail", path -> analyze(path));
+
+        // ## Assert ##
+        log(cache);
+        assertEquals(2, cache.getCachedSize());
+        assertSame(sea, cache.findOrCreate("sea.dfmail", path -> analyze(path)));
+        assertEquals(2L, cache.getHitCount());
+        assertEquals(3L, cache.getMissCount());
+        cache.findOrCreate("land.dfmail", path -> analyze(path)); // removed so created again
+        assertEquals(4L, cache.getMissCount());
+    }
+
+    private Node analyze(String path) {
+        return new SqlAnalyzer("/*pmb.name*/ " + path, true).analyze();
+    }
+}
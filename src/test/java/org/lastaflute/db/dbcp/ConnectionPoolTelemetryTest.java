@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.dbcp;
+
+import java.util.Collections;
+
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ConnectionPoolTelemetryTest extends UnitLastaFluteTestCase {
+
+    public void test_snapshot_basic() {
+        // ## Arrange ##
+        ConnectionPoolTelemetry telemetry = new ConnectionPoolTelemetry();
+
+        // ## Act ##
+        telemetry.beginCheckOut();
+        telemetry.endCheckOut(3_000_000L, true); // 3ms
+        telemetry.beginCheckOut();
+        telemetry.endCheckOut(500_000L, false); // pool short
+        telemetry.beginCheckOut(); // still waiting
+        telemetry.recordHolding("SeaAction@index", 20_000_000L, false); // 20ms
+        telemetry.recordHolding("SeaAction@index", 40_000_000L, false);
+        telemetry.recordHolding("LandAction@index", 12_000_000_000L, true); // 12s
+        ConnectionPoolSnapshot snapshot = telemetry.toSnapshot(10, 1, 2, 7, Collections.singletonList("PiariAction@index 15000ms"));
+
+        // ## Assert ##
+        log(snapshot);
+        assertEquals(10, snapshot.getMaxPoolSize());
+        assertEquals(2, snapshot.getTxActiveSize());
+        assertEquals(1L, snapshot.getPendingCount());
+        assertEquals(1L, snapshot.getCheckOutCount());
+        assertEquals(1L, snapshot.getCheckOutFailureCount());
+        assertEquals(3.0, snapshot.getCheckOutWaitMaxMillis());
+        assertTrue(snapshot.getCheckOutWaitP99Millis() > 2.0);
+        assertEquals(1L, snapshot.getSlowHoldingCount());
+        assertEquals(2L, snapshot.getHoldingSummaryMap().get("SeaAction@index").getCount());
+        assertEquals(30.0, snapshot.getHoldingSummaryMap().get("SeaAction@index").getAvgMillis());
+        assertEquals(12000.0, snapshot.getHoldingSummaryMap().get("LandAction@index").getMaxMillis());
+        assertEquals("LandAction@index", snapshot.getHoldingSummaryMap().keySet().iterator().next()); // sorted
+        assertEquals(1, snapshot.getCurrentSlowHolderList().size());
+    }
+
+    public void test_checkOut_reuse() {
+        // ## Arrange ##
+        ConnectionPoolTelemetry telemetry = new ConnectionPoolTelemetry();
+
+        // ## Act ##
+        telemetry.beginCheckOut();
+        telemetry.endCheckOut(5_000_000L, true); // 5ms, taken from pool
+        telemetry.beginCheckOut();
+        telemetry.endCheckOutByReuse(); // same transaction
+
+        // ## Assert ##
+        ConnectionPoolSnapshot snapshot = telemetry.toSnapshot(10, 0, 1, 9, Collections.emptyList());
+        log(snapshot);
+        assertEquals(0L, snapshot.getPendingCount());
+        assertEquals(1L, snapshot.getCheckOutCount());
+        assertEquals(1L, telemetry.getCheckOutWaitHistogram().getCount());
+        assertEquals(5.0, snapshot.getCheckOutWaitP50Millis());
+    }
+}
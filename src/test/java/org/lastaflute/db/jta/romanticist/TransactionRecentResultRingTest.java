@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.jta.romanticist;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class TransactionRecentResultRingTest extends UnitLastaFluteTestCase {
+
+    public void test_register_basic() {
+        // ## Arrange ##
+        TransactionRecentResultRing ring = new TransactionRecentResultRing(3);
+        List<Object> resultList = new ArrayList<Object>(); // hold values strongly not to be collected
+
+        // ## Act ##
+        for (int i = 1; i <= 5; i++) {
+            List<String> value = new ArrayList<String>();
+            value.add("sea" + i);
+            resultList.add(value);
+            ring.register("MEMBER", "selectList", 100L * i, null, List.class, value, null);
+        }
+        List<TransactionSavedRecentResult> savedList = ring.toSavedResultList();
+
+        // ## Assert ##
+        assertEquals(5L, ring.getRegisteredCount());
+        assertEquals(3, savedList.size());
+        TransactionSavedRecentResult first = savedList.get(0);
+        assertEquals(3L, first.getStatementNo());
+        assertEquals("MEMBER", first.getTableName());
+        assertEquals("selectList", first.getCommand());
+        assertEquals(Long.valueOf(300L), first.getBeginMillis());
+        assertNull(first.getEndMillis());
+        assertEquals(List.class, first.getResultType());
+        assertEquals(1, first.getResultMap().get("size"));
+        assertEquals(5L, savedList.get(2).getStatementNo());
+        log(savedList.get(2).getResultMap());
+    }
+
+    public void test_register_noValue() {
+        // ## Arrange ##
+        TransactionRecentResultRing ring = new TransactionRecentResultRing(3);
+
+        // ## Act ##
+        ring.register("MEMBER", "selectCursor", null, null, void.class, null, null);
+
+        // ## Assert ##
+        TransactionSavedRecentResult saved = ring.toSavedResultList().get(0);
+        assertEquals(1L, saved.getStatementNo());
+        assertTrue(saved.getResultMap().isEmpty());
+        assertTrue(new TransactionRecentResultRing(3).toSavedResultList().isEmpty());
+    }
+
+    public void test_register_valueTitle_byCommand() {
+        // ## Arrange ##
+        TransactionRecentResultRing ring = new TransactionRecentResultRing(4);
+        Integer value = 1; // cached instance so not collected
+
+        // ## Act ##
+        // meta is not kept in the ring, so the title is derived from the command
+        ring.register("MEMBER", "insert", 1L, 2L, Integer.class, value, null);
+        ring.register("MEMBER", "queryUpdate", 1L, 2L, Integer.class, value, null);
+        ring.register("MEMBER", "deleteNonstrict", 1L, 2L, Integer.class, value, null);
+        ring.register("MEMBER", "selectCount", 1L, 2L, Integer.class, value, null);
+        List<TransactionSavedRecentResult> savedList = ring.toSavedResultList();
+
+        // ## Assert ##
+        assertEquals(value, savedList.get(0).getResultMap().get("inserted"));
+        assertEquals(value, savedList.get(1).getResultMap().get("updated"));
+        assertEquals(value, savedList.get(2).getResultMap().get("deleted"));
+        assertEquals(value, savedList.get(3).getResultMap().get("count"));
+        assertNull(savedList.get(0).getResultMap().get("key")); // no meta
+    }
+
+    public void test_toSavedResultList_readWhileWriting() throws Exception {
+        // ## Arrange ##
+        TransactionRecentResultRing ring = new TransactionRecentResultRing(4);
+        int writtenCount = 200000;
+        Thread writer = new Thread(() -> {
+            for (long no = 1; no <= writtenCount; no++) {
+                ring.register("TABLE" + (no % 7), "selectList", no, no * 2, List.class, null, null);
+            }
+        });
+
+        // ## Act ##
+        writer.start();
+        long readCount = 0;
+        while (writer.isAlive() || readCount == 0) {
+            for (TransactionSavedRecentResult saved : ring.toSavedResultList()) {
+                // ## Assert ##
+                long no = saved.getStatementNo();
+                assertEquals("TABLE" + (no % 7), saved.getTableName()); // not mixed with overwriting entry
+                assertEquals(Long.valueOf(no), saved.getBeginMillis());
+                assertEquals(Long.valueOf(no * 2), saved.getEndMillis());
+                ++readCount;
+            }
+        }
+        writer.join();
+        log(readCount);
+        assertEquals(4, ring.toSavedResultList().size());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.replication.slavedb;
+
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLNonTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.dbflute.exception.SQLFailureException;
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SlaveDBReplicaRouterTest extends UnitLastaFluteTestCase {
+
+    // ===================================================================================
+    //                                                                           Selection
+    //                                                                           =========
+    public void test_select_weightedRoundRobin() {
+        // ## Arrange ##
+        SlaveDBReplicaRouter router = new SlaveDBReplicaRouter(new SlaveDBReplicaOption().replica("slave1", 2).replica("slave2", 1));
+        Map<String, Integer> countMap = new LinkedHashMap<String, Integer>();
+
+        // ## Act ##
+        for (int i = 0; i < 30; i++) {
+            SlaveDBReplicaRoute route = router.select();
+            SlaveDBReplicaState replica = route.getReplica();
+            router.finish(route, replica.begin(), false);
+            countMap.merge(replica.getReplicaKey(), 1, Integer::sum);
+        }
+
+        // ## Assert ##
+        log(countMap, router);
+        assertEquals(Integer.valueOf(20), countMap.get("slave1"));
+        assertEquals(Integer.valueOf(10), countMap.get("slave2"));
+    }
+
+    public void test_select_leastOutstanding() {
+        // ## Arrange ##
+        SlaveDBReplicaRouter router =
+                new SlaveDBReplicaRouter(new SlaveDBReplicaOption().replica("slave1", 1).replica("slave2", 1).leastOutstanding());
+
+        // ## Act ##
+        SlaveDBReplicaState first = router.select().getReplica();
+        first.begin(); // still outstanding
+        SlaveDBReplicaState second = router.select().getReplica();
+
+        // ## Assert ##
+        assertNotSame(first, second);
+        assertEquals(1, first.getOutstandingCount());
+        assertEquals(0, second.getOutstandingCount());
+    }
+
+    // ===================================================================================
+    //                                                                           Ejection
+    //                                                                           ========
+    public void test_eject_failure_and_reprobe() {
+        // ## Arrange ##
+        SlaveDBReplicaOption option = new SlaveDBReplicaOption().replica("slave1", 1).ejectFailureCount(2).reprobeMillis(0L);
+        SlaveDBReplicaRouter router = new SlaveDBReplicaRouter(option);
+        SlaveDBReplicaState replica = router.getReplicaList().get(0);
+
+        // ## Act ##
+        router.finish(router.select(), replica.begin(), true);
+        assertFalse(replica.isEjected());
+        router.finish(router.select(), replica.begin(), true);
+
+        // ## Assert ##
+        assertTrue(replica.isEjected());
+        assertEquals(1L, replica.getEjectedCount());
+        SlaveDBReplicaRoute probed = router.select(); // reprobe immediately by zero millis
+        assertSame(replica, probed.getReplica());
+        assertTrue(probed.isProbe());
+        assertTrue(replica.isProbing());
+        assertNull(router.select()); // probing by other access so master fallback
+        router.finish(probed, replica.begin(), false);
+        assertFalse(replica.isEjected());
+        assertSame(replica, router.select().getReplica());
+    }
+
+    public void test_eject_reprobe_otherAccessFinished() {
+        // ## Arrange ##
+        SlaveDBReplicaOption option = new SlaveDBReplicaOption().replica("slave1", 1).ejectFailureCount(1).reprobeMillis(0L);
+        SlaveDBReplicaRouter router = new SlaveDBReplicaRouter(option);
+        SlaveDBReplicaState replica = router.getReplicaList().get(0);
+        SlaveDBReplicaRoute before = router.select(); // began before ejection
+        long beforeBeginNanos = replica.begin();
+        router.finish(router.select(), replica.begin(), true);
+        assertTrue(replica.isEjected());
+        SlaveDBReplicaRoute probed = router.select();
+        assertTrue(probed.isProbe());
+
+        // ## Act ##
+        router.finish(before, beforeBeginNanos, false); // not reprobe even if finished while reprobing
+
+        // ## Assert ##
+        assertFalse(before.isProbe());
+        assertTrue(replica.isEjected()); // not restored by the other access
+        assertTrue(replica.isProbing());
+        router.finish(probed, replica.begin(), false);
+        assertFalse(replica.isEjected());
+    }
+
+    public void test_eject_failure_connectionOnly() {
+        // ## Arrange ##
+        SlaveDBReplicaOption option = new SlaveDBReplicaOption().replica("slave1", 1).ejectFailureCount(1).reprobeMillis(60000L);
+        SlaveDBReplicaRouter router = new SlaveDBReplicaRouter(option);
+        SlaveDBReplicaState replica = router.getReplicaList().get(0);
+        SlaveDBAccessorImpl accessor = new SlaveDBAccessorImpl();
+
+        // ## Act ##
+        // ## Assert ##
+        SQLException appCause = new SQLIntegrityConstraintViolationException("unique", "23000");
+        boolean appFailure = accessor.isReplicaFailure(new SQLFailureException("application error", appCause));
+        assertFalse(appFailure);
+        router.finish(router.select(), replica.begin(), appFailure);
+        assertFalse(replica.isEjected());
+
+        assertFalse(accessor.isReplicaFailure(new SQLFailureException("syntax", new SQLException("syntax", "42000"))));
+        assertTrue(accessor.isReplicaFailure(new SQLFailureException("lost", new SQLException("lost", "08S01"))));
+        SQLException connCause = new SQLNonTransientConnectionException("refused");
+        boolean connFailure = accessor.isReplicaFailure(new SQLFailureException("connection error", connCause));
+        assertTrue(connFailure);
+        router.finish(router.select(), replica.begin(), connFailure);
+        assertTrue(replica.isEjected());
+    }
+
+    public void test_eject_lagging() {
+        // ## Arrange ##
+        SlaveDBReplicaOption option = new SlaveDBReplicaOption().replica("slave1", 1).replica("slave2", 1).reprobeMillis(60000L);
+        option.ejectLagging(replicaKey -> replicaKey.equals("slave2"), 0L);
+        SlaveDBReplicaRouter router = new SlaveDBReplicaRouter(option);
+
+        // ## Act ##
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            sb.append(router.select().getReplica().getReplicaKey()).append(";");
+        }
+
+        // ## Assert ##
+        assertEquals("slave1;slave1;slave1;slave1;", sb.toString());
+        assertEquals("lagging", router.getReplicaList().get(1).getEjectedReason());
+    }
+
+    public void test_option_illegal() {
+        assertException(IllegalArgumentException.class, () -> new SlaveDBReplicaOption().replica("slave1", 0));
+        assertException(IllegalArgumentException.class, () -> new SlaveDBReplicaOption().replica("slave1", 1).replica("slave1", 2));
+        assertException(IllegalArgumentException.class, () -> new SlaveDBReplicaRouter(new SlaveDBReplicaOption()));
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.replication.slavedb;
+
+import org.dbflute.optional.OptionalThing;
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SlaveDBStickinessOptionTest extends UnitLastaFluteTestCase {
+
+    public void test_isInLagWindow_basic() {
+        // ## Arrange ##
+        MockStickinessStore store = new MockStickinessStore();
+        SlaveDBStickinessOption option = new SlaveDBStickinessOption(3000L, store);
+
+        // ## Act ##
+        // ## Assert ##
+        assertFalse(option.isInLagWindow(10000L)); // no write
+        store.saveLatestWriteMillis(10000L);
+        assertTrue(option.isInLagWindow(10000L));
+        assertTrue(option.isInLagWindow(13000L));
+        assertFalse(option.isInLagWindow(13001L));
+    }
+
+    public void test_illegalArgument() {
+        assertException(IllegalArgumentException.class, () -> new SlaveDBStickinessOption(0L, new MockStickinessStore()));
+        assertException(IllegalArgumentException.class, () -> new SlaveDBStickinessOption(3000L, null));
+    }
+
+    private static class MockStickinessStore implements SlaveDBStickinessStore {
+
+        private Long latestWriteMillis;
+
+        @Override
+        public OptionalThing<Long> findLatestWriteMillis() {
+            return OptionalThing.ofNullable(latestWriteMillis, () -> {
+                throw new IllegalStateException("Not found the latest write.");
+            });
+        }
+
+        @Override
+        public void saveLatestWriteMillis(long writeMillis) {
+            latestWriteMillis = writeMillis;
+        }
+    }
+}
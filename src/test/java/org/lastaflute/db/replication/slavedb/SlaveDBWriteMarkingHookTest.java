@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.db.replication.slavedb;
+
+import java.lang.reflect.Proxy;
+
+import org.dbflute.bhv.core.BehaviorCommandMeta;
+import org.dbflute.optional.OptionalThing;
+import org.lastaflute.core.magic.ThreadCacheContext;
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SlaveDBWriteMarkingHookTest extends UnitLastaFluteTestCase {
+
+    @Override
+    protected void tearDown() throws Exception {
+        ThreadCacheContext.clear();
+        super.tearDown();
+    }
+
+    // ===================================================================================
+    //                                                                        Hook Command
+    //                                                                        ============
+    public void test_hookFinally_markWrite() {
+        // ## Arrange ##
+        MockStickinessStore store = new MockStickinessStore();
+        SlaveDBWriteMarkingHook hook = new SlaveDBWriteMarkingHook(new SlaveDBStickinessOption(3000L, store));
+        ThreadCacheContext.initialize();
+
+        // ## Act ##
+        // ## Assert ##
+        hook.hookFinally(mockMeta(true), null); // select
+        assertFalse(store.findLatestWriteMillis().isPresent());
+        assertFalse(ThreadCacheContext.isDBWritten());
+        hook.hookFinally(mockMeta(false), new IllegalStateException("failed")); // failed update
+        assertFalse(store.findLatestWriteMillis().isPresent());
+        hook.hookFinally(mockMeta(false), null); // update
+        assertTrue(store.findLatestWriteMillis().isPresent());
+        assertTrue(ThreadCacheContext.isDBWritten());
+    }
+
+    public void test_hookFinally_noThreadCache() {
+        // ## Arrange ##
+        MockStickinessStore store = new MockStickinessStore();
+        SlaveDBWriteMarkingHook hook = new SlaveDBWriteMarkingHook(new SlaveDBStickinessOption(3000L, store));
+
+        // ## Act ##
+        hook.hookFinally(mockMeta(false), null); // e.g. batch
+
+        // ## Assert ##
+        assertTrue(store.findLatestWriteMillis().isPresent());
+        assertFalse(ThreadCacheContext.isDBWritten());
+    }
+
+    // ===================================================================================
+    //                                                                            Accessor
+    //                                                                            ========
+    public void test_accessor_isStickyToMaster() {
+        // ## Arrange ##
+        MockStickinessStore store = new MockStickinessStore();
+        SlaveDBStickinessOption option = new SlaveDBStickinessOption(3000L, store);
+        SlaveDBAccessorImpl accessor = new SlaveDBAccessorImpl() {
+            @Override
+            protected SlaveDBStickinessOption mySlaveStickinessOption() {
+                return option;
+            }
+        };
+        SlaveDBWriteMarkingHook hook = new SlaveDBWriteMarkingHook(option);
+        ThreadCacheContext.initialize();
+
+        // ## Act ##
+        // ## Assert ##
+        assertFalse(accessor.isStickyToMaster());
+        hook.hookFinally(mockMeta(false), null); // written in the current request
+        assertTrue(accessor.isStickyToMaster());
+        ThreadCacheContext.clear(); // next request of the same user
+        assertTrue(accessor.isStickyToMaster()); // by store
+        store.saveLatestWriteMillis(System.currentTimeMillis() - 5000L); // lag window passed
+        assertFalse(accessor.isStickyToMaster());
+    }
+
+    // ===================================================================================
+    //                                                                         Test Helper
+    //                                                                         ===========
+    private BehaviorCommandMeta mockMeta(boolean select) {
+        return (BehaviorCommandMeta) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { BehaviorCommandMeta.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("isSelect")) {
+                        return select;
+                    }
+                    return null;
+                });
+    }
+
+    private static class MockStickinessStore implements SlaveDBStickinessStore {
+
+        private Long latestWriteMillis;
+
+        @Override
+        public OptionalThing<Long> findLatestWriteMillis() {
+            return OptionalThing.ofNullable(latestWriteMillis, () -> {
+                throw new IllegalStateException("Not found the latest write.");
+            });
+        }
+
+        @Override
+        public void saveLatestWriteMillis(long writeMillis) {
+            latestWriteMillis = writeMillis;
+        }
+    }
+}
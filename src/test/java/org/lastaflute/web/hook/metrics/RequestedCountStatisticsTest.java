@@ -0,0 +1,145 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.hook.metrics;
+
+import org.dbflute.bhv.proposal.callback.ExecutedSqlCounter;
+import org.lastaflute.core.mail.PostedMailCounter;
+import org.lastaflute.core.mail.RequestedMailCount;
+import org.lastaflute.core.remoteapi.CalledRemoteApiCounter;
+import org.lastaflute.core.remoteapi.RequestedRemoteApiCount;
+import org.lastaflute.db.dbflute.callbackcontext.traceablesql.RequestedSqlCount;
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class RequestedCountStatisticsTest extends UnitLastaFluteTestCase {
+
+    // ===================================================================================
+    //                                                                                Fold
+    //                                                                                ====
+    public void test_fold_basic() {
+        // ## Arrange ##
+        RequestedCountStatistics statistics = new RequestedCountStatistics();
+        InMemoryRequestedCountExporter exporter = new InMemoryRequestedCountExporter();
+
+        // ## Act ##
+        for (int i = 0; i < 98; i++) {
+            statistics.fold("SeaAction@index", prepareSqlCount(2), null, null);
+        }
+        statistics.fold("SeaAction@index", prepareSqlCount(40), prepareMailCount(1), prepareRemoteApiCount("harbor", "harbor"));
+        statistics.fold("SeaAction@index", null, null, null); // no SQL
+        statistics.fold("LandAction@index", prepareSqlCount(1), null, prepareRemoteApiCount("maihama"));
+        statistics.export(exporter);
+
+        // ## Assert ##
+        assertEquals(1, exporter.getExportCount());
+        assertEquals(2, exporter.getSnapshotList().size());
+        RequestedCountSnapshot sea = exporter.findSnapshot("SeaAction@index").get();
+        log(sea);
+        assertEquals(100L, sea.getRequestCount());
+        assertEquals(236L, sea.getSqlTotalCount());
+        assertEquals(236L, sea.getSelectCBCount());
+        assertEquals(2L, sea.getSqlP50());
+        assertEquals(2L, sea.getSqlP90());
+        assertEquals(2L, sea.getSqlP99());
+        assertEquals(40L, sea.getSqlMax());
+        assertEquals(1L, sea.getMailPostingCount());
+        assertEquals(2L, sea.getRemoteApiTotalCount());
+        assertEquals(Long.valueOf(2L), sea.getFacadeCountMap().get("harbor"));
+
+        RequestedCountSnapshot land = exporter.findSnapshot("LandAction@index").get();
+        assertEquals(1L, land.getRequestCount());
+        assertEquals(1L, land.getSqlMax());
+        assertEquals(Long.valueOf(1L), land.getFacadeCountMap().get("maihama"));
+        assertFalse(exporter.findSnapshot("PiariAction@index").isPresent());
+    }
+
+    // ===================================================================================
+    //                                                                        Distribution
+    //                                                                        ============
+    public void test_distribution_percentile() {
+        // ## Arrange ##
+        RequestedCountDistribution distribution = new RequestedCountDistribution();
+
+        // ## Act ##
+        for (int i = 1; i <= 10; i++) {
+            distribution.record(i * 10); // 10, 20, ..., 100
+        }
+        distribution.record(3000); // over the max bound
+
+        // ## Assert ##
+        log(distribution);
+        assertEquals(11L, distribution.getCount());
+        assertEquals(3550L, distribution.getSum());
+        assertEquals(3000L, distribution.getMax());
+        assertEquals(75L, distribution.getPercentile(50.0)); // 6th is 60, bucket of (50, 75]
+        assertEquals(3000L, distribution.getPercentile(100.0));
+        assertEquals(0L, new RequestedCountDistribution().getPercentile(99.0));
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private RequestedSqlCount prepareSqlCount(int selectCount) {
+        return new RequestedSqlCount(new ExecutedSqlCounter() {
+            public int getTotalCountOfSql() {
+                return selectCount;
+            }
+
+            public int getCountOfSelectCB() {
+                return selectCount;
+            }
+
+            public int getCountOfEntityUpdate() {
+                return 0;
+            }
+
+            public int getCountOfQueryUpdate() {
+                return 0;
+            }
+
+            public int getCountOfOutsideSql() {
+                return 0;
+            }
+
+            public int getCountOfProcedure() {
+                return 0;
+            }
+
+            public String toLineDisp() {
+                return "select=" + selectCount;
+            }
+        });
+    }
+
+    private RequestedMailCount prepareMailCount(int postingCount) {
+        PostedMailCounter counter = new PostedMailCounter();
+        for (int i = 0; i < postingCount; i++) {
+            counter.incrementPosting();
+        }
+        return new RequestedMailCount(counter);
+    }
+
+    private RequestedRemoteApiCount prepareRemoteApiCount(String... facadeNames) {
+        CalledRemoteApiCounter counter = new CalledRemoteApiCounter();
+        for (String facadeName : facadeNames) {
+            counter.increment(facadeName);
+        }
+        return new RequestedRemoteApiCount(counter);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.path;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.lastaflute.di.core.meta.impl.ComponentDefImpl;
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+import org.lastaflute.web.LastaAction;
+import org.lastaflute.web.path.ActionPathRoutingIndex.RoutingNode;
+import org.lastaflute.web.ruts.config.ActionMapping;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ActionPathRoutingIndexTest extends UnitLastaFluteTestCase {
+
+    // ===================================================================================
+    //                                                                               Basic
+    //                                                                               =====
+    public void test_candidate_basic() {
+        // ## Arrange ##
+        ActionPathRoutingIndex index = prepareIndex("", "rootAction", "seaAction", "sea_seaAction", "seaLandAction",
+                "sea_seaLandAction", "sea_land_seaLandAction", "sea_land_seaLandPiariAction");
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(index.isAvailable());
+        assertEquals(7, index.getIndexedCount());
+        assertEquals("rootAction", index.getRootActionMapping().getActionName());
+        assertCandidates(index, "root", "rootAction", null);
+        assertCandidates(index, "sea", "seaAction", "sea_seaAction");
+        assertCandidates(index, "sea/land", "seaLandAction", "sea_seaLandAction", "sea_land_seaLandAction");
+        assertCandidates(index, "sea/land/piari", null, null, "sea_land_seaLandPiariAction", null);
+        assertNull(findNode(index, "land"));
+        assertNull(findNode(index, "sea/piari"));
+    }
+
+    public void test_candidate_ambiguous() {
+        // ## Arrange ##
+        ActionPathRoutingIndex index = prepareIndex("", "sea1stAction", "sea_landAction");
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(index.isAvailable());
+        assertCandidates(index, "sea1st", "sea1stAction", null);
+        assertCandidates(index, "sea/1st", "sea1stAction", null, null);
+        assertNull(findNode(index, "sea/1/st")); // sea1St
+        assertCandidates(index, "sea_land", "sea_landAction", null);
+        assertCandidates(index, "sea/_land", "sea_landAction", null, null);
+        assertNull(findNode(index, "sea/land")); // seaLand
+    }
+
+    public void test_candidate_actionNameSuffix() {
+        // ## Arrange ##
+        ActionPathRoutingIndex index = prepareIndex("Sp", "seaAction", "seaSpAction", "sea_seaLandSpAction");
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(index.isAvailable());
+        assertEquals(2, index.getIndexedCount());
+        assertCandidates(index, "sea", "seaSpAction", null);
+        assertCandidates(index, "sea/land", null, "sea_seaLandSpAction", null);
+    }
+
+    public void test_unavailable() {
+        assertFalse(prepareIndex("").isAvailable());
+        assertFalse(prepareIndex("", "seaAction", "séaAction").isAvailable());
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private ActionPathRoutingIndex prepareIndex(String actionNameSuffix, String... actionNames) {
+        List<ActionMapping> mappingList = new ArrayList<ActionMapping>();
+        for (String actionName : actionNames) {
+            ComponentDefImpl actionDef = new ComponentDefImpl(MockRoutingAction.class, actionName);
+            mappingList.add(new ActionMapping(actionDef, actionName, new ActionAdjustmentProvider() {
+            }));
+        }
+        return new ActionPathRoutingIndex(actionNameSuffix, "Action", mappingList);
+    }
+
+    private RoutingNode findNode(ActionPathRoutingIndex index, String path) {
+        RoutingNode node = index.getRootNode();
+        for (String segment : path.split("/")) {
+            node = node.findChild(segment);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private void assertCandidates(ActionPathRoutingIndex index, String path, String... expectedNames) {
+        RoutingNode node = findNode(index, path);
+        assertNotNull("Not found the node: " + path, node);
+        assertEquals(expectedNames.length, node.getCandidateLength());
+        for (int i = 0; i < expectedNames.length; i++) {
+            ActionMapping mapping = node.findCandidate(i);
+            String actualName = mapping != null ? mapping.getActionName() : null;
+            log(path, i, actualName);
+            assertEquals(expectedNames[i], actualName);
+        }
+    }
+
+    private static class MockRoutingAction extends LastaAction {
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+import org.lastaflute.web.Execute;
+import org.lastaflute.web.LastaAction;
+import org.lastaflute.web.response.HtmlResponse;
+import org.lastaflute.web.ruts.config.ActionMapping;
+import org.lastaflute.web.ruts.config.ActionMappingBasicTest;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class NoRoutingCacheTest extends UnitLastaFluteTestCase {
+
+    public void test_registerNoRouting_basic() {
+        // ## Arrange ##
+        NoRoutingCache cache = new NoRoutingCache(new NoRoutingCacheOption());
+        String key = cache.buildMappingKey(new MappingPathResource("/wp-admin/", "/wp-admin/", null, false));
+
+        // ## Act ##
+        assertFalse(cache.isNoRouting(key));
+        cache.registerNoRouting(key);
+
+        // ## Assert ##
+        assertEquals("/wp-admin", key);
+        assertTrue(cache.isNoRouting(key));
+        assertFalse(cache.isNoRouting("/wp-admin@Sp"));
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getPutCount());
+    }
+
+    public void test_registerNoRouting_limitSize() {
+        // ## Arrange ##
+        NoRoutingCache cache = new NoRoutingCache(new NoRoutingCacheOption().limitSize(16)); // one per stripe
+
+        // ## Act ##
+        for (int i = 0; i < 1000; i++) {
+            cache.registerNoRouting("/sea" + i);
+        }
+
+        // ## Assert ##
+        int count = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (cache.isNoRouting("/sea" + i)) {
+                ++count;
+            }
+        }
+        log("cached count: {}", count);
+        assertTrue(count <= 16);
+        assertTrue(cache.isNoRouting("/sea999"));
+    }
+
+    public void test_isNoRouting_expired() {
+        // ## Arrange ##
+        NoRoutingCache cache = new NoRoutingCache(new NoRoutingCacheOption().expireMillis(0L));
+        cache.registerNoRouting("/sea");
+
+        // ## Act ##
+        sleep(5);
+
+        // ## Assert ##
+        assertFalse(cache.isNoRouting("/sea"));
+    }
+
+    // ===================================================================================
+    //                                                                       with Resolver
+    //                                                                       =============
+    public void test_handleActionPath_rootAction_fallback() throws Exception {
+        // ## Arrange ##
+        ActionMapping rootMapping = ActionMappingBasicTest.prepareMapping(RootAction.class);
+        ActionPathRoutingIndex routingIndex = new ActionPathRoutingIndex("", "Action", Arrays.asList(rootMapping));
+        NoRoutingCache cache = new NoRoutingCache(new NoRoutingCacheOption());
+        ActionPathResolver resolver = new ActionPathResolver() {
+            @Override
+            protected MappingPathResource customizeActionMapping(String pureRequestPath) {
+                return new MappingPathResource(pureRequestPath, pureRequestPath, null, false);
+            }
+
+            @Override
+            protected ActionPathRoutingIndex findRoutingIndex(MappingPathResource pathResource) {
+                return routingIndex;
+            }
+        };
+        resolver.noRoutingCache = cache;
+        List<String> handledList = new ArrayList<String>();
+        ActionFoundPathHandler handler = (pathResource, actionName, paramPath, execByParam) -> {
+            handledList.add(actionName + ":" + paramPath.getRequestParamPath());
+            return true;
+        };
+
+        // ## Act ##
+        MappingResolutionResult scannerResult = resolver.handleActionPath("/wp-admin/x.php", handler);
+        MappingResolutionResult rootParamResult = resolver.handleActionPath("/sea/", handler);
+
+        // ## Assert ##
+        assertFalse(scannerResult.isPathHandled());
+        assertTrue(cache.isNoRouting("/wp-admin/x.php")); // root action exists but no execute for the path
+        assertTrue(rootParamResult.isPathHandled());
+        assertFalse(cache.isNoRouting("/sea"));
+        assertEquals(Arrays.asList("rootAction:sea"), handledList);
+        assertTrue(resolver.handleActionPath("/wp-admin/x.php", handler).isCachedNoRouting());
+    }
+
+    private static class RootAction extends LastaAction {
+
+        @Execute
+        public HtmlResponse index(String first) {
+            return HtmlResponse.asEmptyBody();
+        }
+    }
+}
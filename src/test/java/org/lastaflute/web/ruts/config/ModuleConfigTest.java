@@ -0,0 +1,157 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.ruts.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.dbflute.util.Srl;
+import org.lastaflute.di.core.meta.impl.ComponentDefImpl;
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+import org.lastaflute.web.Execute;
+import org.lastaflute.web.LastaAction;
+import org.lastaflute.web.aspect.RomanticActionCustomizer;
+import org.lastaflute.web.path.ActionAdjustmentProvider;
+import org.lastaflute.web.response.HtmlResponse;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ModuleConfigTest extends UnitLastaFluteTestCase {
+
+    // ===================================================================================
+    //                                                                     Reserved Action
+    //                                                                     ===============
+    public void test_prepareReservedActionMapping_sameAsEager() throws Exception {
+        // ## Arrange ##
+        ModuleConfig eagerConfig = new ModuleConfig();
+        ModuleConfig reservedConfig = new ModuleConfig();
+        Class<?>[] actionTypes = { SeaAction.class, LandAction.class, PiariAction.class };
+        for (Class<?> actionType : actionTypes) {
+            customize(eagerConfig, actionType, false);
+            customize(reservedConfig, actionType, true);
+        }
+        assertFalse(reservedConfig.findActionMapping("seaAction").isPresent()); // not yet
+
+        // ## Act ##
+        int preparedCount;
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            preparedCount = reservedConfig.prepareReservedActionMapping(pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        // ## Assert ##
+        assertEquals(actionTypes.length, preparedCount);
+        for (Class<?> actionType : actionTypes) {
+            String actionName = Srl.initUncap(actionType.getSimpleName());
+            ActionMapping eager = eagerConfig.findActionMapping(actionName).get();
+            ActionMapping reserved = reservedConfig.findActionMapping(actionName).get();
+            log(actionName, toExecuteExp(reserved));
+            assertEquals(toExecuteExp(eager), toExecuteExp(reserved));
+        }
+        assertEquals(0, reservedConfig.prepareReservedActionMapping(ForkJoinPool.commonPool())); // cleared
+    }
+
+    public void test_prepareReservedActionMapping_failure() {
+        // ## Arrange ##
+        ModuleConfig config = new ModuleConfig();
+        config.reserveActionMapping(() -> {
+            throw new IllegalStateException("broken action");
+        });
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(IllegalStateException.class, () -> config.prepareReservedActionMapping(ForkJoinPool.commonPool()));
+    }
+
+    public void test_serializable_withReservation() throws Exception {
+        // ## Arrange ##
+        ModuleConfig config = new ModuleConfig();
+        config.reserveActionMapping(() -> null); // lambda is not serializable
+
+        // ## Act ##
+        // ## Assert ##
+        try (ObjectOutputStream out = new ObjectOutputStream(new ByteArrayOutputStream())) {
+            out.writeObject(config); // no exception
+        }
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private void customize(ModuleConfig moduleConfig, Class<?> actionType, boolean parallel) {
+        String actionName = Srl.initUncap(actionType.getSimpleName());
+        RomanticActionCustomizer customizer = new RomanticActionCustomizer() {
+            @Override
+            protected ModuleConfig getModuleConfig() {
+                return moduleConfig;
+            }
+
+            @Override
+            protected ActionAdjustmentProvider comeOnAdjustmentProvider() {
+                return new ActionAdjustmentProvider() {
+                };
+            }
+
+            @Override
+            protected boolean isParallelActionSetup() {
+                return parallel;
+            }
+        };
+        customizer.customize(new ComponentDefImpl(actionType, actionName));
+    }
+
+    private List<String> toExecuteExp(ActionMapping mapping) {
+        return mapping.getExecuteList().stream().map(execute -> {
+            return execute.getExecuteMethod().getName() + ":" + execute.getPreparedUrlPattern().getResolvedUrlPattern();
+        }).sorted().collect(Collectors.toList());
+    }
+
+    private static class SeaAction extends LastaAction {
+
+        @Execute
+        public HtmlResponse index(String first) {
+            return HtmlResponse.asEmptyBody();
+        }
+
+        @Execute
+        public HtmlResponse named(Integer first) {
+            return HtmlResponse.asEmptyBody();
+        }
+    }
+
+    private static class LandAction extends LastaAction {
+
+        @Execute
+        public HtmlResponse index() {
+            return HtmlResponse.asEmptyBody();
+        }
+    }
+
+    private static class PiariAction extends LastaAction {
+
+        @Execute(urlPattern = "{}/@word")
+        public HtmlResponse dstore(int first) {
+            return HtmlResponse.asEmptyBody();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.ruts.inoutlogging;
+
+import java.io.StringWriter;
+
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+import org.lastaflute.web.servlet.request.stream.TeeTextWriter;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class InOutBodyCaptureTest extends UnitLastaFluteTestCase {
+
+    public void test_capture_truncated() {
+        // ## Arrange ##
+        String body = "0123456789abcdefghij";
+
+        // ## Act ##
+        InOutBodyCapture capture = InOutBodyCapture.capture(body, 4, 3);
+
+        // ## Assert ##
+        String exp = capture.toLoggingExp();
+        log(exp);
+        assertTrue(capture.isTruncated());
+        assertEquals(20, capture.getOriginalLength());
+        assertEquals("0123...(13 chars omitted)...hij", exp);
+        assertSame(exp, capture.toLoggingExp()); // cached
+    }
+
+    public void test_capture_notTruncated() {
+        // ## Arrange ##
+        String body = "0123456789";
+
+        // ## Act ##
+        // ## Assert ##
+        assertEquals(body, InOutBodyCapture.capture(body, -1, 0).toLoggingExp());
+        assertEquals(body, InOutBodyCapture.capture(body, 7, 3).toLoggingExp());
+        assertFalse(InOutBodyCapture.capture(body, 7, 3).isTruncated());
+        assertEquals("01234...(5 chars omitted)...", InOutBodyCapture.capture(body, 5, 0).toLoggingExp());
+    }
+
+    public void test_keeper_keepResponseBody_capped() {
+        // ## Arrange ##
+        InOutLogKeeper keeper = new InOutLogKeeper();
+        keeper.acceptOption(new InOutLogOption().capResponseBody(3, 2));
+
+        // ## Act ##
+        keeper.keepResponseBody("{\"sea\": \"hangar\"}", "json");
+
+        // ## Assert ##
+        assertEquals("{\"s...(12 chars omitted)...\"}", keeper.getResponseBodyContent().get());
+    }
+
+    public void test_keeper_keepResponseBody_suppressed() {
+        // ## Arrange ##
+        InOutLogKeeper keeper = new InOutLogKeeper();
+        keeper.acceptOption(new InOutLogOption().suppressResponseBody());
+
+        // ## Act ##
+        keeper.keepResponseBody("{\"sea\": \"hangar\"}", "json");
+
+        // ## Assert ##
+        assertFalse(keeper.getResponseBodyCapture().isPresent());
+        assertEquals("json", keeper.getResponseBodyType().get());
+    }
+
+    // ===================================================================================
+    //                                                                      Streaming Body
+    //                                                                      ==============
+    public void test_streaming_teeWriter_capped() throws Exception {
+        // ## Arrange ##
+        StringWriter nativeWriter = new StringWriter();
+        TeeTextWriter tee = new TeeTextWriter(nativeWriter, 4, 3);
+
+        // ## Act ##
+        tee.write("01");
+        tee.write("23456789".toCharArray(), 0, 8);
+        tee.write('a');
+        tee.write("bcdefghij");
+
+        // ## Assert ##
+        assertEquals("0123456789abcdefghij", nativeWriter.toString()); // not affected
+        assertEquals("0123", tee.getKeptHead());
+        assertEquals("hij", tee.getKeptTail());
+        InOutBodyCapture capture = InOutBodyCapture.ofKept(tee.getKeptHead(), tee.getKeptTail(), tee.getWrittenLength());
+        assertEquals(InOutBodyCapture.capture(nativeWriter.toString(), 4, 3).toLoggingExp(), capture.toLoggingExp());
+    }
+
+    public void test_streaming_teeWriter_notTruncated() throws Exception {
+        // ## Arrange ##
+        StringWriter nativeWriter = new StringWriter();
+        TeeTextWriter tee = new TeeTextWriter(nativeWriter, 4, 3);
+
+        // ## Act ##
+        tee.write("0123");
+        tee.write('4');
+        tee.write("56");
+
+        // ## Assert ##
+        InOutBodyCapture capture = InOutBodyCapture.ofKept(tee.getKeptHead(), tee.getKeptTail(), tee.getWrittenLength());
+        assertFalse(capture.isTruncated());
+        assertEquals("0123456", capture.toLoggingExp());
+        TeeTextWriter noCap = new TeeTextWriter(new StringWriter());
+        noCap.write("0123456789");
+        assertEquals("0123456789", noCap.getKeptText()); // whole if no cap
+    }
+
+    public void test_keeper_keepResponseBodyCapture_suppressed() {
+        // ## Arrange ##
+        InOutLogKeeper keeper = new InOutLogKeeper();
+        keeper.acceptOption(new InOutLogOption().suppressResponseBody());
+
+        // ## Act ##
+        keeper.keepResponseBodyCapture(InOutBodyCapture.ofKept("{\"sea\"", "}", 20), "json");
+
+        // ## Assert ##
+        assertFalse(keeper.getResponseBodyCapture().isPresent());
+        assertEquals("json", keeper.getResponseBodyType().get());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.ruts.inoutlogging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.dbflute.utflute.core.cannonball.CannonballOption;
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class InOutLogPipelineTest extends UnitLastaFluteTestCase {
+
+    public void test_offer_dropped_whenFull() {
+        // ## Arrange ##
+        List<InOutLogRecord> writtenList = new ArrayList<>();
+        InOutLogPipeline pipeline = new InOutLogPipeline(3, 10, batchList -> writtenList.addAll(batchList));
+
+        // ## Act ##
+        // not started so no consumer
+        for (int i = 0; i < 6; i++) {
+            pipeline.offer(new InOutLogRecord(new InOutLogOption()));
+        }
+
+        // ## Assert ##
+        assertEquals(4, pipeline.getCapacity()); // rounded up
+        assertEquals(4L, pipeline.getAcceptedCount());
+        assertEquals(2L, pipeline.getDroppedCount());
+        assertTrue(writtenList.isEmpty());
+    }
+
+    public void test_offer_written_byConsumer() {
+        // ## Arrange ##
+        List<InOutLogRecord> writtenList = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> batchSizeList = Collections.synchronizedList(new ArrayList<>());
+        InOutLogPipeline pipeline = new InOutLogPipeline(64, 8, batchList -> {
+            batchSizeList.add(batchList.size());
+            writtenList.addAll(batchList);
+        });
+        pipeline.start();
+
+        // ## Act ##
+        cannonball(car -> {
+            for (int i = 0; i < 100; i++) {
+                while (!pipeline.offer(new InOutLogRecord(new InOutLogOption()))) { // retry for test
+                    Thread.yield();
+                }
+            }
+        }, new CannonballOption().threadCount(4));
+        pipeline.stop(3000L);
+
+        // ## Assert ##
+        log(pipeline, batchSizeList.size());
+        assertEquals(400L, pipeline.getAcceptedCount());
+        assertEquals(400L, pipeline.getWrittenCount());
+        assertEquals(400, writtenList.size());
+        for (Integer batchSize : batchSizeList) {
+            assertTrue(batchSize <= 8);
+        }
+    }
+
+    public void test_buildWhole_fromRecord() {
+        // ## Arrange ##
+        InOutLogger logger = new InOutLogger();
+        InOutLogRecord record = new InOutLogRecord(new InOutLogOption());
+        record.acceptBasic("/sea/land/", "GET", "SeaLandAction", "index");
+        record.acceptProcess("abc", null, new IllegalStateException("mystic"));
+        record.acceptResponse(null, InOutBodyCapture.capture("{\"sea\": \"hangar\"}", -1, 0), "json");
+
+        // ## Act ##
+        String whole = logger.buildWhole(record);
+
+        // ## Assert ##
+        log(whole);
+        assertContainsAll(whole, "GET /sea/land/ SeaLandAction@index()", "no begun", "#abc", "*IllegalStateException", "hangar");
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.ruts.phase;
+
+import java.util.Arrays;
+
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ActionPhaseStatisticsTest extends UnitLastaFluteTestCase {
+
+    public void test_statistics_export() {
+        // ## Arrange ##
+        ActionPhaseStatistics statistics = new ActionPhaseStatistics();
+        long[] spans = new long[ActionPhase.values().length];
+        Arrays.fill(spans, -1L);
+        spans[ActionPhase.ROUTING.ordinal()] = 30000L;
+        spans[ActionPhase.ACTION_METHOD.ordinal()] = 2000000L;
+
+        // ## Act ##
+        statistics.record("SeaAction@index", spans);
+        statistics.record("SeaAction@index", spans);
+
+        // ## Assert ##
+        String text = statistics.buildExportText();
+        log(text);
+        ActionPhaseAggregate aggregate = statistics.findAggregate("SeaAction@index");
+        assertEquals(2L, aggregate.getRequestCount());
+        assertEquals(2L, aggregate.getHistogram(ActionPhase.ROUTING).getCount());
+        assertEquals(0L, aggregate.getHistogram(ActionPhase.HTML_RENDER).getCount());
+        assertContainsAll(text, "SeaAction@index routing", "SeaAction@index actionMethod");
+        assertNotContains(text, "htmlRender");
+    }
+
+    public void test_timer_notBegun() {
+        // ## Arrange ##
+        // ## Act ##
+        long marked = ActionPhaseTimer.mark();
+        ActionPhaseTimer.record(ActionPhase.VALIDATION, marked); // do nothing
+
+        // ## Assert ##
+        assertEquals(0L, marked);
+        assertFalse(ActionPhaseTimer.isBegun());
+    }
+}
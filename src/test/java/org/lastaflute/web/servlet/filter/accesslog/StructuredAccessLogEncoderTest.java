@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.servlet.filter.accesslog;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class StructuredAccessLogEncoderTest extends UnitLastaFluteTestCase {
+
+    public void test_encode_basic() {
+        // ## Arrange ##
+        StructuredAccessLogEncoder encoder = new StructuredAccessLogEncoder();
+        StructuredAccessLogEntry entry =
+                new StructuredAccessLogEntry(1000L, "GET", "/sea/\"land\"\n", 200, 12L, -1L, 2048L, null, "5a3f", null);
+
+        // ## Act ##
+        String line = encoder.encode(entry);
+
+        // ## Assert ##
+        log(line);
+        assertEquals("{\"time\":1000,\"method\":\"GET\",\"path\":\"/sea/\\\"land\\\"\\u000a\",\"status\":200,\"elapsed\":12"
+                + ",\"reqSize\":-1,\"resSize\":2048,\"user\":null,\"hash\":\"5a3f\",\"cause\":null}", line);
+        assertEquals(line, encoder.encode(entry)); // reused builder
+    }
+
+    public void test_writer_appendToFile() throws Exception {
+        // ## Arrange ##
+        File file = File.createTempFile("lasta-access", ".log");
+        file.deleteOnExit();
+        StructuredAccessLogWriter writer = new StructuredAccessLogWriter(file.getPath(), 100, 16); // small buffer for overflow
+        writer.start();
+
+        // ## Act ##
+        for (int i = 0; i < 30; i++) {
+            writer.offer("{\"seq\":" + i + ",\"name\":\"セア\"}");
+        }
+        writer.stop(3000L);
+
+        // ## Assert ##
+        List<String> lineList = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(30, lineList.size());
+        assertEquals("{\"seq\":0,\"name\":\"セア\"}", lineList.get(0));
+        assertEquals("{\"seq\":29,\"name\":\"セア\"}", lineList.get(29));
+        assertEquals(30L, writer.getWrittenCount());
+        assertFalse(writer.offer("after stop"));
+        assertEquals(1L, writer.getDroppedCount());
+        assertFalse(writer.isChannelOpen());
+    }
+
+    public void test_handler_destroy_closesWriter() throws Exception {
+        // ## Arrange ##
+        File file = File.createTempFile("lasta-access", ".log");
+        file.deleteOnExit();
+        StructuredAccessLogHandler handler = new StructuredAccessLogHandler(new StructuredAccessLogOption().writeToFile(file.getPath()));
+        StructuredAccessLogWriter writer = handler.prepareWriter();
+        writer.offer("{\"sea\":\"mystic\"}");
+
+        // ## Act ##
+        handler.destroy();
+
+        // ## Assert ##
+        assertEquals(1, Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size());
+        assertFalse(writer.isChannelOpen());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.servlet.request;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+import org.lastaflute.web.servlet.request.stream.TeeTextWriter;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class ResponseWritePerformerTest extends UnitLastaFluteTestCase {
+
+    // ===================================================================================
+    //                                                                         Text Stream
+    //                                                                         ===========
+    public void test_write_textStream_basic() {
+        // ## Arrange ##
+        MockResponseState state = new MockResponseState(Integer.MAX_VALUE);
+        HttpServletResponse response = state.toResponse();
+        ResponseWritePerformer performer = new ResponseWritePerformer();
+        TeeTextWriter[] tee = new TeeTextWriter[1];
+
+        // ## Act ##
+        performer.write(response, writer -> {
+            tee[0] = new TeeTextWriter(writer); // like in-out logging
+            tee[0].write("{\"sea\":\"mysticé\"}");
+        }, "application/json", "UTF-8");
+
+        // ## Assert ##
+        assertEquals("application/json; charset=UTF-8", state.contentType);
+        assertEquals("{\"sea\":\"mysticé\"}", state.getWrittenText());
+        assertEquals(state.getWrittenText(), tee[0].getKeptText());
+        assertFalse(state.reset);
+    }
+
+    public void test_write_textStream_failure_beforeCommitted() {
+        // ## Arrange ##
+        MockResponseState state = new MockResponseState(Integer.MAX_VALUE);
+        HttpServletResponse response = state.toResponse();
+        ResponseWritePerformer performer = new ResponseWritePerformer();
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(IllegalStateException.class, () -> {
+            performer.write(response, writer -> {
+                writer.write("{\"sea\":");
+                throw new IllegalStateException("serialization failure");
+            }, "application/json", "UTF-8");
+        });
+        assertTrue(state.reset); // for error handling
+        assertEquals("", state.getWrittenText()); // partial text is not flushed
+    }
+
+    public void test_write_textStream_failure_afterCommitted() {
+        // ## Arrange ##
+        MockResponseState state = new MockResponseState(0); // committed by first byte
+        HttpServletResponse response = state.toResponse();
+        ResponseWritePerformer performer = new ResponseWritePerformer() {
+            @Override
+            protected int getStreamBufferSize() {
+                return 1; // to send immediately
+            }
+        };
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(IllegalStateException.class, () -> {
+            performer.write(response, writer -> {
+                for (int i = 0; i < 3000; i++) { // over encoder buffer
+                    writer.write("{\"sea\":");
+                }
+                throw new IllegalStateException("serialization failure");
+            }, "application/json", "UTF-8");
+        });
+        assertFalse(state.reset); // cannot reset
+        assertTrue(state.getWrittenText().startsWith("{\"sea\":"));
+    }
+
+    public void test_write_textStream_ioFailure() {
+        // ## Arrange ##
+        MockResponseState state = new MockResponseState(Integer.MAX_VALUE);
+        HttpServletResponse response = state.toResponse();
+        ResponseWritePerformer performer = new ResponseWritePerformer();
+
+        // ## Act ##
+        // ## Assert ##
+        assertException(IllegalStateException.class, () -> {
+            performer.write(response, writer -> {
+                throw new IOException("broken pipe");
+            }, "application/json", "UTF-8");
+        });
+        assertTrue(state.reset);
+    }
+
+    // ===================================================================================
+    //                                                                       Mock Response
+    //                                                                       =============
+    private static class MockResponseState {
+
+        private final int commitSize;
+        private final ByteArrayOutputStream bodyOut = new ByteArrayOutputStream();
+        private String contentType;
+        private boolean reset;
+
+        public MockResponseState(int commitSize) {
+            this.commitSize = commitSize;
+        }
+
+        public String getWrittenText() {
+            return new String(bodyOut.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+        public HttpServletResponse toResponse() {
+            ServletOutputStream servletOut = new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    bodyOut.write(b);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                }
+            };
+            return (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { HttpServletResponse.class }, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.equals("setContentType")) {
+                            contentType = (String) args[0];
+                        } else if (name.equals("getOutputStream")) {
+                            return servletOut;
+                        } else if (name.equals("isCommitted")) {
+                            return bodyOut.size() > commitSize;
+                        } else if (name.equals("resetBuffer")) {
+                            reset = true;
+                            bodyOut.reset();
+                        }
+                        return null;
+                    });
+        }
+    }
+}
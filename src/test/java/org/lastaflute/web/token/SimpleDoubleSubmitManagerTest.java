@@ -0,0 +1,199 @@
+/*
+ * Copyright 2015-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.lastaflute.web.token;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dbflute.optional.OptionalThing;
+import org.dbflute.utflute.core.cannonball.CannonballOption;
+import org.lastaflute.unit.UnitLastaFluteTestCase;
+import org.lastaflute.unit.mock.web.MockRequestManager;
+import org.lastaflute.web.LastaWebKey;
+import org.lastaflute.web.servlet.session.SessionManager;
+
+/**
+ * @author jflute
+ * @since 1.2.7 (2026/10/16 Friday)
+ */
+public class SimpleDoubleSubmitManagerTest extends UnitLastaFluteTestCase {
+
+    // ===================================================================================
+    //                                                                            Generate
+    //                                                                            ========
+    public void test_generateToken_unique_concurrently() {
+        // ## Arrange ##
+        MockTokenRequestManager requestManager = new MockTokenRequestManager("sea");
+        SimpleDoubleSubmitManager manager = prepareManager(requestManager);
+        Set<String> tokenSet = ConcurrentHashMap.newKeySet();
+
+        // ## Act ##
+        cannonball(car -> {
+            for (int i = 0; i < 500; i++) {
+                tokenSet.add(manager.generateToken(SimpleDoubleSubmitManagerTest.class)); // same session and group
+            }
+        }, new CannonballOption().threadCount(8));
+
+        // ## Assert ##
+        assertEquals(8 * 500, tokenSet.size());
+        tokenSet.forEach(token -> assertEquals(32, token.length())); // MD5 hex
+    }
+
+    // ===================================================================================
+    //                                                                    Check and Reset
+    //                                                                    ===============
+    public void test_determineToken_basic() {
+        // ## Arrange ##
+        MockTokenRequestManager requestManager = new MockTokenRequestManager("sea");
+        SimpleDoubleSubmitManager manager = prepareManager(requestManager);
+        String token = manager.saveToken(SimpleDoubleSubmitManagerTest.class);
+
+        // ## Act ##
+        // ## Assert ##
+        assertFalse(manager.determineToken(SimpleDoubleSubmitManagerTest.class)); // no requested token
+        requestManager.requestedToken = "land";
+        assertFalse(manager.determineToken(SimpleDoubleSubmitManagerTest.class));
+        requestManager.requestedToken = token;
+        assertTrue(manager.determineToken(SimpleDoubleSubmitManagerTest.class));
+        assertTrue(manager.determineToken(SimpleDoubleSubmitManagerTest.class)); // kept
+        assertFalse(manager.determineToken(String.class)); // other group
+    }
+
+    public void test_determineTokenWithReset_basic() {
+        // ## Arrange ##
+        MockTokenRequestManager requestManager = new MockTokenRequestManager("sea");
+        SimpleDoubleSubmitManager manager = prepareManager(requestManager);
+        String token = manager.saveToken(SimpleDoubleSubmitManagerTest.class);
+        requestManager.requestedToken = token;
+
+        // ## Act ##
+        // ## Assert ##
+        assertTrue(manager.determineTokenWithReset(SimpleDoubleSubmitManagerTest.class));
+        assertFalse(manager.determineTokenWithReset(SimpleDoubleSubmitManagerTest.class)); // double submit
+        assertFalse(manager.getSessionTokenMap().isPresent()); // removed when empty
+    }
+
+    public void test_determineTokenWithReset_concurrently() {
+        // ## Arrange ##
+        MockTokenRequestManager requestManager = new MockTokenRequestManager("sea");
+        SimpleDoubleSubmitManager manager = prepareManager(requestManager);
+        requestManager.requestedToken = manager.saveToken(SimpleDoubleSubmitManagerTest.class);
+        Set<Object> verifiedSet = ConcurrentHashMap.newKeySet();
+
+        // ## Act ##
+        cannonball(car -> {
+            if (manager.determineTokenWithReset(SimpleDoubleSubmitManagerTest.class)) {
+                verifiedSet.add(car.getEntryNumber());
+            }
+        }, new CannonballOption().threadCount(8));
+
+        // ## Assert ##
+        assertEquals(1, verifiedSet.size()); // only one of concurrent requests
+    }
+
+    public void test_resetToken_otherGroupRemains() {
+        // ## Arrange ##
+        MockTokenRequestManager requestManager = new MockTokenRequestManager("sea");
+        SimpleDoubleSubmitManager manager = prepareManager(requestManager);
+        String token = manager.saveToken(SimpleDoubleSubmitManagerTest.class);
+        String other = manager.saveToken(String.class);
+
+        // ## Act ##
+        manager.resetToken(SimpleDoubleSubmitManagerTest.class);
+
+        // ## Assert ##
+        requestManager.requestedToken = token;
+        assertFalse(manager.determineToken(SimpleDoubleSubmitManagerTest.class));
+        requestManager.requestedToken = other;
+        assertTrue(manager.determineToken(String.class));
+    }
+
+    // ===================================================================================
+    //                                                                        Assist Logic
+    //                                                                        ============
+    private SimpleDoubleSubmitManager prepareManager(MockTokenRequestManager requestManager) {
+        SimpleDoubleSubmitManager manager = new SimpleDoubleSubmitManager() {
+            @Override
+            protected void checkDoubleSubmitPreconditionExists(Class<?> groupType) {
+                // no message manager here
+            }
+        };
+        try {
+            Field field = SimpleDoubleSubmitManager.class.getDeclaredField("requestManager");
+            field.setAccessible(true);
+            field.set(manager, requestManager);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to inject the request manager.", e);
+        }
+        return manager;
+    }
+
+    private static class MockTokenRequestManager extends MockRequestManager {
+
+        private final Map<String, Object> requestMap = new ConcurrentHashMap<String, Object>();
+        private final Map<String, Object> sessionMap = new ConcurrentHashMap<String, Object>();
+        private final SessionManager sessionManager;
+        private volatile String requestedToken;
+
+        public MockTokenRequestManager(String sessionId) {
+            sessionManager = (SessionManager) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { SessionManager.class }, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.equals("getSessionId")) {
+                            return sessionId;
+                        } else if (name.equals("getAttribute")) {
+                            return OptionalThing.ofNullable(sessionMap.get((String) args[0]), () -> {
+                                throw new IllegalStateException("Not found the session attribute: " + args[0]);
+                            });
+                        } else if (name.equals("setAttribute")) {
+                            sessionMap.put((String) args[0], args[1]);
+                        } else if (name.equals("removeAttribute")) {
+                            sessionMap.remove((String) args[0]);
+                        }
+                        return null;
+                    });
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <ATTRIBUTE> OptionalThing<ATTRIBUTE> getAttribute(String key, Class<ATTRIBUTE> genericType) {
+            return (OptionalThing<ATTRIBUTE>) OptionalThing.ofNullable(requestMap.get(key), () -> {
+                throw new IllegalStateException("Not found the request attribute: " + key);
+            });
+        }
+
+        @Override
+        public void setAttribute(String key, Object value) {
+            requestMap.put(key, value);
+        }
+
+        @Override
+        public OptionalThing<String> getParameter(String key) {
+            assertEquals(LastaWebKey.TRANSACTION_TOKEN_KEY, key);
+            return OptionalThing.ofNullable(requestedToken, () -> {
+                throw new IllegalStateException("Not found the requested token.");
+            });
+        }
+
+        @Override
+        public SessionManager getSessionManager() {
+            return sessionManager;
+        }
+    }
+}